@@ -0,0 +1,442 @@
+package app;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import controller.Controller;
+import controller.SessionContext;
+import database.ConnectionManager;
+import database.DataSourceFactory;
+import model.Hackathon;
+import model.Notification;
+import model.Registrazione;
+import model.Team;
+import model.Utente;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Modalità server senza interfaccia grafica: espone i flussi principali del Controller
+ * come API HTTP/JSON, servendo tutti i client con un'unica istanza di Controller.
+ *
+ * Ogni richiesta autenticata porta l'header {@code Authorization: Bearer <token>} ottenuto
+ * da {@code POST /api/login} e viene eseguita nella sessione corrispondente.
+ *
+ * Endpoint:
+ * <pre>
+ * POST /api/login                      {"login","password"}
+ * POST /api/logout
+ * GET  /api/hackathon                  hackathon con registrazioni aperte
+ * GET  /api/hackathon/{id}/team        team dell'hackathon
+ * GET  /api/hackathon/{id}/classifica  classifica dei team
+ * POST /api/registrazioni              {"hackathonId","ruolo"}
+ * POST /api/team                       {"hackathonId","nome","dimensioneMassima"}
+ * POST /api/team/{id}/join             {"messaggio"}
+ * POST /api/team/{id}/documenti?nome=..&tipo=..&descrizione=..   corpo = contenuto del file
+ * POST /api/voti                       {"teamId","voto","commento"}
+ * GET  /api/notifiche
+ * POST /api/notifiche/{id}/letta
+ * </pre>
+ */
+public class ApiServer {
+
+    private static final Logger LOGGER = Logger.getLogger(ApiServer.class.getName());
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String JSON_TYPE = "application/json; charset=utf-8";
+    private static final String BEARER = "Bearer ";
+    private static final int MAX_UPLOAD_BYTES = 20 * 1024 * 1024;
+    private static final int MAX_JSON_BYTES = 64 * 1024;
+
+    private final Controller controller;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService housekeeping;
+
+    /**
+     * Crea il server sull'indirizzo indicato
+     *
+     * @param controller il Controller condiviso da tutte le sessioni
+     * @param host indirizzo di ascolto
+     * @param port porta di ascolto
+     * @param threads numero di thread che servono le richieste
+     */
+    public ApiServer(Controller controller, String host, int port, int threads) throws IOException {
+        this.controller = controller;
+        this.server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "api-worker-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.housekeeping = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "api-housekeeping");
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.createContext("/api/", this::dispatch);
+    }
+
+    public void start() {
+        server.start();
+        housekeeping.scheduleAtFixedRate(controller::rimuoviSessioniScadute, 15, 15, TimeUnit.MINUTES);
+        housekeeping.scheduleAtFixedRate(this::logStatisticheCache, 15, 15, TimeUnit.MINUTES);
+        LOGGER.log(Level.INFO, "API server in ascolto su {0}", server.getAddress());
+    }
+
+    public void stop() {
+        server.stop(1);
+        housekeeping.shutdownNow();
+        executor.shutdown();
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    private void logStatisticheCache() {
+        controller.getStatisticheCache().forEach(stats -> LOGGER.log(Level.INFO, "Cache {0}", stats));
+    }
+
+    /**
+     * Smista la richiesta sull'endpoint corrispondente a metodo e percorso
+     */
+    private void dispatch(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String[] path = exchange.getRequestURI().getPath().substring("/api/".length()).split("/");
+            try {
+                Object body = route(method, path, exchange);
+                send(exchange, 200, body);
+            } catch (ApiException e) {
+                send(exchange, e.status, Map.of("errore", e.getMessage()));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, Map.of("errore", String.valueOf(e.getMessage())));
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Errore API " + method + " " + exchange.getRequestURI(), e);
+                send(exchange, 500, Map.of("errore", "Errore interno"));
+            }
+        }
+    }
+
+    private Object route(String method, String[] path, HttpExchange exchange) throws IOException {
+        String resource = path[0];
+        boolean get = "GET".equals(method);
+        boolean post = "POST".equals(method);
+
+        if (post && path.length == 1 && "login".equals(resource)) {
+            return login(readJson(exchange));
+        }
+        if (post && path.length == 1 && "logout".equals(resource)) {
+            controller.chiudiSessione(requireSession(exchange).getId());
+            return Map.of("esito", true);
+        }
+
+        SessionContext session = requireSession(exchange);
+        switch (resource) {
+            case "hackathon" -> {
+                if (get && path.length == 1) {
+                    return inSession(session, () -> controller.getHackathonConRegistrazioniAperte().stream()
+                        .map(ApiServer::toJson).collect(Collectors.toList()));
+                }
+                if (get && path.length == 3 && "team".equals(path[2])) {
+                    int hackathonId = parseId(path[1]);
+                    return inSession(session, () -> controller.getTeamHackathon(hackathonId).stream()
+                        .map(ApiServer::toJson).collect(Collectors.toList()));
+                }
+                if (get && path.length == 3 && "classifica".equals(path[2])) {
+                    int hackathonId = parseId(path[1]);
+                    return inSession(session, () -> controller.getTeamRanking(hackathonId));
+                }
+            }
+            case "registrazioni" -> {
+                if (post && path.length == 1) {
+                    JsonNode json = readJson(exchange);
+                    int hackathonId = requireInt(json, "hackathonId");
+                    Registrazione.Ruolo ruolo = parseRuolo(json.path("ruolo").asText("PARTECIPANTE"));
+                    return esito(inSession(session, () -> controller.registraUtenteAdHackathon(hackathonId, ruolo)));
+                }
+            }
+            case "team" -> {
+                if (post && path.length == 1) {
+                    JsonNode json = readJson(exchange);
+                    int hackathonId = requireInt(json, "hackathonId");
+                    String nome = requireText(json, "nome");
+                    int dimensione = json.path("dimensioneMassima").asInt(4);
+                    int teamId = inSession(session, () -> controller.creaTeam(hackathonId, nome, dimensione));
+                    if (teamId <= 0) {
+                        throw new ApiException(409, "Creazione team non riuscita");
+                    }
+                    return Map.of("id", teamId);
+                }
+                if (post && path.length == 3 && "join".equals(path[2])) {
+                    int teamId = parseId(path[1]);
+                    String messaggio = readJson(exchange).path("messaggio").asText("");
+                    return esito(inSession(session, () -> controller.inviaRichiestaJoin(teamId, messaggio)));
+                }
+                if (post && path.length == 3 && "documenti".equals(path[2])) {
+                    return upload(session, parseId(path[1]), exchange);
+                }
+            }
+            case "voti" -> {
+                if (post && path.length == 1) {
+                    JsonNode json = readJson(exchange);
+                    int teamId = requireInt(json, "teamId");
+                    int voto = requireInt(json, "voto");
+                    String commento = json.path("commento").asText("");
+                    return esito(inSession(session, () -> controller.assegnaVoto(teamId, voto, commento)));
+                }
+            }
+            case "notifiche" -> {
+                if (get && path.length == 1) {
+                    return inSession(session, () -> controller.getNotificheUtente().stream()
+                        .map(ApiServer::toJson).collect(Collectors.toList()));
+                }
+                if (post && path.length == 3 && "letta".equals(path[2])) {
+                    int notificaId = parseId(path[1]);
+                    return esito(inSession(session, () -> controller.segnaNotificaComeLetta(notificaId)));
+                }
+            }
+            default -> {
+                // gestito sotto
+            }
+        }
+        throw new ApiException(404, "Endpoint non trovato");
+    }
+
+    private Object login(JsonNode json) {
+        String login = requireText(json, "login");
+        String password = requireText(json, "password");
+        SessionContext session;
+        try {
+            session = controller.apriSessione(login, password)
+                .orElseThrow(() -> new ApiException(401, "Credenziali non valide"));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, e.getMessage());
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("token", session.getId());
+        result.put("utente", toJson(session.getUtente()));
+        return result;
+    }
+
+    private Object upload(SessionContext session, int teamId, HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String nome = query.get("nome");
+        if (nome == null || nome.isBlank()) {
+            throw new ApiException(400, "Parametro 'nome' obbligatorio");
+        }
+        String tipo = query.getOrDefault("tipo", "application/octet-stream");
+        String descrizione = query.getOrDefault("descrizione", "");
+        byte[] contenuto = readBody(exchange, MAX_UPLOAD_BYTES);
+        return esito(inSession(session,
+            () -> controller.caricaDocumentoConContenuto(teamId, nome, descrizione, tipo, contenuto)));
+    }
+
+    private <T> T inSession(SessionContext session, Supplier<T> operation) {
+        return controller.eseguiInSessione(session, operation);
+    }
+
+    private SessionContext requireSession(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Authorization");
+        if (header == null || !header.startsWith(BEARER)) {
+            throw new ApiException(401, "Autenticazione richiesta");
+        }
+        return controller.trovaSessione(header.substring(BEARER.length()).trim())
+            .orElseThrow(() -> new ApiException(401, "Sessione scaduta o non valida"));
+    }
+
+    private static Map<String, Object> esito(boolean esito) {
+        if (!esito) {
+            throw new ApiException(409, "Operazione non consentita o non riuscita");
+        }
+        return Map.of("esito", true);
+    }
+
+    // ==================== I/O E PARSING ====================
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", JSON_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static JsonNode readJson(HttpExchange exchange) throws IOException {
+        byte[] body = readBody(exchange, MAX_JSON_BYTES);
+        if (body.length == 0) {
+            return MAPPER.createObjectNode();
+        }
+        try {
+            return MAPPER.readTree(body);
+        } catch (IOException e) {
+            throw new ApiException(400, "JSON non valido");
+        }
+    }
+
+    private static byte[] readBody(HttpExchange exchange, int maxBytes) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(maxBytes + 1);
+            if (body.length > maxBytes) {
+                throw new ApiException(413, "Richiesta troppo grande");
+            }
+            return body;
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                           URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static int parseId(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, "Identificativo non valido: " + value);
+        }
+    }
+
+    private static int requireInt(JsonNode json, String field) {
+        JsonNode node = json.get(field);
+        if (node == null || !node.canConvertToInt()) {
+            throw new ApiException(400, "Campo '" + field + "' obbligatorio");
+        }
+        return node.asInt();
+    }
+
+    private static String requireText(JsonNode json, String field) {
+        JsonNode node = json.get(field);
+        if (node == null || !node.isTextual() || node.asText().isBlank()) {
+            throw new ApiException(400, "Campo '" + field + "' obbligatorio");
+        }
+        return node.asText();
+    }
+
+    private static Registrazione.Ruolo parseRuolo(String value) {
+        try {
+            return Registrazione.Ruolo.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "Ruolo non valido: " + value);
+        }
+    }
+
+    // ==================== CONVERSIONE IN JSON ====================
+    // I modelli usano LocalDateTime: le date vengono esposte come stringhe ISO-8601
+
+    private static Map<String, Object> toJson(Utente u) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("id", u.getId());
+        m.put("login", u.getLogin());
+        m.put("nome", u.getNome());
+        m.put("cognome", u.getCognome());
+        m.put("email", u.getEmail());
+        m.put("ruolo", u.getRuolo());
+        return m;
+    }
+
+    private static Map<String, Object> toJson(Hackathon h) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("id", h.getId());
+        m.put("nome", h.getNome());
+        m.put("dataInizio", String.valueOf(h.getDataInizio()));
+        m.put("dataFine", String.valueOf(h.getDataFine()));
+        m.put("sede", h.getSede());
+        m.put("virtuale", h.isVirtuale());
+        m.put("maxPartecipanti", h.getMaxPartecipanti());
+        m.put("maxTeam", h.getMaxTeam());
+        m.put("registrazioniAperte", h.isRegistrazioniAperte());
+        m.put("eventoAvviato", h.isEventoAvviato());
+        m.put("eventoConcluso", h.isEventoConcluso());
+        return m;
+    }
+
+    private static Map<String, Object> toJson(Team t) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("id", t.getId());
+        m.put("nome", t.getNome());
+        m.put("hackathonId", t.getHackathonId());
+        m.put("capoTeamId", t.getCapoTeamId());
+        m.put("dimensioneMassima", t.getDimensioneMassima());
+        return m;
+    }
+
+    private static Map<String, Object> toJson(Notification n) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("id", n.getId());
+        m.put("titolo", n.getTitle());
+        m.put("messaggio", n.getMessage());
+        m.put("tipo", String.valueOf(n.getType()));
+        m.put("creataIl", String.valueOf(n.getCreatedAt()));
+        m.put("letta", n.isRead());
+        return m;
+    }
+
+    /**
+     * Errore applicativo con il relativo codice HTTP
+     */
+    private static final class ApiException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * Avvia il server: {@code java app.ApiServer [porta]}
+     * (equivalente a {@code java app.Main --server})
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : Integer.getInteger("server.port", 8080);
+        String host = System.getProperty("server.host", "127.0.0.1");
+        int threads = Integer.getInteger("server.threads", Runtime.getRuntime().availableProcessors() * 4);
+
+        ConnectionManager connectionManager = new ConnectionManager(DataSourceFactory.createDataSource());
+        try {
+            connectionManager.testTables();
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Verifica configurazione database fallita: {0}", e.getMessage());
+        }
+        Controller controller = new Controller(connectionManager);
+        controller.riprendiBackupProgrammati();
+        controller.avviaAggiornamentoStatistiche();
+
+        ApiServer apiServer = new ApiServer(controller, host, port, threads);
+        Runtime.getRuntime().addShutdownHook(new Thread(apiServer::stop, "api-shutdown"));
+        apiServer.start();
+    }
+}
@@ -12,30 +12,19 @@ public class Main {
     /**
      * Metodo principale per avviare l'applicazione
      *
-     * @param args argomenti da riga di comando (non utilizzati)
+     * @param args argomenti da riga di comando: {@code --server [porta]} avvia la modalità
+     *             server HTTP/JSON senza interfaccia grafica
      */
     public static void main(String[] args) {
-        // Test configurazione database prima di avviare la GUI
-        System.out.println("🔍 Test configurazione database...");
-        try {
-            var dataSource = database.DataSourceFactory.createDataSource();
-            System.out.println("✅ DataSource creato con successo");
-
-            // Test metodo getHackathonInCorso()
-            System.out.println("🔍 Test getHackathonInCorso()...");
-            var connectionManager = new database.ConnectionManager(dataSource);
-            var hackathonDAO = new dao.postgres.HackathonPostgresDAO(connectionManager);
-            var hackathons = hackathonDAO.findInCorso();
-            System.out.println("📊 Hackathon in corso trovati: " + hackathons.size());
-            for (var h : hackathons) {
-                System.out.println("  - " + h.getNome() + " (ID: " + h.getId() + ")");
+        if (args.length > 0 && "--server".equals(args[0])) {
+            try {
+                ApiServer.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+            } catch (java.io.IOException e) {
+                LOGGER.log(Level.SEVERE, "Impossibile avviare il server API", e);
+                System.exit(1);
             }
-
-        } catch (Exception e) {
-            System.err.println("❌ Errore DataSource: " + e.getMessage());
-            System.err.println("⚠️ Verificare configurazione in src/main/resources/db.properties");
+            return;
         }
-
         // Configura un look and feel moderno
         setupModernLookAndFeel();
         // Avvia l'applicazione Swing nell'Event Dispatch Thread
@@ -0,0 +1,17 @@
+package controller;
+
+/**
+ * Aree di dati con versione propria.
+ * Ogni scrittura riuscita tramite il {@link Controller} incrementa la versione delle aree
+ * interessate; i client (ad esempio le cache dei pannelli Swing) confrontano le versioni
+ * per capire se i dati già caricati sono ancora validi.
+ */
+public enum AreaDati {
+    EVENTI,
+    REGISTRAZIONI,
+    TEAM,
+    PROGRESSI,
+    VALUTAZIONI,
+    NOTIFICHE,
+    UTENTI
+}
@@ -82,12 +82,18 @@ import java.time.format.DateTimeFormatter;
 
 import java.util.List;
 
+import java.util.Collection;
+
 import java.util.ArrayList;
 
 import java.util.Map;
 
 import java.util.HashMap;
 
+import java.util.Optional;
+
+import java.util.function.Supplier;
+
 
 
 /**
@@ -190,10 +196,13 @@ public class Controller {
     private static final String ELIMINATI = "Eliminati";
     private static final String DATABASE = "DATABASE";
     private static final String EVENTI = "EVENTI";
+    /** Utenti mostrati per pagina nel dialog di invito */
+    public static final int UTENTI_INVITO_PER_PAGINA = 200;
     private static final String GIUDICE_NON_VALIDO = "Giudice non valido con ID: ";
     private static final String DOCUMENTO_NON_TROVATO = "Documento non trovato con ID: ";
     private static final String PER_DOCUMENTO_ID = " per documento ID: ";
-    private static final long SIMULATED_FREE_DISK_SPACE = 5L * 1024L * 1024L * 1024L; // 5GB simulati
+    private static final long MIN_FREE_BACKUP_SPACE = 1024L * 1024L * 1024L; // 1GB
+    private static final int DEFAULT_BACKUP_RETENTION_DAYS = 30;
     
 
     // DAO instances
@@ -214,14 +223,44 @@ public class Controller {
 
     private final DocumentoDAO documentoDAO;
 
-    @SuppressWarnings({"squid:S1068", "unused"}) // False positive: field is used for event operations
     private final EventDAO eventDAO;
 
+    private final dao.HackathonArchiveDAO hackathonArchiveDAO;
+
+    private final dao.ReportDAO reportDAO;
+
+    // Cache di utenti, hackathon e team davanti ai rispettivi DAO
+
+    private final dao.cache.EntityCaches entityCaches = dao.cache.EntityCaches.fromSystemProperties();
+
+    private final dao.cache.AuthorizationIndex authorizationIndex;
+
+    // Esecuzione parallela delle sezioni indipendenti di statistiche e report
+
+    private final service.ReportOrchestrator reportOrchestrator = service.ReportOrchestrator.fromSystemProperties();
+
+    // Serie temporali aggregate nel database per i grafici di andamento
+
+    private final service.TrendService trendService;
+
+    // Snapshot delle statistiche letti dalle dashboard, aggiornati in background
+
+    private final service.StatisticsSnapshotService statisticsSnapshot;
+
     private final ConnectionManager connectionManager;
 
-    // Current user session
+    // Sessioni utente: quella del client desktop e quella associata al thread corrente (modalità server)
+
+    private final SessionContext sessioneDesktop = new SessionContext(null);
+
+    private final ThreadLocal<SessionContext> sessioneThread = new ThreadLocal<>();
 
-    private Utente currentUser;
+    private final SessionManager sessionManager = new SessionManager();
+
+    // Versioni dei dati per area, incrementate a ogni scrittura riuscita
+
+    private final java.util.concurrent.atomic.AtomicLongArray versioniDati =
+        new java.util.concurrent.atomic.AtomicLongArray(AreaDati.values().length);
 
     /**
 
@@ -237,13 +276,19 @@ public class Controller {
 
         this.connectionManager = connectionManager;
 
-        this.hackathonDAO = new HackathonPostgresDAO(connectionManager);
+        this.hackathonDAO = entityCaches.hackathonDAO(new HackathonPostgresDAO(connectionManager));
+
+        this.utenteDAO = entityCaches.utenteDAO(new UtentePostgresDAO(connectionManager));
+
+        TeamDAO teamPostgresDAO = entityCaches.teamDAO(new TeamPostgresDAO(connectionManager));
 
-        this.utenteDAO = new UtentePostgresDAO(connectionManager);
+        RegistrazioneDAO registrazionePostgresDAO = new RegistrazionePostgresDAO(connectionManager);
 
-        this.teamDAO = new TeamPostgresDAO(connectionManager);
+        this.authorizationIndex = dao.cache.AuthorizationIndex.fromSystemProperties(teamPostgresDAO, registrazionePostgresDAO);
 
-        this.registrazioneDAO = new RegistrazionePostgresDAO(connectionManager);
+        this.teamDAO = authorizationIndex.teamDAO(teamPostgresDAO);
+
+        this.registrazioneDAO = authorizationIndex.registrazioneDAO(registrazionePostgresDAO);
 
         this.progressDAO = new ProgressPostgresDAO(connectionManager);
 
@@ -255,6 +300,16 @@ public class Controller {
 
         this.eventDAO = new EventPostgresDAO(connectionManager);
 
+        this.hackathonArchiveDAO = new dao.postgres.HackathonArchivePostgresDAO(connectionManager);
+
+        this.reportDAO = new dao.postgres.ReportPostgresDAO(connectionManager);
+
+        this.trendService = new service.TrendService(new dao.postgres.TrendPostgresDAO(connectionManager));
+
+        this.statisticsSnapshot = service.StatisticsSnapshotService.fromSystemProperties(
+
+            new dao.postgres.StatisticsSnapshotPostgresDAO(connectionManager), new CalcoloSnapshot());
+
     }
 
     // ==================== AUTENTICAZIONE E GESTIONE UTENTI ====================
@@ -293,17 +348,17 @@ public class Controller {
 
         
 
-        currentUser = utenteDAO.autentica(login.trim(), password.trim());
+        sessione().setUtente(utenteDAO.autentica(login.trim(), password.trim()));
 
         
 
-        boolean loginSuccess = currentUser != null;
+        boolean loginSuccess = currentUser() != null;
 
         
 
         if (loginSuccess) {
 
-            auditLogWithDuration(model.AuditLog.AuditAction.LOGIN, "USER", currentUser.getId(), 
+            auditLogWithDuration(model.AuditLog.AuditAction.LOGIN, "USER", currentUser().getId(), 
 
                                "Login successful per utente: " + login, model.AuditLog.AuditResult.SUCCESS, startTime);
 
@@ -432,9 +487,144 @@ public class Controller {
      */
 
     public Utente getCurrentUser() {
+        return currentUser();
+    }
+
+    /**
+     * Sessione su cui opera il thread corrente: quella associata con
+     * {@link #eseguiInSessione(SessionContext, Supplier)} oppure la sessione desktop
+     */
+    private SessionContext sessione() {
+        SessionContext sessione = sessioneThread.get();
+        return sessione != null ? sessione : sessioneDesktop;
+    }
+
+    private Utente currentUser() {
+        return sessione().getUtente();
+    }
+
+    /**
+     * Autentica un utente aprendo una nuova sessione indipendente da quella desktop.
+     * Da usare quando la stessa istanza di Controller serve più client.
+     *
+     * @param login    il login dell'utente
+     * @param password la password dell'utente
+     * @return la sessione aperta, vuoto se le credenziali non sono valide
+     */
+    public Optional<SessionContext> apriSessione(String login, String password) {
+        SessionContext sessione = new SessionContext(null);
+        boolean autenticato = eseguiInSessione(sessione, () -> login(login, password));
+        if (!autenticato) {
+            return Optional.empty();
+        }
+        return Optional.of(sessionManager.apri(sessione.getUtente()));
+    }
+
+    /**
+     * Restituisce una sessione aperta con {@link #apriSessione(String, String)}
+     *
+     * @param idSessione l'identificativo della sessione
+     * @return la sessione, vuoto se inesistente o scaduta
+     */
+    public Optional<SessionContext> trovaSessione(String idSessione) {
+        return sessionManager.trova(idSessione);
+    }
+
+    /**
+     * Chiude una sessione aperta con {@link #apriSessione(String, String)}
+     *
+     * @param idSessione l'identificativo della sessione
+     */
+    public void chiudiSessione(String idSessione) {
+        sessionManager.chiudi(idSessione).ifPresent(sessione -> eseguiInSessione(sessione, () -> {
+            logout();
+            return null;
+        }));
+    }
+
+    /**
+     * Rimuove le sessioni inattive oltre il timeout
+     *
+     * @return numero di sessioni rimosse
+     */
+    public int rimuoviSessioniScadute() {
+        return sessionManager.rimuoviScadute();
+    }
+
+    /**
+     * Restituisce la versione corrente di un'area di dati.
+     * La versione cambia dopo ogni scrittura riuscita che riguarda l'area.
+     *
+     * @param area l'area di dati
+     * @return la versione corrente
+     */
+    public long getVersioneDati(AreaDati area) {
+        return versioniDati.get(area.ordinal());
+    }
+    /**
+     * Statistiche delle cache di utenti, hackathon e team (hit ratio, dimensione, rimozioni)
+     *
+     * @return una voce per cache
+     */
+    public List<dao.cache.EntityCache.Statistiche> getStatisticheCache() {
+        return entityCaches.getStatistiche();
+    }
+
+    private void incrementaVersioni(AreaDati... aree) {
+        for (AreaDati area : aree) {
+            versioniDati.incrementAndGet(area.ordinal());
+        }
+    }
+
+    /**
+     * Registra la modifica delle aree indicate se l'operazione è riuscita
+     *
+     * @return l'esito ricevuto, invariato
+     */
+    private boolean modificato(boolean esito, AreaDati... aree) {
+        if (esito) {
+            incrementaVersioni(aree);
+        }
+        return esito;
+    }
+
+    private int modificato(int id, AreaDati... aree) {
+        if (id > 0) {
+            incrementaVersioni(aree);
+        }
+        return id;
+    }
 
-        return currentUser;
+    private long modificato(long id, AreaDati... aree) {
+        if (id > 0) {
+            incrementaVersioni(aree);
+        }
+        return id;
+    }
 
+    /**
+     * Esegue un'operazione del Controller per conto della sessione indicata.
+     * Tutti i controlli di permesso, le statistiche personali e l'audit log
+     * dell'operazione usano l'utente di questa sessione; thread diversi possono
+     * operare contemporaneamente su sessioni diverse.
+     *
+     * @param sessione la sessione per cui eseguire l'operazione
+     * @param operazione l'operazione da eseguire
+     * @return il risultato dell'operazione
+     */
+    public <T> T eseguiInSessione(SessionContext sessione, Supplier<T> operazione) {
+        SessionContext precedente = sessioneThread.get();
+        sessioneThread.set(sessione);
+        sessione.touch();
+        try {
+            return operazione.get();
+        } finally {
+            if (precedente != null) {
+                sessioneThread.set(precedente);
+            } else {
+                sessioneThread.remove();
+            }
+        }
     }
 
     /**
@@ -445,15 +635,15 @@ public class Controller {
 
     public void logout() {
 
-        if (currentUser != null) {
+        if (currentUser() != null) {
 
-            auditLog(model.AuditLog.AuditAction.LOGOUT, "USER", currentUser.getId(), 
+            auditLog(model.AuditLog.AuditAction.LOGOUT, "USER", currentUser().getId(), 
 
-                    String.format("Logout utente: %s", currentUser.getLogin()), model.AuditLog.AuditResult.SUCCESS);
+                    String.format("Logout utente: %s", currentUser().getLogin()), model.AuditLog.AuditResult.SUCCESS);
 
         }
 
-        currentUser = null;
+        sessione().setUtente(null);
 
     }
 
@@ -485,7 +675,7 @@ public class Controller {
 
                             boolean isVirtuale, int maxPartecipanti, int maxTeam) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return -1; // Solo gli organizzatori possono creare hackathon
 
@@ -493,9 +683,9 @@ public class Controller {
 
         Hackathon hackathon = new Hackathon(nome, dataInizio, sede, isVirtuale, 
 
-                                          currentUser.getId(), maxPartecipanti, maxTeam);
+                                          currentUser().getId(), maxPartecipanti, maxTeam);
 
-        return hackathonDAO.insert(hackathon);
+        return modificato(hackathonDAO.insert(hackathon), AreaDati.EVENTI);
 
     }
 
@@ -561,7 +751,7 @@ public class Controller {
 
     public boolean apriRegistrazioni(int hackathonId) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return false;
 
@@ -569,13 +759,13 @@ public class Controller {
 
         Hackathon hackathon = hackathonDAO.findById(hackathonId);
 
-        if (hackathon == null || hackathon.getOrganizzatoreId() != currentUser.getId()) {
+        if (hackathon == null || hackathon.getOrganizzatoreId() != currentUser().getId()) {
 
             return false; // Solo l'organizzatore può aprire le registrazioni
 
         }
 
-        return hackathonDAO.apriRegistrazioni(hackathonId);
+        return modificato(hackathonDAO.apriRegistrazioni(hackathonId), AreaDati.EVENTI);
 
     }
 
@@ -593,7 +783,7 @@ public class Controller {
 
     public boolean chiudiRegistrazioni(int hackathonId) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return false;
 
@@ -601,13 +791,13 @@ public class Controller {
 
         Hackathon hackathon = hackathonDAO.findById(hackathonId);
 
-        if (hackathon == null || hackathon.getOrganizzatoreId() != currentUser.getId()) {
+        if (hackathon == null || hackathon.getOrganizzatoreId() != currentUser().getId()) {
 
             return false;
 
         }
 
-        return hackathonDAO.chiudiRegistrazioni(hackathonId);
+        return modificato(hackathonDAO.chiudiRegistrazioni(hackathonId), AreaDati.EVENTI);
 
     }
 
@@ -627,7 +817,7 @@ public class Controller {
 
     public boolean avviaHackathon(int hackathonId, String descrizioneProblema) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return false;
 
@@ -635,7 +825,7 @@ public class Controller {
 
         Hackathon hackathon = hackathonDAO.findById(hackathonId);
 
-        if (hackathon == null || hackathon.getOrganizzatoreId() != currentUser.getId()) {
+        if (hackathon == null || hackathon.getOrganizzatoreId() != currentUser().getId()) {
 
             return false;
 
@@ -649,6 +839,8 @@ public class Controller {
 
         if (success) {
 
+            statisticsSnapshot.richiediAggiornamento(hackathonId);
+
             try {
 
                 inviaEmailAvvioHackathon(hackathonId);
@@ -663,7 +855,7 @@ public class Controller {
 
         
 
-        return success;
+        return modificato(success, AreaDati.EVENTI);
 
     }
 
@@ -685,7 +877,7 @@ public class Controller {
 
     public boolean registraUtenteAdHackathon(int hackathonId, Registrazione.Ruolo ruolo) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -703,7 +895,7 @@ public class Controller {
 
         // Verifica che l'utente non sia già registrato
 
-        if (registrazioneDAO.isRegistrato(currentUser.getId(), hackathonId)) {
+        if (registrazioneDAO.isRegistrato(currentUser().getId(), hackathonId)) {
 
             return false;
 
@@ -717,11 +909,11 @@ public class Controller {
 
         }
 
-        Registrazione registrazione = new Registrazione(currentUser.getId(), hackathonId, ruolo);
+        Registrazione registrazione = new Registrazione(currentUser().getId(), hackathonId, ruolo);
 
         int id = registrazioneDAO.insert(registrazione);
 
-        return id > 0;
+        return modificato(id > 0, AreaDati.REGISTRAZIONI);
 
     }
 
@@ -739,7 +931,7 @@ public class Controller {
 
     public boolean confermaRegistrazione(int registrazioneId) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return false;
 
@@ -781,7 +973,7 @@ public class Controller {
 
         
 
-        return success;
+        return modificato(success, AreaDati.REGISTRAZIONI);
 
     }
 
@@ -799,13 +991,13 @@ public class Controller {
 
     public boolean rifiutaRegistrazione(int registrazioneId) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return false;
 
         }
 
-        return registrazioneDAO.delete(registrazioneId);
+        return modificato(registrazioneDAO.delete(registrazioneId), AreaDati.REGISTRAZIONI);
 
     }
 
@@ -821,7 +1013,7 @@ public class Controller {
 
     public List<Registrazione> getRegistrazioniNonConfermate() {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return new ArrayList<>();
 
@@ -845,7 +1037,7 @@ public class Controller {
 
     public List<Registrazione> getRegistrazioniNonConfermatePerHackathon(int hackathonId) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return new ArrayList<>();
 
@@ -871,7 +1063,7 @@ public class Controller {
 
     public List<Registrazione> getRegistrazioniHackathon(int hackathonId) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return new ArrayList<>();
 
@@ -901,6 +1093,40 @@ public class Controller {
 
     }
 
+    /**
+
+     * Ottiene più utenti con una sola query, ad esempio per risolvere i nomi di una lista
+
+     *
+
+     * @param utenteIds gli ID degli utenti
+
+     * @return gli utenti trovati indicizzati per ID; vuota in caso di errore
+
+     */
+
+    public Map<Integer, Utente> getUtentiByIds(Collection<Integer> utenteIds) {
+
+        Map<Integer, Utente> utenti = new HashMap<>();
+
+        try {
+
+            for (Utente utente : utenteDAO.findByIds(utenteIds)) {
+
+                utenti.put(utente.getId(), utente);
+
+            }
+
+        } catch (DataAccessException e) {
+
+            logOperazione("ERRORE_UTENTI_BY_IDS", e.getMessage());
+
+        }
+
+        return utenti;
+
+    }
+
     // ==================== GESTIONE TEAM ====================
 
     /**
@@ -937,7 +1163,7 @@ public class Controller {
 
         
 
-        Team team = new Team(nomeTeam.trim(), hackathonId, currentUser.getId(), dimensioneMassima);
+        Team team = new Team(nomeTeam.trim(), hackathonId, currentUser().getId(), dimensioneMassima);
 
         int teamId = teamDAO.insert(team);
 
@@ -951,7 +1177,7 @@ public class Controller {
 
         
 
-        return teamId;
+        return modificato(teamId, AreaDati.TEAM);
 
     }
 
@@ -959,7 +1185,7 @@ public class Controller {
 
     private void validaInputCreazioneTeam(String nomeTeam, int dimensioneMassima) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             throw new UnauthorizedException("Utente non autenticato");
 
@@ -983,7 +1209,7 @@ public class Controller {
 
     private void validaRegistrazioneUtente(int hackathonId) {
 
-        Registrazione registrazione = registrazioneDAO.findByUtenteAndHackathon(currentUser.getId(), hackathonId);
+        Registrazione registrazione = registrazioneDAO.findByUtenteAndHackathon(currentUser().getId(), hackathonId);
 
         if (registrazione == null) {
 
@@ -1007,7 +1233,7 @@ public class Controller {
 
         // Verifica che non abbia già un team per questo hackathon
 
-        List<Team> teamUtente = teamDAO.findByMembro(currentUser.getId());
+        List<Team> teamUtente = teamDAO.findByMembro(currentUser().getId());
 
         for (Team team : teamUtente) {
 
@@ -1047,7 +1273,7 @@ public class Controller {
 
         if (hackathon != null) {
 
-            inviaNotificheAutomatiche("TEAM_CREATO", currentUser.getId(), nomeTeam.trim(), hackathon.getNome());
+            inviaNotificheAutomatiche("TEAM_CREATO", currentUser().getId(), nomeTeam.trim(), hackathon.getNome());
 
         }
 
@@ -1069,7 +1295,7 @@ public class Controller {
 
     public boolean inviaRichiestaJoin(int teamId, String messaggioMotivazionale) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -1083,7 +1309,7 @@ public class Controller {
 
         }
 
-        RichiestaJoin richiesta = new RichiestaJoin(currentUser.getId(), teamId, messaggioMotivazionale);
+        RichiestaJoin richiesta = new RichiestaJoin(currentUser().getId(), teamId, messaggioMotivazionale);
 
         int id = teamDAO.insertRichiestaJoin(richiesta);
 
@@ -1101,7 +1327,7 @@ public class Controller {
 
                     inviaNotificheAutomatiche("RICHIESTA_JOIN", teamInfo.getCapoTeamId(), 
 
-                        String.format("%s %s", currentUser.getNome(), currentUser.getCognome()), teamInfo.getNome());
+                        String.format("%s %s", currentUser().getNome(), currentUser().getCognome()), teamInfo.getNome());
 
                 }
 
@@ -1115,7 +1341,7 @@ public class Controller {
 
         
 
-        return id > 0;
+        return modificato(id > 0, AreaDati.TEAM);
 
     }
 
@@ -1133,7 +1359,7 @@ public class Controller {
 
     public boolean accettaRichiestaJoin(int richiestaId) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -1143,7 +1369,7 @@ public class Controller {
 
         // per motivi di sicurezza e integrità dei dati
 
-        return teamDAO.accettaRichiestaJoin(richiestaId);
+        return modificato(teamDAO.accettaRichiestaJoin(richiestaId), AreaDati.TEAM);
 
     }
 
@@ -1161,7 +1387,7 @@ public class Controller {
 
     public boolean rifiutaRichiestaJoin(int richiestaId) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -1171,7 +1397,7 @@ public class Controller {
 
         // per motivi di sicurezza e integrità dei dati
 
-        return teamDAO.rifiutaRichiestaJoin(richiestaId);
+        return modificato(teamDAO.rifiutaRichiestaJoin(richiestaId), AreaDati.TEAM);
 
     }
 
@@ -1205,18 +1431,18 @@ public class Controller {
         System.out.println("║ Descrizione: " + descrizione);
         System.out.println("║ Documento Path: " + documentoPath);
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
             System.out.println("║ ❌ ERRORE: Utente non autenticato");
             System.out.println("╚══════════════════════════════════════════════════════════════╝");
             return -1;
 
         }
 
-        System.out.println("║ Utente: " + currentUser.getNome() + " " + currentUser.getCognome());
+        System.out.println("║ Utente: " + currentUser().getNome() + " " + currentUser().getCognome());
 
         // Verifica che l'utente sia membro del team
 
-        if (!teamDAO.isMembro(teamId, currentUser.getId())) {
+        if (!teamDAO.isMembro(teamId, currentUser().getId())) {
             System.out.println("║ ❌ ERRORE: L'utente non è membro del team");
             System.out.println("╚══════════════════════════════════════════════════════════════╝");
             return -1;
@@ -1248,7 +1474,7 @@ public class Controller {
         }
         System.out.println("╚══════════════════════════════════════════════════════════════╝");
 
-        return progressId;
+        return modificato(progressId, AreaDati.PROGRESSI);
 
     }
 
@@ -1268,13 +1494,13 @@ public class Controller {
 
     public boolean aggiungiCommentoGiudice(int progressId, String commento) {
 
-        if (currentUser == null || !currentUser.isGiudice()) {
+        if (currentUser() == null || !currentUser().isGiudice()) {
 
             return false;
 
         }
 
-        boolean success = progressDAO.aggiungiCommentoGiudice(progressId, currentUser.getId(), commento);
+        boolean success = progressDAO.aggiungiCommentoGiudice(progressId, currentUser().getId(), commento);
 
         
 
@@ -1298,7 +1524,7 @@ public class Controller {
 
                             inviaNotificheAutomatiche("COMMENTO_GIUDICE", membroId, 
 
-                                currentUser.getNome() + " " + currentUser.getCognome(), team.getNome());
+                                currentUser().getNome() + " " + currentUser().getCognome(), team.getNome());
 
                         }
 
@@ -1316,7 +1542,7 @@ public class Controller {
 
         
 
-        return success;
+        return modificato(success, AreaDati.PROGRESSI);
 
     }
 
@@ -1340,7 +1566,7 @@ public class Controller {
 
     public boolean assegnaVoto(int teamId, int voto, String commento) {
 
-        if (currentUser == null || !currentUser.isGiudice()) {
+        if (currentUser() == null || !currentUser().isGiudice()) {
 
             return false;
 
@@ -1350,7 +1576,7 @@ public class Controller {
 
         // Usa la validazione completa
 
-        String erroreValidazione = validaAssegnazioneVoto(currentUser.getId(), teamId, voto);
+        String erroreValidazione = validaAssegnazioneVoto(currentUser().getId(), teamId, voto);
 
         if (erroreValidazione != null) {
 
@@ -1370,7 +1596,7 @@ public class Controller {
 
         
 
-        Valutazione valutazione = new Valutazione(currentUser.getId(), teamId, team.getHackathonId(), voto, commento);
+        Valutazione valutazione = new Valutazione(currentUser().getId(), teamId, team.getHackathonId(), voto, commento);
 
         Valutazione savedValutazione = valutazioneDAO.insert(valutazione);
 
@@ -1392,7 +1618,7 @@ public class Controller {
 
                         String.format("Il tuo team %s ha ricevuto una valutazione (voto: %d/10) da %s %s",
 
-                            team.getNome(), voto, currentUser.getNome(), currentUser.getCognome()),
+                            team.getNome(), voto, currentUser().getNome(), currentUser().getCognome()),
 
                         Notification.NotificationType.INFO);
 
@@ -1408,7 +1634,7 @@ public class Controller {
 
         
 
-        return success;
+        return modificato(success, AreaDati.VALUTAZIONI);
 
     }
 
@@ -1550,13 +1776,13 @@ public class Controller {
 
     public List<Registrazione> getRegistrazioniUtente() {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return new ArrayList<>();
 
         }
 
-        return registrazioneDAO.findByUtente(currentUser.getId());
+        return registrazioneDAO.findByUtente(currentUser().getId());
 
     }
 
@@ -1572,7 +1798,7 @@ public class Controller {
 
     public List<Team> getTeamUtente() {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return new ArrayList<>();
 
@@ -1580,7 +1806,7 @@ public class Controller {
 
         try {
 
-            return teamDAO.findByMembro(currentUser.getId());
+            return teamDAO.findByMembro(currentUser().getId());
 
         } catch (Exception e) {
 
@@ -1622,7 +1848,7 @@ public class Controller {
 
      public boolean leaveTeam(int teamId) {
 
-         if (currentUser == null) {
+         if (currentUser() == null) {
 
              return false;
 
@@ -1632,7 +1858,7 @@ public class Controller {
 
         // Verifica che l'utente sia membro del team
 
-        if (!teamDAO.isMembro(teamId, currentUser.getId())) {
+        if (!teamDAO.isMembro(teamId, currentUser().getId())) {
 
             return false;
 
@@ -1650,7 +1876,7 @@ public class Controller {
 
             // Verifica se l'utente è il capo team
 
-            boolean isCapoTeam = team.getCapoTeamId() == currentUser.getId();
+            boolean isCapoTeam = team.getCapoTeamId() == currentUser().getId();
 
             if (isCapoTeam) {
 
@@ -1668,7 +1894,7 @@ public class Controller {
 
                     // Promuovi un altro membro a capo team
 
-                    return promuoviNuovoCapoTeam(teamId, currentUser.getId());
+                    return promuoviNuovoCapoTeam(teamId, currentUser().getId());
 
                 }
 
@@ -1676,7 +1902,7 @@ public class Controller {
 
                 // Membro normale, può lasciare normalmente
 
-                return teamDAO.rimuoviMembro(teamId, currentUser.getId());
+                return modificato(teamDAO.rimuoviMembro(teamId, currentUser().getId()), AreaDati.TEAM);
 
             }
 
@@ -1706,7 +1932,7 @@ public class Controller {
 
             // Elimina il team e le sue relazioni (affidandosi a ON DELETE CASCADE se configurato)
 
-            return teamDAO.delete(teamId);
+            return modificato(teamDAO.delete(teamId), AreaDati.TEAM);
 
         } catch (Exception e) {
 
@@ -1754,9 +1980,19 @@ public class Controller {
 
             boolean success = aggiornaCapoTeam(teamId, nuovoCapoId);
 
-            // Se l'aggiornamento del capo team è riuscito, rimuovi il vecchio capo
+            if (!success) {
+
+                return false;
+
+            }
+
+            // Il capo è cambiato: la versione dei team va aggiornata anche se la rimozione fallisce
+
+            boolean rimosso = teamDAO.rimuoviMembro(teamId, vecchioCapoId);
 
-            return success && teamDAO.rimuoviMembro(teamId, vecchioCapoId);
+            modificato(true, AreaDati.TEAM);
+
+            return rimosso;
 
         } catch (Exception e) {
 
@@ -1784,7 +2020,7 @@ public class Controller {
 
         try {
 
-            return ((dao.postgres.TeamPostgresDAO) teamDAO).cambiaCapoTeam(teamId, nuovoCapoId);
+            return teamDAO.cambiaCapoTeam(teamId, nuovoCapoId);
 
         } catch (Exception e) {
 
@@ -1796,9 +2032,11 @@ public class Controller {
 
     /**
 
-     * Ottiene tutti gli utenti che possono essere invitati in un team
+     * Ottiene gli utenti che possono essere invitati in un team
+
+     * (partecipanti confermati all'hackathon che non sono in nessun team dell'hackathon),
 
-     * (partecipanti registrati all'hackathon ma non membri del team)
+     * limitati alla prima pagina
 
      *
 
@@ -1810,72 +2048,51 @@ public class Controller {
 
      */
 
-    @SuppressWarnings({"java:S3776", "java:S135"}) // Cognitive complexity and multiple break/continue acceptable for user filtering logic
-
     public List<Utente> getUtentiDisponibiliPerInvito(int hackathonId, int teamId) {
 
-        List<Utente> utentiDisponibili = new ArrayList<>();
-
-        try {
-
-            // Ottieni informazioni sul team per escludere il capo team
+        return getUtentiDisponibiliPerInvito(hackathonId, teamId, null, 0, UTENTI_INVITO_PER_PAGINA);
 
-            Team team = teamDAO.findById(teamId);
-
-            if (team == null) {
-
-                return utentiDisponibili;
-
-            }
-
-            // Trova tutti i partecipanti registrati all'hackathon
-
-            List<Registrazione> registrazioni = registrazioneDAO.findByHackathon(hackathonId);
-
-            for (Registrazione registrazione : registrazioni) {
+    }
 
-                if (registrazione.isPartecipante() && registrazione.isConfermata()) {
 
-                    Utente utente = utenteDAO.findById(registrazione.getUtenteId());
+    /**
 
-                    if (utente != null) {
+     * Ottiene una pagina degli utenti che possono essere invitati in un team, filtrati per
 
-                        // Verifica che l'utente non sia già membro del team
+     * inizio di nome, cognome o login. Le esclusioni (capo team, membri di questo o di altri
 
-                        boolean giaMembro = teamDAO.isMembro(teamId, utente.getId());
+     * team dello stesso hackathon) sono calcolate dal database in una sola query.
 
-                        if (giaMembro) {
+     *
 
-                            continue;
+     * @param hackathonId l'ID dell'hackathon
 
-                        }
+     * @param teamId l'ID del team
 
-                        // Verifica che l'utente non sia il capo team (non può invitare se stesso)
+     * @param prefisso testo di ricerca, null o vuoto per tutti
 
-                        if (utente.getId() == team.getCapoTeamId()) {
+     * @param offset utenti da saltare
 
-                            continue;
+     * @param limite numero massimo di utenti
 
-                        }
+     * @return lista degli utenti disponibili per l'invito, vuota in caso di errore
 
-                        // Utente disponibile per l'invito
+     */
 
-                        utentiDisponibili.add(utente);
+    public List<Utente> getUtentiDisponibiliPerInvito(int hackathonId, int teamId, String prefisso, int offset, int limite) {
 
-                    }
+        try {
 
-                }
+            return utenteDAO.findDisponibiliPerInvito(hackathonId, teamId, prefisso, offset, limite);
 
-            }
+        } catch (DataAccessException e) {
 
-        } catch (Exception e) {
+            logOperazione("ERRORE_UTENTI_INVITABILI", e.getMessage());
 
-            // Gestione errore
+            return new ArrayList<>();
 
         }
 
-        return utentiDisponibili;
-
     }
 
     /**
@@ -1894,7 +2111,7 @@ public class Controller {
 
     public boolean invitaUtenteAlTeam(int teamId, int utenteId) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -1906,7 +2123,7 @@ public class Controller {
 
             Team team = teamDAO.findById(teamId);
 
-            if (team == null || team.getCapoTeamId() != currentUser.getId()) {
+            if (team == null || team.getCapoTeamId() != currentUser().getId()) {
 
                 return false;
 
@@ -1914,9 +2131,7 @@ public class Controller {
 
             // Verifica che l'utente da invitare sia registrato all'hackathon
 
-            Registrazione registrazione = registrazioneDAO.findByUtenteAndHackathon(utenteId, team.getHackathonId());
-
-            if (registrazione == null || !registrazione.isPartecipante() || !registrazione.isConfermata()) {
+            if (!authorizationIndex.haRuoloConfermato(utenteId, team.getHackathonId(), Registrazione.Ruolo.PARTECIPANTE)) {
 
                 return false;
 
@@ -1932,7 +2147,7 @@ public class Controller {
 
             // Aggiungi l'utente al team
 
-            return teamDAO.aggiungiMembro(teamId, utenteId);
+            return modificato(teamDAO.aggiungiMembro(teamId, utenteId), AreaDati.TEAM);
 
         } catch (Exception e) {
 
@@ -1958,7 +2173,7 @@ public class Controller {
 
     public boolean rimuoviMembroDalTeam(int teamId, int membroId) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -1970,7 +2185,7 @@ public class Controller {
 
             Team team = teamDAO.findById(teamId);
 
-            if (team == null || team.getCapoTeamId() != currentUser.getId()) {
+            if (team == null || team.getCapoTeamId() != currentUser().getId()) {
 
                 return false;
 
@@ -1978,7 +2193,7 @@ public class Controller {
 
             // Non permettere al capo team di rimuovere se stesso
 
-            if (membroId == currentUser.getId()) {
+            if (membroId == currentUser().getId()) {
 
                 return false;
 
@@ -1994,7 +2209,7 @@ public class Controller {
 
             // Rimuovi il membro dal team
 
-            return teamDAO.rimuoviMembro(teamId, membroId);
+            return modificato(teamDAO.rimuoviMembro(teamId, membroId), AreaDati.TEAM);
 
         } catch (Exception e) {
 
@@ -2018,7 +2233,7 @@ public class Controller {
 
     public List<Hackathon> getHackathonDisponibiliPerTeam() {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return new ArrayList<>();
 
@@ -2028,7 +2243,7 @@ public class Controller {
 
         List<Hackathon> tuttiHackathon = hackathonDAO.findAll();
 
-        List<Registrazione> registrazioniUtente = registrazioneDAO.findByUtente(currentUser.getId());
+        List<Registrazione> registrazioniUtente = registrazioneDAO.findByUtente(currentUser().getId());
 
         for (Hackathon hackathon : tuttiHackathon) {
 
@@ -2066,7 +2281,7 @@ public class Controller {
 
     public boolean isAutenticato() {
 
-        return currentUser != null;
+        return currentUser() != null;
 
     }
 
@@ -2082,7 +2297,7 @@ public class Controller {
 
     public boolean isOrganizzatore() {
 
-        return currentUser != null && currentUser.isOrganizzatore();
+        return currentUser() != null && currentUser().isOrganizzatore();
 
     }
 
@@ -2098,7 +2313,7 @@ public class Controller {
 
     public boolean isGiudice() {
 
-        return currentUser != null && currentUser.isGiudice();
+        return currentUser() != null && currentUser().isGiudice();
 
     }
 
@@ -2112,7 +2327,7 @@ public class Controller {
 
         // Debug utente corrente
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return;
 
@@ -2142,7 +2357,7 @@ public class Controller {
 
     public boolean isPartecipante() {
 
-        return currentUser != null && currentUser.isPartecipante();
+        return currentUser() != null && currentUser().isPartecipante();
 
     }
 
@@ -2208,7 +2423,7 @@ public class Controller {
 
         // Validazione dell'utente corrente
 
-        if (currentUser == null || !ORGANIZZATORE.equals(currentUser.getRuolo())) {
+        if (currentUser() == null || !ORGANIZZATORE.equals(currentUser().getRuolo())) {
 
             logger.warning(() -> "Tentativo di creazione evento da utente non organizzatore");
 
@@ -2216,7 +2431,7 @@ public class Controller {
 
         }
 
-        logger.info(() -> String.format("Utente validato: %s (ID: %d)", currentUser.getEmail(), currentUser.getId()));
+        logger.info(() -> String.format("Utente validato: %s (ID: %d)", currentUser().getEmail(), currentUser().getId()));
 
         // Validazione dei dati della request
 
@@ -2226,19 +2441,11 @@ public class Controller {
 
         // Creazione tramite DAO specifico per EventRequest
 
-        EventDAO localEventDAO = new EventPostgresDAO(
-
-            getConnectionManagerFromHackathonDAO()
-
-        );
-
-        logger.info(() -> "EventDAO creato, chiamata insertFromRequest...");
-
-        long result = localEventDAO.insertFromRequest(request, currentUser.getId());
+        long result = eventDAO.insertFromRequest(request, currentUser().getId());
 
         logger.info(() -> "Risultato insertFromRequest: " + result);
 
-        return result;
+        return modificato(result, AreaDati.EVENTI);
 
     }
 
@@ -2266,7 +2473,7 @@ public class Controller {
 
             // Validazione dell'utente corrente
 
-            if (currentUser == null || !ORGANIZZATORE.equals(currentUser.getRuolo())) {
+            if (currentUser() == null || !ORGANIZZATORE.equals(currentUser().getRuolo())) {
 
                 throw new IllegalArgumentException("Solo gli organizzatori possono modificare eventi");
 
@@ -2278,13 +2485,17 @@ public class Controller {
 
             // Aggiornamento tramite DAO
 
-            EventDAO localEventDAO = new EventPostgresDAO(
+            boolean aggiornato = eventDAO.updateFromRequest(eventId, request, currentUser().getId());
 
-                getConnectionManagerFromHackathonDAO()
+            if (aggiornato) {
 
-            );
+                // L'aggiornamento non passa da hackathonDAO: la copia in cache va scartata
+
+                entityCaches.invalidaHackathon(Math.toIntExact(eventId));
+
+            }
 
-            return localEventDAO.updateFromRequest(eventId, request, currentUser.getId());
+            return modificato(aggiornato, AreaDati.EVENTI);
 
         } catch (Exception e) {
 
@@ -2302,30 +2513,6 @@ public class Controller {
 
     }
 
-    /**
-
-     * Ottiene il ConnectionManager dal HackathonDAO esistente
-
-     */
-
-    private database.ConnectionManager getConnectionManagerFromHackathonDAO() {
-
-        // Assumo che HackathonPostgresDAO abbia un getter per ConnectionManager
-
-        // Altrimenti creo un nuovo ConnectionManager con lo stesso DataSource
-
-        try {
-
-            return new database.ConnectionManager(database.DataSourceFactory.createDataSource());
-
-        } catch (Exception e) {
-
-            throw new IllegalStateException("Impossibile ottenere ConnectionManager", e);
-
-        }
-
-    }
-
     /**
 
      * Valida una EventRequest secondo le regole di business
@@ -2478,23 +2665,7 @@ public class Controller {
 
         try {
 
-            List<RichiestaJoin> richieste = teamDAO.findRichiesteJoinInAttesa(teamId);
-
-            // Aggiungi informazioni dettagliate sugli utenti per ogni richiesta
-
-            for (RichiestaJoin richiesta : richieste) {
-
-                Utente utente = utenteDAO.findById(richiesta.getUtenteId());
-
-                if (utente != null) {
-
-                    // Elabora richiesta
-
-                }
-
-            }
-
-            return richieste;
+            return teamDAO.findRichiesteJoinInAttesa(teamId);
 
         } catch (Exception e) {
 
@@ -2720,6 +2891,40 @@ public class Controller {
 
     }
 
+    /**
+
+     * Recupera più hackathon con una sola query
+
+     *
+
+     * @param hackathonIds gli ID degli hackathon
+
+     * @return gli hackathon trovati indicizzati per ID; vuota in caso di errore
+
+     */
+
+    public Map<Integer, Hackathon> getHackathonByIds(Collection<Integer> hackathonIds) {
+
+        Map<Integer, Hackathon> hackathons = new HashMap<>();
+
+        try {
+
+            for (Hackathon hackathon : hackathonDAO.findByIds(hackathonIds)) {
+
+                hackathons.put(hackathon.getId(), hackathon);
+
+            }
+
+        } catch (DataAccessException e) {
+
+            logOperazione("ERRORE_HACKATHON_BY_IDS", e.getMessage());
+
+        }
+
+        return hackathons;
+
+    }
+
     /**
 
      * Conta i membri di un team specifico
@@ -2758,7 +2963,7 @@ public class Controller {
 
     public List<Notification> getNotificheUtente() {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return new ArrayList<>();
 
@@ -2766,7 +2971,7 @@ public class Controller {
 
         try {
 
-            return notificationDAO.findByUtente(currentUser.getId());
+            return notificationDAO.findByUtente(currentUser().getId());
 
         } catch (Exception e) {
 
@@ -2790,7 +2995,7 @@ public class Controller {
 
     public boolean segnaNotificaComeLetta(int notificationId) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -2798,7 +3003,7 @@ public class Controller {
 
         try {
 
-            return notificationDAO.markAsRead(notificationId, currentUser.getId());
+            return modificato(notificationDAO.markAsRead(notificationId, currentUser().getId()), AreaDati.NOTIFICHE);
 
         } catch (Exception e) {
 
@@ -2820,7 +3025,7 @@ public class Controller {
 
     public boolean segnaTutteNotificheComeLette() {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -2828,7 +3033,7 @@ public class Controller {
 
         try {
 
-            return notificationDAO.markAllAsRead(currentUser.getId());
+            return modificato(notificationDAO.markAllAsRead(currentUser().getId()), AreaDati.NOTIFICHE);
 
         } catch (Exception e) {
 
@@ -2854,7 +3059,7 @@ public class Controller {
 
         try {
 
-            return notificationDAO.delete(notificationId);
+            return modificato(notificationDAO.delete(notificationId), AreaDati.NOTIFICHE);
 
         } catch (Exception e) {
 
@@ -2864,7 +3069,7 @@ public class Controller {
 
     }
 
-    private model.PushNotificationService pushService;
+    private volatile model.PushNotificationService pushService;
 
     
 
@@ -2874,7 +3079,7 @@ public class Controller {
 
      */
 
-    private void initializePushService() {
+    private synchronized void initializePushService() {
 
         if (pushService == null) {
 
@@ -2956,7 +3161,7 @@ public class Controller {
 
             
 
-            return id > 0;
+            return modificato(id > 0, AreaDati.NOTIFICHE);
 
         } catch (Exception e) {
 
@@ -3036,7 +3241,7 @@ public class Controller {
 
     public boolean registraPushSubscription(String endpoint, String p256dh, String auth) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -3048,13 +3253,13 @@ public class Controller {
 
             initializePushService();
 
-            boolean registered = pushService.registerSubscription(currentUser.getId(), endpoint, p256dh, auth);
+            boolean registered = pushService.registerSubscription(currentUser().getId(), endpoint, p256dh, auth);
 
             
 
             if (registered) {
 
-                logOperazione("PUSH_SUBSCRIPTION_REGISTERED", String.format("Subscription registrata per utente %d", currentUser.getId()));
+                logOperazione("PUSH_SUBSCRIPTION_REGISTERED", String.format("Subscription registrata per utente %d", currentUser().getId()));
 
             }
 
@@ -3082,7 +3287,7 @@ public class Controller {
 
     public boolean rimuoviPushSubscription() {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -3094,13 +3299,13 @@ public class Controller {
 
             initializePushService();
 
-            boolean removed = pushService.unregisterSubscription(currentUser.getId());
+            boolean removed = pushService.unregisterSubscription(currentUser().getId());
 
             
 
             if (removed) {
 
-                logOperazione("PUSH_SUBSCRIPTION_REMOVED", String.format("Subscription rimossa per utente %d", currentUser.getId()));
+                logOperazione("PUSH_SUBSCRIPTION_REMOVED", String.format("Subscription rimossa per utente %d", currentUser().getId()));
 
             }
 
@@ -3128,7 +3333,7 @@ public class Controller {
 
     public int inviaNotificaBroadcast(String title, String message, model.Notification.NotificationType type) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return 0;
 
@@ -3156,7 +3361,7 @@ public class Controller {
 
             logOperazione("PUSH_BROADCAST", String.format("Notifica broadcast inviata a %d utenti: %s", sentCount, title));
 
-            return sentCount;
+            return modificato(sentCount, AreaDati.NOTIFICHE);
 
             
 
@@ -3400,7 +3605,7 @@ public class Controller {
 
     public boolean aggiornaProfilo(String nuovoNome, String nuovoCognome, String nuovaEmail) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -3438,7 +3643,7 @@ public class Controller {
 
             // Verifica che l'email non sia già utilizzata da un altro utente
 
-            if (!nuovaEmail.equals(currentUser.getEmail()) && utenteDAO.isEmailUtilizzata(nuovaEmail)) {
+            if (!nuovaEmail.equals(currentUser().getEmail()) && utenteDAO.isEmailUtilizzata(nuovaEmail)) {
 
                 throw new IllegalArgumentException("L'email è già utilizzata da un altro utente");
 
@@ -3446,15 +3651,15 @@ public class Controller {
 
             // Aggiorna l'utente
 
-            currentUser.setNome(nuovoNome.trim());
+            currentUser().setNome(nuovoNome.trim());
 
-            currentUser.setCognome(nuovoCognome.trim());
+            currentUser().setCognome(nuovoCognome.trim());
 
-            currentUser.setEmail(nuovaEmail.trim());
+            currentUser().setEmail(nuovaEmail.trim());
 
             // Salva nel database
 
-            return utenteDAO.update(currentUser);
+            return modificato(utenteDAO.update(currentUser()), AreaDati.UTENTI);
 
         } catch (Exception e) {
 
@@ -3550,7 +3755,7 @@ public class Controller {
 
     public boolean cambiaPassword(String passwordAttuale, String nuovaPassword, String confermaPassword) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -3580,7 +3785,7 @@ public class Controller {
 
             // Verifica che la password attuale sia corretta
 
-            if (!currentUser.getPassword().equals(passwordAttuale)) {
+            if (!currentUser().getPassword().equals(passwordAttuale)) {
 
                 throw new IllegalArgumentException("La password attuale non è corretta");
 
@@ -3606,21 +3811,21 @@ public class Controller {
 
             Utente utenteAggiornato = new Utente(
 
-                currentUser.getLogin(),
+                currentUser().getLogin(),
 
                 nuovaPassword,
 
-                currentUser.getNome(),
+                currentUser().getNome(),
 
-                currentUser.getCognome(),
+                currentUser().getCognome(),
 
-                currentUser.getEmail(),
+                currentUser().getEmail(),
 
-                currentUser.getRuolo()
+                currentUser().getRuolo()
 
             );
 
-            utenteAggiornato.setId(currentUser.getId());
+            utenteAggiornato.setId(currentUser().getId());
 
             // Aggiorna nel database
 
@@ -3628,7 +3833,7 @@ public class Controller {
 
             if (success) {
 
-                currentUser = utenteAggiornato;
+                sessione().setUtente(utenteAggiornato);
 
             }
 
@@ -3658,7 +3863,15 @@ public class Controller {
 
         try {
 
-            return hackathonDAO.avviaEvento(hackathonId);
+            boolean avviato = hackathonDAO.avviaEvento(hackathonId);
+
+            if (avviato) {
+
+                statisticsSnapshot.richiediAggiornamento(hackathonId);
+
+            }
+
+            return modificato(avviato, AreaDati.EVENTI);
 
         } catch (Exception e) {
 
@@ -3699,13 +3912,14 @@ public class Controller {
             boolean result = hackathonDAO.concludeEvento(hackathonId);
             
             if (result) {
+                statisticsSnapshot.richiediAggiornamento(hackathonId);
                 System.out.println("║ ✅ EVENTO CONCLUSO CON SUCCESSO!");
             } else {
                 System.out.println("║ ❌ ERRORE: Impossibile concludere l'evento");
             }
             System.out.println("╚══════════════════════════════════════════════════════════════╝");
             
-            return result;
+            return modificato(result, AreaDati.EVENTI);
 
         } catch (Exception e) {
 
@@ -3736,7 +3950,7 @@ public class Controller {
 
     public List<Notification> getNotificheNonLette() {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return new ArrayList<>();
 
@@ -3744,7 +3958,7 @@ public class Controller {
 
         try {
 
-            return notificationDAO.findUnreadByUtente(currentUser.getId());
+            return notificationDAO.findUnreadByUtente(currentUser().getId());
 
         } catch (Exception e) {
 
@@ -3768,7 +3982,7 @@ public class Controller {
 
     public int contaNotificheNonLette() {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return 0;
 
@@ -3776,7 +3990,7 @@ public class Controller {
 
         try {
 
-            return notificationDAO.countUnreadByUtente(currentUser.getId());
+            return notificationDAO.countUnreadByUtente(currentUser().getId());
 
         } catch (Exception e) {
 
@@ -3802,7 +4016,7 @@ public class Controller {
 
     public List<Notification> getNotifichePerTipo(Notification.NotificationType tipo) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return new ArrayList<>();
 
@@ -3810,7 +4024,7 @@ public class Controller {
 
         try {
 
-            return notificationDAO.findByUtenteAndType(currentUser.getId(), tipo);
+            return notificationDAO.findByUtenteAndType(currentUser().getId(), tipo);
 
         } catch (Exception e) {
 
@@ -3834,7 +4048,7 @@ public class Controller {
 
     public boolean eliminaTutteNotifiche() {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -3842,7 +4056,7 @@ public class Controller {
 
         try {
 
-            return notificationDAO.deleteByUtente(currentUser.getId());
+            return modificato(notificationDAO.deleteByUtente(currentUser().getId()), AreaDati.NOTIFICHE);
 
         } catch (Exception e) {
 
@@ -3967,7 +4181,7 @@ public class Controller {
 
                               String tipoFile, long dimensioneFile, String hashFile, String descrizione, byte[] contenuto) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return -1;
 
@@ -3979,7 +4193,7 @@ public class Controller {
 
             // Verifica che l'utente sia membro del team
 
-            if (!teamDAO.isMembro(teamId, currentUser.getId())) {
+            if (!teamDAO.isMembro(teamId, currentUser().getId())) {
 
                 return -1;
 
@@ -4037,7 +4251,7 @@ public class Controller {
 
             Documento documento = new Documento(teamId, team.getHackathonId(), nomeFile, 
 
-                percorsoFile, tipoFile, dimensioneFile, hashFile, currentUser.getId(), descrizione, contenuto);
+                percorsoFile, tipoFile, dimensioneFile, hashFile, currentUser().getId(), descrizione, contenuto);
 
             
 
@@ -4055,7 +4269,7 @@ public class Controller {
 
             
 
-            return documentoId;
+            return modificato(documentoId, AreaDati.PROGRESSI);
 
         } catch (Exception e) {
 
@@ -4135,7 +4349,7 @@ public class Controller {
 
     public List<Documento> getDocumentiUtente() {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return new ArrayList<>();
 
@@ -4143,7 +4357,7 @@ public class Controller {
 
         try {
 
-            return documentoDAO.findByUtente(currentUser.getId());
+            return documentoDAO.findByUtente(currentUser().getId());
 
         } catch (Exception e) {
 
@@ -4197,7 +4411,7 @@ public class Controller {
 
     public boolean validaDocumento(int documentoId) {
 
-        if (currentUser == null || (!currentUser.isGiudice() && !currentUser.isOrganizzatore())) {
+        if (currentUser() == null || (!currentUser().isGiudice() && !currentUser().isOrganizzatore())) {
 
             return false;
 
@@ -4207,7 +4421,7 @@ public class Controller {
 
         try {
 
-            boolean success = documentoDAO.valida(documentoId, currentUser.getId());
+            boolean success = documentoDAO.valida(documentoId, currentUser().getId());
 
             
 
@@ -4219,7 +4433,7 @@ public class Controller {
 
             
 
-            return success;
+            return modificato(success, AreaDati.PROGRESSI);
 
         } catch (Exception e) {
 
@@ -4255,7 +4469,7 @@ public class Controller {
 
                         documento.getNome(), team.getNome(), 
 
-                        currentUser.getNome(), currentUser.getCognome());
+                        currentUser().getNome(), currentUser().getCognome());
 
                     
 
@@ -4295,7 +4509,7 @@ public class Controller {
 
     public boolean rimuoviValidazioneDocumento(int documentoId) {
 
-        if (currentUser == null || (!currentUser.isGiudice() && !currentUser.isOrganizzatore())) {
+        if (currentUser() == null || (!currentUser().isGiudice() && !currentUser().isOrganizzatore())) {
 
             return false;
 
@@ -4305,7 +4519,7 @@ public class Controller {
 
         try {
 
-            return documentoDAO.rimuoviValidazione(documentoId);
+            return modificato(documentoDAO.rimuoviValidazione(documentoId), AreaDati.PROGRESSI);
 
         } catch (Exception e) {
 
@@ -4331,7 +4545,7 @@ public class Controller {
 
     public boolean eliminaDocumento(int documentoId) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -4353,11 +4567,11 @@ public class Controller {
 
             // Verifica i permessi: solo il caricatore, membri del team o organizzatori possono eliminare
 
-            boolean canDelete = currentUser.isOrganizzatore()
+            boolean canDelete = currentUser().isOrganizzatore()
 
-                || documento.getUtenteCaricamento() == currentUser.getId()
+                || documento.getUtenteCaricamento() == currentUser().getId()
 
-                || teamDAO.isMembro(documento.getTeamId(), currentUser.getId());
+                || teamDAO.isMembro(documento.getTeamId(), currentUser().getId());
 
             if (!canDelete) {
 
@@ -4367,7 +4581,7 @@ public class Controller {
 
             
 
-            return documentoDAO.delete(documentoId);
+            return modificato(documentoDAO.delete(documentoId), AreaDati.PROGRESSI);
 
         } catch (Exception e) {
 
@@ -4397,7 +4611,7 @@ public class Controller {
 
     public boolean aggiornaDocumento(int documentoId, String nuovoNome, String nuovaDescrizione) {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return false;
 
@@ -4419,9 +4633,9 @@ public class Controller {
 
             // Verifica i permessi: solo il caricatore o membri del team possono aggiornare
 
-            boolean canUpdate = documento.getUtenteCaricamento() == currentUser.getId()
+            boolean canUpdate = documento.getUtenteCaricamento() == currentUser().getId()
 
-                || teamDAO.isMembro(documento.getTeamId(), currentUser.getId());
+                || teamDAO.isMembro(documento.getTeamId(), currentUser().getId());
 
             if (!canUpdate) {
 
@@ -4437,7 +4651,7 @@ public class Controller {
 
             
 
-            return documentoDAO.update(documento);
+            return modificato(documentoDAO.update(documento), AreaDati.PROGRESSI);
 
         } catch (Exception e) {
 
@@ -4607,7 +4821,7 @@ public class Controller {
 
     public List<Documento> getTuttiDocumenti() {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return new ArrayList<>();
 
@@ -4625,6 +4839,44 @@ public class Controller {
 
     }
 
+    /**
+     * Conta i documenti che soddisfano il filtro.
+     * Senza team né hackathon il filtro riguarda tutti i documenti ed è riservato agli organizzatori.
+     *
+     * @param filtro criteri di filtro
+     * @return numero di documenti visibili
+     */
+    public int contaDocumenti(dao.DocumentoFiltro filtro) {
+        if (!puoLeggereDocumenti(filtro)) {
+            return 0;
+        }
+        return documentoDAO.countFiltered(filtro);
+    }
+
+    /**
+     * Legge una pagina di documenti (senza contenuto) filtrati e ordinati lato database
+     *
+     * @param filtro criteri di filtro e ordinamento
+     * @param dopo ultimo documento della pagina precedente per la paginazione keyset, o null
+     * @param offset righe da saltare quando {@code dopo} è null
+     * @param limite dimensione della pagina
+     * @return la pagina di documenti
+     */
+    public List<Documento> getPaginaDocumenti(dao.DocumentoFiltro filtro, Documento dopo, int offset, int limite) {
+        if (!puoLeggereDocumenti(filtro)) {
+            return new ArrayList<>();
+        }
+        return documentoDAO.findPage(filtro, dopo, offset, limite);
+    }
+
+    private boolean puoLeggereDocumenti(dao.DocumentoFiltro filtro) {
+        if (filtro.getTeamId() > 0 || filtro.getHackathonId() > 0) {
+            return true;
+        }
+        Utente utente = currentUser();
+        return utente != null && utente.isOrganizzatore();
+    }
+
 
 
     // ==================== VALIDAZIONI BUSINESS LOGIC ====================
@@ -4653,9 +4905,7 @@ public class Controller {
 
             // Verifica che il giudice sia registrato all'hackathon
 
-            Registrazione registrazioneGiudice = registrazioneDAO.findByUtenteAndHackathon(giudiceId, hackathonId);
-
-            if (registrazioneGiudice == null || !registrazioneGiudice.isGiudice() || !registrazioneGiudice.isConfermata()) {
+            if (!authorizationIndex.haRuoloConfermato(giudiceId, hackathonId, Registrazione.Ruolo.GIUDICE)) {
 
                 return false;
 
@@ -4815,63 +5065,25 @@ public class Controller {
 
         try {
 
-            Hackathon hackathon = hackathonDAO.findById(hackathonId);
+            model.StatoPreparazioneHackathon stato = hackathonDAO.findStatoPreparazione(hackathonId);
 
-            if (hackathon == null || !hackathon.isRegistrazioniAperte()) {
+            return stato != null && stato.puoChiudereRegistrazioni();
 
-                return false;
+        } catch (Exception e) {
 
-            }
+            return false;
 
-            
+        }
 
-            // Verifica che ci sia almeno un partecipante registrato
+    }
 
-            List<Registrazione> registrazioni = registrazioneDAO.findByHackathon(hackathonId);
+    
 
-            long partecipantiConfermati = registrazioni.stream()
+    /**
 
-                .filter(r -> r.isPartecipante() && r.isConfermata())
+     * Valida se un hackathon può essere avviato
 
-                .count();
-
-            
-
-            if (partecipantiConfermati == 0) {
-
-                return false;
-
-            }
-
-            
-
-            // Verifica che ci sia almeno un giudice registrato
-
-            long giudiciConfermati = registrazioni.stream()
-
-                .filter(r -> r.isGiudice() && r.isConfermata())
-
-                .count();
-
-            
-
-            return giudiciConfermati > 0;
-
-        } catch (Exception e) {
-
-            return false;
-
-        }
-
-    }
-
-    
-
-    /**
-
-     * Valida se un hackathon può essere avviato
-
-     *
+     *
 
      * @param hackathonId l'ID dell'hackathon
 
@@ -4883,67 +5095,9 @@ public class Controller {
 
         try {
 
-            Hackathon hackathon = hackathonDAO.findById(hackathonId);
-
-            if (hackathon == null || hackathon.isEventoAvviato() || hackathon.isEventoConcluso()) {
-
-                return false;
-
-            }
-
-            
-
-            // Verifica che le registrazioni siano chiuse
-
-            if (hackathon.isRegistrazioniAperte()) {
-
-                return false;
-
-            }
-
-            
-
-            // Verifica che ci siano team registrati
-
-            List<Team> teams = teamDAO.findByHackathon(hackathonId);
-
-            if (teams.isEmpty()) {
-
-                return false;
-
-            }
-
-            
-
-            // Verifica che ci siano giudici confermati
-
-            List<Registrazione> registrazioni = registrazioneDAO.findByHackathon(hackathonId);
-
-            long giudiciConfermati = registrazioni.stream()
-
-                .filter(r -> r.isGiudice() && r.isConfermata())
+            model.StatoPreparazioneHackathon stato = hackathonDAO.findStatoPreparazione(hackathonId);
 
-                .count();
-
-            
-
-            if (giudiciConfermati == 0) {
-
-                return false;
-
-            }
-
-            
-
-            // Verifica che la data di inizio non sia nel futuro (margine di 1 ora)
-
-            LocalDateTime now = LocalDateTime.now();
-
-            LocalDateTime dataInizio = hackathon.getDataInizio();
-
-            // SonarLint: fixed S1126 (replace if/else boolean returns)
-
-            return !dataInizio.isAfter(now.plusHours(1));
+            return stato != null && stato.puoEssereAvviato(LocalDateTime.now());
 
         } catch (Exception e) {
 
@@ -4971,25 +5125,9 @@ public class Controller {
 
         try {
 
-            Hackathon hackathon = hackathonDAO.findById(hackathonId);
-
-            if (hackathon == null || !hackathon.isEventoAvviato() || hackathon.isEventoConcluso()) {
-
-                return false;
-
-            }
-
-            
-
-            // Verifica che sia passata la data di fine
-
-            LocalDateTime now = LocalDateTime.now();
+            model.StatoPreparazioneHackathon stato = hackathonDAO.findStatoPreparazione(hackathonId);
 
-            LocalDateTime dataFine = hackathon.getDataFine();
-
-            // SonarLint: fixed S1126 (replace if/else boolean returns)
-
-            return !dataFine.isAfter(now);
+            return stato != null && stato.puoEssereConcluso(LocalDateTime.now());
 
         } catch (Exception e) {
 
@@ -5723,31 +5861,29 @@ public class Controller {
 
         StringBuilder riepilogo = new StringBuilder();
 
-        
-
         try {
 
-            Hackathon hackathon = hackathonDAO.findById(hackathonId);
+            // Hackathon e conteggi in una sola query, condivisa con i validatori
 
-            if (hackathon == null) {
+            model.StatoPreparazioneHackathon stato = hackathonDAO.findStatoPreparazione(hackathonId);
+
+            if (stato == null) {
 
                 return "Hackathon non trovato";
 
             }
 
-            
+            Hackathon hackathon = stato.getHackathon();
 
             appendIntestazione(riepilogo, hackathon);
 
-            appendStatoRegistrazioni(riepilogo, hackathon, hackathonId);
+            appendStatoRegistrazioni(riepilogo, stato);
 
-            appendStatoTeam(riepilogo, hackathon, hackathonId);
+            appendStatoTeam(riepilogo, stato);
 
             appendStatoEvento(riepilogo, hackathon);
 
-            appendAzioniDisponibili(riepilogo, hackathonId);
-
-            
+            appendAzioniDisponibili(riepilogo, stato);
 
         } catch (Exception e) {
 
@@ -5755,8 +5891,6 @@ public class Controller {
 
         }
 
-        
-
         return riepilogo.toString();
 
     }
@@ -5785,25 +5919,17 @@ public class Controller {
 
      */
 
-    private void appendStatoRegistrazioni(StringBuilder riepilogo, Hackathon hackathon, int hackathonId) {
+    private void appendStatoRegistrazioni(StringBuilder riepilogo, model.StatoPreparazioneHackathon stato) {
+
+        Hackathon hackathon = stato.getHackathon();
 
         riepilogo.append("REGISTRAZIONI:\n");
 
         riepilogo.append("- Aperte: ").append(hackathon.isRegistrazioniAperte() ? "Sì" : "No").append("\n");
 
-        
-
-        List<Registrazione> registrazioni = registrazioneDAO.findByHackathon(hackathonId);
-
-        long partecipanti = registrazioni.stream().filter(r -> r.isPartecipante() && r.isConfermata()).count();
-
-        long giudici = registrazioni.stream().filter(r -> r.isGiudice() && r.isConfermata()).count();
-
-        
-
-        riepilogo.append("- Partecipanti confermati: ").append(partecipanti).append("/").append(hackathon.getMaxPartecipanti()).append("\n");
+        riepilogo.append("- Partecipanti confermati: ").append(stato.getPartecipantiConfermati()).append("/").append(hackathon.getMaxPartecipanti()).append("\n");
 
-        riepilogo.append("- Giudici confermati: ").append(giudici).append("\n");
+        riepilogo.append("- Giudici confermati: ").append(stato.getGiudiciConfermati()).append("\n");
 
     }
 
@@ -5815,29 +5941,19 @@ public class Controller {
 
      */
 
-    private void appendStatoTeam(StringBuilder riepilogo, Hackathon hackathon, int hackathonId) {
-
-        List<Team> teams = teamDAO.findByHackathon(hackathonId);
+    private void appendStatoTeam(StringBuilder riepilogo, model.StatoPreparazioneHackathon stato) {
 
         riepilogo.append("\nTEAM:\n");
 
-        riepilogo.append("- Numero team: ").append(teams.size()).append("/").append(hackathon.getMaxTeam()).append("\n");
-
-        
-
-        int teamValutabili = 0;
-
-        for (Team team : teams) {
+        riepilogo.append("- Numero team: ").append(stato.getTeam()).append("/").append(stato.getHackathon().getMaxTeam()).append("\n");
 
-            if (validaTeamPerValutazione(team.getId())) {
+        riepilogo.append("- Team senza progressi: ").append(stato.getTeamSenzaProgressi()).append("\n");
 
-                teamValutabili++;
-
-            }
+        riepilogo.append("- Team valutabili: ").append(stato.getTeamValutabili()).append("/").append(stato.getTeam()).append("\n");
 
-        }
+        riepilogo.append("- Valutazioni: ").append(stato.getValutazioni()).append("\n");
 
-        riepilogo.append("- Team valutabili: ").append(teamValutabili).append("/").append(teams.size()).append("\n");
+        riepilogo.append("- Documenti: ").append(stato.getDocumenti()).append("\n");
 
     }
 
@@ -5867,15 +5983,17 @@ public class Controller {
 
      */
 
-    private void appendAzioniDisponibili(StringBuilder riepilogo, int hackathonId) {
+    private void appendAzioniDisponibili(StringBuilder riepilogo, model.StatoPreparazioneHackathon stato) {
+
+        LocalDateTime adesso = LocalDateTime.now();
 
         riepilogo.append("\nAZIONI DISPONIBILI:\n");
 
-        riepilogo.append("- Può essere avviato: ").append(validaAvvioHackathon(hackathonId) ? "Sì" : "No").append("\n");
+        riepilogo.append("- Può essere avviato: ").append(stato.puoEssereAvviato(adesso) ? "Sì" : "No").append("\n");
 
-        riepilogo.append("- Può essere concluso: ").append(validaConclusione(hackathonId) ? "Sì" : "No").append("\n");
+        riepilogo.append("- Può essere concluso: ").append(stato.puoEssereConcluso(adesso) ? "Sì" : "No").append("\n");
 
-        riepilogo.append("- Registrazioni possono essere chiuse: ").append(validaChiusuraRegistrazioni(hackathonId) ? "Sì" : "No").append("\n");
+        riepilogo.append("- Registrazioni possono essere chiuse: ").append(stato.puoChiudereRegistrazioni() ? "Sì" : "No").append("\n");
 
     }
 
@@ -5919,7 +6037,7 @@ public class Controller {
 
                 "Report " + hackathon.getNome(), hackathon, 
 
-                currentUser != null ? currentUser.getId() : 0);
+                currentUser() != null ? currentUser().getId() : 0);
 
             
 
@@ -5935,17 +6053,9 @@ public class Controller {
 
             
 
-            // Carica i progressi per tutti i team
-
-            List<Progress> tuttiProgressi = new ArrayList<>();
-
-            for (Team team : reportData.getTeams()) {
+            // Progressi di tutti i team con una sola query
 
-                tuttiProgressi.addAll(progressDAO.findByTeam(team.getId()));
-
-            }
-
-            reportData.setProgressi(tuttiProgressi);
+            reportData.setProgressi(progressDAO.findByHackathon(hackathonId));
 
             
 
@@ -6011,7 +6121,7 @@ public class Controller {
 
                 "Report Team " + team.getNome(), hackathon, 
 
-                currentUser != null ? currentUser.getId() : 0);
+                currentUser() != null ? currentUser().getId() : 0);
 
             
 
@@ -6099,7 +6209,7 @@ public class Controller {
 
                 String.format("Report Giudice %s %s", giudice.getNome(), giudice.getCognome()), 
 
-                null, currentUser != null ? currentUser.getId() : 0);
+                null, currentUser() != null ? currentUser().getId() : 0);
 
             
 
@@ -6171,7 +6281,11 @@ public class Controller {
 
     /**
 
-     * Calcola le statistiche generali del sistema
+     * Calcola le statistiche generali del sistema.
+
+     * Le sezioni (utenti, hackathon, team, valutazioni, documenti) sono indipendenti e vengono
+
+     * calcolate in parallelo: il costo è quello della sezione più lenta
 
      *
 
@@ -6187,19 +6301,7 @@ public class Controller {
 
             Statistics stats = new Statistics(SISTEMA, periodo);
 
-            
-
-            calcolaStatisticheUtenti(stats);
-
-            calcolaStatisticheHackathon(stats);
-
-            calcolaStatisticheTeam(stats);
-
-            calcolaStatisticheValutazioni(stats);
-
-            calcolaStatisticheDocumenti(stats);
-
-            
+            eseguiSezioni(sezioniStatistiche(stats), stats);
 
             // Calcola KPI e aggiorna timestamp
 
@@ -6207,8 +6309,6 @@ public class Controller {
 
             stats.aggiornaTimestamp();
 
-            
-
             return stats;
 
         } catch (Exception e) {
@@ -6225,23 +6325,101 @@ public class Controller {
 
     
 
+    /**
+
+     * Sezioni indipendenti delle statistiche di sistema: ognuna legge i dati su un thread
+
+     * dell'orchestratore e restituisce l'azione che li applica a {@code stats}
+
+     */
+
+    private Map<String, java.util.concurrent.Callable<Runnable>> sezioniStatistiche(Statistics stats) {
+
+        Map<String, java.util.concurrent.Callable<Runnable>> sezioni = new java.util.LinkedHashMap<>();
+
+        sezioni.put("utenti", () -> calcolaStatisticheUtenti(stats));
+
+        sezioni.put("hackathon", () -> calcolaStatisticheHackathon(stats));
+
+        sezioni.put("team", () -> calcolaStatisticheTeam(stats));
+
+        sezioni.put("valutazioni", () -> calcolaStatisticheValutazioni(stats));
+
+        sezioni.put("documenti", () -> calcolaStatisticheDocumenti(stats));
+
+        return sezioni;
+
+    }
+
+    
+
+    /**
+
+     * Esegue le sezioni in parallelo e registra nelle metriche di {@code stats} il tempo di
+
+     * ciascuna ({@code tempiSezioni}) e quelle non completate ({@code sezioniFallite})
+
+     */
+
+    private void eseguiSezioni(Map<String, java.util.concurrent.Callable<Runnable>> sezioni, Statistics stats) {
+
+        Map<String, Long> tempi = new java.util.LinkedHashMap<>();
+
+        List<String> fallite = new ArrayList<>();
+
+        for (service.ReportOrchestrator.EsitoSezione esito : reportOrchestrator.esegui(sezioni)) {
+
+            tempi.put(esito.getNome(), esito.getDurataMs());
+
+            if (!esito.isCompletata()) {
+
+                fallite.add(esito.getNome() + ": " + esito.getErrore());
+
+            }
+
+        }
+
+        stats.aggiungiMetrica("tempiSezioni", tempi);
+
+        if (!fallite.isEmpty()) {
+
+            stats.aggiungiMetrica("sezioniFallite", fallite);
+
+            logOperazione("STATISTICHE_PARZIALI", "Sezioni non calcolate: " + fallite);
+
+        }
+
+    }
+
+    
+
     /**
 
      * Calcola le statistiche degli utenti
 
      */
 
-    private void calcolaStatisticheUtenti(Statistics stats) {
+    private Runnable calcolaStatisticheUtenti(Statistics stats) {
 
         List<Utente> tuttiUtenti = utenteDAO.findAll();
 
-        stats.setTotaleUtenti(tuttiUtenti.size());
+        int organizzatori = (int) tuttiUtenti.stream().filter(Utente::isOrganizzatore).count();
 
-        stats.setNumeroOrganizzatori((int) tuttiUtenti.stream().filter(Utente::isOrganizzatore).count());
+        int giudici = (int) tuttiUtenti.stream().filter(Utente::isGiudice).count();
 
-        stats.setNumeroGiudici((int) tuttiUtenti.stream().filter(Utente::isGiudice).count());
+        int partecipanti = (int) tuttiUtenti.stream().filter(Utente::isPartecipante).count();
 
-        stats.setNumeroPartecipanti((int) tuttiUtenti.stream().filter(Utente::isPartecipante).count());
+        return () -> {
+
+            stats.setTotaleUtenti(tuttiUtenti.size());
+
+            stats.setNumeroOrganizzatori(organizzatori);
+
+            stats.setNumeroGiudici(giudici);
+
+            stats.setNumeroPartecipanti(partecipanti);
+
+        };
 
     }
 
@@ -6253,17 +6431,25 @@ public class Controller {
 
      */
 
-    private void calcolaStatisticheHackathon(Statistics stats) {
+    private Runnable calcolaStatisticheHackathon(Statistics stats) {
 
         List<Hackathon> tuttiHackathon = hackathonDAO.findAll();
 
-        stats.setTotaleHackathon(tuttiHackathon.size());
+        int attivi = (int) tuttiHackathon.stream().filter(Hackathon::isEventoAvviato).count();
+
+        int conclusi = (int) tuttiHackathon.stream().filter(Hackathon::isEventoConcluso).count();
+
+        return () -> {
 
-        stats.setHackathonAttivi((int) tuttiHackathon.stream().filter(Hackathon::isEventoAvviato).count());
+            stats.setTotaleHackathon(tuttiHackathon.size());
 
-        stats.setHackathonConclusi((int) tuttiHackathon.stream().filter(Hackathon::isEventoConcluso).count());
+            stats.setHackathonAttivi(attivi);
 
-        stats.setHackathonInProgrammazione(tuttiHackathon.size() - stats.getHackathonAttivi() - stats.getHackathonConclusi());
+            stats.setHackathonConclusi(conclusi);
+
+            stats.setHackathonInProgrammazione(tuttiHackathon.size() - attivi - conclusi);
+
+        };
 
     }
 
@@ -6275,14 +6461,10 @@ public class Controller {
 
      */
 
-    private void calcolaStatisticheTeam(Statistics stats) {
+    private Runnable calcolaStatisticheTeam(Statistics stats) {
 
         List<Team> tuttiTeam = teamDAO.findAll();
 
-        stats.setTotaleTeam(tuttiTeam.size());
-
-        
-
         int teamCompleti = 0;
 
         int totaleMembri = 0;
@@ -6301,17 +6483,25 @@ public class Controller {
 
         }
 
-        stats.setTeamCompleti(teamCompleti);
+        final int completi = teamCompleti;
 
-        stats.setTeamInCompleti(tuttiTeam.size() - teamCompleti);
+        final int membriTotali = totaleMembri;
 
-        
+        return () -> {
 
-        if (!tuttiTeam.isEmpty()) {
+            stats.setTotaleTeam(tuttiTeam.size());
 
-            stats.setMediaMembriPerTeam((double) totaleMembri / tuttiTeam.size());
+            stats.setTeamCompleti(completi);
 
-        }
+            stats.setTeamInCompleti(tuttiTeam.size() - completi);
+
+            if (!tuttiTeam.isEmpty()) {
+
+                stats.setMediaMembriPerTeam((double) membriTotali / tuttiTeam.size());
+
+            }
+
+        };
 
     }
 
@@ -6323,7 +6513,7 @@ public class Controller {
 
      */
 
-    private void calcolaStatisticheValutazioni(Statistics stats) {
+    private Runnable calcolaStatisticheValutazioni(Statistics stats) {
 
         List<Valutazione> tutteValutazioni = new ArrayList<>();
 
@@ -6335,21 +6525,25 @@ public class Controller {
 
         }
 
-        stats.setTotaleValutazioni(tutteValutazioni.size());
+        double media = tutteValutazioni.stream()
 
-        
+            .mapToInt(Valutazione::getVoto)
 
-        if (!tutteValutazioni.isEmpty()) {
+            .average()
 
-            stats.setMediaVotiGenerale(tutteValutazioni.stream()
+            .orElse(0.0);
 
-                .mapToInt(Valutazione::getVoto)
+        return () -> {
 
-                .average()
+            stats.setTotaleValutazioni(tutteValutazioni.size());
 
-                .orElse(0.0));
+            if (!tutteValutazioni.isEmpty()) {
 
-        }
+                stats.setMediaVotiGenerale(media);
+
+            }
+
+        };
 
     }
 
@@ -6361,17 +6555,11 @@ public class Controller {
 
      */
 
-    private void calcolaStatisticheDocumenti(Statistics stats) {
+    private Runnable calcolaStatisticheDocumenti(Statistics stats) {
 
         List<Documento> tuttiDocumenti = documentoDAO.findAll();
 
-        stats.setTotaleDocumenti(tuttiDocumenti.size());
-
-        stats.setDocumentiValidati((int) tuttiDocumenti.stream().filter(Documento::isValidato).count());
-
-        stats.setDocumentiNonValidati(tuttiDocumenti.size() - stats.getDocumentiValidati());
-
-        
+        int validati = (int) tuttiDocumenti.stream().filter(Documento::isValidato).count();
 
         long dimensioneTotale = tuttiDocumenti.stream()
 
@@ -6379,39 +6567,45 @@ public class Controller {
 
             .sum();
 
-        stats.setDimensioneTotaleStorage(dimensioneTotale);
+        int numeroTeam = teamDAO.findAll().size();
 
-        
+        // Distribuzione formati file
 
-        List<Team> tuttiTeam = teamDAO.findAll();
+        java.util.Map<String, Integer> distribuzioneFormati = new java.util.HashMap<>();
+
+        for (Documento doc : tuttiDocumenti) {
+
+            String tipo = doc.getTipo();
 
-        if (!tuttiDocumenti.isEmpty()) {
+            if (tipo != null) {
 
-            stats.setMediaDimensioneDocumento((double) dimensioneTotale / tuttiDocumenti.size());
+                distribuzioneFormati.put(tipo, distribuzioneFormati.getOrDefault(tipo, 0) + 1);
 
-            stats.setMediaDocumentiPerTeam((double) tuttiDocumenti.size() / Math.max(1, tuttiTeam.size()));
+            }
 
         }
 
-        
+        return () -> {
 
-        // Distribuzione formati file
+            stats.setTotaleDocumenti(tuttiDocumenti.size());
 
-        java.util.Map<String, Integer> distribuzioneFormati = new java.util.HashMap<>();
+            stats.setDocumentiValidati(validati);
 
-        for (Documento doc : tuttiDocumenti) {
+            stats.setDocumentiNonValidati(tuttiDocumenti.size() - validati);
 
-            String tipo = doc.getTipo();
+            stats.setDimensioneTotaleStorage(dimensioneTotale);
 
-            if (tipo != null) {
+            if (!tuttiDocumenti.isEmpty()) {
 
-                distribuzioneFormati.put(tipo, distribuzioneFormati.getOrDefault(tipo, 0) + 1);
+                stats.setMediaDimensioneDocumento((double) dimensioneTotale / tuttiDocumenti.size());
+
+                stats.setMediaDocumentiPerTeam((double) tuttiDocumenti.size() / Math.max(1, numeroTeam));
 
             }
 
-        }
+            stats.setDistribuzioneFormatiFile(distribuzioneFormati);
 
-        stats.setDistribuzioneFormatiFile(distribuzioneFormati);
+        };
 
     }
 
@@ -6567,25 +6761,146 @@ public class Controller {
 
     /**
 
-     * Esporta un report in formato testuale
+     * Statistiche di sistema dall'ultimo snapshot precalcolato.
 
-     *
+     * La data di calcolo delle statistiche restituite è quella dello snapshot;
 
-     * @param reportData i dati del report
+     * se lo snapshot manca o è troppo vecchio viene ricalcolato subito
 
-     * @return il contenuto del report in formato testo
+     *
+
+     * @return le statistiche di sistema
 
      */
 
-    public String esportaReportTesto(ReportData reportData) {
+    public Statistics getStatisticheSnapshot() {
 
-        if (reportData == null || !reportData.isCompletato()) {
+        return statisticsSnapshot.sistema();
 
-            return "Report non disponibile o non completato";
+    }
 
-        }
+    
 
-        
+    /**
+
+     * Statistiche di un hackathon dall'ultimo snapshot precalcolato
+
+     *
+
+     * @param hackathonId l'ID dell'hackathon
+
+     * @return le statistiche dell'hackathon, null se non esiste
+
+     */
+
+    public Statistics getStatisticheHackathonSnapshot(int hackathonId) {
+
+        return statisticsSnapshot.hackathon(hackathonId);
+
+    }
+
+    
+
+    /**
+
+     * Avvia l'aggiornamento programmato degli snapshot delle statistiche
+
+     * (intervallo dalla proprietà {@code stats.snapshotMinutes}).
+
+     * Da invocare all'avvio dell'applicazione, fuori dall'EDT.
+
+     */
+
+    public void avviaAggiornamentoStatistiche() {
+
+        statisticsSnapshot.avvia();
+
+    }
+
+    
+
+    // Gli hackathon conclusi da meno di questi giorni possono ricevere ancora valutazioni
+
+    private static final int GIORNI_AGGIORNAMENTO_CONCLUSI = 30;
+
+    
+
+    /**
+
+     * Calcolo degli snapshot: statistiche di sistema e degli hackathon non conclusi
+
+     * o conclusi da meno di {@value #GIORNI_AGGIORNAMENTO_CONCLUSI} giorni
+
+     */
+
+    private final class CalcoloSnapshot implements service.StatisticsSnapshotService.Calcolo {
+
+        @Override
+
+        public Statistics sistema() {
+
+            return calcolaStatistiche(SISTEMA);
+
+        }
+
+        
+
+        @Override
+
+        public Statistics hackathon(int hackathonId) {
+
+            return calcolaStatisticheHackathon(hackathonId);
+
+        }
+
+        
+
+        @Override
+
+        public List<Integer> hackathonDaAggiornare() {
+
+            LocalDateTime limite = LocalDateTime.now().minusDays(GIORNI_AGGIORNAMENTO_CONCLUSI);
+
+            List<Integer> ids = new ArrayList<>();
+
+            for (Hackathon h : hackathonDAO.findAll()) {
+
+                if (!h.isEventoConcluso() || h.getDataFine() == null || h.getDataFine().isAfter(limite)) {
+
+                    ids.add(h.getId());
+
+                }
+
+            }
+
+            return ids;
+
+        }
+
+    }
+    
+
+    /**
+
+     * Esporta un report in formato testuale
+
+     *
+
+     * @param reportData i dati del report
+
+     * @return il contenuto del report in formato testo
+
+     */
+
+    public String esportaReportTesto(ReportData reportData) {
+
+        if (reportData == null || !reportData.isCompletato()) {
+
+            return "Report non disponibile o non completato";
+
+        }
+
+        
 
         StringBuilder report = new StringBuilder();
 
@@ -6821,7 +7136,7 @@ public class Controller {
 
     public boolean puoGenerareReport() {
 
-        return currentUser != null && (currentUser.isOrganizzatore() || currentUser.isGiudice());
+        return currentUser() != null && (currentUser().isOrganizzatore() || currentUser().isGiudice());
 
     }
 
@@ -6843,7 +7158,7 @@ public class Controller {
 
         
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return tipi;
 
@@ -6851,7 +7166,7 @@ public class Controller {
 
         
 
-        if (currentUser.isOrganizzatore()) {
+        if (currentUser().isOrganizzatore()) {
 
             tipi.add("HACKATHON_COMPLETO");
 
@@ -6867,7 +7182,7 @@ public class Controller {
 
         
 
-        if (currentUser.isGiudice()) {
+        if (currentUser().isGiudice()) {
 
             tipi.add("REPORT_VALUTAZIONI");
 
@@ -6877,7 +7192,7 @@ public class Controller {
 
         
 
-        if (currentUser.isPartecipante()) {
+        if (currentUser().isPartecipante()) {
 
             tipi.add("REPORT_MIO_TEAM");
 
@@ -6895,7 +7210,7 @@ public class Controller {
 
     
 
-    private model.EmailService emailService;
+    private volatile model.EmailService emailService;
 
     
 
@@ -6905,7 +7220,7 @@ public class Controller {
 
      */
 
-    private void initializeEmailService() {
+    private synchronized void initializeEmailService() {
 
         if (emailService == null) {
 
@@ -7315,19 +7630,9 @@ public class Controller {
 
         List<String> destinatari = new ArrayList<>();
 
-        for (Registrazione registrazione : registrazioni) {
-
-            if (registrazione.isConfermata()) {
-
-                Utente utente = utenteDAO.findById(registrazione.getUtenteId());
-
-                if (utente != null) {
+        for (Utente utente : utentiConfermati(registrazioni)) {
 
-                    destinatari.add(utente.getEmail());
-
-                }
-
-            }
+            destinatari.add(utente.getEmail());
 
         }
 
@@ -7385,25 +7690,38 @@ public class Controller {
 
     /**
 
-     * Invia email singolarmente come fallback
+     * Utenti delle registrazioni confermate, letti con una sola query
 
      */
 
-    private int inviaEmailSingole(List<Registrazione> registrazioni, Map<String, String> variabili) {
+    private List<Utente> utentiConfermati(List<Registrazione> registrazioni) {
 
-        int emailInviate = 0;
+        return utenteDAO.findByIds(registrazioni.stream()
 
-        for (Registrazione registrazione : registrazioni) {
+            .filter(Registrazione::isConfermata)
 
-            if (registrazione.isConfermata()) {
+            .map(Registrazione::getUtenteId)
 
-                Utente utente = utenteDAO.findById(registrazione.getUtenteId());
+            .toList());
 
-                if (utente != null && inviaEmailConTemplate(utente.getEmail(), AVVIO_HACKATHON, variabili)) {
+    }
 
-                    emailInviate++;
 
-                }
+    /**
+
+     * Invia email singolarmente come fallback
+
+     */
+
+    private int inviaEmailSingole(List<Registrazione> registrazioni, Map<String, String> variabili) {
+
+        int emailInviate = 0;
+
+        for (Utente utente : utentiConfermati(registrazioni)) {
+
+            if (inviaEmailConTemplate(utente.getEmail(), AVVIO_HACKATHON, variabili)) {
+
+                emailInviate++;
 
             }
 
@@ -7469,9 +7787,9 @@ public class Controller {
 
             initializeEmailService();
 
-            if (emailService.isConfigured() && currentUser != null) {
+            if (emailService.isConfigured() && currentUser() != null) {
 
-                return emailService.testConfiguration(currentUser.getEmail());
+                return emailService.testConfiguration(currentUser().getEmail());
 
             }
 
@@ -7543,7 +7861,9 @@ public class Controller {
 
     
 
-    private model.BackupService backupService;
+    private volatile model.BackupService backupService;
+
+    private volatile model.BackupScheduler backupScheduler;
 
     
 
@@ -7553,36 +7873,21 @@ public class Controller {
 
      */
 
-    private void initializeBackupService() {
-
+    private synchronized void initializeBackupService() {
         if (backupService == null) {
-
             backupService = new model.BackupService(connectionManager);
-
-            
-
             // Configura il servizio (directory backup e path pg_dump)
-
             String backupDir = System.getProperty("backup.directory", "backups");
-
             String pgDumpPath = System.getProperty("pgdump.path", "pg_dump");
-
-            
-
             boolean configured = backupService.configure(backupDir, pgDumpPath);
-
             if (configured) {
-
                 logOperazione("BACKUP_SERVICE_INIT", "Servizio backup configurato correttamente");
-
             } else {
-
                 logOperazione("BACKUP_SERVICE_WARNING", "Servizio backup in modalità limitata (pg_dump non disponibile)");
-
             }
-
+            backupScheduler = new model.BackupScheduler(backupService, STORAGE);
+            backupScheduler.start();
         }
-
     }
 
     
@@ -7599,7 +7904,7 @@ public class Controller {
 
     public boolean eseguiBackupDatabase() {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return false;
 
@@ -7631,48 +7936,18 @@ public class Controller {
      * @return true se il backup è riuscito
      */
     private boolean executeDatabaseBackup() {
-                try {
-
-                    model.BackupService.BackupResult result = backupService.backupDatabase().get();
-
-                    
-
-                    boolean success = result.isSuccess();
-
-                    if (success) {
-
-                        logOperazione("BACKUP_DB_SUCCESS", 
-
-                            String.format("Backup database completato: %s (%d bytes)", 
-
-                                        result.getFileName(), result.getFileSize()));
-
-                    } else {
-
-                        logOperazione("BACKUP_DB_ERROR", String.format("Backup database fallito: %s", result.getMessage()));
-
-                    }
-
-                    return success;
-
-                } catch (InterruptedException ie) {
-
-                    // SonarLint: fixed S2142 (handle InterruptedException properly)
-
-                    Thread.currentThread().interrupt();
-
-                    logOperazione("BACKUP_DB_INTERRUPTED", "Backup database interrotto");
-
-                    return false;
-
-                } catch (Exception e) {
-
-                    logOperazione("BACKUP_DB_EXCEPTION", String.format("Errore backup database: %s", e.getMessage()));
-
+        model.BackupScheduler.BackupRun run = backupScheduler.runNow(model.BackupScheduler.BackupType.DATABASE);
+        if (run == null) {
+            logOperazione("BACKUP_DB_BUSY", "Backup database non avviato: un altro backup è in corso");
             return false;
-
         }
-
+        if (run.isSuccess()) {
+            logOperazione("BACKUP_DB_SUCCESS",
+                String.format("Backup database completato: %s (%d bytes)", run.getFileName(), run.getSizeBytes()));
+        } else {
+            logOperazione("BACKUP_DB_ERROR", String.format("Backup database fallito: %s", run.getMessage()));
+        }
+        return run.isSuccess();
     }
 
     
@@ -7737,7 +8012,7 @@ public class Controller {
 
     public boolean eseguiBackupFile() {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return false;
 
@@ -7761,49 +8036,18 @@ public class Controller {
      * @return true se il backup è riuscito
      */
     private boolean executeFileBackup() {
-            try {
-
-                model.BackupService.BackupResult result = backupService.backupFiles(STORAGE).get();
-
-                
-
-                if (result.isSuccess()) {
-
-                    logOperazione("BACKUP_FILES_SUCCESS", 
-
-                        String.format("Backup file completato: %s (%d bytes)", 
-
-                                    result.getFileName(), result.getFileSize()));
-
-                    return true;
-
-                } else {
-
-                    logOperazione("BACKUP_FILES_ERROR", String.format("Backup file fallito: %s", result.getMessage()));
-
-                return false;
-                }
-
-            } catch (InterruptedException ie) {
-
-                // SonarLint: fixed S2142 (handle InterruptedException properly)
-
-                Thread.currentThread().interrupt();
-
-                logOperazione("BACKUP_FILES_INTERRUPTED", "Backup file interrotto");
-
-                return false;
-
-            } catch (Exception e) {
-
-                logOperazione("BACKUP_FILES_EXCEPTION", String.format("Errore backup file: %s", e.getMessage()));
-
-            // Fallback: simula backup
-
-            return eseguiBackupFileSimulato();
-
+        model.BackupScheduler.BackupRun run = backupScheduler.runNow(model.BackupScheduler.BackupType.FILES);
+        if (run == null) {
+            logOperazione("BACKUP_FILES_BUSY", "Backup file non avviato: un altro backup è in corso");
+            return false;
         }
-
+        if (run.isSuccess()) {
+            logOperazione("BACKUP_FILES_SUCCESS",
+                String.format("Backup file completato: %s (%d bytes)", run.getFileName(), run.getSizeBytes()));
+            return true;
+        }
+        logOperazione("BACKUP_FILES_ERROR", String.format("Backup file fallito: %s", run.getMessage()));
+        return false;
     }
 
     
@@ -7822,7 +8066,7 @@ public class Controller {
 
     public boolean eseguiBackupCompleto() {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return false;
 
@@ -7848,45 +8092,18 @@ public class Controller {
      * @return true se il backup è riuscito
      */
     private boolean executeCompleteBackup() {
-            try {
-
-                model.BackupService.BackupResult result = backupService.backupComplete(STORAGE).get();
-
-                
-
-                if (result.isSuccess()) {
-
-                    logOperazione("BACKUP_COMPLETE_SUCCESS", 
-
-                        String.format("Backup completo completato: %s (%d bytes totali)", 
-
-                                    result.getFileName(), result.getFileSize()));
-
-                    return true;
-
-                }
-
-                
-
-                logOperazione("BACKUP_COMPLETE_ERROR", String.format("Backup completo fallito: %s", result.getMessage()));
-
-            return false;
-            } catch (InterruptedException ie) {
-
-                // SonarLint: fixed S2142 (handle InterruptedException properly)
-
-                Thread.currentThread().interrupt();
-
-                logOperazione("BACKUP_COMPLETE_INTERRUPTED", "Backup completo interrotto");
-
-                return false;
-
-            } catch (Exception e) {
-
-                logOperazione("BACKUP_COMPLETE_EXCEPTION", String.format("Errore backup completo: %s", e.getMessage()));
-
+        model.BackupScheduler.BackupRun run = backupScheduler.runNow(model.BackupScheduler.BackupType.COMPLETE);
+        if (run == null) {
+            logOperazione("BACKUP_COMPLETE_BUSY", "Backup completo non avviato: un altro backup è in corso");
             return false;
         }
+        if (run.isSuccess()) {
+            logOperazione("BACKUP_COMPLETE_SUCCESS",
+                String.format("Backup completo completato: %s (%d bytes totali)", run.getFileName(), run.getSizeBytes()));
+            return true;
+        }
+        logOperazione("BACKUP_COMPLETE_ERROR", String.format("Backup completo fallito: %s", run.getMessage()));
+        return false;
     }
 
     
@@ -7904,77 +8121,51 @@ public class Controller {
     
 
     /**
-
-     * Programma backup automatici
-
-     * SonarLint: fixed method returning constant value - now implements actual scheduling logic
-
+     * Programma backup automatici completi con la retention di default (30 giorni)
      *
-
      * @param frequenza la frequenza in ore
-
      * @return true se la programmazione è riuscita
-
      */
-
     public boolean programmaBackupAutomatici(int frequenza) {
+        return programmaBackupAutomatici(frequenza, DEFAULT_BACKUP_RETENTION_DAYS);
+    }
 
+    /**
+     * Programma backup automatici completi su uno scheduler persistente.
+     * Dopo ogni esecuzione riuscita applica la retention tramite cleanOldBackups.
+     *
+     * @param frequenza la frequenza in ore
+     * @param giorniRetention giorni di conservazione dei backup
+     * @return true se la programmazione è riuscita
+     */
+    public boolean programmaBackupAutomatici(int frequenza, int giorniRetention) {
         // Guard clauses per validazione
-
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
-
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
             return false;
-
         }
-
-        
-
         if (frequenza < 1 || frequenza > 168) { // Max 1 settimana
-
             return false;
-
         }
-
-        
-
+        if (giorniRetention < 1) {
+            return false;
+        }
         try {
-
-            // Implementa la logica reale di programmazione
-
-            boolean schedulingSuccess = scheduleBackupTask(frequenza);
-
-            
-
+            initializeBackupService();
+            boolean schedulingSuccess = scheduleBackupTask(frequenza, giorniRetention);
             if (schedulingSuccess) {
-
                 java.util.logging.Logger logger = java.util.logging.Logger.getLogger(Controller.class.getName());
-
                 if (logger.isLoggable(java.util.logging.Level.INFO)) {
-
-                    logger.info(String.format("Backup automatici programmati ogni %d ore", frequenza));
-
+                    logger.info(String.format("Backup automatici programmati ogni %d ore (retention %d giorni)", frequenza, giorniRetention));
                 }
-
                 return true;
-
             } else {
-
                 logOperazione("BACKUP_SCHEDULE_FAILED", String.format("Fallita programmazione backup ogni %d ore", frequenza));
-
                 return false;
-
             }
-
-            
-
         } catch (Exception e) {
-
             logOperazione("BACKUP_SCHEDULE_ERROR", String.format("Errore programmazione backup: %s", e.getMessage()));
-
             return false;
-
         }
-
     }
 
     
@@ -7985,95 +8176,96 @@ public class Controller {
 
      */
 
-    private boolean scheduleBackupTask(int frequenzaOre) {
-
-        try {
-
-            // Simula la verifica delle risorse sistema
-
-            if (!verificaRisorseDisponibili()) {
-
-                return false;
-
-            }
-
-            
-
-            // Simula la registrazione del task nel sistema
-
-            // In una implementazione reale, qui si userebbe un ScheduledExecutorService
-
-            // o un sistema di job scheduling come Quartz
-
-            
-
-            // In una implementazione reale, qui si verificherebbe se ci sono backup in corso
-
-            // Per ora, nella simulazione assumiamo che sia sempre possibile programmare
-
-            
-
-            // Simula la creazione del task schedulato
-
-            logOperazione("BACKUP_TASK_CREATED", String.format("Task backup creato con frequenza %d ore", frequenzaOre));
-
-            return true;
-
-            
-
-        } catch (Exception e) {
-
+    private boolean scheduleBackupTask(int frequenzaOre, int giorniRetention) {
+        if (!verificaRisorseDisponibili()) {
             return false;
-
         }
-
+        model.BackupScheduler.Schedule schedule = new model.BackupScheduler.Schedule(
+            model.BackupScheduler.BackupType.COMPLETE, frequenzaOre, giorniRetention);
+        schedule.setMaxCpuLoad(Double.parseDouble(System.getProperty("backup.maxCpuLoad", "0.75")));
+        schedule.setMaxThreads(Integer.getInteger("backup.maxThreads", 1));
+        schedule.setMaxBytesPerSecond(Long.getLong("backup.maxBytesPerSecond", 20L * 1024L * 1024L));
+        backupScheduler.schedule(schedule);
+        logOperazione("BACKUP_TASK_CREATED", String.format("Task backup creato con frequenza %d ore", frequenzaOre));
+        return true;
     }
 
     
 
     /**
-
-     * Verifica se le risorse sistema sono sufficienti per i backup automatici
-
+     * Annulla la programmazione dei backup automatici
+     *
+     * @return true se l'operazione è riuscita
      */
+    public boolean annullaBackupAutomatici() {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
+            return false;
+        }
+        initializeBackupService();
+        backupScheduler.cancel();
+        logOperazione("BACKUP_SCHEDULE_CANCELLED", "Backup automatici disattivati");
+        return true;
+    }
 
-    private boolean verificaRisorseDisponibili() {
-
+    /**
+     * Riattiva la programmazione dei backup salvata nella directory di backup.
+     * Da invocare all'avvio dell'applicazione, fuori dall'EDT.
+     */
+    public void riprendiBackupProgrammati() {
         try {
+            initializeBackupService();
+        } catch (Exception e) {
+            logOperazione("BACKUP_SCHEDULE_ERROR", String.format("Errore ripristino programmazione backup: %s", e.getMessage()));
+        }
+    }
 
-            // Simula controllo spazio disco (minimo 1GB libero)
-
-            long spazioLibero = SIMULATED_FREE_DISK_SPACE;
-            if (spazioLibero < 1024L * 1024L * 1024L) { // 1GB in bytes
-
-                logOperazione("BACKUP_INSUFFICIENT_SPACE", String.format("Spazio disco insufficiente: %d MB", spazioLibero / (1024L * 1024L)));
-
-                return false;
-
-            }
-
-            
-
-            // Simula controllo carico sistema (in una implementazione reale si userebbe OperatingSystemMXBean)
-            // Simula un carico variabile per testare la logica
-            double caricoSistema = Math.random() * 0.5 + 0.3; // Carico tra 30% e 80%
-            if (caricoSistema > 0.8) {
-                logOperazione("BACKUP_HIGH_SYSTEM_LOAD", "Carico sistema troppo alto per backup automatici");
+    /**
+     * Restituisce lo storico delle esecuzioni di backup (più recenti per prime)
+     *
+     * @return lista delle esecuzioni, vuota se l'utente non è organizzatore
+     */
+    public List<model.BackupScheduler.BackupRun> getStoricoBackup() {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
+            return new ArrayList<>();
+        }
+        initializeBackupService();
+        return backupScheduler.getHistory();
+    }
 
-                return false;
+    /**
+     * Restituisce l'ultima esecuzione di backup riuscita
+     *
+     * @return l'esecuzione o null se non ci sono backup riusciti
+     */
+    public model.BackupScheduler.BackupRun getUltimoBackupRiuscito() {
+        initializeBackupService();
+        return backupScheduler.getLastSuccessfulRun();
+    }
 
-            }
+    /**
+     * Restituisce la programmazione attiva dei backup automatici
+     *
+     * @return la programmazione o null se non configurata
+     */
+    public model.BackupScheduler.Schedule getProgrammazioneBackup() {
+        initializeBackupService();
+        return backupScheduler.getSchedule();
+    }
 
-            
+    /**
 
-            return true;
+     * Verifica se le risorse sistema sono sufficienti per i backup automatici
 
-        } catch (Exception e) {
+     */
 
+    private boolean verificaRisorseDisponibili() {
+        // Controllo spazio disco reale sulla directory di backup (minimo 1GB libero)
+        long spazioLibero = new java.io.File(backupService.getBackupDirectory()).getUsableSpace();
+        if (spazioLibero < MIN_FREE_BACKUP_SPACE) {
+            logOperazione("BACKUP_INSUFFICIENT_SPACE", String.format("Spazio disco insufficiente: %d MB", spazioLibero / (1024L * 1024L)));
             return false;
-
         }
-
+        return true;
     }
 
     
@@ -8096,41 +8288,23 @@ public class Controller {
     // SonarLint: fixed S3776 (reduce cognitive complexity via extraction)
 
     public String verificaIntegritaBackup() {
-
         // Guard clause for authorization
-
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
-
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
             return ACCESSO_NEGATO;
-
         }
-
-        
-
         StringBuilder rapporto = new StringBuilder();
-
         appendIntestazione(rapporto);
-
-        
-
         try {
-
-            appendVerificaDatabase(rapporto);
-
-            appendVerificaFile(rapporto);
-
-            appendRaccomandazioni(rapporto);
-
+            initializeBackupService();
+            model.BackupIntegrityChecker.Report report = new model.BackupIntegrityChecker(
+                java.nio.file.Paths.get(backupService.getBackupDirectory())).verifyAll();
+            appendVerificaBackup(rapporto, report);
+            appendRaccomandazioni(rapporto, report);
+            logOperazione("BACKUP_VERIFY", report.getSummary());
         } catch (Exception e) {
-
             rapporto.append("❌ Errore durante la verifica: ").append(e.getMessage()).append("\n");
-
         }
-
-        
-
         return rapporto.toString();
-
     }
 
     
@@ -8145,52 +8319,38 @@ public class Controller {
 
     
 
-    private void appendVerificaDatabase(StringBuilder rapporto) {
-
+    private void appendVerificaBackup(StringBuilder rapporto, model.BackupIntegrityChecker.Report report) {
         rapporto.append("BACKUP DATABASE:\n");
-
-        rapporto.append("- Ultimo backup: ").append(java.time.LocalDateTime.now().minusHours(2)).append("\n");
-
-        rapporto.append("- Dimensione: 15.2 MB\n");
-
-        rapporto.append("- Stato: ✅ Integro\n\n");
-
-    }
-
-    
-
-    private void appendVerificaFile(StringBuilder rapporto) {
-
-        List<Documento> documenti = documentoDAO.findAll();
-
-        long dimensioneTotale = documenti.stream().mapToLong(Documento::getDimensione).sum();
-
-        
-
+        rapporto.append("- Dump verificati: ").append(report.getDumpsChecked()).append("\n\n");
         rapporto.append("BACKUP FILE:\n");
-
-        rapporto.append("- Ultimo backup: ").append(java.time.LocalDateTime.now().minusHours(1)).append("\n");
-
-        rapporto.append("- File totali: ").append(documenti.size()).append("\n");
-
-        rapporto.append("- Dimensione totale: ").append(formatBytes(dimensioneTotale)).append("\n");
-
-        rapporto.append("- Stato: ✅ Integro\n\n");
-
+        rapporto.append("- Manifest verificati: ").append(report.getManifestsChecked()).append("\n");
+        rapporto.append("- Archivi verificati: ").append(report.getArchivesChecked()).append("\n");
+        rapporto.append("- Voci verificate (CRC32 + SHA-256): ").append(report.getEntriesChecked()).append("\n");
+        rapporto.append("- Dati letti: ").append(formatBytes(report.getBytesChecked()))
+                .append(" in ").append(report.getDurationMillis()).append(" ms\n\n");
+        for (model.BackupIntegrityChecker.Issue avviso : report.getWarnings()) {
+            rapporto.append("- Avviso: ").append(avviso).append("\n");
+        }
+        if (report.isValid()) {
+            rapporto.append("Stato: ✅ Integro\n\n");
+            return;
+        }
+        rapporto.append("Stato: ❌ ").append(report.getIssues().size()).append(" anomalie\n");
+        for (model.BackupIntegrityChecker.Issue issue : report.getIssues()) {
+            rapporto.append("- ").append(issue).append("\n");
+        }
+        rapporto.append("\n");
     }
 
-    
-
-    private void appendRaccomandazioni(StringBuilder rapporto) {
-
+    private void appendRaccomandazioni(StringBuilder rapporto, model.BackupIntegrityChecker.Report report) {
         rapporto.append("RACCOMANDAZIONI:\n");
-
-        rapporto.append("- Backup regolari attivi\n");
-
-        rapporto.append("- Spazio di archiviazione sufficiente\n");
-
-        rapporto.append("- Nessuna azione richiesta\n");
-
+        if (report.getManifestsChecked() == 0 && report.getDumpsChecked() == 0) {
+            rapporto.append("- Nessun backup presente: eseguire un backup completo\n");
+        } else if (report.isValid()) {
+            rapporto.append("- Nessuna azione richiesta\n");
+        } else {
+            rapporto.append("- Eseguire un nuovo backup completo: gli elementi corrotti non sono ripristinabili\n");
+        }
     }
 
     
@@ -8207,7 +8367,7 @@ public class Controller {
 
     public String getStatisticheBackup() {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return ACCESSO_NEGATO;
 
@@ -8233,13 +8393,29 @@ public class Controller {
 
             stats.append("Spazio utilizzato: ").append(formatBytes(dimensioneTotale)).append("\n");
 
-            stats.append("Ultimo backup DB: ").append(java.time.LocalDateTime.now().minusHours(2)).append("\n");
+            initializeBackupService();
+
+            model.BackupScheduler.BackupRun ultimo = backupScheduler.getLastSuccessfulRun();
+
+            stats.append("Ultimo backup: ").append(ultimo != null
+
+                ? String.format("%s (%s, %s)", ultimo.getStartedAt(), ultimo.getType(), formatBytes(ultimo.getSizeBytes()))
+
+                : "nessuno").append("\n");
 
-            stats.append("Ultimo backup file: ").append(java.time.LocalDateTime.now().minusHours(1)).append("\n");
+            model.BackupScheduler.Schedule schedule = backupScheduler.getSchedule();
 
-            stats.append("Frequenza backup: Ogni 24 ore\n");
+            if (schedule != null && schedule.isEnabled()) {
 
-            stats.append("Retention policy: 30 giorni\n");
+                stats.append("Frequenza backup: Ogni ").append(schedule.getFrequencyHours()).append(" ore\n");
+
+                stats.append("Retention policy: ").append(schedule.getRetentionDays()).append(" giorni\n");
+
+            } else {
+
+                stats.append("Frequenza backup: non programmati\n");
+
+            }
 
             
 
@@ -8301,7 +8477,7 @@ public class Controller {
 
     public String getStatisticheBackupReali() {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return ACCESSO_NEGATO;
 
@@ -8339,7 +8515,7 @@ public class Controller {
 
     public int pulisciBackupVecchi(int giorniRetention) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             return -1;
 
@@ -8798,95 +8974,23 @@ public class Controller {
 
             for (Integer membroId : membri) {
 
-                if (!membroId.equals(currentUser.getId())) { // Non inviare a se stesso
+                if (!membroId.equals(currentUser().getId())) { // Non inviare a se stesso
 
                     inviaNotifica(membroId, "Nuovo documento caricato",
 
                         String.format("%s %s ha caricato un nuovo documento '%s' per il team %s",
 
-                            currentUser.getNome(), currentUser.getCognome(), nomeFile, team.getNome()),
+                            currentUser().getNome(), currentUser().getCognome(), nomeFile, team.getNome()),
 
                         Notification.NotificationType.INFO);
 
-                }
-
-            }
-
-        } catch (Exception e) {
-
-            // Non interrompere il flusso se l'invio notifica fallisce
-
-        }
-
-    }
-
-    
-
-    /**
-
-     * Esegue il backup file simulato come fallback
-
-     * @return true se il backup è stato completato, false altrimenti
-
-     */
-
-    private boolean eseguiBackupFileSimulato() {
-
-        String timestamp = java.time.LocalDateTime.now().format(
-
-            java.time.format.DateTimeFormatter.ofPattern(YYYY_MM_DD_HHMMSS));
-
-        String nomeBackup = String.format("hackathon_files_backup_%s.zip", timestamp);
-
-        
-
-        List<Documento> documenti = documentoDAO.findAll();
-
-        if (!simulaTempoBackupFile(documenti.size())) {
-
-            return false;
-
-        }
-
-        
-
-        logOperazione("BACKUP_FILES_SIMULATED", 
-
-            String.format("Backup file simulato: %s (%d documenti)", nomeBackup, documenti.size()));
-
-        return true;
-
-    }
-
-    
-
-    /**
-
-     * Simula il tempo di backup proporzionale al numero di file
-
-     * 
-
-     * @param numeroFile il numero di file da processare
-
-     * @return true se completato, false se interrotto
-
-     */
-
-    private boolean simulaTempoBackupFile(int numeroFile) {
-
-        try {
-
-            Thread.sleep(1000 * numeroFile / 10); // Simula tempo proporzionale ai file
-
-            return true;
-
-        } catch (InterruptedException ie) {
+                }
 
-            Thread.currentThread().interrupt();
+            }
 
-            logOperazione("BACKUP_FILES_INTERRUPTED", "Backup file simulato interrotto");
+        } catch (Exception e) {
 
-            return false;
+            // Non interrompere il flusso se l'invio notifica fallisce
 
         }
 
@@ -9063,7 +9167,7 @@ public class Controller {
             }
         }
         
-        return successo;
+        return modificato(successo, AreaDati.PROGRESSI);
     }
     
     /**
@@ -9201,7 +9305,7 @@ public class Controller {
 
             // Guard clause: verifica permessi
 
-            if (!hasDownloadPermission(documento)) {
+            if (!hasDownloadPermission(currentUser(), documento)) {
 
                 logOperazione("ERRORE_PERMESSI_DOWNLOAD", 
 
@@ -9235,24 +9339,16 @@ public class Controller {
 
     /**
 
-     * Verifica se l'utente corrente ha permessi per scaricare il documento
+     * Verifica se l'utente ha permessi per scaricare il documento
 
      */
 
-    private boolean hasDownloadPermission(Documento documento) {
-
-        if (currentUser == null) {
-
+    private boolean hasDownloadPermission(Utente utente, Documento documento) {
+        if (utente == null) {
             return false;
-
         }
-
-        
-
-        return teamDAO.isMembro(documento.getTeamId(), currentUser.getId()) ||
-
-               currentUser.isGiudice() || currentUser.isOrganizzatore();
-
+        return teamDAO.isMembro(documento.getTeamId(), utente.getId()) ||
+               utente.isGiudice() || utente.isOrganizzatore();
     }
 
     
@@ -9345,7 +9441,7 @@ public class Controller {
 
     private int getCurrentUserId() {
 
-        return currentUser != null ? currentUser.getId() : -1;
+        return currentUser() != null ? currentUser().getId() : -1;
 
     }
 
@@ -9503,9 +9599,9 @@ public class Controller {
 
                     // Verifica se l'utente non è già registrato
 
-                    boolean dovrebberoAggiungerlo = currentUser == null || 
+                    boolean dovrebberoAggiungerlo = currentUser() == null || 
 
-                        registrazioneDAO.findByUtenteAndHackathon(currentUser.getId(), h.getId()) == null;
+                        !registrazioneDAO.isRegistrato(currentUser().getId(), h.getId());
 
                     
 
@@ -9547,7 +9643,7 @@ public class Controller {
 
         try {
 
-            if (currentUser == null) {
+            if (currentUser() == null) {
 
                 return new ArrayList<>();
 
@@ -9573,7 +9669,7 @@ public class Controller {
 
                 // Verifica se l'utente non è già membro
 
-                boolean giaMembro = teamDAO.isMembro(team.getId(), currentUser.getId());
+                boolean giaMembro = teamDAO.isMembro(team.getId(), currentUser().getId());
 
                 
 
@@ -9621,66 +9717,91 @@ public class Controller {
 
         Map<String, Object> stats = new HashMap<>();
 
-        
-
         try {
 
-            // Statistiche generali
+            // Le statistiche generali vengono dall'ultimo snapshot; storage, personali e trend
 
-            Statistics generalStats = calcolaStatistiche(SISTEMA);
+            // sono indipendenti e vengono calcolati in parallelo in un'unica orchestrazione
 
-            stats.put("statisticheGenerali", generalStats);
+            Statistics generalStats = statisticsSnapshot.sistema();
 
-            
+            Map<String, java.util.concurrent.Callable<Runnable>> sezioni = new java.util.LinkedHashMap<>();
 
-            // Statistiche storage
+            sezioni.put("storage", () -> {
 
-            Map<String, Object> storageStats = getStatisticheStorage();
+                Map<String, Object> storageStats = getStatisticheStorage();
 
-            stats.put("statisticheStorage", storageStats);
+                return () -> stats.put("statisticheStorage", storageStats);
 
-            
+            });
 
             // Statistiche per ruolo utente corrente
 
-            if (currentUser != null) {
+            Utente utente = currentUser();
+
+            if (utente != null) {
 
-                switch (currentUser.getRuolo()) {
+                switch (utente.getRuolo()) {
 
                     case "PARTECIPANTE":
 
-                        stats.put(STATISTICHE_PERSONALI, getStatistichePartecipante());
+                        sezioni.put(STATISTICHE_PERSONALI, () -> {
+
+                            Map<String, Object> personali = getStatistichePartecipante(utente);
+
+                            return () -> stats.put(STATISTICHE_PERSONALI, personali);
+
+                        });
 
                         break;
 
                     case GIUDICE:
 
-                        stats.put(STATISTICHE_PERSONALI, getStatisticheGiudice());
+                        sezioni.put(STATISTICHE_PERSONALI, () -> {
+
+                            Map<String, Object> personali = getStatisticheGiudice(utente);
+
+                            return () -> stats.put(STATISTICHE_PERSONALI, personali);
+
+                        });
 
                         break;
 
                     case ORGANIZZATORE:
 
-                        stats.put(STATISTICHE_PERSONALI, getStatisticheOrganizzatore());
+                        sezioni.put(STATISTICHE_PERSONALI, () -> {
+
+                            Map<String, Object> personali = getStatisticheOrganizzatore(utente);
+
+                            return () -> stats.put(STATISTICHE_PERSONALI, personali);
+
+                        });
 
                         break;
 
                     default:
+
                         // Ruolo non riconosciuto o non gestito
-                        logOperazione("UNKNOWN_ROLE", "Ruolo non riconosciuto: " + currentUser.getRuolo());
+
+                        logOperazione("UNKNOWN_ROLE", "Ruolo non riconosciuto: " + utente.getRuolo());
+
                         break;
 
                 }
 
             }
 
-            
+            sezioni.put("trend", () -> {
 
-            // Trend temporali (simulati)
+                Map<String, Object> trend = getTrendMensili();
 
-            stats.put("trendMensili", getTrendMensili());
+                return () -> stats.put("trendMensili", trend);
 
-            
+            });
+
+            eseguiSezioni(sezioni, generalStats);
+
+            stats.put("statisticheGenerali", generalStats);
 
         } catch (Exception e) {
 
@@ -9688,8 +9809,6 @@ public class Controller {
 
         }
 
-        
-
         return stats;
 
     }
@@ -9702,7 +9821,7 @@ public class Controller {
 
      */
 
-    private Map<String, Object> getStatistichePartecipante() {
+    private Map<String, Object> getStatistichePartecipante(Utente utente) {
 
         Map<String, Object> stats = new HashMap<>();
 
@@ -9710,13 +9829,13 @@ public class Controller {
 
         try {
 
-            if (currentUser == null) return stats;
+            if (utente == null) return stats;
 
             
 
             // Team attuali
 
-            List<Team> mieTeam = teamDAO.findByMembro(currentUser.getId());
+            List<Team> mieTeam = teamDAO.findByMembro(utente.getId());
 
             stats.put("numeroTeam", mieTeam.size());
 
@@ -9724,7 +9843,7 @@ public class Controller {
 
             // Hackathon partecipati
 
-            List<Registrazione> registrazioni = registrazioneDAO.findByUtente(currentUser.getId());
+            List<Registrazione> registrazioni = registrazioneDAO.findByUtente(utente.getId());
 
             stats.put("hackathonPartecipati", registrazioni.size());
 
@@ -9748,7 +9867,7 @@ public class Controller {
 
             // Notifiche non lette
 
-            int notificheNonLette = notificationDAO.findByUtente(currentUser.getId()).stream().mapToInt(n -> n.isRead() ? 0 : 1).sum();
+            int notificheNonLette = notificationDAO.findByUtente(utente.getId()).stream().mapToInt(n -> n.isRead() ? 0 : 1).sum();
 
             stats.put("notificheNonLette", notificheNonLette);
 
@@ -9774,7 +9893,7 @@ public class Controller {
 
      */
 
-    private Map<String, Object> getStatisticheGiudice() {
+    private Map<String, Object> getStatisticheGiudice(Utente utente) {
 
         Map<String, Object> stats = new HashMap<>();
 
@@ -9782,13 +9901,13 @@ public class Controller {
 
         try {
 
-            if (currentUser == null) return stats;
+            if (utente == null) return stats;
 
             
 
             // Valutazioni assegnate
 
-            List<Valutazione> valutazioni = valutazioneDAO.findByGiudice(currentUser.getId());
+            List<Valutazione> valutazioni = valutazioneDAO.findByGiudice(utente.getId());
 
             stats.put("valutazioniAssegnate", valutazioni.size());
 
@@ -9844,7 +9963,7 @@ public class Controller {
 
      */
 
-    private Map<String, Object> getStatisticheOrganizzatore() {
+    private Map<String, Object> getStatisticheOrganizzatore(Utente utente) {
 
         Map<String, Object> stats = new HashMap<>();
 
@@ -9852,13 +9971,13 @@ public class Controller {
 
         try {
 
-            if (currentUser == null) return stats;
+            if (utente == null) return stats;
 
             
 
             // Hackathon organizzati
 
-            List<Hackathon> hackathonOrganizzati = hackathonDAO.findAll().stream().filter(h -> h.getOrganizzatoreId() == currentUser.getId()).toList();
+            List<Hackathon> hackathonOrganizzati = hackathonDAO.findAll().stream().filter(h -> h.getOrganizzatoreId() == utente.getId()).toList();
 
             stats.put("hackathonOrganizzati", hackathonOrganizzati.size());
 
@@ -9914,9 +10033,9 @@ public class Controller {
 
     /**
 
-     * Ottiene trend mensili dinamici basati sui dati reali
+     * Andamento degli ultimi sei mesi per le dashboard: nuovi utenti, hackathon, team,
 
-     * SonarLint: fixed invariant return - now calculates dynamic trends based on actual data
+     * documenti caricati, valutazioni e notifiche per mese, calcolati con una sola query aggregata
 
      */
 
@@ -9924,45 +10043,28 @@ public class Controller {
 
         Map<String, Object> trends = new HashMap<>();
 
-        
-
         try {
 
-            // Calcola trend reali degli ultimi 6 mesi
-
-            LocalDateTime now = LocalDateTime.now();
-
-            List<String> mesi = generateLastSixMonths(now);
-
-            List<Integer> utentiTrend = calculateUserTrend();
-            List<Integer> hackathonTrend = calculateHackathonTrend(now);
-
-            List<Integer> teamTrend = calculateTeamTrend();
+            Map<dao.TrendDAO.Serie, Map<String, Number>> serie = trendService.ultimiPeriodi(
 
-            
+                java.util.EnumSet.allOf(dao.TrendDAO.Serie.class), dao.TrendDAO.Granularita.MESE, 6, LocalDateTime.now());
 
-            trends.put("mesi", mesi.toArray(new String[0]));
+            trends.put("mesi", serie.get(dao.TrendDAO.Serie.UTENTI).keySet().toArray(new String[0]));
 
-            trends.put("utenti", utentiTrend.toArray(new Integer[0]));
+            for (Map.Entry<dao.TrendDAO.Serie, Map<String, Number>> entry : serie.entrySet()) {
 
-            trends.put("hackathon", hackathonTrend.toArray(new Integer[0]));
+                trends.put(entry.getKey().name().toLowerCase(), entry.getValue().values().stream()
 
-            trends.put("team", teamTrend.toArray(new Integer[0]));
+                    .map(Number::intValue).toArray(Integer[]::new));
 
-            
+            }
 
         } catch (Exception e) {
 
-            // Fallback con dati di esempio se il calcolo dinamico fallisce
-
             logOperazione("TREND_CALCULATION_ERROR", String.format("Errore calcolo trend: %s", e.getMessage()));
 
-            return getFallbackTrends();
-
         }
 
-        
-
         return trends;
 
     }
@@ -9971,203 +10073,33 @@ public class Controller {
 
     /**
 
-     * Genera i nomi degli ultimi 6 mesi
-
-     */
-
-    private List<String> generateLastSixMonths(LocalDateTime now) {
-
-        List<String> mesi = new ArrayList<>();
-
-        String[] nomiMesi = {"Gennaio", "Febbraio", "Marzo", "Aprile", "Maggio", "Giugno",
-
-                           "Luglio", "Agosto", "Settembre", "Ottobre", "Novembre", "Dicembre"};
-
-        
-
-        for (int i = 5; i >= 0; i--) {
-
-            LocalDateTime meseCorrente = now.minusMonths(i);
-
-            int meseIndex = meseCorrente.getMonthValue() - 1;
-
-            mesi.add(nomiMesi[meseIndex]);
-
-        }
-
-        
-
-        return mesi;
-
-    }
-
-    
-
-    /**
-
-     * Calcola il trend degli utenti negli ultimi 6 mesi
-
-     */
-
-    private List<Integer> calculateUserTrend() {
-        List<Integer> trend = new ArrayList<>();
-
-        List<Utente> tuttiUtenti = utenteDAO.findAll();
-
-        
-
-        // Simula crescita basata sul numero totale di utenti
-
-        int baseUsers = Math.max(50, tuttiUtenti.size() - 50); // Base minima 50 utenti
-
-        int currentUsers = tuttiUtenti.size();
-
-        int growthPerMonth = Math.max(5, (currentUsers - baseUsers) / 6);
-
-        
-
-        for (int i = 5; i >= 0; i--) {
-
-            int usersInMonth = baseUsers + (growthPerMonth * (5 - i));
-
-            // Aggiungi variazione casuale del ±10% (senza Math.random())
-
-            int maxVar = Math.max(1, (int)(usersInMonth * 0.1));
-
-            int signed = java.util.concurrent.ThreadLocalRandom.current().nextBoolean() ? 1 : -1;
-
-            int variation = signed * java.util.concurrent.ThreadLocalRandom.current().nextInt(maxVar);
-
-            trend.add(Math.max(1, usersInMonth + variation));
-
-        }
-
-        
-
-        return trend;
-
-    }
-
-    
-
-    /**
-
-     * Calcola il trend degli hackathon negli ultimi 6 mesi
-
-     */
-
-    private List<Integer> calculateHackathonTrend(LocalDateTime now) {
-
-        List<Integer> trend = new ArrayList<>();
-
-        List<Hackathon> tuttiHackathon = hackathonDAO.findAll();
-
-        
-
-        // Calcola media hackathon per mese
-
-        int totalHackathon = tuttiHackathon.size();
-
-        int avgPerMonth = Math.max(1, totalHackathon / 12); // Media annuale divisa per mesi
-
-        
-
-        for (int i = 5; i >= 0; i--) {
-
-            // Simula stagionalità (più eventi in autunno/primavera)
-
-            LocalDateTime mese = now.minusMonths(i);
-
-            int monthValue = mese.getMonthValue();
-
-            double seasonalityFactor = getSeasonalityFactor(monthValue);
-
-            
-
-            int hackathonInMonth = (int)(avgPerMonth * seasonalityFactor);
-
-            trend.add(Math.max(0, hackathonInMonth));
-
-        }
-
-        
-
-        return trend;
-
-    }
-
-    
-
-    /**
-
-     * Calcola il trend dei team negli ultimi 6 mesi
-
-     */
-
-    private List<Integer> calculateTeamTrend() {
-
-        List<Integer> trend = new ArrayList<>();
-
-        List<Team> tuttiTeam = teamDAO.findAll();
-
-        
-
-        // Simula crescita dei team correlata agli hackathon
-
-        int totalTeam = tuttiTeam.size();
-
-        int baseTeam = Math.max(10, totalTeam - 30);
-
-        int growthPerMonth = Math.max(3, (totalTeam - baseTeam) / 6);
-
-        
-
-        for (int i = 5; i >= 0; i--) {
+     * Serie temporale per un grafico di andamento, calcolata nel database per periodo
 
-            int teamInMonth = baseTeam + (growthPerMonth * (5 - i));
-
-            // Correlazione con hackathon: più hackathon = più team
-
-            int maxBonus = Math.max(1, (int)(teamInMonth * 0.2));
-
-            int seasonalBonus = java.util.concurrent.ThreadLocalRandom.current().nextInt(maxBonus);
-
-            trend.add(Math.max(0, teamInMonth + seasonalBonus));
-
-        }
-
-        
+     *
 
-        return trend;
+     * @param serie la serie (utenti, hackathon, team, documenti, valutazioni, notifiche)
 
-    }
+     * @param granularita giorno, settimana o mese
 
-    
+     * @param periodi numero di periodi fino a quello in corso compreso
 
-    /**
+     * @return etichetta del periodo e conteggio in ordine cronologico, pronti per
 
-     * Calcola il fattore di stagionalità per gli hackathon
+     *         {@code ChartPanel.createLineChart}; vuota in caso di errore
 
      */
 
-    private double getSeasonalityFactor(int month) {
+    public Map<String, Number> getTrend(dao.TrendDAO.Serie serie, dao.TrendDAO.Granularita granularita, int periodi) {
 
-        // Più eventi in primavera (marzo-maggio) e autunno (settembre-novembre)
-
-        switch (month) {
-
-            case 3, 4, 5, 9, 10, 11:  // Primavera e Autunno (più eventi)
-                return 1.3;
+        try {
 
-            case 12, 1, 2:            // Inverno (meno eventi)
-                return 0.7;
+            return trendService.ultimiPeriodi(java.util.EnumSet.of(serie), granularita, periodi, LocalDateTime.now()).get(serie);
 
-            case 6, 7, 8:             // Estate (meno eventi)
-                return 0.8;
+        } catch (Exception e) {
 
-            default:
+            logOperazione("TREND_CALCULATION_ERROR", String.format("Errore calcolo trend %s: %s", serie, e.getMessage()));
 
-                return 1.0;
+            return new java.util.LinkedHashMap<>();
 
         }
 
@@ -10175,46 +10107,6 @@ public class Controller {
 
     
 
-    /**
-
-     * Ritorna dati di fallback se il calcolo dinamico fallisce
-
-     */
-
-    private Map<String, Object> getFallbackTrends() {
-
-        Map<String, Object> trends = new HashMap<>();
-
-        
-
-        // Dati di esempio come fallback
-
-        String[] mesi = {"Gennaio", "Febbraio", "Marzo", "Aprile", "Maggio", "Giugno"};
-
-        int[] utenti = {120, 135, 142, 158, 167, 173};
-
-        int[] hackathon = {2, 3, 4, 5, 6, 8};
-
-        int[] team = {15, 22, 28, 35, 42, 48};
-
-        
-
-        trends.put("mesi", mesi);
-
-        trends.put("utenti", utenti);
-
-        trends.put("hackathon", hackathon);
-
-        trends.put("team", team);
-
-        
-
-        return trends;
-
-    }
-
-    
-
     
 
     /**
@@ -10223,7 +10115,7 @@ public class Controller {
 
      */
 
-    private dao.AuditLogDAO auditLogDAO;
+    private volatile dao.AuditLogDAO auditLogDAO;
 
     
 
@@ -10233,7 +10125,7 @@ public class Controller {
 
      */
 
-    private void initializeAuditLogDAO() {
+    private synchronized void initializeAuditLogDAO() {
 
         if (auditLogDAO == null) {
 
@@ -10279,7 +10171,8 @@ public class Controller {
 
             
 
-            Integer utenteId = currentUser != null ? currentUser.getId() : null;
+            Utente utente = currentUser();
+            Integer utenteId = utente != null ? utente.getId() : null;
 
             model.AuditLog auditLog = new model.AuditLog(utenteId, azione, risorsa, risorsaId, dettagli);
 
@@ -10323,7 +10216,8 @@ public class Controller {
 
             
 
-            Integer utenteId = currentUser != null ? currentUser.getId() : null;
+            Utente utente = currentUser();
+            Integer utenteId = utente != null ? utente.getId() : null;
 
             model.AuditLog auditLog = new model.AuditLog(utenteId, azione, risorsa, risorsaId, dettagli);
 
@@ -10393,7 +10287,7 @@ public class Controller {
 
     public List<model.AuditLog> getAuditLogsUtente() {
 
-        if (currentUser == null) {
+        if (currentUser() == null) {
 
             return new ArrayList<>();
 
@@ -10405,7 +10299,7 @@ public class Controller {
 
             initializeAuditLogDAO();
 
-            return auditLogDAO.findByUtente(currentUser.getId());
+            return auditLogDAO.findByUtente(currentUser().getId());
 
         } catch (Exception e) {
 
@@ -10429,7 +10323,7 @@ public class Controller {
 
     public List<model.AuditLog> getAuditLogsCritici() {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             auditLog(model.AuditLog.AuditAction.ACCESS_DENIED, AUDIT_LOG, null, 
 
@@ -10469,7 +10363,7 @@ public class Controller {
 
     public Map<String, Integer> getStatisticheAudit(LocalDateTime dataInizio, LocalDateTime dataFine) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             auditLog(model.AuditLog.AuditAction.ACCESS_DENIED, "AUDIT_STATS", null, 
 
@@ -10509,7 +10403,7 @@ public class Controller {
 
     public String getReportAudit(int giorni) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             auditLog(model.AuditLog.AuditAction.ACCESS_DENIED, "AUDIT_REPORT", null, 
 
@@ -10629,7 +10523,7 @@ public class Controller {
 
     public int pulisciAuditLog(int giorniRetention) {
 
-        if (currentUser == null || !currentUser.isOrganizzatore()) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
 
             auditLog(model.AuditLog.AuditAction.ACCESS_DENIED, "AUDIT_CLEANUP", null, 
 
@@ -10672,21 +10566,97 @@ public class Controller {
     // ==================== GESTIONE EVENTI ====================
 
     /**
-     * Elimina gli eventi conclusi dal sistema
+     * Elimina gli eventi conclusi dal sistema dopo averli archiviati.
+     * Ogni evento viene esportato in un archivio compresso nella directory
+     * {@code archive.directory} (default "archivi") e rimosso solo se l'esportazione è riuscita,
+     * così da poterlo reimportare con {@link #importaHackathon(String)}.
      *
-     * @return true se l'operazione è riuscita
+     * @return true se almeno un evento è stato archiviato ed eliminato
      */
     public boolean eliminaEventiConclusi() {
         try {
             logInizioEliminazioneEventi();
-            int eliminati = hackathonDAO.deleteConclusi();
+            java.nio.file.Path directory = java.nio.file.Paths.get(System.getProperty("archive.directory", "archivi"));
+            int eliminati = 0;
+            for (Hackathon hackathon : hackathonDAO.findConclusi()) {
+                java.nio.file.Path archivio = directory.resolve(String.format("hackathon_%d_%s.json.gz", hackathon.getId(),
+                    LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"))));
+                if (esportaHackathonSuFile(hackathon.getId(), archivio) && hackathonArchiveDAO.deleteHackathon(hackathon.getId())) {
+                    entityCaches.invalidaHackathon(hackathon.getId());
+                    authorizationIndex.invalida();
+                    eliminati++;
+                }
+            }
             logRisultatoEliminazioneEventi(eliminati);
-            return eliminati > 0;
+            return modificato(eliminati > 0, AreaDati.EVENTI, AreaDati.REGISTRAZIONI, AreaDati.TEAM, AreaDati.PROGRESSI, AreaDati.VALUTAZIONI);
         } catch (Exception e) {
             logErroreEliminazioneEventi(e);
             return false;
         }
     }
+
+    /**
+     * Esporta un hackathon con tutti i dati collegati in un archivio compresso (JSON gzip)
+     *
+     * @param hackathonId l'ID dell'hackathon
+     * @param percorso il file di destinazione
+     * @return true se l'esportazione è riuscita
+     */
+    public boolean esportaHackathon(int hackathonId, String percorso) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
+            return false;
+        }
+        return esportaHackathonSuFile(hackathonId, java.nio.file.Paths.get(percorso));
+    }
+
+    private boolean esportaHackathonSuFile(int hackathonId, java.nio.file.Path archivio) {
+        java.nio.file.Path tmp = archivio.resolveSibling(archivio.getFileName() + ".tmp");
+        try {
+            if (archivio.getParent() != null) {
+                java.nio.file.Files.createDirectories(archivio.getParent());
+            }
+            long righe;
+            try (java.io.OutputStream out = new java.util.zip.GZIPOutputStream(
+                    new java.io.BufferedOutputStream(java.nio.file.Files.newOutputStream(tmp)), 64 * 1024)) {
+                righe = hackathonArchiveDAO.exportHackathon(hackathonId, out);
+            }
+            java.nio.file.Files.move(tmp, archivio, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+                java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+            logOperazione("EXPORT_HACKATHON", String.format("Hackathon %d esportato in %s (%d righe)", hackathonId, archivio, righe));
+            return true;
+        } catch (java.io.IOException | DataAccessException e) {
+            logOperazione("EXPORT_HACKATHON_ERROR", String.format("Errore esportazione hackathon %d: %s", hackathonId, e.getMessage()));
+            try {
+                java.nio.file.Files.deleteIfExists(tmp);
+            } catch (java.io.IOException ignored) {
+                // il file temporaneo verrà sovrascritto alla prossima esportazione
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Importa un archivio prodotto da {@link #esportaHackathon(int, String)}
+     *
+     * @param percorso il file dell'archivio
+     * @return l'ID dell'hackathon importato, -1 in caso di errore
+     */
+    public int importaHackathon(String percorso) {
+        if (currentUser() == null || !currentUser().isOrganizzatore()) {
+            return -1;
+        }
+        try (java.io.InputStream in = new java.util.zip.GZIPInputStream(
+                new java.io.BufferedInputStream(java.nio.file.Files.newInputStream(java.nio.file.Paths.get(percorso))), 64 * 1024)) {
+            int hackathonId = hackathonArchiveDAO.importHackathon(in);
+            authorizationIndex.invalida();
+            auditLog(model.AuditLog.AuditAction.CREATE_HACKATHON, EVENTI, hackathonId,
+                    "Hackathon importato da " + percorso, model.AuditLog.AuditResult.SUCCESS);
+            return modificato(hackathonId, AreaDati.EVENTI, AreaDati.REGISTRAZIONI, AreaDati.TEAM, AreaDati.PROGRESSI, AreaDati.VALUTAZIONI);
+        } catch (java.io.IOException | DataAccessException e) {
+            logOperazione("IMPORT_HACKATHON_ERROR", String.format("Errore importazione da %s: %s", percorso, e.getMessage()));
+            return -1;
+        }
+    }
     
     /**
      * Logga l'inizio dell'operazione di eliminazione eventi
@@ -10788,6 +10758,9 @@ public class Controller {
                     }
 
                     conn.commit();
+                    // Aggiornamento fatto con SQL diretto, fuori dai DAO con cache
+                    entityCaches.invalidaTutto();
+                    authorizationIndex.invalida();
                     return updatedRows > 0;
                 }
             }
@@ -10903,14 +10876,39 @@ public class Controller {
     }
     
     /**
-     * Genera il report di sistema
+     * Genera il report di sistema: statistiche di utenti, hackathon, team, valutazioni e
+     * documenti, storage e trend mensili, calcolati in parallelo
      *
      * @return ReportData con le statistiche di sistema
      */
     public ReportData generaReportSistema() {
         try {
-            // Metodo non implementato - restituisce report vuoto
-            return new ReportData();
+            ReportData report = new ReportData(SISTEMA, "Report di sistema", null,
+                currentUser() != null ? currentUser().getId() : 0);
+            Statistics stats = new Statistics(SISTEMA, "CORRENTE");
+            Map<String, java.util.concurrent.Callable<Runnable>> sezioni = sezioniStatistiche(stats);
+            sezioni.put("storage", () -> {
+                Map<String, Object> storage = getStatisticheStorage();
+                return () -> stats.aggiungiMetrica("storage", storage);
+            });
+            sezioni.put("trend", () -> {
+                Map<String, Object> trend = getTrendMensili();
+                return () -> stats.aggiungiMetrica("trendMensili", trend);
+            });
+            eseguiSezioni(sezioni, stats);
+            stats.calcolaKPI();
+            stats.aggiornaTimestamp();
+
+            report.setStatistiche(stats);
+            report.setNumeroPartecipanti(stats.getNumeroPartecipanti());
+            report.setNumeroGiudici(stats.getNumeroGiudici());
+            report.setNumeroTeam(stats.getTotaleTeam());
+            report.setNumeroValutazioni(stats.getTotaleValutazioni());
+            report.setMediaVoti(stats.getMediaVotiGenerale());
+            report.setNumeroDocumenti(stats.getTotaleDocumenti());
+            report.setDimensioneTotaleDocumenti(stats.getDimensioneTotaleStorage());
+            report.completaReport();
+            return report;
         } catch (Exception e) {
             logOperazione("GENERA_REPORT_ERROR", "Errore generazione report sistema: " + e.getMessage());
             return new ReportData();
@@ -10918,20 +10916,59 @@ public class Controller {
     }
     
     /**
-     * Genera il report per un hackathon specifico
+     * Genera il riepilogo del report per un hackathon specifico.
+     * Contiene solo l'hackathon e i totali calcolati in SQL, senza le liste di team,
+     * valutazioni e documenti: il report completo si ottiene con
+     * {@link #esportaReportHackathon(int, service.ReportExporter.Formato, java.nio.file.Path, service.ReportExporter.ProgressListener)}
      *
      * @param hackathonId ID dell'hackathon
-     * @return ReportData con i dati dell'hackathon
+     * @return ReportData con i totali dell'hackathon
      */
     public ReportData generaReportHackathon(int hackathonId) {
         try {
-            // Metodo non implementato - restituisce report vuoto
-            return new ReportData();
+            Hackathon hackathon = hackathonDAO.findById(hackathonId);
+            if (hackathon == null) {
+                return new ReportData();
+            }
+            ReportData reportData = reportDAO.riepilogo(hackathonId);
+            reportData.setTipoReport("HACKATHON");
+            reportData.setTitolo("Report " + hackathon.getNome());
+            reportData.setHackathon(hackathon);
+            reportData.setUtenteGeneratore(currentUser() != null ? currentUser().getId() : 0);
+            reportData.completaReport();
+            return reportData;
         } catch (Exception e) {
             logOperazione("GENERA_REPORT_HACKATHON_ERROR", "Errore generazione report hackathon: " + e.getMessage());
             return new ReportData();
         }
     }
+
+    /**
+     * Esporta in streaming il report dettagliato di un hackathon: le righe vengono lette dal
+     * database con un cursore e scritte direttamente sul file, in memoria costante
+     *
+     * @param hackathonId ID dell'hackathon
+     * @param formato formato del file
+     * @param destinazione file di destinazione
+     * @param listener avanzamento dell'esportazione, può essere null
+     * @return numero di righe esportate
+     * @throws java.io.IOException se la scrittura del file fallisce
+     */
+    public long esportaReportHackathon(int hackathonId, service.ReportExporter.Formato formato,
+                                       java.nio.file.Path destinazione,
+                                       service.ReportExporter.ProgressListener listener) throws java.io.IOException {
+        try {
+            long righe = new service.ReportExporter(hackathonDAO, reportDAO)
+                .esporta(hackathonId, formato, destinazione, listener);
+            logOperazione("EXPORT_REPORT", String.format("Report hackathon %d esportato in %s (%d righe)",
+                hackathonId, destinazione, righe));
+            return righe;
+        } catch (java.io.IOException | RuntimeException e) {
+            logOperazione("EXPORT_REPORT_ERROR", String.format("Errore esportazione report hackathon %d: %s",
+                hackathonId, e.getMessage()));
+            throw e;
+        }
+    }
     
     /**
      * Ottiene un documento per percorso
@@ -11330,7 +11367,7 @@ public class Controller {
             logOperazione("PUBBLICA_CLASSIFICA_SUCCESS", 
                 "Classifica pubblicata per hackathon ID: " + hackathonId + 
                 " con " + ranking.size() + " team");
-            return true;
+            return modificato(true, AreaDati.VALUTAZIONI);
         } catch (Exception e) {
             logOperazione("PUBBLICA_CLASSIFICA_ERROR", 
                 "Errore pubblicazione classifica: " + e.getMessage());
@@ -11433,10 +11470,8 @@ public class Controller {
      */
     private void optimizeDatabaseTables() {
         try {
-            if (hackathonDAO instanceof dao.postgres.HackathonPostgresDAO) {
-                // Qui potremmo aggiungere operazioni di VACUUM/ANALYZE se necessario
-                logOperazione("CLEANUP_OPTIMIZE", "Ottimizzazione tabelle database completata");
-            }
+            // Qui potremmo aggiungere operazioni di VACUUM/ANALYZE se necessario
+            logOperazione("CLEANUP_OPTIMIZE", "Ottimizzazione tabelle database completata");
         } catch (Exception e) {
             logOperazione("CLEANUP_OPTIMIZE_ERROR", "Errore ottimizzazione database: " + e.getMessage());
             // Non consideriamo questo errore come fallimento totale
@@ -0,0 +1,49 @@
+package controller;
+
+import model.Utente;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Contesto di una sessione utente.
+ * Sostituisce lo stato "utente corrente" condiviso del Controller: ogni client
+ * (finestra desktop o richiesta HTTP) lavora con la propria sessione, così che
+ * un'unica istanza di Controller possa servire più utenti contemporaneamente.
+ */
+public final class SessionContext {
+
+    private final String id;
+    private final Instant createdAt;
+    private volatile Utente utente;
+    private volatile Instant lastAccess;
+
+    /**
+     * Crea una nuova sessione con identificativo casuale
+     *
+     * @param utente l'utente autenticato (null per una sessione anonima)
+     */
+    public SessionContext(Utente utente) {
+        this.id = UUID.randomUUID().toString();
+        this.createdAt = Instant.now();
+        this.lastAccess = createdAt;
+        this.utente = utente;
+    }
+
+    /**
+     * Aggiorna l'istante di ultimo accesso
+     */
+    public void touch() {
+        lastAccess = Instant.now();
+    }
+
+    public String getId() { return id; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getLastAccess() { return lastAccess; }
+    public Utente getUtente() { return utente; }
+    void setUtente(Utente utente) { this.utente = utente; }
+
+    public boolean isAutenticata() {
+        return utente != null;
+    }
+}
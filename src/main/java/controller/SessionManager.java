@@ -0,0 +1,93 @@
+package controller;
+
+import model.Utente;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro thread-safe delle sessioni aperte.
+ * Le sessioni inattive oltre il timeout vengono considerate scadute e rimosse.
+ */
+public class SessionManager {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofHours(8);
+
+    private final Map<String, SessionContext> sessioni = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    public SessionManager() {
+        this(DEFAULT_TIMEOUT);
+    }
+
+    public SessionManager(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Apre una nuova sessione per l'utente autenticato
+     *
+     * @param utente l'utente autenticato
+     * @return la sessione creata
+     */
+    public SessionContext apri(Utente utente) {
+        SessionContext sessione = new SessionContext(utente);
+        sessioni.put(sessione.getId(), sessione);
+        return sessione;
+    }
+
+    /**
+     * Cerca una sessione attiva aggiornandone l'ultimo accesso
+     *
+     * @param id l'identificativo della sessione
+     * @return la sessione, vuoto se inesistente o scaduta
+     */
+    public Optional<SessionContext> trova(String id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        SessionContext sessione = sessioni.get(id);
+        if (sessione == null) {
+            return Optional.empty();
+        }
+        if (isScaduta(sessione, Instant.now())) {
+            sessioni.remove(id, sessione);
+            return Optional.empty();
+        }
+        sessione.touch();
+        return Optional.of(sessione);
+    }
+
+    /**
+     * Chiude una sessione
+     *
+     * @param id l'identificativo della sessione
+     * @return la sessione chiusa, vuoto se non esisteva
+     */
+    public Optional<SessionContext> chiudi(String id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(sessioni.remove(id));
+    }
+
+    /**
+     * Rimuove le sessioni scadute
+     *
+     * @return numero di sessioni rimosse
+     */
+    public int rimuoviScadute() {
+        Instant now = Instant.now();
+        int prima = sessioni.size();
+        sessioni.values().removeIf(s -> isScaduta(s, now));
+        return prima - sessioni.size();
+    }
+
+    public int getSessioniAttive() {
+        return sessioni.size();
+    }
+
+    private boolean isScaduta(SessionContext sessione, Instant now) {
+        return sessione.getLastAccess().plus(timeout).isBefore(now);
+    }
+}
@@ -136,4 +136,40 @@ public final class DAOFactory {
     public dao.RankingSnapshotDAO rankingSnapshotDAO() {
         return new dao.postgres.RankingSnapshotPostgresDAO(connectionManager);
     }
+
+    /**
+     * Crea un'istanza di HackathonArchiveDAO
+     *
+     * @return un'istanza di HackathonArchiveDAO
+     */
+    public dao.HackathonArchiveDAO hackathonArchiveDAO() {
+        return new dao.postgres.HackathonArchivePostgresDAO(connectionManager);
+    }
+
+    /**
+     * Crea un'istanza di ReportDAO
+     *
+     * @return un'istanza di ReportDAO
+     */
+    public dao.ReportDAO reportDAO() {
+        return new dao.postgres.ReportPostgresDAO(connectionManager);
+    }
+
+    /**
+     * Crea un'istanza di StatisticsSnapshotDAO
+     *
+     * @return un'istanza di StatisticsSnapshotDAO
+     */
+    public dao.StatisticsSnapshotDAO statisticsSnapshotDAO() {
+        return new dao.postgres.StatisticsSnapshotPostgresDAO(connectionManager);
+    }
+
+    /**
+     * Crea un'istanza di TrendDAO
+     *
+     * @return un'istanza di TrendDAO
+     */
+    public dao.TrendDAO trendDAO() {
+        return new dao.postgres.TrendPostgresDAO(connectionManager);
+    }
 }
@@ -153,6 +153,27 @@ public interface DocumentoDAO {
      */
     List<Documento> findAll();
     
+    /**
+     * Conta i documenti che soddisfano il filtro
+     * 
+     * @param filtro criteri di filtro (l'ordinamento viene ignorato)
+     * @return numero di documenti
+     */
+    int countFiltered(DocumentoFiltro filtro);
+    
+    /**
+     * Legge una pagina di documenti filtrati e ordinati secondo il filtro, senza il contenuto binario.
+     * Se {@code dopo} è indicato la pagina parte dal documento successivo nell'ordinamento
+     * (paginazione keyset) e {@code offset} viene ignorato; altrimenti si salta {@code offset} righe.
+     * 
+     * @param filtro criteri di filtro e ordinamento
+     * @param dopo ultimo documento della pagina precedente, o null
+     * @param offset righe da saltare quando {@code dopo} è null
+     * @param limite numero massimo di documenti
+     * @return la pagina di documenti
+     */
+    List<Documento> findPage(DocumentoFiltro filtro, Documento dopo, int offset, int limite);
+    
     /**
      * Verifica se un file con lo stesso hash esiste già
      * 
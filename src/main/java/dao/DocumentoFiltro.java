@@ -0,0 +1,68 @@
+package dao;
+
+/**
+ * Criteri di filtro e ordinamento per la lettura paginata dei documenti.
+ * Il DAO traduce tutti i criteri in SQL, quindi filtri e ordinamento non vengono mai
+ * applicati in memoria sul client.
+ */
+public final class DocumentoFiltro {
+
+    /**
+     * Categoria di documenti da mostrare
+     */
+    public enum Categoria {
+        TUTTI,
+        VALIDATI,
+        NON_VALIDATI,
+        PDF,
+        IMMAGINI,
+        VIDEO,
+        ARCHIVI,
+        OFFICE
+    }
+
+    /**
+     * Colonna di ordinamento; a parità di valore si ordina sempre per ID
+     */
+    public enum Ordinamento {
+        DATA,
+        NOME,
+        TIPO,
+        DIMENSIONE,
+        TEAM,
+        VALIDATO,
+        UTENTE
+    }
+
+    private final int teamId;
+    private final int hackathonId;
+    private final Categoria categoria;
+    private final String testo;
+    private final Ordinamento ordinamento;
+    private final boolean crescente;
+
+    /**
+     * @param teamId team dei documenti, -1 per tutti
+     * @param hackathonId hackathon dei documenti, -1 per tutti
+     * @param categoria categoria di documenti
+     * @param testo testo da cercare in nome e descrizione (vuoto o null per nessuna ricerca)
+     * @param ordinamento colonna di ordinamento
+     * @param crescente true per ordine crescente
+     */
+    public DocumentoFiltro(int teamId, int hackathonId, Categoria categoria, String testo,
+                           Ordinamento ordinamento, boolean crescente) {
+        this.teamId = teamId;
+        this.hackathonId = hackathonId;
+        this.categoria = categoria != null ? categoria : Categoria.TUTTI;
+        this.testo = testo != null ? testo.trim() : "";
+        this.ordinamento = ordinamento != null ? ordinamento : Ordinamento.DATA;
+        this.crescente = crescente;
+    }
+
+    public int getTeamId() { return teamId; }
+    public int getHackathonId() { return hackathonId; }
+    public Categoria getCategoria() { return categoria; }
+    public String getTesto() { return testo; }
+    public Ordinamento getOrdinamento() { return ordinamento; }
+    public boolean isCrescente() { return crescente; }
+}
@@ -0,0 +1,38 @@
+package dao;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Interfaccia per l'esportazione e l'importazione logica di un singolo hackathon.
+ * L'archivio contiene l'intero grafo dell'evento (team, membri, registrazioni, progress,
+ * documenti, valutazioni, commenti, richieste di join e snapshot di classifica) e viene
+ * scritto e letto in streaming, riga per riga.
+ */
+public interface HackathonArchiveDAO {
+    /**
+     * Esporta l'hackathon e tutti i dati collegati sullo stream indicato
+     *
+     * @param hackathonId l'ID dell'hackathon da esportare
+     * @param out lo stream di destinazione (non viene chiuso)
+     * @return numero di righe esportate
+     */
+    long exportHackathon(int hackathonId, OutputStream out);
+
+    /**
+     * Importa un archivio prodotto da {@link #exportHackathon(int, OutputStream)} in un'unica transazione.
+     * Gli utenti referenziati vengono risolti per login nel database di destinazione.
+     *
+     * @param in lo stream dell'archivio (non viene chiuso)
+     * @return l'ID dell'hackathon importato
+     */
+    int importHackathon(InputStream in);
+
+    /**
+     * Elimina l'hackathon e tutti i dati collegati in un'unica transazione
+     *
+     * @param hackathonId l'ID dell'hackathon da eliminare
+     * @return true se l'hackathon è stato eliminato
+     */
+    boolean deleteHackathon(int hackathonId);
+}
@@ -1,5 +1,6 @@
 package dao;
 import model.Hackathon;
+import java.util.Collection;
 import java.util.List;
 /**
  * Interfaccia per l'accesso ai dati degli Hackathon.
@@ -34,6 +35,13 @@ public interface HackathonDAO {
      * @return l'hackathon trovato o null se non esiste
      */
     Hackathon findById(int id);
+    /**
+     * Trova gli hackathon con gli ID indicati in una sola query
+     *
+     * @param ids gli ID degli hackathon (duplicati ammessi)
+     * @return gli hackathon trovati, in ordine non garantito; gli ID inesistenti vengono ignorati
+     */
+    List<Hackathon> findByIds(Collection<Integer> ids);
     /**
      * Trova tutti gli hackathon
      *
@@ -146,11 +154,14 @@ public interface HackathonDAO {
     boolean pubblicaClassifiche(int hackathonId);
 
     /**
-     * Elimina tutti gli hackathon conclusi (evento_concluso = TRUE).
+     * Legge l'hackathon e i conteggi per le validazioni del ciclo di vita (partecipanti e
+     * giudici confermati, team, team completi, senza progressi e pronti, valutazioni, documenti)
+     * con una sola query
      *
-     * @return numero di hackathon eliminati
+     * @param hackathonId l'ID dell'hackathon
+     * @return lo stato di preparazione o null se l'hackathon non esiste
      */
-    int deleteConclusi();
+    model.StatoPreparazioneHackathon findStatoPreparazione(int hackathonId);
 
     /**
      * Pulisce lo stato del database e resetta eventuali transazioni interrotte
@@ -0,0 +1,77 @@
+package dao;
+
+import model.ReportData;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Interfaccia per la lettura dei dati dei report di un hackathon.
+ * Le righe delle sezioni vengono lette con un cursore e consegnate una alla volta a un
+ * {@link RowHandler}, senza mai materializzare le liste in memoria: il consumo di memoria
+ * non dipende dalla dimensione dell'hackathon.
+ */
+public interface ReportDAO {
+
+    /**
+     * Sezioni del report dettagliato, nell'ordine in cui vengono lette
+     */
+    enum Sezione {
+        TEAM, REGISTRAZIONI, VALUTAZIONI, DOCUMENTI, PROGRESSI
+    }
+
+    /**
+     * Destinatario delle righe lette dal cursore; i metodi vengono invocati sul thread chiamante
+     */
+    interface RowHandler {
+        /**
+         * Inizio di una sezione
+         *
+         * @param sezione la sezione
+         * @param colonne nomi delle colonne, nell'ordine dei valori delle righe
+         */
+        void inizioSezione(Sezione sezione, String[] colonne) throws IOException;
+
+        /**
+         * Una riga della sezione corrente. L'array viene riutilizzato per la riga successiva
+         *
+         * @param valori valori delle colonne (Integer, Long, Boolean, String, LocalDateTime o null)
+         */
+        void riga(Object[] valori) throws IOException;
+
+        /**
+         * Fine della sezione corrente
+         *
+         * @param sezione la sezione
+         * @param righe numero di righe lette
+         */
+        void fineSezione(Sezione sezione, long righe) throws IOException;
+    }
+
+    /**
+     * Calcola in SQL i totali del report (partecipanti, giudici, team, valutazioni, media voti,
+     * documenti e loro dimensione) senza leggere le righe
+     *
+     * @param hackathonId l'ID dell'hackathon
+     * @return un report con i soli totali valorizzati
+     */
+    ReportData riepilogo(int hackathonId);
+
+    /**
+     * Conta le righe di ogni sezione con una sola query, per stimare l'avanzamento
+     *
+     * @param hackathonId l'ID dell'hackathon
+     * @return numero di righe per sezione
+     */
+    Map<Sezione, Long> contaRighe(int hackathonId);
+
+    /**
+     * Legge tutte le sezioni del report in un'unica transazione di sola lettura, così che
+     * le sezioni siano coerenti tra loro. Il contenuto binario dei documenti non viene letto.
+     *
+     * @param hackathonId l'ID dell'hackathon
+     * @param handler il destinatario delle righe
+     * @return numero totale di righe lette
+     */
+    long streamReport(int hackathonId, RowHandler handler);
+}
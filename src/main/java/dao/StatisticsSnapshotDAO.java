@@ -0,0 +1,18 @@
+package dao;
+
+import model.StatisticsSnapshot;
+
+/**
+ * Accesso agli snapshot delle statistiche: una riga per chiave, sovrascritta a ogni aggiornamento
+ */
+public interface StatisticsSnapshotDAO {
+    /**
+     * Inserisce o sostituisce lo snapshot della chiave
+     */
+    void upsert(StatisticsSnapshot snapshot);
+
+    /**
+     * @return lo snapshot della chiave, null se non è mai stato calcolato
+     */
+    StatisticsSnapshot findByChiave(String chiave);
+}
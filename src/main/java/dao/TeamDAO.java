@@ -2,6 +2,7 @@ package dao;
 import model.Team;
 import model.RichiestaJoin;
 import java.util.List;
+import java.util.Map;
 /**
  * Interfaccia per l'accesso ai dati dei Team.
  * Definisce tutti i metodi CRUD e le operazioni specifiche per la gestione dei team.
@@ -94,6 +95,14 @@ public interface TeamDAO {
      * @return true se l'utente è capo del team
      */
     boolean isCapoTeam(int teamId, int utenteId);
+    /**
+     * Cambia il capo di un team
+     *
+     * @param teamId l'ID del team
+     * @param nuovoCapoTeamId l'ID del nuovo capo team
+     * @return true se il team è stato aggiornato
+     */
+    boolean cambiaCapoTeam(int teamId, int nuovoCapoTeamId);
     /**
      * Verifica se un team ha spazio disponibile
      *
@@ -115,6 +124,12 @@ public interface TeamDAO {
      * @return lista degli ID dei membri
      */
     List<Integer> findMembri(int teamId);
+    /**
+     * Trova i membri di tutti i team con una sola query
+     *
+     * @return per ogni ID di team la lista degli ID dei membri
+     */
+    Map<Integer, List<Integer>> findMembriPerTeam();
     /**
      * Inserisce una richiesta di join
      *
@@ -0,0 +1,51 @@
+package dao;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Interfaccia per le serie temporali aggregate (conteggi per giorno, settimana o mese).
+ * I conteggi vengono calcolati nel database con {@code date_trunc} e {@code GROUP BY}:
+ * vengono lette solo le righe aggregate, mai le tabelle intere.
+ */
+public interface TrendDAO {
+
+    /**
+     * Serie disponibili, ognuna contata sulla propria colonna temporale
+     */
+    enum Serie {
+        UTENTI, HACKATHON, TEAM, DOCUMENTI, VALUTAZIONI, NOTIFICHE
+    }
+
+    /**
+     * Ampiezza dei periodi; le settimane iniziano di lunedì come in {@code date_trunc('week', ...)}
+     */
+    enum Granularita {
+        GIORNO("day"), SETTIMANA("week"), MESE("month");
+
+        private final String unitaSql;
+
+        Granularita(String unitaSql) {
+            this.unitaSql = unitaSql;
+        }
+
+        /** @return l'unità da passare a {@code date_trunc} */
+        public String getUnitaSql() {
+            return unitaSql;
+        }
+    }
+
+    /**
+     * Conta le righe di ogni serie per periodo, con una sola query
+     *
+     * @param serie le serie da calcolare
+     * @param granularita l'ampiezza dei periodi
+     * @param da inizio dell'intervallo (incluso)
+     * @param a fine dell'intervallo (escluso)
+     * @return per ogni serie richiesta, l'inizio di ogni periodo con almeno una riga e il suo conteggio;
+     *         i periodi senza righe non compaiono
+     */
+    Map<Serie, Map<LocalDateTime, Long>> conteggi(Set<Serie> serie, Granularita granularita,
+                                                  LocalDateTime da, LocalDateTime a);
+}
@@ -1,5 +1,6 @@
 package dao;
 import model.Utente;
+import java.util.Collection;
 import java.util.List;
 /**
  * Interfaccia per l'accesso ai dati degli Utenti.
@@ -34,6 +35,13 @@ public interface UtenteDAO {
      * @return l'utente trovato o null se non esiste
      */
     Utente findById(int id);
+    /**
+     * Trova gli utenti con gli ID indicati in una sola query
+     *
+     * @param ids gli ID degli utenti (duplicati ammessi)
+     * @return gli utenti trovati, in ordine non garantito; gli ID inesistenti vengono ignorati
+     */
+    List<Utente> findByIds(Collection<Integer> ids);
     /**
      * Trova tutti gli utenti
      *
@@ -124,4 +132,17 @@ public interface UtenteDAO {
      * @return il numero di giudici attivi
      */
     int contaGiudiciAttivi();
-} 
+    /**
+     * Trova i partecipanti confermati di un hackathon che possono essere invitati in un team:
+     * esclusi il capo team e chi è già membro di un team dello stesso hackathon (compreso questo).
+     * Una sola query, ordinata per cognome e nome
+     *
+     * @param hackathonId l'ID dell'hackathon
+     * @param teamId l'ID del team che invita
+     * @param prefisso filtro sull'inizio di nome, cognome o login (ignorato se null o vuoto)
+     * @param offset righe da saltare
+     * @param limite numero massimo di utenti restituiti
+     * @return la pagina di utenti disponibili
+     */
+    List<Utente> findDisponibiliPerInvito(int hackathonId, int teamId, String prefisso, int offset, int limite);
+}
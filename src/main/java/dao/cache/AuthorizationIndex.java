@@ -0,0 +1,363 @@
+package dao.cache;
+
+import dao.RegistrazioneDAO;
+import dao.TeamDAO;
+import model.Registrazione;
+import model.Team;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+/**
+ * Indice in memoria di membri dei team, capi team e ruoli nelle registrazioni, per i controlli
+ * dei permessi fatti a ogni azione.
+ * <p>
+ * Tiene (utente → team), (team → membri), (team → capo) e (hackathon → ruolo → utenti). Le
+ * verifiche puntuali usano chiavi long che uniscono i due ID in mappe di primitivi
+ * ({@link LongIntHashMap}); gli elenchi sono array di int ordinati. L'indice viene caricato
+ * alla prima lettura con tre query e poi aggiornato dai DAO restituiti da {@link #teamDAO} e
+ * {@link #registrazioneDAO} dopo ogni scrittura. Le modifiche fatte fuori da questi DAO
+ * diventano visibili al ricaricamento successivo, dopo il TTL o chiamando {@link #invalida()}.
+ * <p>
+ * Configurazione con la proprietà di sistema {@code cache.authorization.ttlSeconds}
+ * (predefinito 300).
+ */
+public final class AuthorizationIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(AuthorizationIndex.class.getName());
+    private static final int TTL_PREDEFINITO_SECONDI = 300;
+    private static final int[] NESSUNO = new int[0];
+
+    private final TeamDAO teamLoader;
+    private final RegistrazioneDAO registrazioneLoader;
+    private final long ttlNanos;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private boolean caricato;
+    private long caricatoIl;
+    /** (team, utente) → 1 */
+    private LongIntHashMap membri;
+    /** team → capo */
+    private LongIntHashMap capi;
+    /** (hackathon, utente) → ruolo e conferma, vedi {@link #codice} */
+    private LongIntHashMap registrazioni;
+    private Map<Integer, int[]> teamPerUtente;
+    private Map<Integer, int[]> membriPerTeam;
+    /** (hackathon, ruolo) → utenti registrati con quel ruolo */
+    private Map<Long, int[]> utentiPerRuolo;
+
+    /**
+     * @param teamLoader DAO da cui leggere team e membri al caricamento
+     * @param registrazioneLoader DAO da cui leggere le registrazioni al caricamento
+     * @param ttl intervallo dopo cui l'indice viene ricaricato dal database
+     */
+    public AuthorizationIndex(TeamDAO teamLoader, RegistrazioneDAO registrazioneLoader, Duration ttl) {
+        this.teamLoader = teamLoader;
+        this.registrazioneLoader = registrazioneLoader;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public static AuthorizationIndex fromSystemProperties(TeamDAO teamLoader, RegistrazioneDAO registrazioneLoader) {
+        return new AuthorizationIndex(teamLoader, registrazioneLoader,
+            Duration.ofSeconds(Integer.getInteger("cache.authorization.ttlSeconds", TTL_PREDEFINITO_SECONDI)));
+    }
+
+    /**
+     * @return un TeamDAO che risponde a isMembro, isCapoTeam, findMembri e contaMembri
+     *         dall'indice e lo aggiorna dopo ogni modifica di team e membri
+     */
+    public TeamDAO teamDAO(TeamDAO delegate) {
+        return new IndexedTeamDAO(delegate, this);
+    }
+
+    /**
+     * @return un RegistrazioneDAO che risponde a isRegistrato e isConfermato dall'indice
+     *         e lo aggiorna dopo ogni modifica delle registrazioni
+     */
+    public RegistrazioneDAO registrazioneDAO(RegistrazioneDAO delegate) {
+        return new IndexedRegistrazioneDAO(delegate, this);
+    }
+
+    public boolean isMembro(int teamId, int utenteId) {
+        lockLettura();
+        try {
+            return membri.get(chiave(teamId, utenteId)) != LongIntHashMap.ASSENTE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isCapoTeam(int teamId, int utenteId) {
+        lockLettura();
+        try {
+            return utenteId != 0 && capi.get(teamId) == utenteId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return gli ID dei team di cui l'utente è membro, in ordine crescente
+     */
+    public int[] getTeamDiUtente(int utenteId) {
+        lockLettura();
+        try {
+            return teamPerUtente.getOrDefault(utenteId, NESSUNO).clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return gli ID dei membri del team, in ordine crescente
+     */
+    public int[] getMembri(int teamId) {
+        lockLettura();
+        try {
+            return membriPerTeam.getOrDefault(teamId, NESSUNO).clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return il ruolo dell'utente nell'hackathon, null se non è registrato
+     */
+    public Registrazione.Ruolo getRuolo(int utenteId, int hackathonId) {
+        int codice = codiceRegistrazione(utenteId, hackathonId);
+        return codice == LongIntHashMap.ASSENTE ? null : Registrazione.Ruolo.values()[(codice >> 1) - 1];
+    }
+
+    public boolean isRegistrato(int utenteId, int hackathonId) {
+        return codiceRegistrazione(utenteId, hackathonId) != LongIntHashMap.ASSENTE;
+    }
+
+    public boolean isConfermato(int utenteId, int hackathonId) {
+        return (codiceRegistrazione(utenteId, hackathonId) & 1) != 0;
+    }
+
+    /**
+     * @return true se l'utente ha una registrazione confermata con il ruolo indicato
+     */
+    public boolean haRuoloConfermato(int utenteId, int hackathonId, Registrazione.Ruolo ruolo) {
+        return codiceRegistrazione(utenteId, hackathonId) == codice(ruolo, true);
+    }
+
+    /**
+     * @return gli ID degli utenti registrati all'hackathon con il ruolo indicato, confermati
+     *         o no, in ordine crescente
+     */
+    public int[] getUtentiConRuolo(int hackathonId, Registrazione.Ruolo ruolo) {
+        lockLettura();
+        try {
+            return utentiPerRuolo.getOrDefault(chiave(hackathonId, ruolo.ordinal()), NESSUNO).clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scarta l'indice, che verrà ricaricato alla lettura successiva; da chiamare dopo modifiche
+     * fatte fuori dai DAO dell'indice (SQL diretto, eliminazioni a cascata)
+     */
+    public void invalida() {
+        lock.writeLock().lock();
+        try {
+            caricato = false;
+            svuota();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void membroAggiunto(int teamId, int utenteId) {
+        aggiorna(() -> aggiungiMembro(teamId, utenteId));
+    }
+
+    void membroRimosso(int teamId, int utenteId) {
+        aggiorna(() -> rimuoviMembro(teamId, utenteId));
+    }
+
+    void capoImpostato(int teamId, int capoId) {
+        aggiorna(() -> capi.put(teamId, capoId));
+    }
+
+    void teamEliminato(int teamId) {
+        aggiorna(() -> {
+            for (int utenteId : membriPerTeam.getOrDefault(teamId, NESSUNO)) {
+                rimuoviMembro(teamId, utenteId);
+            }
+            capi.remove(teamId);
+        });
+    }
+
+    /**
+     * @param registrazione la registrazione attuale dell'utente all'hackathon, null se non esiste più
+     */
+    void registrazioneAggiornata(int utenteId, int hackathonId, Registrazione registrazione) {
+        aggiorna(() -> {
+            rimuoviRegistrazione(utenteId, hackathonId);
+            if (registrazione != null) {
+                aggiungiRegistrazione(registrazione);
+            }
+        });
+    }
+
+    private int codiceRegistrazione(int utenteId, int hackathonId) {
+        lockLettura();
+        try {
+            return registrazioni.get(chiave(hackathonId, utenteId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Prende il lock in lettura, caricando prima l'indice se serve
+     */
+    private void lockLettura() {
+        lock.readLock().lock();
+        if (valido()) {
+            return;
+        }
+        lock.readLock().unlock();
+        lock.writeLock().lock();
+        try {
+            if (!valido()) {
+                carica();
+            }
+            lock.readLock().lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean valido() {
+        return caricato && System.nanoTime() - caricatoIl < ttlNanos;
+    }
+
+    /**
+     * Applica un aggiornamento a un indice già caricato; un indice non caricato leggerà
+     * comunque lo stato attuale dal database
+     */
+    private void aggiorna(Runnable modifica) {
+        lock.writeLock().lock();
+        try {
+            if (caricato) {
+                modifica.run();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void carica() {
+        long inizio = System.nanoTime();
+        caricato = false;
+        svuota();
+        List<Team> team = teamLoader.findAll();
+        for (Team t : team) {
+            capi.put(t.getId(), t.getCapoTeamId());
+        }
+        for (Map.Entry<Integer, List<Integer>> membriTeam : teamLoader.findMembriPerTeam().entrySet()) {
+            for (Integer utenteId : membriTeam.getValue()) {
+                aggiungiMembro(membriTeam.getKey(), utenteId);
+            }
+        }
+        List<Registrazione> tutte = registrazioneLoader.findAll();
+        for (Registrazione registrazione : tutte) {
+            aggiungiRegistrazione(registrazione);
+        }
+        caricato = true;
+        caricatoIl = System.nanoTime();
+        LOGGER.fine(() -> String.format("Indice permessi caricato: %d team, %d membri, %d registrazioni in %d ms",
+            team.size(), membri.size(), tutte.size(), (caricatoIl - inizio) / 1_000_000));
+    }
+
+    private void svuota() {
+        membri = new LongIntHashMap(256);
+        capi = new LongIntHashMap(64);
+        registrazioni = new LongIntHashMap(256);
+        teamPerUtente = new HashMap<>();
+        membriPerTeam = new HashMap<>();
+        utentiPerRuolo = new HashMap<>();
+    }
+
+    private void aggiungiMembro(int teamId, int utenteId) {
+        membri.put(chiave(teamId, utenteId), 1);
+        teamPerUtente.put(utenteId, conAggiunto(teamPerUtente.get(utenteId), teamId));
+        membriPerTeam.put(teamId, conAggiunto(membriPerTeam.get(teamId), utenteId));
+    }
+
+    private void rimuoviMembro(int teamId, int utenteId) {
+        membri.remove(chiave(teamId, utenteId));
+        senza(teamPerUtente, utenteId, teamId);
+        senza(membriPerTeam, teamId, utenteId);
+    }
+
+    private void aggiungiRegistrazione(Registrazione registrazione) {
+        int utenteId = registrazione.getUtenteId();
+        int hackathonId = registrazione.getHackathonId();
+        registrazioni.put(chiave(hackathonId, utenteId), codice(registrazione.getRuolo(), registrazione.isConfermata()));
+        long chiaveRuolo = chiave(hackathonId, registrazione.getRuolo().ordinal());
+        utentiPerRuolo.put(chiaveRuolo, conAggiunto(utentiPerRuolo.get(chiaveRuolo), utenteId));
+    }
+
+    private void rimuoviRegistrazione(int utenteId, int hackathonId) {
+        long chiave = chiave(hackathonId, utenteId);
+        int codice = registrazioni.get(chiave);
+        if (codice != LongIntHashMap.ASSENTE) {
+            registrazioni.remove(chiave);
+            senza(utentiPerRuolo, chiave(hackathonId, (codice >> 1) - 1), utenteId);
+        }
+    }
+
+    /**
+     * Ruolo e conferma in un int mai uguale a {@link LongIntHashMap#ASSENTE}:
+     * (ordinale del ruolo + 1) nei bit alti, la conferma nel bit basso
+     */
+    private static int codice(Registrazione.Ruolo ruolo, boolean confermata) {
+        return (ruolo.ordinal() + 1) << 1 | (confermata ? 1 : 0);
+    }
+
+    private static long chiave(int primo, int secondo) {
+        return (long) primo << 32 | (secondo & 0xFFFFFFFFL);
+    }
+
+    private static int[] conAggiunto(int[] valori, int valore) {
+        if (valori == null) {
+            return new int[]{valore};
+        }
+        int posizione = Arrays.binarySearch(valori, valore);
+        if (posizione >= 0) {
+            return valori;
+        }
+        int inserimento = -posizione - 1;
+        int[] risultato = new int[valori.length + 1];
+        System.arraycopy(valori, 0, risultato, 0, inserimento);
+        risultato[inserimento] = valore;
+        System.arraycopy(valori, inserimento, risultato, inserimento + 1, valori.length - inserimento);
+        return risultato;
+    }
+
+    private static <K> void senza(Map<K, int[]> mappa, K chiave, int valore) {
+        int[] valori = mappa.get(chiave);
+        int posizione = valori == null ? -1 : Arrays.binarySearch(valori, valore);
+        if (posizione < 0) {
+            return;
+        }
+        if (valori.length == 1) {
+            mappa.remove(chiave);
+            return;
+        }
+        int[] risultato = new int[valori.length - 1];
+        System.arraycopy(valori, 0, risultato, 0, posizione);
+        System.arraycopy(valori, posizione + 1, risultato, posizione, valori.length - posizione - 1);
+        mappa.put(chiave, risultato);
+    }
+}
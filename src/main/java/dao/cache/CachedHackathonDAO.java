@@ -0,0 +1,180 @@
+package dao.cache;
+
+import dao.HackathonDAO;
+import model.Hackathon;
+import model.StatoPreparazioneHackathon;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * HackathonDAO con le letture per ID servite da {@link EntityCaches}.
+ * Ogni cambio di stato dell'hackathon invalida la sua voce; le eliminazioni invalidano anche i team.
+ */
+final class CachedHackathonDAO implements HackathonDAO {
+    private final HackathonDAO delegate;
+    private final EntityCaches caches;
+
+    CachedHackathonDAO(HackathonDAO delegate, EntityCaches caches) {
+        this.delegate = delegate;
+        this.caches = caches;
+    }
+
+    @Override
+    public int insert(Hackathon hackathon) {
+        return delegate.insert(hackathon);
+    }
+
+    @Override
+    public boolean update(Hackathon hackathon) {
+        try {
+            return delegate.update(hackathon);
+        } finally {
+            caches.hackathon.invalidate(hackathon.getId());
+        }
+    }
+
+    @Override
+    public boolean delete(int id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            caches.invalidaHackathon(id);
+        }
+    }
+
+    @Override
+    public Hackathon findById(int id) {
+        return caches.hackathon.get(id, delegate::findById);
+    }
+
+    @Override
+    public List<Hackathon> findByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return delegate.findByIds(ids);
+        }
+        return caches.hackathon.getAll(ids, delegate::findByIds);
+    }
+
+    @Override
+    public List<Hackathon> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Hackathon> findByOrganizzatore(int organizzatoreId) {
+        return delegate.findByOrganizzatore(organizzatoreId);
+    }
+
+    @Override
+    public List<Hackathon> findConRegistrazioniAperte() {
+        return delegate.findConRegistrazioniAperte();
+    }
+
+    @Override
+    public List<Hackathon> findInCorso() {
+        return delegate.findInCorso();
+    }
+
+    @Override
+    public List<Hackathon> findConclusi() {
+        return delegate.findConclusi();
+    }
+
+    @Override
+    public boolean apriRegistrazioni(int hackathonId) {
+        try {
+            return delegate.apriRegistrazioni(hackathonId);
+        } finally {
+            caches.hackathon.invalidate(hackathonId);
+        }
+    }
+
+    @Override
+    public boolean chiudiRegistrazioni(int hackathonId) {
+        try {
+            return delegate.chiudiRegistrazioni(hackathonId);
+        } finally {
+            caches.hackathon.invalidate(hackathonId);
+        }
+    }
+
+    @Override
+    public boolean avviaHackathon(int hackathonId, String descrizioneProblema) {
+        try {
+            return delegate.avviaHackathon(hackathonId, descrizioneProblema);
+        } finally {
+            caches.hackathon.invalidate(hackathonId);
+        }
+    }
+
+    @Override
+    public boolean concludeHackathon(int hackathonId) {
+        try {
+            return delegate.concludeHackathon(hackathonId);
+        } finally {
+            caches.hackathon.invalidate(hackathonId);
+        }
+    }
+
+    @Override
+    public boolean haRaggiuntoLimitePartecipanti(int hackathonId) {
+        return delegate.haRaggiuntoLimitePartecipanti(hackathonId);
+    }
+
+    @Override
+    public boolean haRaggiuntoLimiteTeam(int hackathonId) {
+        return delegate.haRaggiuntoLimiteTeam(hackathonId);
+    }
+
+    @Override
+    public int contaPartecipanti(int hackathonId) {
+        return delegate.contaPartecipanti(hackathonId);
+    }
+
+    @Override
+    public int contaTeam(int hackathonId) {
+        return delegate.contaTeam(hackathonId);
+    }
+
+    @Override
+    public boolean avviaEvento(int hackathonId) {
+        try {
+            return delegate.avviaEvento(hackathonId);
+        } finally {
+            caches.hackathon.invalidate(hackathonId);
+        }
+    }
+
+    @Override
+    public boolean concludeEvento(int hackathonId) {
+        try {
+            return delegate.concludeEvento(hackathonId);
+        } finally {
+            caches.hackathon.invalidate(hackathonId);
+        }
+    }
+
+    @Override
+    public boolean pubblicaClassifiche(int hackathonId) {
+        try {
+            return delegate.pubblicaClassifiche(hackathonId);
+        } finally {
+            caches.hackathon.invalidate(hackathonId);
+        }
+    }
+
+    @Override
+    public StatoPreparazioneHackathon findStatoPreparazione(int hackathonId) {
+        return delegate.findStatoPreparazione(hackathonId);
+    }
+
+    @Override
+    public void cleanupDatabaseState() {
+        try {
+            delegate.cleanupDatabaseState();
+        } finally {
+            caches.invalidaTutto();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package dao.cache;
+
+import dao.TeamDAO;
+import model.RichiestaJoin;
+import model.Team;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TeamDAO con le letture per ID servite da {@link EntityCaches}.
+ * Membri e richieste di join non fanno parte della riga del team e non vengono memorizzati.
+ */
+final class CachedTeamDAO implements TeamDAO {
+    private final TeamDAO delegate;
+    private final EntityCaches caches;
+
+    CachedTeamDAO(TeamDAO delegate, EntityCaches caches) {
+        this.delegate = delegate;
+        this.caches = caches;
+    }
+
+    @Override
+    public int insert(Team team) {
+        return delegate.insert(team);
+    }
+
+    @Override
+    public boolean update(Team team) {
+        try {
+            return delegate.update(team);
+        } finally {
+            caches.team.invalidate(team.getId());
+        }
+    }
+
+    @Override
+    public boolean delete(int id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            caches.team.invalidate(id);
+        }
+    }
+
+    @Override
+    public Team findById(int id) {
+        return caches.team.get(id, delegate::findById);
+    }
+
+    @Override
+    public List<Team> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Team> findByHackathon(int hackathonId) {
+        return delegate.findByHackathon(hackathonId);
+    }
+
+    @Override
+    public List<Team> findByMembro(int utenteId) {
+        return delegate.findByMembro(utenteId);
+    }
+
+    @Override
+    public List<Team> findByCapoTeam(int capoTeamId) {
+        return delegate.findByCapoTeam(capoTeamId);
+    }
+
+    @Override
+    public boolean aggiungiMembro(int teamId, int utenteId) {
+        return delegate.aggiungiMembro(teamId, utenteId);
+    }
+
+    @Override
+    public boolean rimuoviMembro(int teamId, int utenteId) {
+        return delegate.rimuoviMembro(teamId, utenteId);
+    }
+
+    @Override
+    public boolean isMembro(int teamId, int utenteId) {
+        return delegate.isMembro(teamId, utenteId);
+    }
+
+    @Override
+    public boolean isCapoTeam(int teamId, int utenteId) {
+        return delegate.isCapoTeam(teamId, utenteId);
+    }
+
+    @Override
+    public boolean cambiaCapoTeam(int teamId, int nuovoCapoTeamId) {
+        try {
+            return delegate.cambiaCapoTeam(teamId, nuovoCapoTeamId);
+        } finally {
+            caches.team.invalidate(teamId);
+        }
+    }
+
+    @Override
+    public boolean haSpazioDisponibile(int teamId) {
+        return delegate.haSpazioDisponibile(teamId);
+    }
+
+    @Override
+    public int contaMembri(int teamId) {
+        return delegate.contaMembri(teamId);
+    }
+
+    @Override
+    public List<Integer> findMembri(int teamId) {
+        return delegate.findMembri(teamId);
+    }
+
+    @Override
+    public Map<Integer, List<Integer>> findMembriPerTeam() {
+        return delegate.findMembriPerTeam();
+    }
+
+    @Override
+    public int insertRichiestaJoin(RichiestaJoin richiesta) {
+        return delegate.insertRichiestaJoin(richiesta);
+    }
+
+    @Override
+    public boolean updateRichiestaJoin(RichiestaJoin richiesta) {
+        return delegate.updateRichiestaJoin(richiesta);
+    }
+
+    @Override
+    public List<RichiestaJoin> findRichiesteJoin(int teamId) {
+        return delegate.findRichiesteJoin(teamId);
+    }
+
+    @Override
+    public List<RichiestaJoin> findRichiesteJoinInAttesa(int teamId) {
+        return delegate.findRichiesteJoinInAttesa(teamId);
+    }
+
+    @Override
+    public List<RichiestaJoin> findRichiesteJoinByUtente(int utenteId) {
+        return delegate.findRichiesteJoinByUtente(utenteId);
+    }
+
+    @Override
+    public boolean accettaRichiestaJoin(int richiestaId) {
+        return delegate.accettaRichiestaJoin(richiestaId);
+    }
+
+    @Override
+    public boolean rifiutaRichiestaJoin(int richiestaId) {
+        return delegate.rifiutaRichiestaJoin(richiestaId);
+    }
+
+    @Override
+    public int rendiDefinitiviTeamHackathon(int hackathonId) {
+        try {
+            return delegate.rendiDefinitiviTeamHackathon(hackathonId);
+        } finally {
+            caches.team.invalidateAll();
+        }
+    }
+
+    @Override
+    public boolean isTeamDefinitivo(int teamId) {
+        return delegate.isTeamDefinitivo(teamId);
+    }
+
+    @Override
+    public RichiestaJoin findRichiestaJoinById(int richiestaId) {
+        return delegate.findRichiestaJoinById(richiestaId);
+    }
+}
@@ -0,0 +1,137 @@
+package dao.cache;
+
+import dao.UtenteDAO;
+import model.Utente;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * UtenteDAO con le letture per ID servite da {@link EntityCaches}.
+ * Login e autenticazione vanno sempre al database.
+ */
+final class CachedUtenteDAO implements UtenteDAO {
+    private final UtenteDAO delegate;
+    private final EntityCaches caches;
+
+    CachedUtenteDAO(UtenteDAO delegate, EntityCaches caches) {
+        this.delegate = delegate;
+        this.caches = caches;
+    }
+
+    @Override
+    public int insert(Utente utente) {
+        return delegate.insert(utente);
+    }
+
+    @Override
+    public boolean update(Utente utente) {
+        try {
+            return delegate.update(utente);
+        } finally {
+            caches.utenti.invalidate(utente.getId());
+        }
+    }
+
+    @Override
+    public boolean delete(int id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            // L'eliminazione si propaga ai team di cui era capo
+            caches.utenti.invalidate(id);
+            caches.team.invalidateAll();
+        }
+    }
+
+    @Override
+    public Utente findById(int id) {
+        return caches.utenti.get(id, delegate::findById);
+    }
+
+    @Override
+    public List<Utente> findByIds(Collection<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return delegate.findByIds(ids);
+        }
+        return caches.utenti.getAll(ids, delegate::findByIds);
+    }
+
+    @Override
+    public List<Utente> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Utente findByLogin(String login) {
+        return delegate.findByLogin(login);
+    }
+
+    @Override
+    public Utente findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public Utente autentica(String login, String password) {
+        return delegate.autentica(login, password);
+    }
+
+    @Override
+    public List<Utente> findOrganizzatori() {
+        return delegate.findOrganizzatori();
+    }
+
+    @Override
+    public List<Utente> findGiudici() {
+        return delegate.findGiudici();
+    }
+
+    @Override
+    public List<Utente> findPartecipanti() {
+        return delegate.findPartecipanti();
+    }
+
+    @Override
+    public List<Utente> findByRuolo(String ruolo) {
+        return delegate.findByRuolo(ruolo);
+    }
+
+    @Override
+    public boolean isLoginUtilizzato(String login) {
+        return delegate.isLoginUtilizzato(login);
+    }
+
+    @Override
+    public boolean isEmailUtilizzata(String email) {
+        return delegate.isEmailUtilizzata(email);
+    }
+
+    @Override
+    public boolean cambiaPassword(int utenteId, String nuovaPassword) {
+        try {
+            return delegate.cambiaPassword(utenteId, nuovaPassword);
+        } finally {
+            caches.utenti.invalidate(utenteId);
+        }
+    }
+
+    @Override
+    public boolean aggiornaRuolo(int utenteId, String nuovoRuolo) {
+        try {
+            return delegate.aggiornaRuolo(utenteId, nuovoRuolo);
+        } finally {
+            caches.utenti.invalidate(utenteId);
+        }
+    }
+
+    @Override
+    public int contaGiudiciAttivi() {
+        return delegate.contaGiudiciAttivi();
+    }
+
+    @Override
+    public List<Utente> findDisponibiliPerInvito(int hackathonId, int teamId, String prefisso, int offset, int limite) {
+        return delegate.findDisponibiliPerInvito(hackathonId, teamId, prefisso, offset, limite);
+    }
+}
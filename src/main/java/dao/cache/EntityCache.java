@@ -0,0 +1,245 @@
+package dao.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Cache read-through di entità indicizzate per ID, con scadenza (TTL) e limite di dimensione.
+ * <p>
+ * Oltre il limite viene rimossa l'entità usata meno di recente (LRU). Le entità sono oggetti
+ * modificabili: la cache conserva e restituisce copie, così le modifiche di un chiamante non
+ * cambiano ciò che leggono gli altri. Le letture mancanti vanno al database fuori dal lock;
+ * un'invalidazione arrivata durante la lettura impedisce di salvare il risultato, che potrebbe
+ * essere già vecchio.
+ *
+ * @param <V> tipo dell'entità
+ */
+public final class EntityCache<V> {
+
+    private final String nome;
+    private final int dimensioneMassima;
+    private final long ttlNanos;
+    private final ToIntFunction<V> id;
+    private final UnaryOperator<V> copia;
+    private final LongSupplier orologio;
+
+    private final LinkedHashMap<Integer, Voce<V>> voci;
+    private long generazione;
+    private long hit;
+    private long miss;
+    private long rimozioni;
+
+    private static final class Voce<V> {
+        private final V valore;
+        private final long scadenza;
+
+        private Voce(V valore, long scadenza) {
+            this.valore = valore;
+            this.scadenza = scadenza;
+        }
+    }
+
+    /**
+     * @param nome nome della cache, usato nelle statistiche
+     * @param dimensioneMassima numero massimo di entità conservate
+     * @param ttl durata di validità di un'entità dal caricamento
+     * @param id funzione che restituisce l'ID di un'entità
+     * @param copia funzione che copia un'entità
+     */
+    public EntityCache(String nome, int dimensioneMassima, Duration ttl, ToIntFunction<V> id, UnaryOperator<V> copia) {
+        this(nome, dimensioneMassima, ttl, id, copia, System::nanoTime);
+    }
+
+    EntityCache(String nome, int dimensioneMassima, Duration ttl, ToIntFunction<V> id, UnaryOperator<V> copia,
+                LongSupplier orologio) {
+        if (dimensioneMassima < 1) {
+            throw new IllegalArgumentException("Dimensione massima non valida: " + dimensioneMassima);
+        }
+        this.nome = nome;
+        this.dimensioneMassima = dimensioneMassima;
+        this.ttlNanos = ttl.toNanos();
+        this.id = id;
+        this.copia = copia;
+        this.orologio = orologio;
+        this.voci = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Voce<V>> eldest) {
+                if (size() > EntityCache.this.dimensioneMassima) {
+                    rimozioni++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Restituisce l'entità dalla cache o la carica con il loader
+     *
+     * @param chiave l'ID dell'entità
+     * @param loader lettura dal database, può restituire null
+     * @return una copia dell'entità, null se non esiste (i null non vengono memorizzati)
+     */
+    public V get(int chiave, IntFunction<V> loader) {
+        long generazioneLettura;
+        synchronized (this) {
+            V valore = leggi(chiave);
+            if (valore != null) {
+                hit++;
+                return copia.apply(valore);
+            }
+            miss++;
+            generazioneLettura = generazione;
+        }
+        V caricato = loader.apply(chiave);
+        if (caricato == null) {
+            return null;
+        }
+        salva(List.of(caricato), generazioneLettura);
+        return copia.apply(caricato);
+    }
+
+    /**
+     * Restituisce le entità presenti in cache e carica le mancanti con una sola chiamata al loader
+     *
+     * @param chiavi gli ID delle entità
+     * @param loader lettura dal database delle entità mancanti
+     * @return copie delle entità trovate, in ordine non garantito
+     */
+    public List<V> getAll(Collection<Integer> chiavi, Function<List<Integer>, List<V>> loader) {
+        List<V> risultato = new ArrayList<>();
+        List<Integer> mancanti = new ArrayList<>();
+        long generazioneLettura;
+        synchronized (this) {
+            for (Integer chiave : new LinkedHashSet<>(chiavi)) {
+                V valore = leggi(chiave);
+                if (valore != null) {
+                    hit++;
+                    risultato.add(copia.apply(valore));
+                } else {
+                    miss++;
+                    mancanti.add(chiave);
+                }
+            }
+            generazioneLettura = generazione;
+        }
+        if (!mancanti.isEmpty()) {
+            List<V> caricati = loader.apply(mancanti);
+            salva(caricati, generazioneLettura);
+            for (V valore : caricati) {
+                risultato.add(copia.apply(valore));
+            }
+        }
+        return risultato;
+    }
+
+    /**
+     * Rimuove un'entità, da chiamare dopo ogni modifica o eliminazione
+     */
+    public synchronized void invalidate(int chiave) {
+        generazione++;
+        voci.remove(chiave);
+    }
+
+    /**
+     * Svuota la cache, per modifiche che riguardano più entità
+     */
+    public synchronized void invalidateAll() {
+        generazione++;
+        voci.clear();
+    }
+
+    /**
+     * @return contatori di uso della cache dalla creazione
+     */
+    public synchronized Statistiche getStatistiche() {
+        return new Statistiche(nome, hit, miss, rimozioni, voci.size());
+    }
+
+    private V leggi(int chiave) {
+        Voce<V> voce = voci.get(chiave);
+        if (voce == null) {
+            return null;
+        }
+        if (orologio.getAsLong() - voce.scadenza > 0) {
+            voci.remove(chiave);
+            return null;
+        }
+        return voce.valore;
+    }
+
+    private synchronized void salva(List<V> valori, long generazioneLettura) {
+        if (generazioneLettura != generazione) {
+            return;
+        }
+        long scadenza = orologio.getAsLong() + ttlNanos;
+        for (V valore : valori) {
+            voci.put(id.applyAsInt(valore), new Voce<>(copia.apply(valore), scadenza));
+        }
+        rimuoviScadute();
+    }
+
+    private void rimuoviScadute() {
+        long adesso = orologio.getAsLong();
+        Iterator<Voce<V>> it = voci.values().iterator();
+        // Pulizia parziale dalla testa (voci meno usate): le altre scadute vengono rimosse alla lettura
+        while (it.hasNext()) {
+            if (adesso - it.next().scadenza > 0) {
+                it.remove();
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Contatori di uso di una cache
+     */
+    public static final class Statistiche {
+        private final String nome;
+        private final long hit;
+        private final long miss;
+        private final long rimozioni;
+        private final int dimensione;
+
+        Statistiche(String nome, long hit, long miss, long rimozioni, int dimensione) {
+            this.nome = nome;
+            this.hit = hit;
+            this.miss = miss;
+            this.rimozioni = rimozioni;
+            this.dimensione = dimensione;
+        }
+
+        public String getNome() { return nome; }
+        public long getHit() { return hit; }
+        public long getMiss() { return miss; }
+        /** @return entità rimosse per il limite di dimensione */
+        public long getRimozioni() { return rimozioni; }
+        public int getDimensione() { return dimensione; }
+
+        /**
+         * @return percentuale di letture servite dalla cache, 0 se non ci sono letture
+         */
+        public double getHitRatio() {
+            long letture = hit + miss;
+            return letture == 0 ? 0.0 : 100.0 * hit / letture;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(java.util.Locale.ROOT, "%s: %d voci, hit %.1f%% (%d/%d), rimozioni %d",
+                nome, dimensione, getHitRatio(), hit, hit + miss, rimozioni);
+        }
+    }
+}
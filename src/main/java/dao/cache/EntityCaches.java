@@ -0,0 +1,84 @@
+package dao.cache;
+
+import dao.HackathonDAO;
+import dao.TeamDAO;
+import dao.UtenteDAO;
+import model.Hackathon;
+import model.Team;
+import model.Utente;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cache delle entità lette più spesso (utenti, hackathon, team) e dei DAO che le usano.
+ * <p>
+ * I DAO restituiti da {@link #utenteDAO}, {@link #hackathonDAO} e {@link #teamDAO} servono
+ * {@code findById} e {@code findByIds} dalla cache e la invalidano dopo ogni scrittura; tutte
+ * le altre operazioni passano direttamente al DAO sottostante. Le modifiche fatte fuori da
+ * questi DAO (altri client, SQL diretto) diventano visibili al più dopo il TTL, oppure subito
+ * chiamando i metodi di invalidazione.
+ * <p>
+ * Configurazione con le proprietà di sistema {@code cache.entity.size} (entità per tipo,
+ * predefinito 2000) e {@code cache.entity.ttlSeconds} (predefinito 60).
+ */
+public final class EntityCaches {
+
+    private static final int DIMENSIONE_PREDEFINITA = 2000;
+    private static final int TTL_PREDEFINITO_SECONDI = 60;
+
+    final EntityCache<Utente> utenti;
+    final EntityCache<Hackathon> hackathon;
+    final EntityCache<Team> team;
+
+    /**
+     * @param dimensioneMassima numero massimo di entità conservate per tipo
+     * @param ttl durata di validità di un'entità dal caricamento
+     */
+    public EntityCaches(int dimensioneMassima, Duration ttl) {
+        this.utenti = new EntityCache<>("utenti", dimensioneMassima, ttl, Utente::getId, Utente::new);
+        this.hackathon = new EntityCache<>("hackathon", dimensioneMassima, ttl, Hackathon::getId, Hackathon::new);
+        this.team = new EntityCache<>("team", dimensioneMassima, ttl, Team::getId, Team::new);
+    }
+
+    public static EntityCaches fromSystemProperties() {
+        return new EntityCaches(Integer.getInteger("cache.entity.size", DIMENSIONE_PREDEFINITA),
+            Duration.ofSeconds(Integer.getInteger("cache.entity.ttlSeconds", TTL_PREDEFINITO_SECONDI)));
+    }
+
+    public UtenteDAO utenteDAO(UtenteDAO delegate) {
+        return new CachedUtenteDAO(delegate, this);
+    }
+
+    public HackathonDAO hackathonDAO(HackathonDAO delegate) {
+        return new CachedHackathonDAO(delegate, this);
+    }
+
+    public TeamDAO teamDAO(TeamDAO delegate) {
+        return new CachedTeamDAO(delegate, this);
+    }
+
+    /**
+     * Invalida un hackathon e tutti i team, che possono essere stati modificati o eliminati con lui
+     */
+    public void invalidaHackathon(int hackathonId) {
+        hackathon.invalidate(hackathonId);
+        team.invalidateAll();
+    }
+
+    /**
+     * Svuota tutte le cache
+     */
+    public void invalidaTutto() {
+        utenti.invalidateAll();
+        hackathon.invalidateAll();
+        team.invalidateAll();
+    }
+
+    /**
+     * @return le statistiche di uso di ogni cache
+     */
+    public List<EntityCache.Statistiche> getStatistiche() {
+        return List.of(utenti.getStatistiche(), hackathon.getStatistiche(), team.getStatistiche());
+    }
+}
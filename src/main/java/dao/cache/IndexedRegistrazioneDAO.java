@@ -0,0 +1,149 @@
+package dao.cache;
+
+import dao.RegistrazioneDAO;
+import model.Registrazione;
+
+import java.util.List;
+
+/**
+ * RegistrazioneDAO con le verifiche di registrazione e conferma servite da
+ * {@link AuthorizationIndex}, che viene aggiornato dopo ogni modifica riuscita.
+ */
+final class IndexedRegistrazioneDAO implements RegistrazioneDAO {
+    private final RegistrazioneDAO delegate;
+    private final AuthorizationIndex index;
+
+    IndexedRegistrazioneDAO(RegistrazioneDAO delegate, AuthorizationIndex index) {
+        this.delegate = delegate;
+        this.index = index;
+    }
+
+    @Override
+    public int insert(Registrazione registrazione) {
+        int id = delegate.insert(registrazione);
+        if (id > 0) {
+            index.registrazioneAggiornata(registrazione.getUtenteId(), registrazione.getHackathonId(), registrazione);
+        }
+        return id;
+    }
+
+    @Override
+    public boolean update(Registrazione registrazione) {
+        Registrazione precedente = delegate.findById(registrazione.getId());
+        boolean aggiornata = delegate.update(registrazione);
+        if (aggiornata) {
+            if (precedente != null) {
+                index.registrazioneAggiornata(precedente.getUtenteId(), precedente.getHackathonId(), null);
+            }
+            index.registrazioneAggiornata(registrazione.getUtenteId(), registrazione.getHackathonId(), registrazione);
+        }
+        return aggiornata;
+    }
+
+    @Override
+    public boolean delete(int id) {
+        Registrazione registrazione = delegate.findById(id);
+        boolean eliminata = delegate.delete(id);
+        if (eliminata && registrazione != null) {
+            index.registrazioneAggiornata(registrazione.getUtenteId(), registrazione.getHackathonId(), null);
+        }
+        return eliminata;
+    }
+
+    @Override
+    public Registrazione findById(int id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Registrazione> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Registrazione> findByUtente(int utenteId) {
+        return delegate.findByUtente(utenteId);
+    }
+
+    @Override
+    public List<Registrazione> findByHackathon(int hackathonId) {
+        return delegate.findByHackathon(hackathonId);
+    }
+
+    @Override
+    public Registrazione findByUtenteAndHackathon(int utenteId, int hackathonId) {
+        return delegate.findByUtenteAndHackathon(utenteId, hackathonId);
+    }
+
+    @Override
+    public List<Registrazione> findConfermateByHackathon(int hackathonId) {
+        return delegate.findConfermateByHackathon(hackathonId);
+    }
+
+    @Override
+    public List<Registrazione> findNonConfermateByHackathon(int hackathonId) {
+        return delegate.findNonConfermateByHackathon(hackathonId);
+    }
+
+    @Override
+    public List<Registrazione> findByHackathonAndRuolo(int hackathonId, Registrazione.Ruolo ruolo) {
+        return delegate.findByHackathonAndRuolo(hackathonId, ruolo);
+    }
+
+    @Override
+    public List<Registrazione> findOrganizzatori(int hackathonId) {
+        return delegate.findOrganizzatori(hackathonId);
+    }
+
+    @Override
+    public List<Registrazione> findGiudici(int hackathonId) {
+        return delegate.findGiudici(hackathonId);
+    }
+
+    @Override
+    public List<Registrazione> findPartecipanti(int hackathonId) {
+        return delegate.findPartecipanti(hackathonId);
+    }
+
+    @Override
+    public boolean confermaRegistrazione(int registrazioneId) {
+        boolean confermata = delegate.confermaRegistrazione(registrazioneId);
+        if (confermata) {
+            Registrazione registrazione = delegate.findById(registrazioneId);
+            if (registrazione != null) {
+                index.registrazioneAggiornata(registrazione.getUtenteId(), registrazione.getHackathonId(), registrazione);
+            }
+        }
+        return confermata;
+    }
+
+    @Override
+    public boolean isRegistrato(int utenteId, int hackathonId) {
+        return index.isRegistrato(utenteId, hackathonId);
+    }
+
+    @Override
+    public boolean isConfermato(int utenteId, int hackathonId) {
+        return index.isConfermato(utenteId, hackathonId);
+    }
+
+    @Override
+    public int contaRegistrazioni(int hackathonId) {
+        return delegate.contaRegistrazioni(hackathonId);
+    }
+
+    @Override
+    public int contaRegistrazioniConfermate(int hackathonId) {
+        return delegate.contaRegistrazioniConfermate(hackathonId);
+    }
+
+    @Override
+    public int contaRegistrazioniPerRuolo(int hackathonId, Registrazione.Ruolo ruolo) {
+        return delegate.contaRegistrazioniPerRuolo(hackathonId, ruolo);
+    }
+
+    @Override
+    public List<Registrazione> findNonConfermate() {
+        return delegate.findNonConfermate();
+    }
+}
@@ -0,0 +1,195 @@
+package dao.cache;
+
+import dao.TeamDAO;
+import model.RichiestaJoin;
+import model.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TeamDAO con le verifiche di appartenenza e i membri serviti da {@link AuthorizationIndex},
+ * che viene aggiornato dopo ogni modifica riuscita di team, capi e membri.
+ */
+final class IndexedTeamDAO implements TeamDAO {
+    private final TeamDAO delegate;
+    private final AuthorizationIndex index;
+
+    IndexedTeamDAO(TeamDAO delegate, AuthorizationIndex index) {
+        this.delegate = delegate;
+        this.index = index;
+    }
+
+    @Override
+    public int insert(Team team) {
+        int id = delegate.insert(team);
+        if (id > 0) {
+            // Il capo viene inserito anche come membro
+            index.capoImpostato(id, team.getCapoTeamId());
+            index.membroAggiunto(id, team.getCapoTeamId());
+        }
+        return id;
+    }
+
+    @Override
+    public boolean update(Team team) {
+        boolean aggiornato = delegate.update(team);
+        if (aggiornato) {
+            index.capoImpostato(team.getId(), team.getCapoTeamId());
+        }
+        return aggiornato;
+    }
+
+    @Override
+    public boolean delete(int id) {
+        boolean eliminato = delegate.delete(id);
+        if (eliminato) {
+            index.teamEliminato(id);
+        }
+        return eliminato;
+    }
+
+    @Override
+    public Team findById(int id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Team> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Team> findByHackathon(int hackathonId) {
+        return delegate.findByHackathon(hackathonId);
+    }
+
+    @Override
+    public List<Team> findByMembro(int utenteId) {
+        return delegate.findByMembro(utenteId);
+    }
+
+    @Override
+    public List<Team> findByCapoTeam(int capoTeamId) {
+        return delegate.findByCapoTeam(capoTeamId);
+    }
+
+    @Override
+    public boolean aggiungiMembro(int teamId, int utenteId) {
+        boolean aggiunto = delegate.aggiungiMembro(teamId, utenteId);
+        if (aggiunto) {
+            index.membroAggiunto(teamId, utenteId);
+        }
+        return aggiunto;
+    }
+
+    @Override
+    public boolean rimuoviMembro(int teamId, int utenteId) {
+        boolean rimosso = delegate.rimuoviMembro(teamId, utenteId);
+        if (rimosso) {
+            index.membroRimosso(teamId, utenteId);
+        }
+        return rimosso;
+    }
+
+    @Override
+    public boolean isMembro(int teamId, int utenteId) {
+        return index.isMembro(teamId, utenteId);
+    }
+
+    @Override
+    public boolean isCapoTeam(int teamId, int utenteId) {
+        return index.isCapoTeam(teamId, utenteId);
+    }
+
+    @Override
+    public boolean cambiaCapoTeam(int teamId, int nuovoCapoTeamId) {
+        boolean cambiato = delegate.cambiaCapoTeam(teamId, nuovoCapoTeamId);
+        if (cambiato) {
+            index.capoImpostato(teamId, nuovoCapoTeamId);
+        }
+        return cambiato;
+    }
+
+    @Override
+    public boolean haSpazioDisponibile(int teamId) {
+        return delegate.haSpazioDisponibile(teamId);
+    }
+
+    @Override
+    public int contaMembri(int teamId) {
+        return index.getMembri(teamId).length;
+    }
+
+    @Override
+    public List<Integer> findMembri(int teamId) {
+        List<Integer> membri = new ArrayList<>();
+        for (int utenteId : index.getMembri(teamId)) {
+            membri.add(utenteId);
+        }
+        return membri;
+    }
+
+    @Override
+    public Map<Integer, List<Integer>> findMembriPerTeam() {
+        return delegate.findMembriPerTeam();
+    }
+
+    @Override
+    public int insertRichiestaJoin(RichiestaJoin richiesta) {
+        return delegate.insertRichiestaJoin(richiesta);
+    }
+
+    @Override
+    public boolean updateRichiestaJoin(RichiestaJoin richiesta) {
+        return delegate.updateRichiestaJoin(richiesta);
+    }
+
+    @Override
+    public List<RichiestaJoin> findRichiesteJoin(int teamId) {
+        return delegate.findRichiesteJoin(teamId);
+    }
+
+    @Override
+    public List<RichiestaJoin> findRichiesteJoinInAttesa(int teamId) {
+        return delegate.findRichiesteJoinInAttesa(teamId);
+    }
+
+    @Override
+    public List<RichiestaJoin> findRichiesteJoinByUtente(int utenteId) {
+        return delegate.findRichiesteJoinByUtente(utenteId);
+    }
+
+    @Override
+    public boolean accettaRichiestaJoin(int richiestaId) {
+        boolean accettata = delegate.accettaRichiestaJoin(richiestaId);
+        if (accettata) {
+            RichiestaJoin richiesta = delegate.findRichiestaJoinById(richiestaId);
+            if (richiesta != null) {
+                index.membroAggiunto(richiesta.getTeamId(), richiesta.getUtenteId());
+            }
+        }
+        return accettata;
+    }
+
+    @Override
+    public boolean rifiutaRichiestaJoin(int richiestaId) {
+        return delegate.rifiutaRichiestaJoin(richiestaId);
+    }
+
+    @Override
+    public int rendiDefinitiviTeamHackathon(int hackathonId) {
+        return delegate.rendiDefinitiviTeamHackathon(hackathonId);
+    }
+
+    @Override
+    public boolean isTeamDefinitivo(int teamId) {
+        return delegate.isTeamDefinitivo(teamId);
+    }
+
+    @Override
+    public RichiestaJoin findRichiestaJoinById(int richiestaId) {
+        return delegate.findRichiestaJoinById(richiestaId);
+    }
+}
@@ -0,0 +1,118 @@
+package dao.cache;
+
+import java.util.Arrays;
+
+/**
+ * Mappa da chiavi long a valori int con indirizzamento aperto, senza oggetti per le voci.
+ * <p>
+ * Le chiavi sono conservate in un array di long e i valori in un array di int: una ricerca
+ * è un hash e qualche confronto su memoria contigua. Non è thread-safe; chi la usa la protegge
+ * con un lock.
+ */
+final class LongIntHashMap {
+
+    /** Valore restituito da {@link #get} per le chiavi assenti */
+    static final int ASSENTE = 0;
+
+    private static final long LIBERA = Long.MIN_VALUE;
+
+    private long[] chiavi;
+    private int[] valori;
+    private int dimensione;
+
+    LongIntHashMap(int capacitaIniziale) {
+        int capacita = Integer.highestOneBit(Math.max(16, capacitaIniziale * 2 - 1)) << 1;
+        chiavi = new long[capacita];
+        valori = new int[capacita];
+        Arrays.fill(chiavi, LIBERA);
+    }
+
+    /**
+     * @return il valore associato alla chiave, {@value #ASSENTE} se la chiave non c'è
+     */
+    int get(long chiave) {
+        int maschera = chiavi.length - 1;
+        for (int i = indice(chiave, maschera); ; i = (i + 1) & maschera) {
+            long k = chiavi[i];
+            if (k == chiave) {
+                return valori[i];
+            }
+            if (k == LIBERA) {
+                return ASSENTE;
+            }
+        }
+    }
+
+    /**
+     * Associa un valore alla chiave; il valore {@value #ASSENTE} equivale a rimuoverla
+     */
+    void put(long chiave, int valore) {
+        if (chiave == LIBERA) {
+            throw new IllegalArgumentException("Chiave riservata: " + chiave);
+        }
+        if (valore == ASSENTE) {
+            remove(chiave);
+            return;
+        }
+        int maschera = chiavi.length - 1;
+        int i = indice(chiave, maschera);
+        while (chiavi[i] != LIBERA) {
+            if (chiavi[i] == chiave) {
+                valori[i] = valore;
+                return;
+            }
+            i = (i + 1) & maschera;
+        }
+        chiavi[i] = chiave;
+        valori[i] = valore;
+        if (++dimensione * 2 > chiavi.length) {
+            ridimensiona();
+        }
+    }
+
+    void remove(long chiave) {
+        int maschera = chiavi.length - 1;
+        int i = indice(chiave, maschera);
+        while (chiavi[i] != chiave) {
+            if (chiavi[i] == LIBERA) {
+                return;
+            }
+            i = (i + 1) & maschera;
+        }
+        dimensione--;
+        // Spostamento all'indietro delle voci successive, così le ricerche non trovano buchi
+        for (int j = (i + 1) & maschera; chiavi[j] != LIBERA; j = (j + 1) & maschera) {
+            int posizione = indice(chiavi[j], maschera);
+            if (((j - posizione) & maschera) >= ((j - i) & maschera)) {
+                chiavi[i] = chiavi[j];
+                valori[i] = valori[j];
+                i = j;
+            }
+        }
+        chiavi[i] = LIBERA;
+        valori[i] = ASSENTE;
+    }
+
+    int size() {
+        return dimensione;
+    }
+
+    private void ridimensiona() {
+        long[] vecchieChiavi = chiavi;
+        int[] vecchiValori = valori;
+        chiavi = new long[vecchieChiavi.length * 2];
+        valori = new int[vecchiValori.length * 2];
+        Arrays.fill(chiavi, LIBERA);
+        dimensione = 0;
+        for (int i = 0; i < vecchieChiavi.length; i++) {
+            if (vecchieChiavi[i] != LIBERA) {
+                put(vecchieChiavi[i], vecchiValori[i]);
+            }
+        }
+    }
+
+    private static int indice(long chiave, int maschera) {
+        long h = chiave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & maschera;
+    }
+}
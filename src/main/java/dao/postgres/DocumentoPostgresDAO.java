@@ -1,11 +1,13 @@
 package dao.postgres;
 
 import dao.DocumentoDAO;
+import dao.DocumentoFiltro;
 import database.ConnectionManager;
 import database.DataAccessException;
 import model.Documento;
 
 import java.sql.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
@@ -86,6 +88,14 @@ public class DocumentoPostgresDAO implements DocumentoDAO {
     private static final String FIND_BY_HASH = 
         SELECT_FIELDS + "FROM documents WHERE hash = ? ORDER BY data_caricamento DESC";
     
+    // Le pagine non leggono il contenuto binario: viene caricato solo per il documento aperto
+    private static final String PAGE_FIELDS =
+        "SELECT id, team_id, hackathon_id, nome, percorso, tipo, dimensione, hash, " +
+        "data_caricamento, utente_caricamento, descrizione, validato, validatore_id, data_validazione, " +
+        "NULL::bytea AS contenuto ";
+    
+    private static final LocalDateTime DATA_NULLA = LocalDateTime.of(1970, 1, 1, 0, 0);
+    
     /**
      * Costruttore che inizializza il DAO con il ConnectionManager
      * 
@@ -444,6 +454,163 @@ public class DocumentoPostgresDAO implements DocumentoDAO {
         return 0;
     }
     
+    @Override
+    public int countFiltered(DocumentoFiltro filtro) {
+        List<Object> parametri = new ArrayList<>();
+        String sql = "SELECT COUNT(*) FROM documents" + buildWhere(filtro, null, parametri);
+        
+        try (Connection connection = connectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            
+            bindParameters(statement, parametri);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to count filtered documents: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public List<Documento> findPage(DocumentoFiltro filtro, Documento dopo, int offset, int limite) {
+        List<Object> parametri = new ArrayList<>();
+        String chiave = sortExpression(filtro.getOrdinamento());
+        String direzione = filtro.isCrescente() ? "ASC" : "DESC";
+        
+        StringBuilder sql = new StringBuilder(PAGE_FIELDS).append("FROM documents")
+            .append(buildWhere(filtro, dopo, parametri))
+            .append(" ORDER BY ").append(chiave).append(' ').append(direzione)
+            .append(", id ").append(direzione)
+            .append(" LIMIT ?");
+        parametri.add(limite);
+        if (dopo == null && offset > 0) {
+            sql.append(" OFFSET ?");
+            parametri.add(offset);
+        }
+        
+        List<Documento> documenti = new ArrayList<>(limite);
+        try (Connection connection = connectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            
+            bindParameters(statement, parametri);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    documenti.add(mapResultSetToDocumento(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to read documents page: " + e.getMessage(), e);
+        }
+        return documenti;
+    }
+    
+    /**
+     * Costruisce la clausola WHERE del filtro e, se indicato, la condizione keyset
+     * sulla coppia (chiave di ordinamento, id) dell'ultimo documento letto
+     */
+    private String buildWhere(DocumentoFiltro filtro, Documento dopo, List<Object> parametri) {
+        List<String> condizioni = new ArrayList<>();
+        if (filtro.getTeamId() > 0) {
+            condizioni.add("team_id = ?");
+            parametri.add(filtro.getTeamId());
+        }
+        if (filtro.getHackathonId() > 0) {
+            condizioni.add("hackathon_id = ?");
+            parametri.add(filtro.getHackathonId());
+        }
+        String categoria = categoryCondition(filtro.getCategoria());
+        if (categoria != null) {
+            condizioni.add(categoria);
+        }
+        if (!filtro.getTesto().isEmpty()) {
+            String pattern = "%" + filtro.getTesto().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            condizioni.add("(nome ILIKE ? OR descrizione ILIKE ?)");
+            parametri.add(pattern);
+            parametri.add(pattern);
+        }
+        if (dopo != null) {
+            condizioni.add("(" + sortExpression(filtro.getOrdinamento()) + ", id) "
+                + (filtro.isCrescente() ? ">" : "<") + " (?, ?)");
+            parametri.add(sortKey(filtro.getOrdinamento(), dopo));
+            parametri.add(dopo.getId());
+        }
+        return condizioni.isEmpty() ? "" : " WHERE " + String.join(" AND ", condizioni);
+    }
+    
+    private static String categoryCondition(DocumentoFiltro.Categoria categoria) {
+        switch (categoria) {
+            case VALIDATI:
+                return "validato = TRUE";
+            case NON_VALIDATI:
+                return "COALESCE(validato, FALSE) = FALSE";
+            case PDF:
+                return "tipo LIKE '%pdf%'";
+            case IMMAGINI:
+                return "tipo LIKE 'image/%'";
+            case VIDEO:
+                return "tipo LIKE 'video/%'";
+            case ARCHIVI:
+                return "(tipo LIKE '%zip%' OR tipo LIKE '%rar%')";
+            case OFFICE:
+                return "(tipo LIKE '%word%' OR tipo LIKE '%excel%' OR tipo LIKE '%powerpoint%' " +
+                       "OR tipo LIKE '%officedocument%')";
+            default:
+                return null;
+        }
+    }
+    
+    /**
+     * Espressione SQL di ordinamento; le colonne nullable sono normalizzate con COALESCE
+     * perché il confronto keyset funzioni anche sui valori mancanti
+     */
+    private static String sortExpression(DocumentoFiltro.Ordinamento ordinamento) {
+        switch (ordinamento) {
+            case NOME:
+                return "nome";
+            case TIPO:
+                return "tipo";
+            case DIMENSIONE:
+                return "dimensione";
+            case TEAM:
+                return "COALESCE(team_id, 0)";
+            case VALIDATO:
+                return "COALESCE(validato, FALSE)";
+            case UTENTE:
+                return "COALESCE(utente_caricamento, 0)";
+            default:
+                return "COALESCE(data_caricamento, TIMESTAMP '1970-01-01 00:00:00')";
+        }
+    }
+    
+    /**
+     * Valore della chiave di ordinamento del documento, coerente con {@link #sortExpression}
+     */
+    private static Object sortKey(DocumentoFiltro.Ordinamento ordinamento, Documento documento) {
+        switch (ordinamento) {
+            case NOME:
+                return documento.getNome();
+            case TIPO:
+                return documento.getTipo();
+            case DIMENSIONE:
+                return documento.getDimensione();
+            case TEAM:
+                return documento.getTeamId();
+            case VALIDATO:
+                return documento.isValidato();
+            case UTENTE:
+                return documento.getUtenteCaricamento();
+            default:
+                LocalDateTime data = documento.getDataCaricamento() != null ? documento.getDataCaricamento() : DATA_NULLA;
+                return Timestamp.valueOf(data);
+        }
+    }
+    
+    private static void bindParameters(PreparedStatement statement, List<Object> parametri) throws SQLException {
+        for (int i = 0; i < parametri.size(); i++) {
+            statement.setObject(i + 1, parametri.get(i));
+        }
+    }
+    
     /**
      * Mappa un ResultSet a un oggetto Documento
      * 
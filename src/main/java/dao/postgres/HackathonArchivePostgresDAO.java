@@ -0,0 +1,612 @@
+package dao.postgres;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dao.HackathonArchiveDAO;
+import database.ConnectionManager;
+import database.DataAccessException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Implementazione PostgreSQL di HackathonArchiveDAO.
+ *
+ * Formato dell'archivio (JSON compatto scritto con il generatore streaming di Jackson):
+ * per ogni tabella sono riportati una sola volta nomi e tipi delle colonne, seguiti dalle
+ * righe come array di valori. L'esportazione legge con un cursore lato server (fetch size)
+ * in una transazione REPEATABLE READ; l'importazione riversa ogni tabella con COPY FROM STDIN
+ * mentre legge l'archivio, senza mai materializzare le righe in memoria.
+ * <p>
+ * Solo le colonne che riferiscono utenti vengono rimappate (gli utenti sono risolti per login);
+ * gli altri ID sono importati così come sono. Per questo le tabelle con colonna {@code id}
+ * passano da una tabella temporanea: se un ID esiste già nel database l'importazione fallisce
+ * con un errore che lo indica, invece di una violazione di chiave a metà COPY.
+ */
+public class HackathonArchivePostgresDAO implements HackathonArchiveDAO {
+    private static final Logger LOGGER = Logger.getLogger(HackathonArchivePostgresDAO.class.getName());
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+    private static final String FORMAT_NAME = "hackathon-archive";
+    private static final int FORMAT_VERSION = 1;
+    private static final int FETCH_SIZE = 500;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private static final String TYPE_INT = "int";
+    private static final String TYPE_BOOL = "bool";
+    private static final String TYPE_BIN = "bin";
+    private static final String TYPE_TEXT = "text";
+
+    /**
+     * Tabelle del grafo di un hackathon, in ordine di dipendenza (padri prima dei figli).
+     * Ogni filtro contiene un solo parametro: l'ID dell'hackathon.
+     */
+    private static final List<TableSpec> TABLES = List.of(
+        new TableSpec("hackathon", "id = ?", Set.of("organizzatore_id")),
+        new TableSpec("team", "hackathon_id = ?", Set.of("capo_team_id")),
+        new TableSpec("team_members", "team_id IN (SELECT id FROM team WHERE hackathon_id = ?)", Set.of("utente_id")),
+        new TableSpec("registrazione", "hackathon_id = ?", Set.of("utente_id")),
+        new TableSpec("progress", "hackathon_id = ?", Set.of("giudice_id")),
+        new TableSpec("documents", "hackathon_id = ?", Set.of("utente_caricamento", "validatore_id")),
+        new TableSpec("judge_comment", "document_id IN (SELECT id FROM documents WHERE hackathon_id = ?)", Set.of("judge_id")),
+        new TableSpec("valutazione", "hackathon_id = ?", Set.of("giudice_id")),
+        new TableSpec("richiesta_join", "team_id IN (SELECT id FROM team WHERE hackathon_id = ?)", Set.of("utente_id")),
+        new TableSpec("ranking_snapshot", "hackathon_id = ?", Set.of())
+    );
+
+    private final ConnectionManager cm;
+
+    /**
+     * Costruttore per dependency injection
+     *
+     * @param connectionManager il ConnectionManager da utilizzare
+     */
+    public HackathonArchivePostgresDAO(ConnectionManager connectionManager) {
+        this.cm = connectionManager;
+    }
+
+    @Override
+    public long exportHackathon(int hackathonId, OutputStream out) {
+        try (Connection conn = cm.getConnection()) {
+            // Snapshot coerente dell'intero grafo; autocommit disattivato per usare il cursore
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setAutoCommit(false);
+            conn.setReadOnly(true);
+            try (JsonGenerator gen = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+                List<TableSpec> tables = existingTables(conn);
+                gen.writeStartObject();
+                gen.writeStringField("formato", FORMAT_NAME);
+                gen.writeNumberField("versione", FORMAT_VERSION);
+                gen.writeNumberField("hackathonId", hackathonId);
+                gen.writeStringField("esportatoIl", LocalDateTime.now().toString());
+
+                writeUsers(conn, tables, hackathonId, gen);
+
+                long rows = 0;
+                gen.writeArrayFieldStart("tabelle");
+                for (TableSpec table : tables) {
+                    rows += writeTable(conn, table, hackathonId, gen);
+                }
+                gen.writeEndArray();
+                gen.writeEndObject();
+                conn.commit();
+
+                final long exported = rows;
+                LOGGER.log(Level.INFO, "Hackathon {0} esportato: {1} righe", new Object[]{hackathonId, exported});
+                return exported;
+            } catch (SQLException | IOException e) {
+                conn.rollback();
+                throw new DataAccessException("HackathonArchivePostgresDAO.exportHackathon id=" + hackathonId + " failed: " + e.getMessage(), e);
+            } finally {
+                conn.setReadOnly(false);
+                conn.setAutoCommit(true);
+                conn.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("HackathonArchivePostgresDAO.exportHackathon id=" + hackathonId + " failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Scrive id e login degli utenti referenziati, usati in importazione per rimappare gli ID
+     */
+    private void writeUsers(Connection conn, List<TableSpec> tables, int hackathonId, JsonGenerator gen)
+            throws SQLException, IOException {
+        List<String> selects = new ArrayList<>();
+        for (TableSpec table : tables) {
+            for (String column : table.userColumns) {
+                selects.add("SELECT " + column + " FROM " + table.name + " WHERE " + table.filter);
+            }
+        }
+        gen.writeArrayFieldStart("utenti");
+        String sql = "SELECT id, login FROM utente WHERE id IN (" + String.join(" UNION ", selects) + ") ORDER BY id";
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= selects.size(); i++) {
+                ps.setInt(i, hackathonId);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    gen.writeStartArray();
+                    gen.writeNumber(rs.getInt(1));
+                    gen.writeString(rs.getString(2));
+                    gen.writeEndArray();
+                }
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Scrive una tabella: intestazione con colonne e tipi, poi le righe lette dal cursore
+     *
+     * @return numero di righe scritte
+     */
+    private long writeTable(Connection conn, TableSpec table, int hackathonId, JsonGenerator gen)
+            throws SQLException, IOException {
+        String sql = "SELECT * FROM " + table.name + " WHERE " + table.filter;
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setInt(1, hackathonId);
+            try (ResultSet rs = ps.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columnCount = meta.getColumnCount();
+                String[] types = new String[columnCount];
+
+                gen.writeStartObject();
+                gen.writeStringField("nome", table.name);
+                gen.writeArrayFieldStart("colonne");
+                for (int i = 1; i <= columnCount; i++) {
+                    gen.writeString(meta.getColumnName(i));
+                }
+                gen.writeEndArray();
+                gen.writeArrayFieldStart("tipi");
+                for (int i = 1; i <= columnCount; i++) {
+                    types[i - 1] = archiveType(meta.getColumnType(i));
+                    gen.writeString(types[i - 1]);
+                }
+                gen.writeEndArray();
+
+                long rows = 0;
+                gen.writeArrayFieldStart("righe");
+                while (rs.next()) {
+                    gen.writeStartArray();
+                    for (int i = 1; i <= columnCount; i++) {
+                        writeValue(rs, i, types[i - 1], gen);
+                    }
+                    gen.writeEndArray();
+                    rows++;
+                }
+                gen.writeEndArray();
+                gen.writeEndObject();
+                return rows;
+            }
+        }
+    }
+
+    private static void writeValue(ResultSet rs, int index, String type, JsonGenerator gen)
+            throws SQLException, IOException {
+        switch (type) {
+            case TYPE_INT -> {
+                long value = rs.getLong(index);
+                if (rs.wasNull()) gen.writeNull(); else gen.writeNumber(value);
+            }
+            case TYPE_BOOL -> {
+                boolean value = rs.getBoolean(index);
+                if (rs.wasNull()) gen.writeNull(); else gen.writeBoolean(value);
+            }
+            case TYPE_BIN -> {
+                try (InputStream data = rs.getBinaryStream(index)) {
+                    if (data == null) gen.writeNull(); else gen.writeBinary(data, -1);
+                }
+            }
+            default -> {
+                String value = rs.getString(index);
+                if (value == null) gen.writeNull(); else gen.writeString(value);
+            }
+        }
+    }
+
+    private static String archiveType(int sqlType) {
+        switch (sqlType) {
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.BIGINT:
+                return TYPE_INT;
+            case Types.BOOLEAN:
+            case Types.BIT:
+                return TYPE_BOOL;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return TYPE_BIN;
+            default:
+                return TYPE_TEXT;
+        }
+    }
+
+    @Override
+    public int importHackathon(InputStream in) {
+        try (Connection conn = cm.getConnection()) {
+            conn.setAutoCommit(false);
+            try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+                int hackathonId = readArchive(conn, parser);
+                conn.commit();
+                LOGGER.log(Level.INFO, "Hackathon {0} importato", hackathonId);
+                return hackathonId;
+            } catch (SQLException | IOException | RuntimeException e) {
+                conn.rollback();
+                throw new DataAccessException("HackathonArchivePostgresDAO.importHackathon failed: " + e.getMessage(), e);
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("HackathonArchivePostgresDAO.importHackathon failed: " + e.getMessage(), e);
+        }
+    }
+
+    private int readArchive(Connection conn, JsonParser parser) throws SQLException, IOException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT);
+        Integer hackathonId = null;
+        Map<Integer, Integer> userIds = null;
+        List<String> importedTables = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "formato" -> {
+                    if (!FORMAT_NAME.equals(parser.getText())) {
+                        throw new IOException("Formato archivio non riconosciuto: " + parser.getText());
+                    }
+                }
+                case "versione" -> {
+                    if (parser.getIntValue() > FORMAT_VERSION) {
+                        throw new IOException("Versione archivio non supportata: " + parser.getIntValue());
+                    }
+                }
+                case "hackathonId" -> hackathonId = parser.getIntValue();
+                case "utenti" -> userIds = readUsers(conn, parser);
+                case "tabelle" -> {
+                    if (userIds == null) {
+                        throw new IOException("Sezione utenti mancante prima delle tabelle");
+                    }
+                    expect(parser.currentToken(), JsonToken.START_ARRAY);
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        importedTables.add(copyTable(conn, parser, userIds));
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        if (hackathonId == null || !importedTables.contains("hackathon")) {
+            throw new IOException("Archivio incompleto: hackathon mancante");
+        }
+        for (String table : importedTables) {
+            alignSequence(conn, table);
+        }
+        return hackathonId;
+    }
+
+    /**
+     * Risolve gli utenti dell'archivio per login e restituisce la mappa ID originale -> ID locale
+     */
+    private Map<Integer, Integer> readUsers(Connection conn, JsonParser parser) throws SQLException, IOException {
+        expect(parser.currentToken(), JsonToken.START_ARRAY);
+        Map<String, Integer> originalByLogin = new HashMap<>();
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            parser.nextToken();
+            int id = parser.getIntValue();
+            parser.nextToken();
+            originalByLogin.put(parser.getText(), id);
+            expect(parser.nextToken(), JsonToken.END_ARRAY);
+        }
+
+        Map<Integer, Integer> mapping = new HashMap<>();
+        if (originalByLogin.isEmpty()) {
+            return mapping;
+        }
+        try (PreparedStatement ps = conn.prepareStatement("SELECT id, login FROM utente WHERE login = ANY(?)")) {
+            ps.setArray(1, conn.createArrayOf("varchar", originalByLogin.keySet().toArray()));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    mapping.put(originalByLogin.remove(rs.getString(2)), rs.getInt(1));
+                }
+            }
+        }
+        if (!originalByLogin.isEmpty()) {
+            throw new IOException("Utenti non presenti nel database: " + originalByLogin.keySet());
+        }
+        return mapping;
+    }
+
+    /**
+     * Riversa una tabella dell'archivio con COPY, riga per riga
+     *
+     * @return nome della tabella importata
+     */
+    private String copyTable(Connection conn, JsonParser parser, Map<Integer, Integer> userIds)
+            throws SQLException, IOException {
+        TableSpec table = null;
+        List<String> columns = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "nome" -> table = tableSpec(parser.getText());
+                case "colonne" -> readStrings(parser, columns);
+                case "tipi" -> readStrings(parser, types);
+                case "righe" -> {
+                    if (table == null || columns.isEmpty() || columns.size() != types.size()) {
+                        throw new IOException("Intestazione tabella non valida");
+                    }
+                    copyRows(conn, parser, table, columns, types, userIds);
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        if (table == null) {
+            throw new IOException("Tabella senza nome nell'archivio");
+        }
+        return table.name;
+    }
+
+    private void copyRows(Connection conn, JsonParser parser, TableSpec table, List<String> columns,
+                          List<String> types, Map<Integer, Integer> userIds) throws SQLException, IOException {
+        for (String column : columns) {
+            if (!IDENTIFIER.matcher(column).matches()) {
+                throw new IOException("Nome colonna non valido: " + column);
+            }
+        }
+        boolean[] remap = new boolean[columns.size()];
+        for (int i = 0; i < remap.length; i++) {
+            remap[i] = table.userColumns.contains(columns.get(i));
+        }
+
+        String columnList = String.join(", ", columns);
+        boolean hasId = columns.contains("id");
+        String target = hasId ? "import_" + table.name : table.name;
+        if (hasId) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("CREATE TEMP TABLE " + target + " (LIKE " + table.name + ") ON COMMIT DROP");
+            }
+        }
+
+        String sql = "COPY " + target + " (" + columnList + ") FROM STDIN WITH (FORMAT csv)";
+        CopyIn copyIn = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(COPY_BUFFER_SIZE + 1024);
+            StringBuilder line = new StringBuilder(256);
+            long rows = 0;
+            while (parser.nextToken() == JsonToken.START_ARRAY) {
+                line.setLength(0);
+                for (int i = 0; i < columns.size(); i++) {
+                    parser.nextToken();
+                    if (i > 0) {
+                        line.append(',');
+                    }
+                    appendCsvValue(line, parser, types.get(i), remap[i], userIds);
+                }
+                expect(parser.nextToken(), JsonToken.END_ARRAY);
+                line.append('\n');
+                buffer.write(line.toString().getBytes(StandardCharsets.UTF_8));
+                if (buffer.size() >= COPY_BUFFER_SIZE) {
+                    copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                    buffer.reset();
+                }
+                rows++;
+            }
+            if (buffer.size() > 0) {
+                copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+            }
+            copyIn.endCopy();
+            final long copied = rows;
+            LOGGER.log(Level.FINE, "Importate {0} righe in {1}", new Object[]{copied, table.name});
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        if (hasId) {
+            checkIdConflicts(conn, table.name, target);
+            try (Statement st = conn.createStatement()) {
+                st.executeUpdate("INSERT INTO " + table.name + " (" + columnList + ") SELECT " + columnList + " FROM " + target);
+            }
+        }
+    }
+
+    /**
+     * Fallisce con un errore chiaro se qualche ID dell'archivio è già usato nel database
+     */
+    private static void checkIdConflicts(Connection conn, String table, String staging) throws SQLException, IOException {
+        List<Integer> conflicts = new ArrayList<>();
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT s.id FROM " + staging + " s JOIN " + table +
+                 " t ON t.id = s.id ORDER BY s.id LIMIT 10")) {
+            while (rs.next()) {
+                conflicts.add(rs.getInt(1));
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new IOException("ID già presenti nella tabella " + table + ": " + conflicts +
+                "; l'archivio può essere importato solo dove questi ID sono liberi");
+        }
+    }
+
+    private static void appendCsvValue(StringBuilder line, JsonParser parser, String type, boolean remapUser,
+                                       Map<Integer, Integer> userIds) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return; // in CSV il campo vuoto non quotato è NULL
+        }
+        switch (type) {
+            case TYPE_INT -> {
+                long value = parser.getLongValue();
+                if (remapUser) {
+                    Integer mapped = userIds.get((int) value);
+                    if (mapped == null) {
+                        throw new IOException("Utente non mappato: " + value);
+                    }
+                    value = mapped;
+                }
+                line.append(value);
+            }
+            case TYPE_BOOL -> line.append(parser.getBooleanValue() ? 't' : 'f');
+            case TYPE_BIN -> {
+                line.append("\\x");
+                for (byte b : parser.getBinaryValue()) {
+                    line.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+                }
+            }
+            default -> {
+                String text = parser.getText();
+                line.append('"');
+                for (int i = 0; i < text.length(); i++) {
+                    char c = text.charAt(i);
+                    if (c == '"') {
+                        line.append('"');
+                    }
+                    line.append(c);
+                }
+                line.append('"');
+            }
+        }
+    }
+
+    /**
+     * Porta la sequenza della colonna id oltre il massimo importato, senza mai farla arretrare
+     */
+    private static void alignSequence(Connection conn, String table) throws SQLException {
+        String sequence;
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT pg_get_serial_sequence(?, 'id') FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND table_name = ? AND column_name = 'id'")) {
+            ps.setString(1, table);
+            ps.setString(2, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                sequence = rs.next() ? rs.getString(1) : null;
+            }
+        }
+        if (sequence == null) {
+            return;
+        }
+        try (Statement st = conn.createStatement()) {
+            st.execute("SELECT setval('" + sequence + "', GREATEST((SELECT COALESCE(MAX(id), 1) FROM " + table +
+                       "), (SELECT last_value FROM " + sequence + ")))");
+        }
+    }
+
+    @Override
+    public boolean deleteHackathon(int hackathonId) {
+        try (Connection conn = cm.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                List<TableSpec> tables = existingTables(conn);
+                // Figli prima dei padri: ordine inverso rispetto all'esportazione
+                for (int i = tables.size() - 1; i > 0; i--) {
+                    TableSpec table = tables.get(i);
+                    try (PreparedStatement ps = conn.prepareStatement("DELETE FROM " + table.name + " WHERE " + table.filter)) {
+                        ps.setInt(1, hackathonId);
+                        ps.executeUpdate();
+                    }
+                }
+                try (PreparedStatement ps = conn.prepareStatement(
+                        "DELETE FROM audit_log WHERE risorsa = 'HACKATHON' AND risorsa_id = ?")) {
+                    ps.setInt(1, hackathonId);
+                    ps.executeUpdate();
+                }
+                int deleted;
+                try (PreparedStatement ps = conn.prepareStatement("DELETE FROM hackathon WHERE id = ?")) {
+                    ps.setInt(1, hackathonId);
+                    deleted = ps.executeUpdate();
+                }
+                conn.commit();
+                return deleted > 0;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw new DataAccessException("HackathonArchivePostgresDAO.deleteHackathon id=" + hackathonId + " failed: " + e.getMessage(), e);
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("HackathonArchivePostgresDAO.deleteHackathon id=" + hackathonId + " failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Tabelle del grafo effettivamente presenti (alcune sono create da migrazioni opzionali)
+     */
+    private static List<TableSpec> existingTables(Connection conn) throws SQLException {
+        List<TableSpec> existing = new ArrayList<>();
+        try (PreparedStatement ps = conn.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            for (TableSpec table : TABLES) {
+                ps.setString(1, table.name);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next() && rs.getBoolean(1)) {
+                        existing.add(table);
+                    }
+                }
+            }
+        }
+        return existing;
+    }
+
+    private static TableSpec tableSpec(String name) throws IOException {
+        for (TableSpec table : TABLES) {
+            if (table.name.equals(name)) {
+                return table;
+            }
+        }
+        throw new IOException("Tabella non ammessa nell'archivio: " + name);
+    }
+
+    private static void readStrings(JsonParser parser, List<String> target) throws IOException {
+        expect(parser.currentToken(), JsonToken.START_ARRAY);
+        while (parser.nextToken() == JsonToken.VALUE_STRING) {
+            target.add(parser.getText());
+        }
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Archivio non valido: atteso " + expected + ", trovato " + actual);
+        }
+    }
+
+    /**
+     * Tabella del grafo: nome, filtro per hackathon e colonne che referenziano utenti
+     */
+    private static final class TableSpec {
+        final String name;
+        final String filter;
+        final Set<String> userColumns;
+
+        TableSpec(String name, String filter, Set<String> userColumns) {
+            this.name = name;
+            this.filter = filter;
+            this.userColumns = userColumns;
+        }
+    }
+}
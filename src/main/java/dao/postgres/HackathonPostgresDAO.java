@@ -5,6 +5,7 @@ import database.DataAccessException;
 import model.Hackathon;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -202,6 +203,27 @@ public class HackathonPostgresDAO implements HackathonDAO {
         return null;
     }
     @Override
+    public List<Hackathon> findByIds(Collection<Integer> ids) {
+        List<Hackathon> hackathons = new ArrayList<>();
+        if (ids == null || ids.isEmpty()) {
+            return hackathons;
+        }
+        String sql = "SELECT * FROM hackathon WHERE id = ANY(?)";
+        try (Connection conn = cm.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setArray(1, conn.createArrayOf("integer", ids.stream().distinct().toArray()));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    hackathons.add(mapResultSetToHackathon(rs));
+                }
+            }
+        } catch (SQLException e) {
+            logLazy(Level.SEVERE, () -> LOG_PREFIX_ERROR_DURANTE + "ricerca di " + ids.size() + " hackathon: " + e.getMessage(), e);
+            throw new DataAccessException("HackathonPostgresDAO.findByIds ids=" + ids.size() + SQL_ERROR_SUFFIX + e.getMessage(), e);
+        }
+        return hackathons;
+    }
+    @Override
     public List<Hackathon> findAll() {
         String sql = "SELECT * FROM hackathon ORDER BY data_inizio DESC";
         List<Hackathon> hackathons = new ArrayList<>();
@@ -414,6 +436,48 @@ public class HackathonPostgresDAO implements HackathonDAO {
         }
         return 0;
     }
+    @Override
+    public model.StatoPreparazioneHackathon findStatoPreparazione(int hackathonId) {
+        String sql = "SELECT h.*, " +
+            "(SELECT COUNT(*) FROM registrazione r WHERE r.hackathon_id = h.id AND r.confermata AND r.ruolo = 'PARTECIPANTE') AS partecipanti_confermati, " +
+            "(SELECT COUNT(*) FROM registrazione r WHERE r.hackathon_id = h.id AND r.confermata AND r.ruolo = 'GIUDICE') AS giudici_confermati, " +
+            "(SELECT COUNT(*) FROM valutazione v WHERE v.hackathon_id = h.id) AS valutazioni, " +
+            "(SELECT COUNT(*) FROM documents d WHERE d.hackathon_id = h.id) AS documenti, " +
+            "t.team, t.team_completi, t.team_senza_progressi, t.team_pronti " +
+            "FROM hackathon h CROSS JOIN LATERAL (" +
+            "SELECT COUNT(*) AS team, " +
+            "COUNT(*) FILTER (WHERE m.membri >= ?) AS team_completi, " +
+            "COUNT(*) FILTER (WHERE NOT m.con_progressi) AS team_senza_progressi, " +
+            "COUNT(*) FILTER (WHERE m.membri >= ? AND m.con_progressi) AS team_pronti " +
+            "FROM (SELECT (SELECT COUNT(*) FROM team_members tm WHERE tm.team_id = tt.id) AS membri, " +
+            "EXISTS (SELECT 1 FROM progress p WHERE p.team_id = tt.id) AS con_progressi " +
+            "FROM team tt WHERE tt.hackathon_id = h.id) m) t " +
+            "WHERE h.id = ?";
+        try (Connection conn = cm.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, model.StatoPreparazioneHackathon.MEMBRI_MINIMI_TEAM);
+            pstmt.setInt(2, model.StatoPreparazioneHackathon.MEMBRI_MINIMI_TEAM);
+            pstmt.setInt(3, hackathonId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                model.StatoPreparazioneHackathon stato = new model.StatoPreparazioneHackathon(mapResultSetToHackathon(rs));
+                stato.setPartecipantiConfermati(rs.getInt("partecipanti_confermati"));
+                stato.setGiudiciConfermati(rs.getInt("giudici_confermati"));
+                stato.setValutazioni(rs.getInt("valutazioni"));
+                stato.setDocumenti(rs.getInt("documenti"));
+                stato.setTeam(rs.getInt("team"));
+                stato.setTeamCompleti(rs.getInt("team_completi"));
+                stato.setTeamSenzaProgressi(rs.getInt("team_senza_progressi"));
+                stato.setTeamPronti(rs.getInt("team_pronti"));
+                return stato;
+            }
+        } catch (SQLException e) {
+            logLazy(Level.SEVERE, () -> LOG_PREFIX_ERROR_DURANTE + "lettura stato preparazione hackathon ID " + hackathonId + ": " + e.getMessage(), e);
+            throw new DataAccessException("HackathonPostgresDAO.findStatoPreparazione id=" + hackathonId + SQL_ERROR_SUFFIX + e.getMessage(), e);
+        }
+    }
     /**
      * Mappa un ResultSet in un oggetto Hackathon
      *
@@ -498,109 +562,6 @@ public class HackathonPostgresDAO implements HackathonDAO {
         }
     }
 
-    /**
-     * Elimina tutti gli hackathon conclusi. Grazie a ON DELETE CASCADE su FK delle tabelle
-     * figlie, verranno rimossi anche team/registrazioni/progress/valutazioni collegati.
-     *
-     * @return numero di hackathon eliminati
-     */
-    @Override
-    public int deleteConclusi() {
-        String countSql = "SELECT COUNT(*) FROM hackathon WHERE evento_concluso = TRUE";
-        String deleteSql = "DELETE FROM hackathon WHERE evento_concluso = TRUE";
-
-        try (Connection conn = cm.getConnection()) {
-            conn.setAutoCommit(false); // Inizia transazione
-
-            try {
-                // Prima conta quanti sono
-                int count;
-                try (PreparedStatement pstmt = conn.prepareStatement(countSql);
-                     ResultSet rs = pstmt.executeQuery()) {
-                    count = rs.next() ? rs.getInt(1) : 0;
-                }
-
-                logLazy(Level.INFO, () -> "Trovati " + count + " hackathon conclusi da eliminare");
-
-                if (count == 0) {
-                    conn.rollback();
-                    LOGGER.log(Level.INFO, "Nessun hackathon concluso trovato");
-                    return 0;
-                }
-
-                // Elimina in ordine per evitare vincoli di foreign key
-                int totalDeleted = 0;
-
-                // 1. Elimina record correlati dalle tabelle figlie
-                String deleteValutazioni = "DELETE FROM valutazione WHERE hackathon_id IN (SELECT id FROM hackathon WHERE evento_concluso = TRUE)";
-                try (PreparedStatement pstmt = conn.prepareStatement(deleteValutazioni)) {
-                    int deleted = pstmt.executeUpdate();
-                    logLazy(Level.INFO, () -> "Eliminati " + deleted + " record dalla tabella valutazione");
-                }
-
-                    // 2. Elimina progress (deve essere fatto PRIMA dei team!)
-                    // Elimina progress che appartengono a team di hackathon conclusi
-                    String deleteProgress = "DELETE FROM progress WHERE team_id IN (SELECT id FROM team WHERE hackathon_id IN (SELECT id FROM hackathon WHERE evento_concluso = TRUE))";
-                    try (PreparedStatement pstmt = conn.prepareStatement(deleteProgress)) {
-                        int deleted = pstmt.executeUpdate();
-                        logLazy(Level.INFO, () -> "Eliminati " + deleted + " record dalla tabella progress");
-                    }
-
-                    // 3. Elimina registrazioni
-                    String deleteRegistrazioni = "DELETE FROM registrazione WHERE hackathon_id IN (SELECT id FROM hackathon WHERE evento_concluso = TRUE)";
-                    try (PreparedStatement pstmt = conn.prepareStatement(deleteRegistrazioni)) {
-                        int deleted = pstmt.executeUpdate();
-                        logLazy(Level.INFO, () -> "Eliminati " + deleted + " record dalla tabella registrazione");
-                    }
-
-                    // 4. Elimina richieste join prima dei team
-                    String deleteRichiesteJoin = "DELETE FROM richiesta_join WHERE team_id IN (SELECT id FROM team WHERE hackathon_id IN (SELECT id FROM hackathon WHERE evento_concluso = TRUE))";
-                    try (PreparedStatement pstmt = conn.prepareStatement(deleteRichiesteJoin)) {
-                        int deleted = pstmt.executeUpdate();
-                        logLazy(Level.INFO, () -> "Eliminati " + deleted + " record dalla tabella richiesta_join");
-                    }
-
-                    // 5. Elimina documents PRIMA dei team (vincolo documents_team_id_fkey)
-                    String deleteDocuments = "DELETE FROM documents WHERE team_id IN (SELECT id FROM team WHERE hackathon_id IN (SELECT id FROM hackathon WHERE evento_concluso = TRUE))";
-                    try (PreparedStatement pstmt = conn.prepareStatement(deleteDocuments)) {
-                        int deleted = pstmt.executeUpdate();
-                        logLazy(Level.INFO, () -> "Eliminati " + deleted + " record dalla tabella documents");
-                    }
-
-                    // 6. Elimina team
-                    String deleteTeam = "DELETE FROM team WHERE hackathon_id IN (SELECT id FROM hackathon WHERE evento_concluso = TRUE)";
-                    try (PreparedStatement pstmt = conn.prepareStatement(deleteTeam)) {
-                        int deleted = pstmt.executeUpdate();
-                        logLazy(Level.INFO, () -> "Eliminati " + deleted + " record dalla tabella team");
-                    }
-
-                // 7. Elimina audit log correlati
-                String deleteAuditLog = "DELETE FROM audit_log WHERE risorsa = 'HACKATHON' AND risorsa_id IN (SELECT id FROM hackathon WHERE evento_concluso = TRUE)";
-                try (PreparedStatement pstmt = conn.prepareStatement(deleteAuditLog)) {
-                    int deleted = pstmt.executeUpdate();
-                    logLazy(Level.INFO, () -> "Eliminati " + deleted + " record dalla tabella audit_log");
-                }
-
-                // 8. Finalmente elimina gli hackathon
-                try (PreparedStatement pstmt = conn.prepareStatement(deleteSql)) {
-                    totalDeleted = pstmt.executeUpdate();
-                    final int finalTotalDeleted = totalDeleted;
-                    logLazy(Level.INFO, () -> "Eliminati " + finalTotalDeleted + " hackathon conclusi");
-                }
-
-                conn.commit(); // Commit della transazione
-                return totalDeleted;
-
-            } catch (SQLException e) {
-                conn.rollback(); // Rollback in caso di errore
-                logLazy(Level.SEVERE, () -> LOG_PREFIX_ERROR_DURANTE + "deleteConclusi operation", e);
-                throw new DataAccessException("HackathonPostgresDAO.deleteConclusi failed" + SQL_ERROR_SUFFIX + e.getMessage(), e);
-            }
-        } catch (SQLException e) {
-            logLazy(Level.SEVERE, () -> LOG_PREFIX_ERROR_DURANTE + "deleteConclusi operation", e);
-            throw new DataAccessException("HackathonPostgresDAO.deleteConclusi failed" + SQL_ERROR_SUFFIX + e.getMessage(), e);
-        }
-    }
     /**
      * Pulisce lo stato del database e resetta eventuali transazioni interrotte
      * Questo metodo può essere utile per ripristinare lo stato del database
@@ -0,0 +1,206 @@
+package dao.postgres;
+
+import dao.ReportDAO;
+import database.ConnectionManager;
+import database.DataAccessException;
+import model.ReportData;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Implementazione PostgreSQL di ReportDAO.
+ *
+ * Ogni sezione è una sola query con le colonne esplicite (mai {@code documents.contenuto}),
+ * letta con un cursore lato server (fetch size) in una transazione REPEATABLE READ di sola
+ * lettura. I progressi di tutti i team vengono letti con una query unica invece che team per team.
+ */
+public class ReportPostgresDAO implements ReportDAO {
+    private static final Logger LOGGER = Logger.getLogger(ReportPostgresDAO.class.getName());
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String ERROR_PREFIX = "ReportPostgresDAO.";
+    private static final String ERROR_HACKATHON_ID = " hackathonId=";
+
+    /**
+     * Query delle sezioni; ognuna ha come unico parametro l'ID dell'hackathon
+     */
+    private static final Map<Sezione, String> QUERY = new EnumMap<>(Sezione.class);
+
+    /**
+     * Tabella principale di ogni sezione, usata per il conteggio delle righe
+     */
+    private static final Map<Sezione, String> TABELLA = new EnumMap<>(Sezione.class);
+
+    static {
+        QUERY.put(Sezione.TEAM,
+            "SELECT t.id, t.nome, t.capo_team_id, t.dimensione_massima, COUNT(tm.utente_id) AS membri " +
+            "FROM team t LEFT JOIN team_members tm ON tm.team_id = t.id " +
+            "WHERE t.hackathon_id = ? GROUP BY t.id ORDER BY t.id");
+        QUERY.put(Sezione.REGISTRAZIONI,
+            "SELECT r.id, r.utente_id, u.login, r.ruolo, r.confermata, r.data_registrazione " +
+            "FROM registrazione r JOIN utente u ON u.id = r.utente_id " +
+            "WHERE r.hackathon_id = ? ORDER BY r.id");
+        QUERY.put(Sezione.VALUTAZIONI,
+            "SELECT v.id, v.team_id, v.giudice_id, v.voto, v.commento, v.data_valutazione " +
+            "FROM valutazione v WHERE v.hackathon_id = ? ORDER BY v.team_id, v.id");
+        QUERY.put(Sezione.DOCUMENTI,
+            "SELECT d.id, d.team_id, d.nome, d.tipo, d.dimensione, d.validato, d.data_caricamento " +
+            "FROM documents d WHERE d.hackathon_id = ? ORDER BY d.team_id, d.id");
+        QUERY.put(Sezione.PROGRESSI,
+            "SELECT p.id, p.team_id, p.titolo, p.data_caricamento, p.giudice_id, p.commento_giudice " +
+            "FROM progress p WHERE p.hackathon_id = ? ORDER BY p.team_id, p.id");
+
+        TABELLA.put(Sezione.TEAM, "team");
+        TABELLA.put(Sezione.REGISTRAZIONI, "registrazione");
+        TABELLA.put(Sezione.VALUTAZIONI, "valutazione");
+        TABELLA.put(Sezione.DOCUMENTI, "documents");
+        TABELLA.put(Sezione.PROGRESSI, "progress");
+    }
+
+    private final ConnectionManager cm;
+
+    /**
+     * Costruttore per dependency injection
+     *
+     * @param connectionManager il ConnectionManager da utilizzare
+     */
+    public ReportPostgresDAO(ConnectionManager connectionManager) {
+        this.cm = connectionManager;
+    }
+
+    @Override
+    public ReportData riepilogo(int hackathonId) {
+        String sql = "SELECT " +
+            "(SELECT COUNT(*) FROM registrazione WHERE hackathon_id = ? AND ruolo = 'PARTECIPANTE' AND confermata), " +
+            "(SELECT COUNT(*) FROM registrazione WHERE hackathon_id = ? AND ruolo = 'GIUDICE' AND confermata), " +
+            "(SELECT COUNT(*) FROM team WHERE hackathon_id = ?), " +
+            "v.n, v.media, d.n, d.dimensione " +
+            "FROM (SELECT COUNT(*) AS n, COALESCE(AVG(voto), 0) AS media FROM valutazione WHERE hackathon_id = ?) v, " +
+            "(SELECT COUNT(*) AS n, COALESCE(SUM(dimensione), 0) AS dimensione FROM documents WHERE hackathon_id = ?) d";
+        try (Connection conn = cm.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (int i = 1; i <= 5; i++) {
+                ps.setInt(i, hackathonId);
+            }
+            ReportData report = new ReportData();
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    report.setNumeroPartecipanti(rs.getInt(1));
+                    report.setNumeroGiudici(rs.getInt(2));
+                    report.setNumeroTeam(rs.getInt(3));
+                    report.setNumeroValutazioni(rs.getInt(4));
+                    report.setMediaVoti(rs.getDouble(5));
+                    report.setNumeroDocumenti(rs.getInt(6));
+                    report.setDimensioneTotaleDocumenti(rs.getLong(7));
+                }
+            }
+            return report;
+        } catch (SQLException e) {
+            throw new DataAccessException(ERROR_PREFIX + "riepilogo" + ERROR_HACKATHON_ID + hackathonId + " failed", e);
+        }
+    }
+
+    @Override
+    public Map<Sezione, Long> contaRighe(int hackathonId) {
+        // Una colonna per sezione, nello stesso ordine in cui vengono poi lette
+        List<Sezione> sezioni = new ArrayList<>(TABELLA.keySet());
+        StringJoiner colonne = new StringJoiner(", ", "SELECT ", "");
+        for (Sezione sezione : sezioni) {
+            colonne.add("(SELECT COUNT(*) FROM " + TABELLA.get(sezione) + " WHERE hackathon_id = ?)");
+        }
+        try (Connection conn = cm.getConnection();
+             PreparedStatement ps = conn.prepareStatement(colonne.toString())) {
+            for (int i = 1; i <= sezioni.size(); i++) {
+                ps.setInt(i, hackathonId);
+            }
+            Map<Sezione, Long> conteggi = new EnumMap<>(Sezione.class);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    for (int i = 0; i < sezioni.size(); i++) {
+                        conteggi.put(sezioni.get(i), rs.getLong(i + 1));
+                    }
+                }
+            }
+            return conteggi;
+        } catch (SQLException e) {
+            throw new DataAccessException(ERROR_PREFIX + "contaRighe" + ERROR_HACKATHON_ID + hackathonId + " failed", e);
+        }
+    }
+
+    @Override
+    public long streamReport(int hackathonId, RowHandler handler) {
+        try (Connection conn = cm.getConnection()) {
+            // Snapshot coerente tra le sezioni; autocommit disattivato per usare il cursore
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setAutoCommit(false);
+            conn.setReadOnly(true);
+            try {
+                long righe = 0;
+                for (Map.Entry<Sezione, String> sezione : QUERY.entrySet()) {
+                    righe += streamSezione(conn, sezione.getKey(), sezione.getValue(), hackathonId, handler);
+                }
+                conn.commit();
+                LOGGER.log(Level.FINE, "Report hackathon {0}: {1} righe lette", new Object[]{hackathonId, righe});
+                return righe;
+            } catch (SQLException | IOException e) {
+                conn.rollback();
+                throw new DataAccessException(ERROR_PREFIX + "streamReport" + ERROR_HACKATHON_ID + hackathonId +
+                    " failed: " + e.getMessage(), e);
+            } finally {
+                conn.setReadOnly(false);
+                conn.setAutoCommit(true);
+                conn.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException(ERROR_PREFIX + "streamReport" + ERROR_HACKATHON_ID + hackathonId +
+                " failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Legge una sezione dal cursore e ne consegna le righe al destinatario
+     *
+     * @return numero di righe lette
+     */
+    private static long streamSezione(Connection conn, Sezione sezione, String sql, int hackathonId,
+                                      RowHandler handler) throws SQLException, IOException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setInt(1, hackathonId);
+            try (ResultSet rs = ps.executeQuery()) {
+                int colonne = rs.getMetaData().getColumnCount();
+                String[] nomi = new String[colonne];
+                for (int i = 1; i <= colonne; i++) {
+                    nomi[i - 1] = rs.getMetaData().getColumnLabel(i);
+                }
+                handler.inizioSezione(sezione, nomi);
+
+                Object[] valori = new Object[colonne];
+                long righe = 0;
+                while (rs.next()) {
+                    for (int i = 1; i <= colonne; i++) {
+                        Object valore = rs.getObject(i);
+                        valori[i - 1] = valore instanceof Timestamp ? ((Timestamp) valore).toLocalDateTime() : valore;
+                    }
+                    handler.riga(valori);
+                    righe++;
+                }
+                handler.fineSezione(sezione, righe);
+                return righe;
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dao.postgres;
+import dao.StatisticsSnapshotDAO;
+import database.ConnectionManager;
+import database.DataAccessException;
+import model.StatisticsSnapshot;
+import java.sql.*;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+/**
+ * Implementazione PostgreSQL dell'interfaccia StatisticsSnapshotDAO.
+ * Salva e legge gli snapshot delle statistiche, uno per chiave.
+ */
+public class StatisticsSnapshotPostgresDAO implements StatisticsSnapshotDAO {
+    private static final Logger LOGGER = Logger.getLogger(StatisticsSnapshotPostgresDAO.class.getName());
+    // Costanti riutilizzate per evitare duplicazione di stringhe
+    private static final String SQL_ERROR_SUFFIX = ". SQL Error: ";
+    private static final String LOG_PREFIX_ERROR_DURANTE = "Errore durante ";
+    private static final String UPSERT_SQL =
+        "INSERT INTO statistics_snapshot (chiave, json_payload, calcolato_il, durata_ms) " +
+        "VALUES (?, ?::jsonb, ?, ?) " +
+        "ON CONFLICT (chiave) DO UPDATE SET json_payload = EXCLUDED.json_payload, " +
+        "calcolato_il = EXCLUDED.calcolato_il, durata_ms = EXCLUDED.durata_ms";
+    private static final String FIND_SQL =
+        "SELECT chiave, json_payload, calcolato_il, durata_ms FROM statistics_snapshot WHERE chiave = ?";
+    private final ConnectionManager cm;
+
+    /**
+     * Costruttore per dependency injection
+     *
+     * @param connectionManager il ConnectionManager da utilizzare
+     */
+    public StatisticsSnapshotPostgresDAO(ConnectionManager connectionManager) {
+        this.cm = connectionManager;
+    }
+
+    /**
+     * Helper method for lazy logging with lambda expressions and exception
+     */
+    private void logLazy(Level level, Supplier<String> messageSupplier, Throwable throwable) {
+        if (LOGGER.isLoggable(level)) {
+            LOGGER.log(level, messageSupplier.get(), throwable);
+        }
+    }
+    @Override
+    public void upsert(StatisticsSnapshot snapshot) {
+        try (Connection conn = cm.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(UPSERT_SQL)) {
+            pstmt.setString(1, snapshot.getChiave());
+            pstmt.setString(2, snapshot.getJsonPayload());
+            pstmt.setTimestamp(3, Timestamp.valueOf(snapshot.getCalcolatoIl()));
+            pstmt.setInt(4, (int) Math.min(Integer.MAX_VALUE, snapshot.getDurataMs()));
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            logLazy(Level.SEVERE, () -> LOG_PREFIX_ERROR_DURANTE + "salvataggio snapshot '" + snapshot.getChiave() + "': " + e.getMessage(), e);
+            throw new DataAccessException("StatisticsSnapshotPostgresDAO.upsert chiave=" + snapshot.getChiave() + SQL_ERROR_SUFFIX + e.getMessage(), e);
+        }
+    }
+    @Override
+    public StatisticsSnapshot findByChiave(String chiave) {
+        try (Connection conn = cm.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_SQL)) {
+            pstmt.setString(1, chiave);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return mapResultSetToSnapshot(rs);
+                }
+                return null;
+            }
+        } catch (SQLException e) {
+            logLazy(Level.SEVERE, () -> LOG_PREFIX_ERROR_DURANTE + "ricerca snapshot '" + chiave + "': " + e.getMessage(), e);
+            throw new DataAccessException("StatisticsSnapshotPostgresDAO.findByChiave chiave=" + chiave + SQL_ERROR_SUFFIX + e.getMessage(), e);
+        }
+    }
+    /**
+     * Mappa una riga del ResultSet in un oggetto StatisticsSnapshot
+     */
+    private StatisticsSnapshot mapResultSetToSnapshot(ResultSet rs) throws SQLException {
+        StatisticsSnapshot snapshot = new StatisticsSnapshot();
+        snapshot.setChiave(rs.getString("chiave"));
+        snapshot.setJsonPayload(rs.getString("json_payload"));
+        Timestamp calcolatoIl = rs.getTimestamp("calcolato_il");
+        if (calcolatoIl != null) {
+            snapshot.setCalcolatoIl(calcolatoIl.toLocalDateTime());
+        }
+        snapshot.setDurataMs(rs.getInt("durata_ms"));
+        return snapshot;
+    }
+}
@@ -6,7 +6,9 @@ import model.Team;
 import model.RichiestaJoin;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 /**
@@ -343,6 +345,7 @@ public class TeamPostgresDAO implements TeamDAO {
             throw new DataAccessException("TeamPostgresDAO.isCapoTeam " + ERROR_TEAM_ID + teamId + " " + ERROR_UTENTE_ID + utenteId, e);
         }
     }
+    @Override
     public boolean cambiaCapoTeam(int teamId, int nuovoCapoTeamId) {
         String sql = "UPDATE team SET capo_team_id = ? WHERE id = ?";
         return executeWithTransaction(conn -> {
@@ -477,6 +480,21 @@ public class TeamPostgresDAO implements TeamDAO {
         }
     }
     @Override
+    public Map<Integer, List<Integer>> findMembriPerTeam() {
+        String sql = "SELECT team_id, utente_id FROM team_members";
+        Map<Integer, List<Integer>> membri = new HashMap<>();
+        try (Connection conn = cm.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+            while (rs.next()) {
+                membri.computeIfAbsent(rs.getInt(COLUMN_TEAM_ID), k -> new ArrayList<>()).add(rs.getInt(COLUMN_UTENTE_ID));
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("TeamPostgresDAO.findMembriPerTeam fallita", e);
+        }
+        return membri;
+    }
+    @Override
     public boolean haSpazioDisponibile(int teamId) {
         return !haRaggiuntoLimiteMembri(teamId);
     }
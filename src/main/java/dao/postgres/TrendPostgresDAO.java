@@ -0,0 +1,89 @@
+package dao.postgres;
+
+import dao.TrendDAO;
+import database.ConnectionManager;
+import database.DataAccessException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Implementazione PostgreSQL di TrendDAO.
+ *
+ * Le serie richieste vengono unite con {@code UNION ALL} in una sola query; ogni ramo filtra
+ * l'intervallo sulla colonna temporale e raggruppa per {@code date_trunc}. L'unità di
+ * {@code date_trunc} viene dall'enum {@link TrendDAO.Granularita} e non dall'input dell'utente.
+ */
+public class TrendPostgresDAO implements TrendDAO {
+
+    /**
+     * Tabella e colonna temporale di ogni serie
+     */
+    private static final Map<Serie, String[]> SORGENTI = new EnumMap<>(Serie.class);
+
+    static {
+        SORGENTI.put(Serie.UTENTI, new String[]{"utente", "created_at"});
+        SORGENTI.put(Serie.HACKATHON, new String[]{"hackathon", "data_inizio"});
+        SORGENTI.put(Serie.TEAM, new String[]{"team", "created_at"});
+        SORGENTI.put(Serie.DOCUMENTI, new String[]{"documents", "data_caricamento"});
+        SORGENTI.put(Serie.VALUTAZIONI, new String[]{"valutazione", "data_valutazione"});
+        SORGENTI.put(Serie.NOTIFICHE, new String[]{"notifications", "data_creazione"});
+    }
+
+    private final ConnectionManager cm;
+
+    /**
+     * Costruttore per dependency injection
+     *
+     * @param connectionManager il ConnectionManager da utilizzare
+     */
+    public TrendPostgresDAO(ConnectionManager connectionManager) {
+        this.cm = connectionManager;
+    }
+
+    @Override
+    public Map<Serie, Map<LocalDateTime, Long>> conteggi(Set<Serie> serie, Granularita granularita,
+                                                         LocalDateTime da, LocalDateTime a) {
+        Map<Serie, Map<LocalDateTime, Long>> risultato = new EnumMap<>(Serie.class);
+        if (serie.isEmpty()) {
+            return risultato;
+        }
+        StringBuilder sql = new StringBuilder();
+        for (Serie s : serie) {
+            risultato.put(s, new TreeMap<>());
+            String[] sorgente = SORGENTI.get(s);
+            if (sql.length() > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append("SELECT '").append(s.name()).append("' AS serie, date_trunc('")
+                .append(granularita.getUnitaSql()).append("', ").append(sorgente[1]).append(") AS periodo, COUNT(*) AS n ")
+                .append("FROM ").append(sorgente[0])
+                .append(" WHERE ").append(sorgente[1]).append(" >= ? AND ").append(sorgente[1]).append(" < ? GROUP BY 2");
+        }
+        try (Connection conn = cm.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+            int indice = 1;
+            for (int i = 0; i < serie.size(); i++) {
+                ps.setTimestamp(indice++, Timestamp.valueOf(da));
+                ps.setTimestamp(indice++, Timestamp.valueOf(a));
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    risultato.get(Serie.valueOf(rs.getString("serie")))
+                        .put(rs.getTimestamp("periodo").toLocalDateTime(), rs.getLong("n"));
+                }
+            }
+            return risultato;
+        } catch (SQLException e) {
+            throw new DataAccessException("TrendPostgresDAO.conteggi serie=" + serie + " granularita=" + granularita + " failed", e);
+        }
+    }
+}
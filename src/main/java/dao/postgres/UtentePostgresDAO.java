@@ -5,6 +5,7 @@ import database.DataAccessException;
 import model.Utente;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 /**
  * Implementazione PostgreSQL dell'interfaccia UtenteDAO.
@@ -148,6 +149,31 @@ public class UtentePostgresDAO implements UtenteDAO {
         }
         return null;
     }
+    /**
+     * {@inheritDoc}
+     * 
+     * Gli ID sono passati come un unico parametro array ({@code = ANY(?)}).
+     */
+    @Override
+    public List<Utente> findByIds(Collection<Integer> ids) {
+        List<Utente> utenti = new ArrayList<>();
+        if (ids == null || ids.isEmpty()) {
+            return utenti;
+        }
+        String sql = "SELECT * FROM utente WHERE id = ANY(?)";
+        try (Connection conn = cm.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setArray(1, conn.createArrayOf("integer", ids.stream().distinct().toArray()));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    utenti.add(mapResultSetToUtente(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("UtentePostgresDAO.findByIds ids=" + ids.size(), e);
+        }
+        return utenti;
+    }
     /**
      * {@inheritDoc}
      * 
@@ -282,6 +308,50 @@ public class UtentePostgresDAO implements UtenteDAO {
         }
         return utenti;
     }
+    /**
+     * {@inheritDoc}
+     * 
+     * Anti-join su team_members dei team dello stesso hackathon invece di un controllo per utente.
+     */
+    @Override
+    public List<Utente> findDisponibiliPerInvito(int hackathonId, int teamId, String prefisso, int offset, int limite) {
+        boolean filtra = prefisso != null && !prefisso.isBlank();
+        StringBuilder sql = new StringBuilder("SELECT u.* FROM utente u ")
+            .append("JOIN registrazione r ON r.utente_id = u.id AND r.hackathon_id = ? ")
+            .append("AND r.ruolo = 'PARTECIPANTE' AND r.confermata ")
+            .append("WHERE u.id <> COALESCE((SELECT capo_team_id FROM team WHERE id = ?), 0) ")
+            .append("AND NOT EXISTS (SELECT 1 FROM team_members tm JOIN team t ON t.id = tm.team_id ")
+            .append("WHERE tm.utente_id = u.id AND (t.hackathon_id = ? OR t.id = ?)) ");
+        if (filtra) {
+            sql.append("AND (u.nome ILIKE ? OR u.cognome ILIKE ? OR u.login ILIKE ?) ");
+        }
+        sql.append("ORDER BY u.cognome, u.nome, u.id LIMIT ? OFFSET ?");
+        List<Utente> utenti = new ArrayList<>();
+        try (Connection conn = cm.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            int i = 1;
+            pstmt.setInt(i++, hackathonId);
+            pstmt.setInt(i++, teamId);
+            pstmt.setInt(i++, hackathonId);
+            pstmt.setInt(i++, teamId);
+            if (filtra) {
+                String pattern = prefisso.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+                pstmt.setString(i++, pattern);
+                pstmt.setString(i++, pattern);
+                pstmt.setString(i++, pattern);
+            }
+            pstmt.setInt(i++, Math.max(1, limite));
+            pstmt.setInt(i, Math.max(0, offset));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    utenti.add(mapResultSetToUtente(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessException("UtentePostgresDAO.findDisponibiliPerInvito hackathonId=" + hackathonId + " teamId=" + teamId, e);
+        }
+        return utenti;
+    }
     /**
      * {@inheritDoc}
      * 
@@ -7,7 +7,9 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 /**
@@ -22,6 +24,10 @@ public final class DataSourceFactory {
     private static final String DB_URL_KEY = "db.url";
     private static final String DB_USERNAME_KEY = "db.username";
     private static final String DB_PASSWORD_KEY = "db.password";
+    private static final String DB_POOL_SIZE_KEY = "db.pool.size";
+    private static final String DB_POOL_TIMEOUT_KEY = "db.pool.timeoutMs";
+    // Un solo pool per configurazione, condiviso da tutti i chiamanti di createDataSource
+    private static final Map<String, PooledDataSource> POOLS = new ConcurrentHashMap<>();
     /**
      * Costruttore privato per impedire l'istanziazione della classe di utilità
      */
@@ -58,7 +64,13 @@ public final class DataSourceFactory {
         throw new UnsupportedOperationException("Vendor non supportato: " + vendor);
     }
     /**
-     * Crea un DataSource PostgreSQL configurato tramite properties
+     * Crea un DataSource PostgreSQL configurato tramite properties.
+     * Le connessioni sono condivise in un {@link PooledDataSource} dimensionato con
+     * {@code db.pool.size} (predefinito 10) e {@code db.pool.timeoutMs} (predefinito 30000),
+     * letti da db.properties o dalle proprietà di sistema.
+     * <p>
+     * Il pool è condiviso: le chiamate con la stessa configurazione restituiscono la stessa
+     * istanza, che resta aperta per tutta la vita del processo e non va chiusa dai chiamanti.
      * 
      * @return DataSource configurato
      * @throws DataAccessException se la configurazione fallisce
@@ -71,12 +83,35 @@ public final class DataSourceFactory {
         if (password == null || password.trim().isEmpty()) {
             throw new DataAccessException("Password del database non configurata. Verificare db.properties o variabile d'ambiente DB_PASSWORD");
         }
-        DataSource dataSource = postgres(url, username, password);
-        if (LOGGER.isLoggable(Level.INFO)) {
-            LOGGER.log(Level.INFO, "DataSource PostgreSQL configurato per: {0}", url);
+        int poolSize = intProperty(props, DB_POOL_SIZE_KEY, 10);
+        long poolTimeout = intProperty(props, DB_POOL_TIMEOUT_KEY, 30_000);
+        String chiave = url + '|' + username + '|' + poolSize + '|' + poolTimeout;
+        return POOLS.computeIfAbsent(chiave, k -> {
+            PooledDataSource pool = new PooledDataSource(postgres(url, username, password), poolSize, poolTimeout);
+            if (LOGGER.isLoggable(Level.INFO)) {
+                LOGGER.log(Level.INFO, "DataSource PostgreSQL configurato per: {0} (pool di {1} connessioni)",
+                    new Object[]{url, poolSize});
+            }
+            return pool;
+        });
+    }
+    /**
+     * Legge una proprietà intera positiva: prima la proprietà di sistema, poi db.properties
+     */
+    private static int intProperty(Properties props, String key, int defaultValue) {
+        String value = System.getProperty(key, props.getProperty(key));
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : defaultValue;
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Valore non valido per {0}: {1}", new Object[]{key, value});
+            return defaultValue;
         }
-        return dataSource;
     }
+
     /**
      * Carica le proprietà del database dal file db.properties
      * 
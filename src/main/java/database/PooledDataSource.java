@@ -0,0 +1,267 @@
+package database;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * DataSource con un pool limitato di connessioni fisiche riutilizzate.
+ * <p>
+ * Senza pool ogni {@code getConnection()} apre una nuova connessione TCP con autenticazione;
+ * con più sezioni di report o più richieste calcolate in parallelo il costo si moltiplica.
+ * Le connessioni restituite sono proxy: {@code close()} riporta la connessione fisica nel
+ * pool dopo averne ripristinato lo stato (rollback della transazione aperta, autocommit,
+ * sola lettura e isolamento predefiniti). Al massimo {@code dimensione} connessioni sono in
+ * uso contemporaneamente; oltre, la richiesta attende fino al timeout.
+ */
+public final class PooledDataSource implements DataSource, AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(PooledDataSource.class.getName());
+
+    /** Oltre questa inattività la connessione viene verificata prima di essere riutilizzata */
+    private static final long VALIDAZIONE_DOPO_MS = 30_000;
+    private static final int TIMEOUT_VALIDAZIONE_SECONDI = 2;
+
+    private final DataSource fisica;
+    private final int dimensione;
+    private final long attesaMassimaMs;
+    private final Semaphore permessi;
+    private final ConcurrentLinkedDeque<Inattiva> inattive = new ConcurrentLinkedDeque<>();
+    private volatile boolean chiuso;
+
+    /**
+     * @param fisica il DataSource che apre le connessioni fisiche
+     * @param dimensione numero massimo di connessioni in uso
+     * @param attesaMassimaMs attesa massima di una connessione libera
+     */
+    public PooledDataSource(DataSource fisica, int dimensione, long attesaMassimaMs) {
+        if (fisica == null || dimensione < 1) {
+            throw new IllegalArgumentException("DataSource e dimensione del pool sono obbligatori");
+        }
+        this.fisica = fisica;
+        this.dimensione = dimensione;
+        this.attesaMassimaMs = attesaMassimaMs;
+        this.permessi = new Semaphore(dimensione, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (chiuso) {
+            throw new SQLException("Pool di connessioni chiuso");
+        }
+        try {
+            if (!permessi.tryAcquire(attesaMassimaMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Nessuna connessione libera nel pool entro " + attesaMassimaMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Attesa di una connessione interrotta", e);
+        }
+        try {
+            return proxy(prendiFisica());
+        } catch (SQLException | RuntimeException e) {
+            permessi.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Non supportato: tutte le connessioni del pool usano le stesse credenziali
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credenziali diverse non supportate dal pool");
+    }
+
+    private Connection prendiFisica() throws SQLException {
+        Inattiva inattiva;
+        while ((inattiva = inattive.pollFirst()) != null) {
+            boolean daVerificare = System.currentTimeMillis() - inattiva.dal > VALIDAZIONE_DOPO_MS;
+            if (!daVerificare || inattiva.connessione.isValid(TIMEOUT_VALIDAZIONE_SECONDI)) {
+                return inattiva.connessione;
+            }
+            chiudiFisica(inattiva.connessione);
+        }
+        return fisica.getConnection();
+    }
+
+    /**
+     * Riporta la connessione nel pool con lo stato predefinito, o la chiude se non è riutilizzabile
+     */
+    private void restituisci(Connection connessione) {
+        try {
+            if (chiuso || connessione.isClosed()) {
+                chiudiFisica(connessione);
+                return;
+            }
+            if (!connessione.getAutoCommit()) {
+                connessione.rollback();
+                connessione.setAutoCommit(true);
+            }
+            if (connessione.isReadOnly()) {
+                connessione.setReadOnly(false);
+            }
+            if (connessione.getTransactionIsolation() != Connection.TRANSACTION_READ_COMMITTED) {
+                connessione.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            }
+            connessione.clearWarnings();
+            // LIFO: le connessioni usate di recente restano calde, le altre invecchiano e vengono verificate
+            inattive.offerFirst(new Inattiva(connessione));
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Connessione scartata dal pool: {0}", e.getMessage());
+            chiudiFisica(connessione);
+        } finally {
+            permessi.release();
+        }
+    }
+
+    private static void chiudiFisica(Connection connessione) {
+        try {
+            connessione.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Chiusura connessione fallita: {0}", e.getMessage());
+        }
+    }
+
+    private Connection proxy(Connection connessione) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, new Prestito(connessione));
+    }
+
+    /**
+     * @return connessioni attualmente in uso
+     */
+    public int getInUso() {
+        return dimensione - permessi.availablePermits();
+    }
+
+    /**
+     * @return connessioni aperte in attesa di essere riutilizzate
+     */
+    public int getInattive() {
+        return inattive.size();
+    }
+
+    /**
+     * @return numero massimo di connessioni in uso
+     */
+    public int getDimensione() {
+        return dimensione;
+    }
+
+    /**
+     * Chiude le connessioni inattive; quelle in uso vengono chiuse alla restituzione
+     */
+    @Override
+    public void close() {
+        chiuso = true;
+        Inattiva inattiva;
+        while ((inattiva = inattive.pollFirst()) != null) {
+            chiudiFisica(inattiva.connessione);
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return fisica.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        fisica.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        fisica.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return fisica.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return LOGGER;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return fisica.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || fisica.isWrapperFor(iface);
+    }
+
+    /**
+     * Connessione fisica inattiva con l'istante in cui è stata restituita
+     */
+    private static final class Inattiva {
+        final Connection connessione;
+        final long dal;
+
+        Inattiva(Connection connessione) {
+            this.connessione = connessione;
+            this.dal = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Proxy di una connessione prestata: inoltra tutto alla connessione fisica tranne
+     * {@code close()}, che la restituisce al pool una sola volta
+     */
+    private final class Prestito implements InvocationHandler {
+        private Connection connessione;
+
+        Prestito(Connection connessione) {
+            this.connessione = connessione;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (connessione != null) {
+                        Connection restituita = connessione;
+                        connessione = null;
+                        restituisci(restituita);
+                    }
+                    return null;
+                case "isClosed":
+                    return connessione == null || connessione.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + connessione + "]";
+                default:
+                    break;
+            }
+            if (connessione == null) {
+                throw new SQLException("Connessione già restituita al pool");
+            }
+            try {
+                return method.invoke(connessione, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
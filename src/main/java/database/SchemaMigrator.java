@@ -0,0 +1,215 @@
+package database;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Applica le migrazioni versionate dello schema ({@code db/migration/V<versione>__<descrizione>.sql}).
+ * <p>
+ * Le versioni applicate sono registrate nella tabella {@code schema_version}: all'avvio basta
+ * una lettura della versione corrente per sapere se ci sono migrazioni da eseguire, e con lo
+ * schema aggiornato non viene eseguita nessun'altra query. La presenza delle tabelle di base
+ * viene verificata sul catalogo ({@code to_regclass}) senza leggere le tabelle.
+ * <p>
+ * Ogni migrazione viene eseguita in una transazione propria insieme alla registrazione della
+ * versione; un advisory lock impedisce a due istanze avviate insieme di applicarla due volte.
+ * Gli script devono essere idempotenti, perché su database esistenti possono essere già stati
+ * applicati a mano prima dell'introduzione di {@code schema_version}.
+ */
+public final class SchemaMigrator {
+
+    private static final Logger LOGGER = Logger.getLogger(SchemaMigrator.class.getName());
+
+    private static final String PERCORSO = "db/migration/";
+
+    /**
+     * Script di migrazione in ordine di versione; una nuova migrazione va aggiunta in coda.
+     * V1004 (trigger di audit) non è gestita: i trigger scrivono su colonne di {@code audit_log}
+     * che non esistono e farebbero fallire ogni inserimento in {@code judge_comment}.
+     */
+    private static final String[] MIGRAZIONI = {
+        "V1001__create_judge_comment.sql",
+        "V1002__create_ranking_snapshot.sql",
+        "V1003__add_indexes_performance.sql",
+        "V1005__add_document_content.sql",
+        "V1006__add_missing_indexes.sql",
+        "V1007__create_statistics_snapshot.sql"
+    };
+
+    /**
+     * Tabelle dello schema di base ({@code database/db_dump.sql}) su cui si appoggiano le migrazioni
+     */
+    private static final String[] TABELLE_BASE = {
+        "utente", "hackathon", "team", "registrazione", "progress", "valutazione", "documents"
+    };
+
+    /** Chiave dell'advisory lock che serializza le migrazioni tra istanze diverse */
+    private static final long LOCK_KEY = 0x48414B4D4947L;
+
+    private static final String TABELLA_VERSIONI = "schema_version";
+
+    private final ConnectionManager cm;
+
+    /**
+     * @param cm il gestore delle connessioni
+     */
+    public SchemaMigrator(ConnectionManager cm) {
+        this.cm = cm;
+    }
+
+    /**
+     * @return la versione più recente tra le migrazioni note
+     */
+    public static int getVersioneAttesa() {
+        return versione(MIGRAZIONI[MIGRAZIONI.length - 1]);
+    }
+
+    /**
+     * Verifica lo schema e applica le migrazioni mancanti
+     *
+     * @return numero di migrazioni applicate
+     * @throws DataAccessException se la verifica o una migrazione fallisce
+     */
+    public int migra() {
+        try (Connection conn = cm.getConnection()) {
+            List<String> mancanti = tabelleMancanti(conn);
+            boolean registroPresente = !mancanti.remove(TABELLA_VERSIONI);
+            if (!mancanti.isEmpty()) {
+                LOGGER.log(Level.WARNING, "Tabelle di base mancanti: {0}. Importare database/db_dump.sql; migrazioni non applicate",
+                    mancanti);
+                return 0;
+            }
+            int corrente = registroPresente ? leggiVersione(conn) : 0;
+            if (corrente >= getVersioneAttesa()) {
+                LOGGER.log(Level.INFO, "Schema aggiornato alla versione {0}", corrente);
+                return 0;
+            }
+            return applicaMigrazioni(conn);
+        } catch (SQLException e) {
+            throw new DataAccessException("SchemaMigrator.migra fallita", e);
+        }
+    }
+
+    /**
+     * @return le tabelle di base (e {@code schema_version}) assenti, con una sola lookup sul catalogo
+     */
+    private List<String> tabelleMancanti(Connection conn) throws SQLException {
+        String[] tabelle = Arrays.copyOf(TABELLE_BASE, TABELLE_BASE.length + 1);
+        tabelle[TABELLE_BASE.length] = TABELLA_VERSIONI;
+        List<String> mancanti = new ArrayList<>();
+        Array array = conn.createArrayOf("text", tabelle);
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT t FROM unnest(?::text[]) AS t WHERE to_regclass(t) IS NULL")) {
+            ps.setArray(1, array);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    mancanti.add(rs.getString(1));
+                }
+            }
+        } finally {
+            array.free();
+        }
+        return mancanti;
+    }
+
+    private int leggiVersione(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COALESCE(MAX(versione), 0) FROM " + TABELLA_VERSIONI)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private int applicaMigrazioni(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.execute("CREATE TABLE IF NOT EXISTS " + TABELLA_VERSIONI + " ("
+                + "versione INTEGER PRIMARY KEY, "
+                + "descrizione VARCHAR(200) NOT NULL, "
+                + "applicata_il TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, "
+                + "durata_ms INTEGER NOT NULL)");
+            st.execute("SELECT pg_advisory_lock(" + LOCK_KEY + ")");
+        }
+        boolean autoCommit = conn.getAutoCommit();
+        int applicate = 0;
+        try {
+            // Rilettura sotto lock: un'altra istanza potrebbe averle appena applicate
+            int corrente = leggiVersione(conn);
+            conn.setAutoCommit(false);
+            for (String script : MIGRAZIONI) {
+                if (versione(script) > corrente) {
+                    applica(conn, script);
+                    applicate++;
+                }
+            }
+        } finally {
+            conn.setAutoCommit(autoCommit);
+            try (Statement st = conn.createStatement()) {
+                st.execute("SELECT pg_advisory_unlock(" + LOCK_KEY + ")");
+            }
+        }
+        LOGGER.log(Level.INFO, "Migrazioni applicate: {0}, schema alla versione {1}",
+            new Object[]{applicate, getVersioneAttesa()});
+        return applicate;
+    }
+
+    private void applica(Connection conn, String script) throws SQLException {
+        String sql = leggiScript(script);
+        long inizio = System.nanoTime();
+        try (Statement st = conn.createStatement()) {
+            st.execute(sql);
+            int durata = (int) ((System.nanoTime() - inizio) / 1_000_000);
+            try (PreparedStatement ps = conn.prepareStatement(
+                    "INSERT INTO " + TABELLA_VERSIONI + " (versione, descrizione, durata_ms) VALUES (?, ?, ?)")) {
+                ps.setInt(1, versione(script));
+                ps.setString(2, descrizione(script));
+                ps.setInt(3, durata);
+                ps.executeUpdate();
+            }
+            conn.commit();
+            LOGGER.log(Level.INFO, "Migrazione {0} applicata in {1} ms", new Object[]{script, durata});
+        } catch (SQLException e) {
+            conn.rollback();
+            throw new DataAccessException("Migrazione " + script + " fallita", e);
+        }
+    }
+
+    private static String leggiScript(String script) {
+        try (InputStream in = SchemaMigrator.class.getClassLoader().getResourceAsStream(PERCORSO + script)) {
+            if (in == null) {
+                throw new DataAccessException("Script di migrazione non trovato: " + PERCORSO + script);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DataAccessException("Lettura dello script " + script + " fallita", e);
+        }
+    }
+
+    /**
+     * @return la versione codificata nel nome dello script ({@code V1005__...} restituisce 1005)
+     */
+    static int versione(String script) {
+        return Integer.parseInt(script.substring(1, script.indexOf("__")));
+    }
+
+    /**
+     * @return la descrizione codificata nel nome dello script
+     */
+    static String descrizione(String script) {
+        String nome = script.substring(script.indexOf("__") + 2);
+        if (nome.endsWith(".sql")) {
+            nome = nome.substring(0, nome.length() - 4);
+        }
+        return nome.replace('_', ' ');
+    }
+}
@@ -0,0 +1,220 @@
+package gui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orologio unico per tutte le animazioni dell'interfaccia.
+ * Un solo {@link Timer} Swing a {@link AnimationUtils#ANIMATION_FPS} fotogrammi al secondo fa
+ * avanzare tutte le animazioni registrate e resta fermo quando non ce n'è nessuna attiva,
+ * quindi un'interfaccia inattiva non genera eventi sull'EDT.
+ * <p>
+ * Le animazioni non ridisegnano direttamente i componenti ma li segnalano con
+ * {@link #repaint(JComponent)}: le aree sporche vengono unite e ridisegnate una sola volta
+ * alla fine di ogni fotogramma.
+ * <p>
+ * Le animazioni possono essere disattivate del tutto (ad esempio sui totem a basso consumo)
+ * con la proprietà di sistema {@code ui.animations=false} o con {@link #setEnabled(boolean)}:
+ * in quel caso ogni animazione viene portata subito allo stato finale.
+ * Tutti i metodi vanno invocati dall'EDT.
+ */
+public final class AnimationClock {
+
+    /**
+     * Animazione fatta avanzare dall'orologio
+     */
+    public interface Animation {
+        /**
+         * Fa avanzare l'animazione di un fotogramma
+         *
+         * @param elapsedMillis millisecondi trascorsi dall'avvio dell'animazione
+         * @return true per continuare, false se l'animazione è conclusa
+         */
+        boolean tick(long elapsedMillis);
+
+        /**
+         * Porta l'animazione allo stato finale; invocato quando le animazioni sono disattivate
+         */
+        default void finish() { }
+    }
+
+    /**
+     * Riferimento a un'animazione registrata, per poterla interrompere
+     */
+    public static final class Handle {
+        private final Animation animation;
+        private final long startNanos;
+        private boolean active;
+
+        private Handle(Animation animation, boolean active) {
+            this.animation = animation;
+            this.startNanos = System.nanoTime();
+            this.active = active;
+        }
+
+        /**
+         * Interrompe l'animazione lasciandola nello stato corrente
+         */
+        public void cancel() {
+            if (active) {
+                active = false;
+                ACTIVE.remove(this);
+                stopIfIdle();
+            }
+        }
+
+        /**
+         * @return true se l'animazione è ancora in corso
+         */
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    private static final List<Handle> ACTIVE = new ArrayList<>();
+    private static final Map<JComponent, Rectangle> DIRTY = new LinkedHashMap<>();
+    private static final Timer TIMER = new Timer(1000 / AnimationUtils.ANIMATION_FPS, e -> tick());
+
+    private static boolean enabled = !"false".equalsIgnoreCase(System.getProperty("ui.animations", "true"));
+
+    /**
+     * Costruttore privato per impedire l'istanziazione della classe di utilità
+     */
+    private AnimationClock() {
+        throw new UnsupportedOperationException("Classe di utilità");
+    }
+
+    /**
+     * Registra un'animazione e avvia l'orologio se era fermo.
+     * Con le animazioni disattivate l'animazione viene conclusa subito con {@link Animation#finish()}.
+     *
+     * @param animation l'animazione da far avanzare
+     * @return il riferimento per interromperla
+     */
+    public static Handle start(Animation animation) {
+        if (!enabled) {
+            animation.finish();
+            return new Handle(animation, false);
+        }
+        Handle handle = new Handle(animation, true);
+        ACTIVE.add(handle);
+        if (!TIMER.isRunning()) {
+            TIMER.start();
+        }
+        return handle;
+    }
+
+    /**
+     * Registra un'animazione senza fine che avanza solo mentre il componente è visibile
+     * sullo schermo: viene sospesa quando il componente viene nascosto o rimosso e ripresa
+     * quando torna visibile.
+     *
+     * @param component il componente animato
+     * @param animation l'animazione
+     */
+    public static void startWhileShowing(JComponent component, Animation animation) {
+        Handle[] handle = new Handle[1];
+        Runnable sync = () -> {
+            boolean running = handle[0] != null && handle[0].isActive();
+            if (component.isShowing() && !running) {
+                handle[0] = start(animation);
+            } else if (!component.isShowing() && running) {
+                handle[0].cancel();
+            }
+        };
+        component.addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
+                sync.run();
+            }
+        });
+        sync.run();
+    }
+
+    /**
+     * Segnala che l'intero componente va ridisegnato alla fine del fotogramma corrente
+     */
+    public static void repaint(JComponent component) {
+        DIRTY.put(component, null);
+    }
+
+    /**
+     * Segnala che un'area del componente va ridisegnata alla fine del fotogramma corrente
+     */
+    public static void repaint(JComponent component, Rectangle area) {
+        if (DIRTY.containsKey(component)) {
+            Rectangle current = DIRTY.get(component);
+            if (current != null) {
+                current.add(area);
+            }
+        } else {
+            DIRTY.put(component, new Rectangle(area));
+        }
+    }
+
+    /**
+     * @return true se le animazioni sono attive
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Attiva o disattiva tutte le animazioni; disattivandole, quelle in corso vengono concluse
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+        if (!value) {
+            List<Handle> running = new ArrayList<>(ACTIVE);
+            ACTIVE.clear();
+            for (Handle handle : running) {
+                handle.active = false;
+                handle.animation.finish();
+            }
+            TIMER.stop();
+            flushRepaints();
+        }
+    }
+
+    /**
+     * @return numero di animazioni in corso
+     */
+    public static int getActiveCount() {
+        return ACTIVE.size();
+    }
+
+    private static void tick() {
+        long now = System.nanoTime();
+        // Copia: le animazioni possono registrarne o interromperne altre durante il tick
+        for (Handle handle : new ArrayList<>(ACTIVE)) {
+            if (handle.active && !handle.animation.tick((now - handle.startNanos) / 1_000_000)) {
+                handle.active = false;
+                ACTIVE.remove(handle);
+            }
+        }
+        flushRepaints();
+        stopIfIdle();
+    }
+
+    private static void flushRepaints() {
+        for (Map.Entry<JComponent, Rectangle> entry : DIRTY.entrySet()) {
+            Rectangle area = entry.getValue();
+            if (area == null) {
+                entry.getKey().repaint();
+            } else {
+                entry.getKey().repaint(area);
+            }
+        }
+        DIRTY.clear();
+    }
+
+    private static void stopIfIdle() {
+        if (ACTIVE.isEmpty()) {
+            TIMER.stop();
+        }
+    }
+}
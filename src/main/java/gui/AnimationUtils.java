@@ -4,7 +4,9 @@ import java.awt.*;
 import java.awt.event.*;
 /**
  * Utility class per animazioni e effetti visivi avanzati
- * Fornisce metodi riutilizzabili per creare animazioni fluide
+ * Fornisce metodi riutilizzabili per creare animazioni fluide.
+ * Tutti gli effetti avanzano sull'orologio condiviso {@link AnimationClock}, che non genera
+ * eventi quando nessuna animazione è in corso e può disattivarle tutte.
  */
 public final class AnimationUtils {
     /**
@@ -17,83 +19,109 @@ public final class AnimationUtils {
     public static final int ANIMATION_FPS = 60;
     public static final int ANIMATION_DURATION = 300; // millisecondi
     public static final float ANIMATION_STEP = 16.0f / ANIMATION_DURATION; // 16ms per frame
+    /** Durata delle transizioni di hover, glow e ripple (10 fotogrammi) */
+    private static final int HOVER_DURATION = 160;
     // Colori per effetti
     public static final Color SHADOW_COLOR = new Color(0, 0, 0, 30);
     public static final Color GLOW_COLOR = new Color(255, 255, 255, 50);
     /**
      * Crea un timer per animazioni fluide
+     *
+     * @deprecated ogni timer genera eventi sull'EDT anche quando non serve:
+     *             usare {@link AnimationClock#start(AnimationClock.Animation)}
      */
+    @Deprecated
     public static Timer createAnimationTimer(ActionListener action) {
         Timer timer = new Timer(1000 / ANIMATION_FPS, action);
         timer.setRepeats(true);
         return timer;
     }
     /**
-     * Crea un effetto di pulsazione (pulse) per un componente
+     * Valore tra 0 e 1 animato verso un obiettivo sull'orologio condiviso
      */
-    public static void addPulseEffect(JComponent component) {
-        final float[] pulseProgress = {0.0f};
-        final boolean[] expanding = {true};
-        final Timer[] pulseTimer = new Timer[1];
-        pulseTimer[0] = createAnimationTimer(e -> {
-            if (expanding[0]) {
-                pulseProgress[0] += 0.1f;
-                if (pulseProgress[0] >= 1.0f) {
-                    expanding[0] = false;
+    private static final class AnimatedValue {
+        private final JComponent component;
+        private final int duration;
+        private AnimationClock.Handle handle;
+        private float value;
+        AnimatedValue(JComponent component, int duration) {
+            this.component = component;
+            this.duration = duration;
+        }
+        void animateTo(float target) {
+            if (handle != null) {
+                handle.cancel();
+            }
+            final float from = value;
+            final long total = (long) (Math.abs(target - from) * duration);
+            handle = AnimationClock.start(new AnimationClock.Animation() {
+                @Override
+                public boolean tick(long elapsedMillis) {
+                    if (elapsedMillis >= total) {
+                        finish();
+                        return false;
+                    }
+                    value = from + (target - from) * elapsedMillis / total;
+                    AnimationClock.repaint(component);
+                    return true;
                 }
-            } else {
-                pulseProgress[0] -= 0.1f;
-                if (pulseProgress[0] <= 0.0f) {
-                    expanding[0] = true;
+                @Override
+                public void finish() {
+                    value = target;
+                    AnimationClock.repaint(component);
                 }
+            });
+        }
+    }
+    /**
+     * Progresso tra 0 e 1 di un'animazione di durata fissa
+     */
+    private static float progress(long elapsedMillis, int duration) {
+        return duration <= 0 ? 1.0f : Math.min(1.0f, (float) elapsedMillis / duration);
+    }
+    /**
+     * Crea un effetto di pulsazione (pulse) per un componente.
+     * L'effetto avanza solo mentre il componente è visibile.
+     */
+    public static void addPulseEffect(JComponent component) {
+        final int period = 20 * 16; // 10 fotogrammi in espansione e 10 in contrazione
+        AnimationClock.startWhileShowing(component, new AnimationClock.Animation() {
+            @Override
+            public boolean tick(long elapsedMillis) {
+                float phase = (float) (elapsedMillis % period) / period;
+                float pulseProgress = phase < 0.5f ? phase * 2 : 2 - phase * 2;
+                applyScale(pulseProgress);
+                return true;
+            }
+            @Override
+            public void finish() {
+                applyScale(0.0f);
+            }
+            private void applyScale(float pulseProgress) {
+                // Applica la scala
+                float scale = 1.0f + (pulseProgress * 0.05f);
+                component.setSize(
+                    (int)(component.getPreferredSize().width * scale),
+                    (int)(component.getPreferredSize().height * scale)
+                );
+                component.revalidate();
+                AnimationClock.repaint(component);
             }
-            // Applica la scala
-            float scale = 1.0f + (pulseProgress[0] * 0.05f);
-            component.setSize(
-                (int)(component.getPreferredSize().width * scale),
-                (int)(component.getPreferredSize().height * scale)
-            );
-            component.revalidate();
-            component.repaint();
         });
-        pulseTimer[0].start();
     }
     /**
      * Crea un effetto di hover con ombra dinamica
      */
     public static void addHoverShadowEffect(JComponent component) {
+        final AnimatedValue shadowIntensity = new AnimatedValue(component, HOVER_DURATION);
         component.addMouseListener(new MouseAdapter() {
-            private Timer shadowTimer = null;
-            private float shadowIntensity = 0.0f;
             @Override
             public void mouseEntered(MouseEvent e) {
-                if (shadowTimer != null) {
-                    shadowTimer.stop();
-                }
-                shadowTimer = createAnimationTimer(evt -> {
-                    shadowIntensity += 0.1f;
-                    if (shadowIntensity >= 1.0f) {
-                        shadowIntensity = 1.0f;
-                        shadowTimer.stop();
-                    }
-                    component.repaint();
-                });
-                shadowTimer.start();
+                shadowIntensity.animateTo(1.0f);
             }
             @Override
             public void mouseExited(MouseEvent e) {
-                if (shadowTimer != null) {
-                    shadowTimer.stop();
-                }
-                shadowTimer = createAnimationTimer(evt -> {
-                    shadowIntensity -= 0.1f;
-                    if (shadowIntensity <= 0.0f) {
-                        shadowIntensity = 0.0f;
-                        shadowTimer.stop();
-                    }
-                    component.repaint();
-                });
-                shadowTimer.start();
+                shadowIntensity.animateTo(0.0f);
             }
         });
         // Override del paintComponent per disegnare l'ombra
@@ -109,136 +137,119 @@ public final class AnimationUtils {
      * Crea un effetto di transizione fade per un pannello
      */
     public static void addFadeTransition(JPanel panel, float startAlpha, float endAlpha, int duration) {
-        Timer fadeTimer = new Timer(1000 / ANIMATION_FPS, null);
-        fadeTimer.setRepeats(true);
         final float[] currentAlpha = {startAlpha};
-        final float alphaStep = (endAlpha - startAlpha) / (duration / 16.0f);
-        fadeTimer.addActionListener(e -> {
-            currentAlpha[0] += alphaStep;
-            if ((alphaStep > 0 && currentAlpha[0] >= endAlpha) || 
-                (alphaStep < 0 && currentAlpha[0] <= endAlpha)) {
+        panel.setOpaque(false);
+        AnimationClock.start(new AnimationClock.Animation() {
+            @Override
+            public boolean tick(long elapsedMillis) {
+                float t = progress(elapsedMillis, duration);
+                currentAlpha[0] = startAlpha + (endAlpha - startAlpha) * t;
+                AnimationClock.repaint(panel);
+                return t < 1.0f;
+            }
+            @Override
+            public void finish() {
                 currentAlpha[0] = endAlpha;
-                fadeTimer.stop();
+                AnimationClock.repaint(panel);
             }
-            // Applica l'alpha al pannello
-            panel.setOpaque(false);
-            panel.repaint();
         });
-        fadeTimer.start();
     }
     /**
      * Crea un effetto di slide per un componente
      */
     public static void addSlideEffect(JComponent component, Point startPos, Point endPos, int duration) {
-        Timer slideTimer = new Timer(1000 / ANIMATION_FPS, null);
-        slideTimer.setRepeats(true);
-        final float[] progress = {0.0f};
-        final float step = 1.0f / (duration / 16.0f);
-        slideTimer.addActionListener(e -> {
-            progress[0] += step;
-            if (progress[0] >= 1.0f) {
-                progress[0] = 1.0f;
-                slideTimer.stop();
+        AnimationClock.start(new AnimationClock.Animation() {
+            @Override
+            public boolean tick(long elapsedMillis) {
+                float t = progress(elapsedMillis, duration);
+                moveTo(t);
+                return t < 1.0f;
+            }
+            @Override
+            public void finish() {
+                moveTo(1.0f);
+            }
+            private void moveTo(float t) {
+                // Calcola la posizione interpolata
+                int x = (int)(startPos.x + (endPos.x - startPos.x) * t);
+                int y = (int)(startPos.y + (endPos.y - startPos.y) * t);
+                component.setLocation(x, y);
+                component.revalidate();
             }
-            // Calcola la posizione interpolata
-            int x = (int)(startPos.x + (endPos.x - startPos.x) * progress[0]);
-            int y = (int)(startPos.y + (endPos.y - startPos.y) * progress[0]);
-            component.setLocation(x, y);
-            component.revalidate();
         });
-        slideTimer.start();
     }
     /**
      * Crea un effetto di rotazione per un componente
      */
     public static void addRotationEffect(JComponent component, float startAngle, float endAngle, int duration) {
-        Timer rotationTimer = new Timer(1000 / ANIMATION_FPS, null);
-        rotationTimer.setRepeats(true);
         final float[] currentAngle = {startAngle};
-        final float angleStep = (endAngle - startAngle) / (duration / 16.0f);
-        rotationTimer.addActionListener(e -> {
-            currentAngle[0] += angleStep;
-            if ((angleStep > 0 && currentAngle[0] >= endAngle) || 
-                (angleStep < 0 && currentAngle[0] <= endAngle)) {
+        AnimationClock.start(new AnimationClock.Animation() {
+            @Override
+            public boolean tick(long elapsedMillis) {
+                float t = progress(elapsedMillis, duration);
+                currentAngle[0] = startAngle + (endAngle - startAngle) * t;
+                // Applica la rotazione
+                component.setSize(component.getPreferredSize());
+                AnimationClock.repaint(component);
+                return t < 1.0f;
+            }
+            @Override
+            public void finish() {
                 currentAngle[0] = endAngle;
-                rotationTimer.stop();
+                AnimationClock.repaint(component);
             }
-            // Applica la rotazione
-            component.setSize(component.getPreferredSize());
-            component.repaint();
         });
-        rotationTimer.start();
     }
     /**
      * Crea un effetto di bounce per un bottone
      */
     public static void addBounceEffect(JButton button) {
+        final int riseDuration = 5 * 16;
+        final int fallDuration = 10 * 16;
+        final AnimationClock.Handle[] bounce = new AnimationClock.Handle[1];
         button.addActionListener(e -> {
-            Timer bounceTimer = new Timer(1000 / ANIMATION_FPS, null);
-            bounceTimer.setRepeats(true);
-            final float[] bounceProgress = {0.0f};
-            final boolean[] bouncing = {true};
-            bounceTimer.addActionListener(evt -> {
-                if (bouncing[0]) {
-                    bounceProgress[0] += 0.2f;
-                    if (bounceProgress[0] >= 1.0f) {
-                        bouncing[0] = false;
-                    }
-                } else {
-                    bounceProgress[0] -= 0.1f;
-                    if (bounceProgress[0] <= 0.0f) {
-                        bounceProgress[0] = 0.0f;
-                        bounceTimer.stop();
-                    }
+            if (bounce[0] != null) {
+                bounce[0].cancel();
+            }
+            bounce[0] = AnimationClock.start(new AnimationClock.Animation() {
+                @Override
+                public boolean tick(long elapsedMillis) {
+                    float bounceProgress = elapsedMillis < riseDuration
+                        ? progress(elapsedMillis, riseDuration)
+                        : 1.0f - progress(elapsedMillis - riseDuration, fallDuration);
+                    applyScale(bounceProgress);
+                    return elapsedMillis < riseDuration + fallDuration;
+                }
+                @Override
+                public void finish() {
+                    applyScale(0.0f);
+                }
+                private void applyScale(float bounceProgress) {
+                    // Calcola la scala con effetto bounce
+                    float scale = 1.0f + (float)Math.sin(bounceProgress * Math.PI) * 0.1f;
+                    button.setSize(
+                        (int)(button.getPreferredSize().width * scale),
+                        (int)(button.getPreferredSize().height * scale)
+                    );
+                    button.revalidate();
+                    AnimationClock.repaint(button);
                 }
-                // Calcola la scala con effetto bounce
-                float scale = 1.0f + (float)Math.sin(bounceProgress[0] * Math.PI) * 0.1f;
-                button.setSize(
-                    (int)(button.getPreferredSize().width * scale),
-                    (int)(button.getPreferredSize().height * scale)
-                );
-                button.revalidate();
-                button.repaint();
             });
-            bounceTimer.start();
         });
     }
     /**
      * Crea un effetto di glow per un componente
      */
     public static void addGlowEffect(JComponent component) {
+        final AnimatedValue glowIntensity = new AnimatedValue(component, HOVER_DURATION);
         component.addMouseListener(new MouseAdapter() {
-            private Timer glowTimer = null;
-            private float glowIntensity = 0.0f;
             @Override
             public void mouseEntered(MouseEvent e) {
-                if (glowTimer != null) {
-                    glowTimer.stop();
-                }
-                glowTimer = createAnimationTimer(evt -> {
-                    glowIntensity += 0.1f;
-                    if (glowIntensity >= 1.0f) {
-                        glowIntensity = 1.0f;
-                        glowTimer.stop();
-                    }
-                    component.repaint();
-                });
-                glowTimer.start();
+                glowIntensity.animateTo(1.0f);
             }
             @Override
             public void mouseExited(MouseEvent e) {
-                if (glowTimer != null) {
-                    glowTimer.stop();
-                }
-                glowTimer = createAnimationTimer(evt -> {
-                    glowIntensity -= 0.1f;
-                    if (glowIntensity <= 0.0f) {
-                        glowIntensity = 0.0f;
-                        glowTimer.stop();
-                    }
-                    component.repaint();
-                });
-                glowTimer.start();
+                glowIntensity.animateTo(0.0f);
             }
         });
     }
@@ -246,23 +257,12 @@ public final class AnimationUtils {
      * Crea un effetto di ripple per un bottone
      */
     public static void addRippleEffect(JButton button) {
+        final AnimatedValue rippleProgress = new AnimatedValue(button, HOVER_DURATION);
         button.addMouseListener(new MouseAdapter() {
-            private Timer rippleTimer = null;
             @Override
             public void mousePressed(MouseEvent e) {
-                final float[] rippleProgress = {0.0f};
-                if (rippleTimer != null) {
-                    rippleTimer.stop();
-                }
-                rippleTimer = createAnimationTimer(evt -> {
-                    rippleProgress[0] += 0.1f;
-                    if (rippleProgress[0] >= 1.0f) {
-                        rippleProgress[0] = 1.0f;
-                        rippleTimer.stop();
-                    }
-                    button.repaint();
-                });
-                rippleTimer.start();
+                rippleProgress.value = 0.0f;
+                rippleProgress.animateTo(1.0f);
             }
         });
         // Override del paintComponent per disegnare l'effetto ripple
@@ -272,26 +272,27 @@ public final class AnimationUtils {
      * Crea un effetto di typing per un campo di testo
      */
     public static void addTypingEffect(JTextField textField, String text, int delay) {
-        Timer typingTimer = new Timer(1000 / ANIMATION_FPS, null);
-        typingTimer.setRepeats(true);
-        final int[] currentIndex = {0};
-        final int[] frameCount = {0};
-        typingTimer.addActionListener(e -> {
-            frameCount[0]++;
-            if (frameCount[0] >= delay / 16) {
-                if (currentIndex[0] < text.length()) {
-                    textField.setText(text.substring(0, currentIndex[0] + 1));
-                    currentIndex[0]++;
-                } else {
-                    typingTimer.stop();
+        final int charDelay = Math.max(16, delay);
+        AnimationClock.start(new AnimationClock.Animation() {
+            private int currentIndex = 0;
+            @Override
+            public boolean tick(long elapsedMillis) {
+                int target = (int) Math.min(text.length(), elapsedMillis / charDelay);
+                if (target > currentIndex) {
+                    currentIndex = target;
+                    textField.setText(text.substring(0, currentIndex));
                 }
-                frameCount[0] = 0;
+                return currentIndex < text.length();
+            }
+            @Override
+            public void finish() {
+                textField.setText(text);
             }
         });
-        typingTimer.start();
     }
     /**
-     * Crea un effetto di loading spinner
+     * Crea un effetto di loading spinner.
+     * La rotazione avanza solo mentre lo spinner è visibile.
      */
     public static JPanel createLoadingSpinner(int size) {
         final float[] rotationAngle = {0.0f};
@@ -309,19 +310,17 @@ public final class AnimationUtils {
                 g2d.setColor(new Color(72, 201, 176)); // Tiffany color
                 g2d.setStroke(new BasicStroke(3));
                 int startAngle = (int)(rotationAngle[0] * 180 / Math.PI);
-                g2d.drawArc(centerX - radius, centerY - radius, 
+                g2d.drawArc(centerX - radius, centerY - radius,
                            radius * 2, radius * 2, startAngle, 270);
                 g2d.dispose();
             }
         };
-        // Timer per l'animazione di rotazione
-        Timer rotationTimer = new Timer(1000 / ANIMATION_FPS, null);
-        rotationTimer.setRepeats(true);
-        rotationTimer.addActionListener(e -> {
-            rotationAngle[0] += 0.2f;
-            spinner.repaint();
+        // Rotazione di 0.2 radianti ogni 16ms
+        AnimationClock.startWhileShowing(spinner, elapsedMillis -> {
+            rotationAngle[0] = elapsedMillis * 0.2f / 16;
+            AnimationClock.repaint(spinner);
+            return true;
         });
-        rotationTimer.start();
         spinner.setPreferredSize(new Dimension(size, size));
         spinner.setOpaque(false);
         return spinner;
@@ -336,18 +335,6 @@ public final class AnimationUtils {
         progressBar.setForeground(new Color(72, 201, 176)); // Tiffany color
         progressBar.setBackground(new Color(240, 240, 240));
         progressBar.setBorder(BorderFactory.createEmptyBorder(2, 2, 2, 2));
-        // Animazione del progresso
-        Timer progressTimer = new Timer(1000 / ANIMATION_FPS, null);
-        progressTimer.setRepeats(true);
-        final int[] currentValue = {min};
-        progressTimer.addActionListener(e -> {
-            if (currentValue[0] < max) {
-                currentValue[0]++;
-                progressBar.setValue(currentValue[0]);
-            } else {
-                progressTimer.stop();
-            }
-        });
         return progressBar;
     }
-} 
+}
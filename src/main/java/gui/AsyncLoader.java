@@ -0,0 +1,147 @@
+package gui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Caricamento asincrono dei dati per i pannelli Swing.
+ * Le chiamate al controller vengono eseguite su un executor condiviso in background e il
+ * risultato viene pubblicato sull'Event Dispatch Thread, che non resta mai bloccato in attesa
+ * del database.
+ * <p>
+ * Ogni istanza è un canale di caricamento (tipicamente uno per pannello): una nuova richiesta
+ * rende obsoleta quella in corso, che viene annullata se non ancora partita e il cui
+ * risultato viene comunque scartato se arriva dopo.
+ *
+ * @param <T> tipo del dato caricato
+ */
+public final class AsyncLoader<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncLoader.class.getName());
+
+    /** Numero di thread del pool condiviso (tenuto sotto db.pool.size, per lasciare connessioni alle altre operazioni) */
+    private static final int THREADS = Math.max(1, Integer.getInteger("ui.loaderThreads", 4));
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, r -> {
+        Thread t = new Thread(r, "ui-loader-" + THREAD_COUNTER.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final String name;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long delivered;
+    private volatile Future<?> pending;
+
+    /**
+     * @param name nome del canale, usato nei log
+     */
+    public AsyncLoader(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Avvia un caricamento in background annullando quello eventualmente in corso.
+     * Deve essere invocato dall'EDT; le callback vengono eseguite sull'EDT solo se
+     * nel frattempo non è stata avviata un'altra richiesta.
+     *
+     * @param task la chiamata da eseguire fuori dall'EDT
+     * @param onSuccess callback con il risultato
+     * @param onError callback in caso di eccezione
+     */
+    public void load(Callable<? extends T> task, Consumer<? super T> onSuccess, Consumer<? super Exception> onError) {
+        long ticket = generation.incrementAndGet();
+        Future<?> previous = pending;
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        pending = EXECUTOR.submit(() -> run(ticket, task, onSuccess, onError));
+    }
+
+    private void run(long ticket, Callable<? extends T> task, Consumer<? super T> onSuccess,
+                     Consumer<? super Exception> onError) {
+        if (ticket != generation.get()) {
+            return;
+        }
+        long start = System.nanoTime();
+        T result = null;
+        Exception failure = null;
+        try {
+            result = task.call();
+        } catch (Exception e) {
+            failure = e;
+        }
+        LOGGER.log(Level.FINE, "Caricamento {0} completato in {1} ms",
+            new Object[]{name, (System.nanoTime() - start) / 1_000_000});
+
+        T value = result;
+        Exception error = failure;
+        SwingUtilities.invokeLater(() -> {
+            if (ticket != generation.get()) {
+                LOGGER.log(Level.FINE, "Risultato obsoleto scartato per {0}", name);
+                return;
+            }
+            delivered = ticket;
+            pending = null;
+            if (error != null) {
+                LOGGER.log(Level.WARNING, "Errore nel caricamento di " + name, error);
+                onError.accept(error);
+            } else {
+                onSuccess.accept(value);
+            }
+        });
+    }
+
+    /**
+     * Annulla il caricamento in corso; un eventuale risultato in arrivo viene scartato
+     */
+    public void cancel() {
+        delivered = generation.incrementAndGet();
+        Future<?> previous = pending;
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        pending = null;
+    }
+
+    /**
+     * @return true se c'è un caricamento il cui risultato non è ancora stato pubblicato
+     */
+    public boolean isLoading() {
+        return delivered != generation.get();
+    }
+
+    /**
+     * Esegue un'attività sul pool condiviso, per i componenti che gestiscono da sé
+     * più caricamenti indipendenti (ad esempio le pagine di {@link PagedTableModel})
+     */
+    static void execute(Runnable task) {
+        EXECUTOR.execute(task);
+    }
+
+    /**
+     * Crea il segnaposto mostrato mentre i dati vengono caricati
+     *
+     * @param message testo da mostrare
+     * @return componente da inserire nel contenitore del pannello
+     */
+    public static JComponent createPlaceholder(String message) {
+        JLabel label = new JLabel("⏳ " + message, SwingConstants.CENTER);
+        label.setFont(new Font("Segoe UI", Font.ITALIC, 14));
+        label.setForeground(new Color(127, 140, 141));
+        label.setBorder(BorderFactory.createEmptyBorder(40, 0, 40, 0));
+        label.setAlignmentX(Component.CENTER_ALIGNMENT);
+        return label;
+    }
+}
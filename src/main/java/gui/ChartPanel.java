@@ -2,13 +2,24 @@ package gui;
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.HashMap;
 /**
  * Pannello per visualizzazioni grafiche personalizzate.
  * Implementa grafici a barre, torta e linee senza dipendenze esterne.
+ * <p>
+ * Il grafico viene disegnato in un'immagine di appoggio alla risoluzione dello schermo, che
+ * viene ridisegnata solo quando cambiano i dati o le dimensioni: i repaint dovuti a hover,
+ * scorrimento o finestre sovrapposte copiano soltanto l'immagine. Le serie più lunghe dei
+ * punti rappresentabili nella larghezza disponibile vengono ricampionate (media per gruppo).
+ * I dati si possono sostituire con {@link #setData(Map)} o estendere con
+ * {@link #appendData(String, Number)} senza ricreare il pannello.
  */
 public class ChartPanel extends JPanel {
     public enum ChartType {
@@ -16,9 +27,21 @@ public class ChartPanel extends JPanel {
         PIE_CHART,
         LINE_CHART
     }
+    /** Larghezza minima in pixel per barra e per punto di una serie prima del ricampionamento */
+    private static final int MIN_BAR_SLOT = 25;
+    private static final int MIN_POINT_SLOT = 6;
+    /** Distanza minima in pixel tra due etichette dell'asse X */
+    private static final int MIN_LABEL_SLOT = 50;
     private ChartType chartType;
-    private Map<String, Number> data;
+    private final Map<String, Integer> indexByLabel = new HashMap<>();
+    private final List<String> labels = new ArrayList<>();
+    private double[] values = new double[16];
     private Color[] colors;
+    // Immagine di appoggio con il grafico già disegnato
+    private BufferedImage buffer;
+    private boolean bufferValid;
+    private double bufferScaleX;
+    private double bufferScaleY;
     // Costanti per lo styling
     private static final Color[] DEFAULT_COLORS = {
         new Color(52, 152, 219),   // Blue
@@ -59,8 +82,8 @@ public class ChartPanel extends JPanel {
      */
     private ChartPanel(ChartType chartType, String title, Map<String, Number> data) {
         this.chartType = chartType;
-        this.data = new HashMap<>(data);
         this.colors = DEFAULT_COLORS;
+        putAll(data);
         setBackground(Color.WHITE);
         setBorder(BorderFactory.createTitledBorder(
             BorderFactory.createLineBorder(new Color(189, 195, 199)),
@@ -71,14 +94,125 @@ public class ChartPanel extends JPanel {
             new Color(52, 73, 94)
         ));
     }
+    /**
+     * Sostituisce i dati del grafico, nell'ordine di iterazione della mappa
+     */
+    public void setData(Map<String, Number> data) {
+        labels.clear();
+        indexByLabel.clear();
+        putAll(data);
+        invalidateChart();
+    }
+    /**
+     * Aggiunge un valore in coda alla serie (o aggiorna quello con la stessa etichetta)
+     * ridisegnando il grafico una sola volta
+     */
+    public void appendData(String label, Number value) {
+        put(label, value);
+        invalidateChart();
+    }
+    /**
+     * Aggiunge più valori in coda alla serie ridisegnando il grafico una sola volta
+     */
+    public void appendData(Map<String, Number> data) {
+        putAll(data);
+        invalidateChart();
+    }
+    /**
+     * Aggiorna il titolo mostrato nel bordo del grafico
+     */
+    public void setTitle(String title) {
+        if (getBorder() instanceof TitledBorder) {
+            ((TitledBorder) getBorder()).setTitle(title);
+            repaint();
+        }
+    }
+    /**
+     * @return numero di valori della serie
+     */
+    public int getDataSize() {
+        return labels.size();
+    }
+    private void putAll(Map<String, Number> data) {
+        if (data != null) {
+            for (Map.Entry<String, Number> entry : data.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+    private void put(String label, Number value) {
+        double v = value != null ? value.doubleValue() : 0.0;
+        Integer index = indexByLabel.get(label);
+        if (index != null) {
+            values[index] = v;
+            return;
+        }
+        if (labels.size() == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        indexByLabel.put(label, labels.size());
+        values[labels.size()] = v;
+        labels.add(label);
+    }
+    /**
+     * Segna l'immagine di appoggio come da ridisegnare
+     */
+    private void invalidateChart() {
+        bufferValid = false;
+        repaint();
+    }
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        bufferValid = false;
+    }
+    @Override
+    public void setBackground(Color bg) {
+        super.setBackground(bg);
+        bufferValid = false;
+    }
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g.create();
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
         int width = getWidth();
         int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        Graphics2D target = (Graphics2D) g;
+        AffineTransform transform = target.getTransform();
+        double scaleX = Math.max(1.0, Math.abs(transform.getScaleX()));
+        double scaleY = Math.max(1.0, Math.abs(transform.getScaleY()));
+        int bufferWidth = (int) Math.ceil(width * scaleX);
+        int bufferHeight = (int) Math.ceil(height * scaleY);
+        if (!bufferValid || buffer == null || buffer.getWidth() != bufferWidth
+                || buffer.getHeight() != bufferHeight || scaleX != bufferScaleX || scaleY != bufferScaleY) {
+            if (buffer == null || buffer.getWidth() != bufferWidth || buffer.getHeight() != bufferHeight) {
+                buffer = new BufferedImage(bufferWidth, bufferHeight, BufferedImage.TYPE_INT_ARGB);
+            }
+            Graphics2D g2d = buffer.createGraphics();
+            try {
+                g2d.setComposite(AlphaComposite.Clear);
+                g2d.fillRect(0, 0, bufferWidth, bufferHeight);
+                g2d.setComposite(AlphaComposite.SrcOver);
+                g2d.scale((double) bufferWidth / width, (double) bufferHeight / height);
+                g2d.setFont(getFont());
+                renderChart(g2d, width, height);
+            } finally {
+                g2d.dispose();
+            }
+            bufferScaleX = scaleX;
+            bufferScaleY = scaleY;
+            bufferValid = true;
+        }
+        target.drawImage(buffer, 0, 0, width, height, null);
+    }
+    /**
+     * Disegna il grafico nell'immagine di appoggio
+     */
+    private void renderChart(Graphics2D g2d, int width, int height) {
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
         // Margini
         int margin = 40;
         int chartWidth = width - 2 * margin;
@@ -94,33 +228,74 @@ public class ChartPanel extends JPanel {
                 drawLineChart(g2d, margin, margin + 30, chartWidth, chartHeight);
                 break;
         }
-        g2d.dispose();
+    }
+    /**
+     * Serie da disegnare, eventualmente ricampionata
+     */
+    private static final class Series {
+        final String[] labels;
+        final double[] values;
+        Series(String[] labels, double[] values) {
+            this.labels = labels;
+            this.values = values;
+        }
+        int size() {
+            return values.length;
+        }
+        double max() {
+            return Arrays.stream(values).max().orElse(1.0);
+        }
+        double min() {
+            return Arrays.stream(values).min().orElse(0.0);
+        }
+    }
+    /**
+     * Riduce la serie ad al più {@code maxPoints} valori raggruppando punti consecutivi:
+     * ogni gruppo prende la media dei valori e l'etichetta del primo punto
+     */
+    private Series sample(int maxPoints) {
+        int n = labels.size();
+        int points = Math.max(1, Math.min(n, maxPoints));
+        String[] sampledLabels = new String[points];
+        double[] sampledValues = new double[points];
+        for (int i = 0; i < points; i++) {
+            int from = (int) ((long) i * n / points);
+            int to = (int) ((long) (i + 1) * n / points);
+            double sum = 0;
+            for (int j = from; j < to; j++) {
+                sum += values[j];
+            }
+            sampledLabels[i] = labels.get(from);
+            sampledValues[i] = sum / (to - from);
+        }
+        return new Series(sampledLabels, sampledValues);
     }
     /**
      * Disegna un grafico a barre
      */
     private void drawBarChart(Graphics2D g2d, int x, int y, int width, int height) {
-        if (data.isEmpty()) {
+        if (labels.isEmpty()) {
             drawNoDataMessage(g2d, x, y, width, height);
             return;
         }
-        List<String> labels = new ArrayList<>(data.keySet());
-        int numBars = labels.size();
-        if (numBars == 0) return;
+        Series series = sample(Math.max(1, (width - 60) / MIN_BAR_SLOT));
+        int numBars = series.size();
         // Calcola dimensioni
         int barWidth = Math.max(20, (width - 60) / numBars);
         int spacing = Math.max(5, (width - 60 - barWidth * numBars) / (numBars + 1));
         int maxBarHeight = height - 60; // spazio per etichette
         // Trova il valore massimo per scalare
-        double maxValue = data.values().stream().mapToDouble(Number::doubleValue).max().orElse(1.0);
+        double maxValue = series.max();
         // Disegna assi
         g2d.setColor(Color.BLACK);
         g2d.drawLine(x, y, x, y + maxBarHeight); // Asse Y
         g2d.drawLine(x, y + maxBarHeight, x + width, y + maxBarHeight); // Asse X
+        FontMetrics fm = g2d.getFontMetrics();
+        int labelStep = labelStep(numBars, width);
         // Disegna barre
         for (int i = 0; i < numBars; i++) {
-            String label = labels.get(i);
-            double value = data.get(label).doubleValue();
+            String label = series.labels[i];
+            double value = series.values[i];
             int barHeight = (int) ((value / maxValue) * maxBarHeight);
             int barX = x + spacing + i * (barWidth + spacing);
             int barY = y + maxBarHeight - barHeight;
@@ -130,10 +305,12 @@ public class ChartPanel extends JPanel {
             // Bordo barra
             g2d.setColor(Color.BLACK);
             g2d.drawRect(barX, barY, barWidth, barHeight);
+            if (i % labelStep != 0) {
+                continue;
+            }
             // Etichetta valore sopra la barra
             g2d.setColor(Color.BLACK);
             String valueText = String.valueOf(Math.round(value));
-            FontMetrics fm = g2d.getFontMetrics();
             int textX = barX + barWidth / 2 - fm.stringWidth(valueText) / 2;
             int textY = barY - 5;
             g2d.drawString(valueText, textX, textY);
@@ -151,7 +328,7 @@ public class ChartPanel extends JPanel {
      * Disegna un grafico a torta
      */
     private void drawPieChart(Graphics2D g2d, int x, int y, int width, int height) {
-        if (data.isEmpty()) {
+        if (labels.isEmpty()) {
             drawNoDataMessage(g2d, x, y, width, height);
             return;
         }
@@ -159,15 +336,15 @@ public class ChartPanel extends JPanel {
         int centerY = y + height / 2;
         int radius = Math.min(width, height) / 2 - 20;
         // Calcola totale per percentuali
-        double total = data.values().stream().mapToDouble(Number::doubleValue).sum();
+        double total = 0;
+        for (int i = 0; i < labels.size(); i++) {
+            total += values[i];
+        }
         if (total == 0) return;
-        List<String> labels = new ArrayList<>(data.keySet());
         double currentAngle = 0;
         // Disegna sezioni della torta
         for (int i = 0; i < labels.size(); i++) {
-            String label = labels.get(i);
-            double value = data.get(label).doubleValue();
-            double angle = (value / total) * 360;
+            double angle = (values[i] / total) * 360;
             // Colore sezione
             g2d.setColor(colors[i % colors.length]);
             g2d.fillArc(centerX - radius, centerY - radius, radius * 2, radius * 2,
@@ -185,22 +362,19 @@ public class ChartPanel extends JPanel {
      * Disegna un grafico a linee
      */
     private void drawLineChart(Graphics2D g2d, int x, int y, int width, int height) {
-        if (data.isEmpty()) {
-            drawNoDataMessage(g2d, x, y, width, height);
-            return;
-        }
-        List<String> labels = new ArrayList<>(data.keySet());
-        int numPoints = labels.size();
-        if (numPoints < 2) {
+        if (labels.size() < 2) {
             drawNoDataMessage(g2d, x, y, width, height);
             return;
         }
         // Calcola dimensioni
         int chartHeight = height - 60;
         int chartWidth = width - 60;
+        Series series = sample(Math.max(2, chartWidth / MIN_POINT_SLOT));
+        int numPoints = series.size();
         // Trova valori min/max per scalare
-        double maxValue = data.values().stream().mapToDouble(Number::doubleValue).max().orElse(1.0);
-        double minValue = data.values().stream().mapToDouble(Number::doubleValue).min().orElse(0.0);
+        double maxValue = series.max();
+        double minValue = series.min();
+        double range = maxValue > minValue ? maxValue - minValue : 1.0;
         // Disegna assi
         g2d.setColor(Color.BLACK);
         g2d.drawLine(x, y, x, y + chartHeight); // Asse Y
@@ -209,32 +383,33 @@ public class ChartPanel extends JPanel {
         int[] xPoints = new int[numPoints];
         int[] yPoints = new int[numPoints];
         for (int i = 0; i < numPoints; i++) {
-            double value = data.get(labels.get(i)).doubleValue();
-            xPoints[i] = x + (i * chartWidth) / (numPoints - 1);
-            yPoints[i] = y + chartHeight - (int) (((value - minValue) / (maxValue - minValue)) * chartHeight);
+            double value = series.values[i];
+            xPoints[i] = x + (i * chartWidth) / Math.max(1, numPoints - 1);
+            yPoints[i] = y + chartHeight - (int) (((value - minValue) / range) * chartHeight);
         }
         // Disegna linea
         g2d.setColor(colors[0]);
         g2d.setStroke(new BasicStroke(3));
         g2d.drawPolyline(xPoints, yPoints, numPoints);
-        // Disegna punti
+        int labelStep = labelStep(numPoints, chartWidth);
+        // Disegna punti (solo se distinguibili)
         g2d.setColor(Color.RED);
-        for (int i = 0; i < numPoints; i++) {
+        for (int i = 0; i < numPoints; i += labelStep) {
             g2d.fillOval(xPoints[i] - 4, yPoints[i] - 4, 8, 8);
         }
         // Disegna etichette valori
         g2d.setColor(Color.BLACK);
         FontMetrics fm = g2d.getFontMetrics();
-        for (int i = 0; i < numPoints; i++) {
-            String valueText = String.valueOf(Math.round(data.get(labels.get(i)).doubleValue()));
+        for (int i = 0; i < numPoints; i += labelStep) {
+            String valueText = String.valueOf(Math.round(series.values[i]));
             int textX = xPoints[i] - fm.stringWidth(valueText) / 2;
             int textY = yPoints[i] - 10;
             g2d.drawString(valueText, textX, textY);
         }
         // Disegna etichette X
         g2d.setColor(Color.DARK_GRAY);
-        for (int i = 0; i < numPoints; i++) {
-            String label = labels.get(i).length() > 8 ? labels.get(i).substring(0, 5) + "..." : labels.get(i);
+        for (int i = 0; i < numPoints; i += labelStep) {
+            String label = series.labels[i].length() > 8 ? series.labels[i].substring(0, 5) + "..." : series.labels[i];
             int textX = xPoints[i] - fm.stringWidth(label) / 2;
             int textY = y + chartHeight + 15;
             g2d.drawString(label, textX, textY);
@@ -242,6 +417,13 @@ public class ChartPanel extends JPanel {
         // Disegna scala Y
         drawYAxisScale(g2d, x, y, chartHeight, maxValue);
     }
+    /**
+     * @return ogni quanti punti disegnare un'etichetta perché non si sovrappongano
+     */
+    private static int labelStep(int points, int width) {
+        int maxLabels = Math.max(1, width / MIN_LABEL_SLOT);
+        return Math.max(1, (points + maxLabels - 1) / maxLabels);
+    }
     /**
      * Disegna la scala dell'asse Y
      */
@@ -316,7 +498,7 @@ public class ChartPanel extends JPanel {
      * Crea dati di esempio per grafico a linee
      */
     public static Map<String, Number> createLineSampleData() {
-        Map<String, Number> data = new HashMap<>();
+        Map<String, Number> data = new LinkedHashMap<>();
         data.put("Gen", 10);
         data.put("Feb", 15);
         data.put("Mar", 12);
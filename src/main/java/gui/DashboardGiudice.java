@@ -11,6 +11,8 @@ import java.awt.event.ActionEvent;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Dashboard specifica per i giudici degli hackathon.
@@ -452,13 +454,15 @@ public class DashboardGiudice extends JPanel {
             
             // Simula team da valutare - otteniamo tutti i team per ora
             teamsToEvaluate = controller.getTuttiTeam();
+            Map<Integer, Hackathon> hackathons = controller.getHackathonByIds(
+                teamsToEvaluate.stream().map(Team::getHackathonId).toList());
             
             SwingUtilities.invokeLater(() -> {
                 pendingTableModel.setRowCount(0);
                 
                 for (Team team : teamsToEvaluate) {
                     try {
-                        Hackathon hackathon = controller.getHackathonById(team.getHackathonId());
+                        Hackathon hackathon = hackathons.get(team.getHackathonId());
                         // Simula conteggio membri
                         int memberCount = 3; // Default member count
                         List<Progress> teamProgress = controller.getProgressiTeam(team.getId());
@@ -507,9 +511,14 @@ public class DashboardGiudice extends JPanel {
             if (currentUser == null) return;
             
             List<Registrazione> registrazioni = controller.getRegistrazioniUtente();
-            assignedHackathons = registrazioni.stream()
+            List<Integer> hackathonIds = registrazioni.stream()
                 .filter(r -> r.isGiudice() && r.isConfermata())
-                .map(r -> controller.getHackathonById(r.getHackathonId()))
+                .map(Registrazione::getHackathonId)
+                .toList();
+            Map<Integer, Hackathon> hackathons = controller.getHackathonByIds(hackathonIds);
+            assignedHackathons = hackathonIds.stream()
+                .map(hackathons::get)
+                .filter(Objects::nonNull)
                 .toList();
             
             SwingUtilities.invokeLater(() -> {
@@ -12,6 +12,7 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Dialog per visualizzare e gestire i commenti su un documento di progresso
@@ -48,6 +49,7 @@ public class DocumentCommentsDialog extends JDialog {
     private JLabel statusLabel;
     
     private transient List<ProgressComment> allComments;
+    private transient volatile Map<Integer, Utente> judges = Map.of();
     private transient ProgressComment selectedComment;
     
     public DocumentCommentsDialog(MainFrame parent, Controller controller, Progress progress) {
@@ -334,7 +336,10 @@ public class DocumentCommentsDialog extends JDialog {
         SwingWorker<List<ProgressComment>, Void> worker = new SwingWorker<List<ProgressComment>, Void>() {
             @Override
             protected List<ProgressComment> doInBackground() throws Exception {
-                return controller.getCommentiDocumento(progress.getId());
+                List<ProgressComment> commenti = controller.getCommentiDocumento(progress.getId());
+                // Nomi dei giudici con una query sola invece di una per commento
+                judges = controller.getUtentiByIds(commenti.stream().map(ProgressComment::getJudgeId).toList());
+                return commenti;
             }
             
             @Override
@@ -396,7 +401,7 @@ public class DocumentCommentsDialog extends JDialog {
     
     private String getJudgeName(int judgeId) {
         try {
-            Utente u = controller.getUtenteById(judgeId);
+            Utente u = judges.get(judgeId);
             if (u != null) {
                 return u.getNome() + " " + u.getCognome();
             }
@@ -1,4 +1,5 @@
 package gui;
+import controller.AreaDati;
 import controller.Controller;
 import controller.EventManagementException;
 import model.Hackathon;
@@ -30,6 +31,8 @@ public class EventiPanel extends JPanel {
     private transient JButton refreshButton;
     // Selected event
     private transient Hackathon selectedEvento;
+    private final transient AsyncLoader<List<Hackathon>> eventiLoader = new AsyncLoader<>("eventi");
+    private final transient ViewModelCache<List<Hackathon>> eventiCache;
     // Modern styling
     private static final String FONT_FAMILY = "Segoe UI";
     private static final String TITLE_GESTIONE_EVENTI = "Gestione Eventi";
@@ -54,6 +57,7 @@ public class EventiPanel extends JPanel {
     public EventiPanel(Controller controller, MainFrame mainFrame) {
         this.controller = controller;
         this.mainFrame = mainFrame;
+        this.eventiCache = new ViewModelCache<>(controller, AreaDati.EVENTI);
         // Carica automaticamente gli eventi all'inizializzazione
         SwingUtilities.invokeLater(this::refreshData);
         setLayout(new BorderLayout());
@@ -493,8 +497,27 @@ public class EventiPanel extends JPanel {
      * Aggiorna i dati del pannello
      */
     public void refreshData() {
+        // Al primo caricamento mostra il segnaposto, altrimenti lascia visibili i dati precedenti
+        if (eventiContainer.getComponentCount() == 0) {
+            eventiContainer.add(AsyncLoader.createPlaceholder("Caricamento eventi..."));
+            eventiContainer.revalidate();
+            eventiContainer.repaint();
+        }
+        eventiCache.load(eventiLoader, controller::getTuttiHackathon, this::showEventi, this::showLoadError);
+    }
+    /**
+     * Aggiorna i dati solo se quelli in cache non sono più validi (usato nella navigazione)
+     */
+    public void refreshIfStale() {
+        if (!eventiCache.isFresh()) {
+            refreshData();
+        }
+    }
+    /**
+     * Ricostruisce la lista eventi con i dati caricati
+     */
+    private void showEventi(List<Hackathon> eventi) {
         eventiContainer.removeAll();
-        List<Hackathon> eventi = controller.getTuttiHackathon();
         if (eventi.isEmpty()) {
             showEmptyState();
         } else {
@@ -506,6 +529,14 @@ public class EventiPanel extends JPanel {
         selectedEvento = null;
         updateButtonStates();
     }
+    private void showLoadError(Exception e) {
+        eventiContainer.removeAll();
+        eventiContainer.add(AsyncLoader.createPlaceholder("Errore nel caricamento eventi: " + e.getMessage()));
+        eventiContainer.revalidate();
+        eventiContainer.repaint();
+        selectedEvento = null;
+        updateButtonStates();
+    }
     /**
      * Mostra lo stato vuoto
      */
@@ -695,7 +726,7 @@ public class EventiPanel extends JPanel {
         LOGGER.info("Utente validato, mostrando conferma...");
         int confirmChoice = JOptionPane.showConfirmDialog(mainFrame,
                 "Questa operazione eliminerà TUTTI gli eventi conclusi.\n" +
-                "L'operazione non può essere annullata. Procedere?",
+                "Ogni evento viene prima archiviato nella cartella 'archivi' e potrà essere reimportato. Procedere?",
                 "Elimina Eventi Conclusi",
                 JOptionPane.YES_NO_OPTION,
                 JOptionPane.WARNING_MESSAGE);
@@ -711,7 +742,7 @@ public class EventiPanel extends JPanel {
             boolean ok = controller.eliminaEventiConclusi();
             LOGGER.info(String.format("Risultato controller: %s", ok));
             if (ok) {
-                mainFrame.showToast("\uD83D\uDDD1\uFE0F Eventi conclusi eliminati con successo!", TOAST_SUCCESS);
+                mainFrame.showToast("\uD83D\uDDD1\uFE0F Eventi conclusi archiviati ed eliminati con successo!", TOAST_SUCCESS);
                 refreshData();
             } else {
                 JOptionPane.showMessageDialog(mainFrame,
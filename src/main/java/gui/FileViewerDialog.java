@@ -1,12 +1,12 @@
 package gui;
 
 import controller.Controller;
+import dao.DocumentoFiltro;
 import model.Documento;
 import model.Utente;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.TitledBorder;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.MouseAdapter;
@@ -31,11 +31,19 @@ public class FileViewerDialog extends JDialog {
     private static final String DIMENSIONE_COLUMN = "Dimensione";
     private static final String SEGOE_UI_FONT = "Segoe UI";
     private static final String IMAGE_PREFIX = "image/";
+    private static final int PAGE_SIZE = 200;
+    private static final int MAX_CACHED_PAGES = 10;
+    private static final int SEARCH_DEBOUNCE_MS = 300;
+    private static final DocumentoFiltro.Ordinamento[] COLUMN_SORT = {
+        DocumentoFiltro.Ordinamento.NOME, DocumentoFiltro.Ordinamento.TIPO, DocumentoFiltro.Ordinamento.DIMENSIONE,
+        DocumentoFiltro.Ordinamento.DATA, DocumentoFiltro.Ordinamento.TEAM, DocumentoFiltro.Ordinamento.VALIDATO,
+        DocumentoFiltro.Ordinamento.UTENTE
+    };
     
     // Componenti GUI
     private final transient Controller controller;
     private JTable documentsTable;
-    private DefaultTableModel tableModel;
+    private PagedTableModel<Documento> tableModel;
     private JButton downloadButton;
     private JButton previewButton;
     private JButton validateButton;
@@ -48,8 +56,10 @@ public class FileViewerDialog extends JDialog {
     private JTextArea documentInfoArea;
     
     // Dati
-    private transient List<Documento> allDocuments;
     private transient Documento selectedDocument;
+    private transient DocumentoFiltro.Ordinamento ordinamento = DocumentoFiltro.Ordinamento.DATA;
+    private boolean ordineCrescente = false;
+    private javax.swing.Timer searchDebounce;
     private int teamId = -1; // -1 = tutti i documenti
     private int hackathonId = -1; // -1 = tutti gli hackathon
     
@@ -93,18 +103,17 @@ public class FileViewerDialog extends JDialog {
     private void initializeComponents() {
         // Tabella documenti
         String[] columnNames = {NOME_COLUMN, "Tipo", DIMENSIONE_COLUMN, "Data", "Team", "Validato", "Caricato da"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-            
-            @Override
-            public Class<?> getColumnClass(int columnIndex) {
-                if (columnIndex == 5) return Boolean.class; // Validato column
-                return String.class;
-            }
-        };
+        Class<?>[] columnClasses = {String.class, String.class, String.class, String.class, String.class,
+            Boolean.class, String.class};
+        tableModel = new PagedTableModel<>(columnNames, columnClasses, this::getColumnValue, PAGE_SIZE, MAX_CACHED_PAGES);
+        tableModel.setOnCount(count -> {
+            statusLabel.setText("📊 " + count + " documenti visualizzati");
+            statusLabel.setForeground(new Color(39, 174, 96));
+        });
+        tableModel.setOnError(e -> {
+            statusLabel.setText("❌ Errore nel caricamento: " + e.getMessage());
+            statusLabel.setForeground(Color.RED);
+        });
         
         documentsTable = new JTable(tableModel);
         documentsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -281,11 +290,24 @@ public class FileViewerDialog extends JDialog {
         filterComboBox.addActionListener(e -> applyFilters());
         searchField.addActionListener(e -> applyFilters());
         
-        // Real-time search
+        // Real-time search: una sola query quando l'utente smette di scrivere
+        searchDebounce = new javax.swing.Timer(SEARCH_DEBOUNCE_MS, e -> applyFilters());
+        searchDebounce.setRepeats(false);
         searchField.addKeyListener(new java.awt.event.KeyAdapter() {
             @Override
             public void keyReleased(java.awt.event.KeyEvent evt) {
-                applyFilters();
+                searchDebounce.restart();
+            }
+        });
+        
+        // Ordinamento lato database al click sull'intestazione
+        documentsTable.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int column = documentsTable.columnAtPoint(e.getPoint());
+                if (column >= 0) {
+                    sortBy(COLUMN_SORT[documentsTable.convertColumnIndexToModel(column)]);
+                }
             }
         });
     }
@@ -294,128 +316,98 @@ public class FileViewerDialog extends JDialog {
      * Carica i documenti dal database
      */
     private void loadDocuments() {
-        SwingWorker<List<Documento>, Void> worker = new SwingWorker<List<Documento>, Void>() {
+        statusLabel.setText("🔄 Caricamento documenti...");
+        statusLabel.setForeground(Color.BLUE);
+        applyFilters();
+    }
+    
+    /**
+     * Applica filtri e ordinamento: vengono eseguiti dal database, la tabella legge
+     * solo le pagine visibili
+     */
+    private void applyFilters() {
+        if (searchDebounce != null) {
+            searchDebounce.stop();
+        }
+        DocumentoFiltro filtro = new DocumentoFiltro(teamId, hackathonId,
+            toCategoria((String) filterComboBox.getSelectedItem()), searchField.getText(),
+            ordinamento, ordineCrescente);
+        documentsTable.clearSelection();
+        tableModel.setSource(new PagedTableModel.PageSource<>() {
             @Override
-            protected List<Documento> doInBackground() throws Exception {
-                statusLabel.setText("🔄 Caricamento documenti...");
-                statusLabel.setForeground(Color.BLUE);
-                
-                if (teamId > 0) {
-                    return controller.getDocumentiTeam(teamId);
-                } else if (hackathonId > 0) {
-                    return controller.getDocumentiHackathon(hackathonId);
-                } else {
-                    return controller.getTuttiDocumenti();
-                }
+            public int count() {
+                return controller.contaDocumenti(filtro);
             }
             
             @Override
-            protected void done() {
-                try {
-                    allDocuments = get();
-                    applyFilters();
-                    statusLabel.setText("✅ " + allDocuments.size() + " documenti caricati");
-                    statusLabel.setForeground(new Color(39, 174, 96));
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    statusLabel.setText("❌ Caricamento interrotto");
-                    statusLabel.setForeground(Color.ORANGE);
-                } catch (Exception e) {
-                    statusLabel.setText("❌ Errore nel caricamento: " + e.getMessage());
-                    statusLabel.setForeground(Color.RED);
-                    JOptionPane.showMessageDialog(FileViewerDialog.this,
-                        "Errore nel caricamento dei documenti:\n" + e.getMessage(),
-                        ERROR_TITLE, JOptionPane.ERROR_MESSAGE);
-                }
+            public List<Documento> fetch(Documento dopo, int offset, int limite) {
+                return controller.getPaginaDocumenti(filtro, dopo, offset, limite);
             }
-        };
-        worker.execute();
+        });
     }
     
     /**
-     * Applica i filtri alla lista documenti
+     * Ordina per la colonna indicata; un secondo click inverte il verso
      */
-    private void applyFilters() {
-        if (allDocuments == null) return;
-        
-        String filter = (String) filterComboBox.getSelectedItem();
-        String searchText = searchField.getText().toLowerCase().trim();
-        
-        tableModel.setRowCount(0);
-        
-        for (Documento doc : allDocuments) {
-            if (passesTypeFilter(doc, filter) && passesSearchFilter(doc, searchText)) {
-                addDocumentToTable(doc);
-            }
+    private void sortBy(DocumentoFiltro.Ordinamento colonna) {
+        if (colonna == ordinamento) {
+            ordineCrescente = !ordineCrescente;
+        } else {
+            ordinamento = colonna;
+            ordineCrescente = true;
         }
-        
-        statusLabel.setText("📊 " + tableModel.getRowCount() + " documenti visualizzati");
+        applyFilters();
     }
     
     /**
-     * Verifica se il documento passa il filtro per tipo
+     * Converte la voce del filtro nella categoria del DAO
      */
-    private boolean passesTypeFilter(Documento doc, String filter) {
+    private static DocumentoFiltro.Categoria toCategoria(String filter) {
+        if (filter == null) {
+            return DocumentoFiltro.Categoria.TUTTI;
+        }
         switch (filter) {
             case "Solo validati":
-                return doc.isValidato();
+                return DocumentoFiltro.Categoria.VALIDATI;
             case "Non validati":
-                return !doc.isValidato();
+                return DocumentoFiltro.Categoria.NON_VALIDATI;
             case "PDF":
-                return doc.getTipo().contains("pdf");
+                return DocumentoFiltro.Categoria.PDF;
             case "Immagini":
-                return doc.getTipo().startsWith(IMAGE_PREFIX);
+                return DocumentoFiltro.Categoria.IMMAGINI;
             case VIDEO_FILTER:
-                return doc.getTipo().startsWith("video/");
+                return DocumentoFiltro.Categoria.VIDEO;
             case "Archivi":
-                return doc.getTipo().contains("zip") || doc.getTipo().contains("rar");
+                return DocumentoFiltro.Categoria.ARCHIVI;
             case "Documenti Office":
-                return doc.getTipo().contains("word") || doc.getTipo().contains("excel") || 
-                       doc.getTipo().contains("powerpoint") || doc.getTipo().contains("officedocument");
+                return DocumentoFiltro.Categoria.OFFICE;
             default:
                 // "Tutti i documenti" or unknown filter
-                return true;
+                return DocumentoFiltro.Categoria.TUTTI;
         }
     }
     
     /**
-     * Verifica se il documento passa il filtro di ricerca
+     * Valore di una cella della tabella documenti
      */
-    private boolean passesSearchFilter(Documento doc, String searchText) {
-        if (searchText.isEmpty()) {
-            return true;
-        }
-        return doc.getNome().toLowerCase().contains(searchText) ||
-               (doc.getDescrizione() != null && doc.getDescrizione().toLowerCase().contains(searchText));
-    }
-    
-    /**
-     * Aggiunge un documento alla tabella
-     */
-    private void addDocumentToTable(Documento doc) {
-        try {
-            String teamName = "Team " + doc.getTeamId();
-            String userName = "Utente " + doc.getUtenteCaricamento();
-            
-            // Formatta la data
-            String dataFormatted = "N/A";
-            if (doc.getDataCaricamento() != null) {
-                dataFormatted = doc.getDataCaricamento().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"));
-            }
-            
-            Object[] row = {
-                doc.getNome(),
-                getMimeTypeDescription(doc.getTipo()),
-                formatFileSize(doc.getDimensione()),
-                dataFormatted,
-                teamName,
-                doc.isValidato(),
-                userName
-            };
-            
-            tableModel.addRow(row);
-        } catch (Exception e) {
-            // Skip documenti con errori
+    private Object getColumnValue(Documento doc, int column) {
+        switch (column) {
+            case 0:
+                return doc.getNome();
+            case 1:
+                return getMimeTypeDescription(doc.getTipo());
+            case 2:
+                return formatFileSize(doc.getDimensione());
+            case 3:
+                return doc.getDataCaricamento() != null
+                    ? doc.getDataCaricamento().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"))
+                    : "N/A";
+            case 4:
+                return "Team " + doc.getTeamId();
+            case 5:
+                return doc.isValidato();
+            default:
+                return "Utente " + doc.getUtenteCaricamento();
         }
     }
     
@@ -424,12 +416,8 @@ public class FileViewerDialog extends JDialog {
      */
     private void updateSelectedDocument() {
         int selectedRow = documentsTable.getSelectedRow();
-        if (selectedRow >= 0 && allDocuments != null) {
-            String selectedName = (String) tableModel.getValueAt(selectedRow, 0);
-            selectedDocument = allDocuments.stream()
-                .filter(doc -> doc.getNome().equals(selectedName))
-                .findFirst()
-                .orElse(null);
+        if (selectedRow >= 0) {
+            selectedDocument = tableModel.getRow(documentsTable.convertRowIndexToModel(selectedRow));
         } else {
             selectedDocument = null;
         }
@@ -11,6 +11,7 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Dialog dettagliato per visualizzare e gestire le informazioni complete di un hackathon.
@@ -738,13 +739,15 @@ public class HackathonDetailsDialog extends JDialog {
     private void loadRegistrations() {
         try {
             hackathonRegistrations = controller.getRegistrazioniHackathon(hackathon.getId());
+            Map<Integer, Utente> utenti = controller.getUtentiByIds(
+                hackathonRegistrations.stream().map(Registrazione::getUtenteId).toList());
             
             SwingUtilities.invokeLater(() -> {
                 registrationsTableModel.setRowCount(0);
                 
                 for (Registrazione reg : hackathonRegistrations) {
                     try {
-                        Utente user = controller.getUtenteById(reg.getUtenteId());
+                        Utente user = utenti.get(reg.getUtenteId());
                         String status = reg.isConfermata() ? "✅ Confermata" : "⏳ In attesa";
                         String date = reg.getDataRegistrazione().format(DateTimeFormatter.ofPattern(DATE_TIME_FORMAT));
                         
@@ -841,6 +844,8 @@ public class HackathonDetailsDialog extends JDialog {
     private void loadEvaluations() {
         try {
             hackathonEvaluations = controller.getValutazioniHackathon(hackathon.getId());
+            Map<Integer, Utente> giudici = controller.getUtentiByIds(
+                hackathonEvaluations.stream().map(Valutazione::getGiudiceId).toList());
             
             SwingUtilities.invokeLater(() -> {
                 evaluationsTableModel.setRowCount(0);
@@ -851,7 +856,7 @@ public class HackathonDetailsDialog extends JDialog {
                         Team team = hackathonTeams.stream()
                             .filter(t -> t.getId() == eval.getTeamId())
                             .findFirst().orElse(null);
-                        Utente judge = controller.getUtenteById(eval.getGiudiceId());
+                        Utente judge = giudici.get(eval.getGiudiceId());
                         String date = eval.getDataValutazione().format(DateTimeFormatter.ofPattern(DATE_TIME_FORMAT));
                         String comment = eval.getCommento() != null && !eval.getCommento().trim().isEmpty() ? 
                             eval.getCommento().substring(0, Math.min(50, eval.getCommento().length())) + "..." : 
@@ -23,7 +23,7 @@ public final class ModernComponents {
         private Color pressedColor;
         private boolean isAnimating = false;
         private float animationProgress = 0f;
-        private Timer animationTimer;
+        private AnimationClock.Handle animation;
         public ModernButton(String text) {
             super(text);
             init();
@@ -60,24 +60,36 @@ public final class ModernComponents {
             });
         }
         private void startHoverAnimation(boolean entering) {
-            if (animationTimer != null) {
-                animationTimer.stop();
+            if (animation != null) {
+                animation.cancel();
             }
             isAnimating = true;
             final Color startColor = getBackground();
             final Color endColor = entering ? hoverColor : DesignSystem.PRIMARY_500;
-            animationTimer = new Timer(16, e -> {
-                animationProgress += entering ? 0.1f : -0.1f;
-                animationProgress = Math.max(0f, Math.min(1f, animationProgress));
-                Color currentColor = interpolateColor(startColor, endColor, animationProgress);
-                setBackground(currentColor);
-                repaint();
-                if ((entering && animationProgress >= 1f) || (!entering && animationProgress <= 0f)) {
-                    animationTimer.stop();
+            final float initialProgress = animationProgress;
+            animation = AnimationClock.start(new AnimationClock.Animation() {
+                @Override
+                public boolean tick(long elapsedMillis) {
+                    // 0.1 ogni 16ms, come un fotogramma a 60 FPS
+                    float delta = elapsedMillis / 160f;
+                    animationProgress = initialProgress + (entering ? delta : -delta);
+                    animationProgress = Math.max(0f, Math.min(1f, animationProgress));
+                    setBackground(interpolateColor(startColor, endColor, animationProgress));
+                    AnimationClock.repaint(ModernButton.this);
+                    if ((entering && animationProgress >= 1f) || (!entering && animationProgress <= 0f)) {
+                        isAnimating = false;
+                        return false;
+                    }
+                    return true;
+                }
+                @Override
+                public void finish() {
+                    animationProgress = entering ? 1f : 0f;
+                    setBackground(endColor);
                     isAnimating = false;
+                    AnimationClock.repaint(ModernButton.this);
                 }
             });
-            animationTimer.start();
         }
         @Override
         protected void paintComponent(Graphics g) {
@@ -545,36 +557,38 @@ public final class ModernComponents {
         private void showWithAnimation() {
             setOpacity(0f);
             setVisible(true);
-            Timer fadeIn = new Timer(16, new ActionListener() {
-                float opacity = 0f;
+            AnimationClock.start(new AnimationClock.Animation() {
                 @Override
-                public void actionPerformed(ActionEvent e) {
-                    opacity += 0.05f;
-                    if (opacity >= 1f) {
-                        opacity = 1f;
-                        ((Timer) e.getSource()).stop();
-                    }
+                public boolean tick(long elapsedMillis) {
+                    // 0.05 ogni 16ms
+                    float opacity = Math.min(1f, elapsedMillis / 320f);
                     setOpacity(opacity);
+                    return opacity < 1f;
+                }
+                @Override
+                public void finish() {
+                    setOpacity(1f);
                 }
             });
-            fadeIn.start();
         }
         private void hideWithAnimation() {
-            Timer fadeOut = new Timer(16, new ActionListener() {
-                float opacity = 1f;
+            AnimationClock.start(new AnimationClock.Animation() {
                 @Override
-                public void actionPerformed(ActionEvent e) {
-                    opacity -= 0.05f;
+                public boolean tick(long elapsedMillis) {
+                    float opacity = Math.max(0f, 1f - elapsedMillis / 320f);
                     if (opacity <= 0f) {
-                        opacity = 0f;
-                        setVisible(false);
-                        dispose();
-                        ((Timer) e.getSource()).stop();
+                        finish();
+                        return false;
                     }
                     setOpacity(opacity);
+                    return true;
+                }
+                @Override
+                public void finish() {
+                    setVisible(false);
+                    dispose();
                 }
             });
-            fadeOut.start();
         }
     }
     // ===================== UTILITY METHODS =====================
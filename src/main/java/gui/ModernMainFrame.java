@@ -29,6 +29,7 @@ import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.FontMetrics;
 import java.time.LocalDateTime;
+import java.util.function.Supplier;
 import java.time.format.DateTimeFormatter;
 /**
  * Frame principale modernizzato dell'applicazione Hackathon Manager.
@@ -107,16 +108,25 @@ public class ModernMainFrame extends JFrame {
         ConnectionManager connectionManager = new ConnectionManager(DataSourceFactory.createDataSource());
         this.controller = new Controller(connectionManager);
 
-        // Verifica configurazione database all'avvio
-        try {
-            System.out.println("🔍 Verifica configurazione database...");
-            connectionManager.testTables();
-            System.out.println("✅ Database configurato correttamente");
-        } catch (Exception e) {
-            System.err.println("❌ Errore configurazione database: " + e.getMessage());
-            System.err.println("⚠️ Verificare che il database sia configurato correttamente");
-            System.err.println("📖 Consultare README_DATABASE.md per le istruzioni");
-        }
+        // Verifica del database e ripresa dei backup programmati in background: la finestra
+        // di login compare subito e la prima connessione è già aperta quando l'utente accede
+        Thread warmUp = new Thread(() -> {
+            try {
+                System.out.println("🔍 Verifica configurazione database...");
+                connectionManager.testTables();
+                System.out.println("✅ Database configurato correttamente");
+            } catch (Exception e) {
+                System.err.println("❌ Errore configurazione database: " + e.getMessage());
+                System.err.println("⚠️ Verificare che il database sia configurato correttamente");
+                System.err.println("📖 Consultare README_DATABASE.md per le istruzioni");
+            }
+            // Riattiva i backup automatici programmati
+            controller.riprendiBackupProgrammati();
+            // Snapshot delle statistiche per le dashboard
+            controller.avviaAggiornamentoStatistiche();
+        }, "db-warmup");
+        warmUp.setDaemon(true);
+        warmUp.start();
 
         initializeFrame();
         createModernLayout();
@@ -370,22 +380,40 @@ public class ModernMainFrame extends JFrame {
                              "Realizzato da: Minopoli Alessandro, Megna Daniele, Simone Iodice • " +
                              APP_TITLE + " ";
         private int xPosition = 0;
-        private Timer scrollTimer;
         private FontMetrics fontMetrics;
         public ScrollingTextPanel() {
             setOpaque(false);
             setFont(new Font("Segoe UI", Font.ITALIC, 14));
             fontMetrics = getFontMetrics(getFont());
-            // Start smooth scrolling animation with slower, more fluid movement
-            scrollTimer = new Timer(30, e -> {
-                xPosition -= 1;
-                int textWidth = fontMetrics.stringWidth(text);
-                if (xPosition < -textWidth) {
-                    xPosition = getWidth();
+            // Scorrimento di un pixel ogni 30ms sull'orologio condiviso, solo mentre il pannello è visibile
+            AnimationClock.startWhileShowing(this, new AnimationClock.Animation() {
+                private long lastStep;
+                @Override
+                public boolean tick(long elapsedMillis) {
+                    if (elapsedMillis < lastStep) {
+                        // Animazione ripresa dopo una sospensione: il tempo riparte da zero
+                        lastStep = 0;
+                    }
+                    int steps = (int) ((elapsedMillis - lastStep) / 30);
+                    if (steps > 0) {
+                        lastStep += steps * 30L;
+                        xPosition -= steps;
+                        int textWidth = fontMetrics.stringWidth(text);
+                        if (xPosition < -textWidth) {
+                            xPosition = getWidth();
+                        }
+                        AnimationClock.repaint(ScrollingTextPanel.this);
+                    }
+                    return true;
+                }
+                @Override
+                public void finish() {
+                    // Animazioni disattivate: testo fermo
+                    lastStep = 0;
+                    xPosition = 0;
+                    AnimationClock.repaint(ScrollingTextPanel.this);
                 }
-                repaint();
             });
-            scrollTimer.start();
         }
         @Override
         protected void paintComponent(Graphics g) {
@@ -402,60 +430,44 @@ public class ModernMainFrame extends JFrame {
             g2.drawString(text, xPosition + textWidth + 50, y);
             g2.dispose();
         }
-        @Override
-        public void addNotify() {
-            super.addNotify();
-            if (scrollTimer != null && !scrollTimer.isRunning()) {
-                scrollTimer.start();
-            }
-        }
-        @Override
-        public void removeNotify() {
-            super.removeNotify();
-            if (scrollTimer != null && scrollTimer.isRunning()) {
-                scrollTimer.stop();
-            }
-        }
     }
     /**
-     * Inizializza i pannelli dell'applicazione
+     * Inizializza i pannelli dell'applicazione.
+     * Viene creato solo il pannello di login: gli altri vengono costruiti al primo utilizzo
+     * con {@link #getOrCreatePanel}, così dopo il login si crea soltanto il pannello iniziale.
      */
     private void initializePanels() {
         // Create panels with modern design
         ModernLoginPanel loginPanel = new ModernLoginPanel(controller, this);
-        // Cast to MainFrame for compatibility with existing panels
-        // Nota: alcuni pannelli legacy richiedono un MainFrame, ma possiamo passare null per ora
-        MainFrame legacyFrame = null;
+        contentPanel.add(loginPanel, LOGIN_CARD);
+    }
+    /**
+     * Restituisce il pannello indicato, creandolo e aggiungendolo al card layout al primo uso.
+     *
+     * @param existing il pannello già creato, o null
+     * @param factory costruttore del pannello
+     * @param card nome della card nel layout
+     * @param nome nome del pannello per i messaggi di errore
+     * @return il pannello, o null se la creazione non è riuscita (l'errore è già stato mostrato)
+     */
+    private <P extends Component> P getOrCreatePanel(P existing, Supplier<P> factory, String card, String nome) {
+        if (existing != null) {
+            return existing;
+        }
         try {
-            this.eventiPanel = new EventiPanel(controller, legacyFrame);
-            this.teamPanel = new TeamPanel(controller, legacyFrame);
-            this.registrazioniPanel = new RegistrazioniPanel(controller, legacyFrame);
-            this.gestioneRegistrazioniPanel = new GestioneRegistrazioniPanel(controller, legacyFrame);
-            this.valutazioniPanel = new ValutazioniPanel(controller, legacyFrame);
-            this.utentePanel = new ModernUtentePanel(controller);
+            P panel = factory.get();
+            contentPanel.add(panel, card);
+            return panel;
         } catch (Exception e) {
             // Log the exception with context
-            System.err.println("Errore durante l'inizializzazione dei pannelli: " + e.getMessage());
+            System.err.println("Errore durante l'inizializzazione del pannello " + nome + ": " + e.getMessage());
             e.printStackTrace();
-            // Crea pannelli di fallback
-            this.teamPanel = null; // Sarà gestito dall'inizializzazione lazy
-            this.utentePanel = new ModernUtentePanel(controller);
-        }
-        // Add panels to card layout
-        contentPanel.add(loginPanel, LOGIN_CARD);
-        contentPanel.add(eventiPanel, EVENTI_CARD);
-        if (teamPanel != null) {
-        contentPanel.add(teamPanel, TEAM_CARD);
-        } else {
-            // Crea un pannello di errore come fallback
-            JPanel errorPanel = new JPanel(new BorderLayout());
-            errorPanel.add(new JLabel("Errore: Pannello Team non inizializzato", SwingConstants.CENTER), BorderLayout.CENTER);
-            contentPanel.add(errorPanel, TEAM_CARD);
+            JOptionPane.showMessageDialog(this,
+                "Errore durante l'inizializzazione del pannello " + nome + ":\n" + e.getMessage(),
+                ERROR_SYSTEM_TITLE,
+                JOptionPane.ERROR_MESSAGE);
+            return null;
         }
-        contentPanel.add(registrazioniPanel, REGISTRAZIONI_CARD);
-        contentPanel.add(gestioneRegistrazioniPanel, GESTIONE_REGISTRAZIONI_CARD);
-        contentPanel.add(valutazioniPanel, VALUTAZIONI_CARD);
-        contentPanel.add(utentePanel, UTENTE_CARD);
     }
     /**
      * Configura gli event handler
@@ -480,11 +492,16 @@ public class ModernMainFrame extends JFrame {
     }
     public void showEventiPanel() {
         if (isLoggedIn) {
+            // Pannello legacy: il MainFrame non è disponibile, si passa null
+            eventiPanel = getOrCreatePanel(eventiPanel, () -> new EventiPanel(controller, null), EVENTI_CARD, "eventi");
+            if (eventiPanel == null) {
+                return;
+            }
             cardLayout.show(contentPanel, EVENTI_CARD);
             updateActiveNavButton(eventiNavButton);
-            // Aggiorna i dati del pannello eventi
+            // Aggiorna i dati del pannello eventi (dalla cache se ancora valida)
             if (eventiPanel != null) {
-                eventiPanel.refreshData();
+                eventiPanel.refreshIfStale();
             }
         }
     }
@@ -494,34 +511,14 @@ public class ModernMainFrame extends JFrame {
         }
         try {
             // Inizializzazione lazy del pannello se necessario
+            teamPanel = getOrCreatePanel(teamPanel, () -> new TeamPanel(controller, null), TEAM_CARD, "team");
             if (teamPanel == null) {
-                try {
-                    MainFrame legacyFrame = null; // Per compatibilità
-                    this.teamPanel = new TeamPanel(controller, legacyFrame);
-                    // Aggiungi al card layout se non già presente
-                    if (contentPanel != null) {
-                        try {
-                            contentPanel.add(teamPanel, TEAM_CARD);
-                        } catch (IllegalArgumentException e) {
-                            // Log the exception with context
-                            System.err.println("Errore durante l'aggiunta del pannello team al layout: " + e.getMessage());
-                        }
-                    }
-                } catch (Exception e) {
-                    // Log the exception with context
-                    System.err.println("Errore durante l'inizializzazione del pannello team: " + e.getMessage());
-                    e.printStackTrace();
-                    JOptionPane.showMessageDialog(this,
-                        "Errore durante l'inizializzazione del pannello team",
-                        ERROR_SYSTEM_TITLE,
-                        JOptionPane.ERROR_MESSAGE);
-                    return;
-                }
+                return;
             }
             cardLayout.show(contentPanel, TEAM_CARD);
             updateActiveNavButton(teamNavButton);
             if (teamPanel != null) {
-                teamPanel.refreshData();
+                teamPanel.refreshIfStale();
                 // Forza un refresh della UI dopo il caricamento
                 SwingUtilities.invokeLater(() -> {
                     teamPanel.revalidate();
@@ -545,16 +542,26 @@ public class ModernMainFrame extends JFrame {
     }
     public void showRegistrazioniPanel() {
         if (isLoggedIn) {
+            registrazioniPanel = getOrCreatePanel(registrazioniPanel,
+                () -> new RegistrazioniPanel(controller, null), REGISTRAZIONI_CARD, "registrazioni");
+            if (registrazioniPanel == null) {
+                return;
+            }
             cardLayout.show(contentPanel, REGISTRAZIONI_CARD);
             updateActiveNavButton(registrazioniNavButton);
-            // Aggiorna i dati del pannello registrazioni
+            // Aggiorna i dati del pannello registrazioni (dalla cache se ancora valida)
             if (registrazioniPanel != null) {
-                registrazioniPanel.refreshData();
+                registrazioniPanel.refreshIfStale();
             }
         }
     }
     public void showGestioneRegistrazioniPanel() {
         if (isLoggedIn && currentUser != null && currentUser.isOrganizzatore()) {
+            gestioneRegistrazioniPanel = getOrCreatePanel(gestioneRegistrazioniPanel,
+                () -> new GestioneRegistrazioniPanel(controller, null), GESTIONE_REGISTRAZIONI_CARD, "gestione registrazioni");
+            if (gestioneRegistrazioniPanel == null) {
+                return;
+            }
             cardLayout.show(contentPanel, GESTIONE_REGISTRAZIONI_CARD);
             updateActiveNavButton(gestioneRegistrazioniNavButton);
             // Aggiorna i dati del pannello gestione registrazioni
@@ -565,11 +572,16 @@ public class ModernMainFrame extends JFrame {
     }
     public void showValutazioniPanel() {
         if (isLoggedIn) {
+            valutazioniPanel = getOrCreatePanel(valutazioniPanel,
+                () -> new ValutazioniPanel(controller, null), VALUTAZIONI_CARD, "valutazioni");
+            if (valutazioniPanel == null) {
+                return;
+            }
             cardLayout.show(contentPanel, VALUTAZIONI_CARD);
             updateActiveNavButton(valutazioniNavButton);
-            // Aggiorna i dati del pannello valutazioni
+            // Aggiorna i dati del pannello valutazioni (dalla cache se ancora valida)
             if (valutazioniPanel != null) {
-                valutazioniPanel.refreshData();
+                valutazioniPanel.refreshIfStale();
             }
         }
     }
@@ -579,35 +591,16 @@ public class ModernMainFrame extends JFrame {
         }
         try {
             // Inizializzazione lazy del pannello se necessario
+            progressPanel = getOrCreatePanel(progressPanel, () -> new ProgressPanel(controller, this), PROGRESSI_CARD, "progressi");
             if (progressPanel == null) {
-                try {
-                    this.progressPanel = new ProgressPanel(controller, this);
-                    // Aggiungi al card layout se non già presente
-                    if (contentPanel != null) {
-                        try {
-                            contentPanel.add(progressPanel, PROGRESSI_CARD);
-                        } catch (IllegalArgumentException e) {
-                            // Log the exception with context
-                            System.err.println("Errore durante l'aggiunta del pannello progressi al layout: " + e.getMessage());
-                        }
-                    }
-                } catch (Exception e) {
-                    // Log the exception with context
-                    System.err.println("Errore durante l'inizializzazione del pannello progressi: " + e.getMessage());
-                    e.printStackTrace();
-                    JOptionPane.showMessageDialog(this,
-                        "Errore durante l'inizializzazione del pannello progressi:\n" + e.getMessage(),
-                        ERROR_SYSTEM_TITLE,
-                        JOptionPane.ERROR_MESSAGE);
-                    return;
-                }
+                return;
             }
             // Mostra il pannello
             cardLayout.show(contentPanel, PROGRESSI_CARD);
             updateActiveNavButton(progressiNavButton);
-            // Aggiorna i dati del pannello progressi
+            // Aggiorna i dati del pannello progressi (dalla cache se ancora valida)
             if (progressPanel != null) {
-                progressPanel.refreshData();
+                progressPanel.refreshIfStale();
             }
         } catch (Exception e) {
             // Log the exception with context
@@ -625,35 +618,16 @@ public class ModernMainFrame extends JFrame {
         }
         try {
             // Inizializzazione lazy del pannello se necessario
+            reportPanel = getOrCreatePanel(reportPanel, () -> new ReportPanel(controller, this), REPORT_CARD, "report");
             if (reportPanel == null) {
-                try {
-                    this.reportPanel = new ReportPanel(controller, this);
-                    // Aggiungi al card layout se non già presente
-                    if (contentPanel != null) {
-                        try {
-                            contentPanel.add(reportPanel, REPORT_CARD);
-                        } catch (IllegalArgumentException e) {
-                            // Log the exception with context
-                            System.err.println("Errore durante l'aggiunta del pannello report al layout: " + e.getMessage());
-                        }
-                    }
-                } catch (Exception e) {
-                    // Log the exception with context
-                    System.err.println("Errore durante l'inizializzazione del pannello report: " + e.getMessage());
-                    e.printStackTrace();
-                    JOptionPane.showMessageDialog(this,
-                        "Errore durante l'inizializzazione del pannello report:\n" + e.getMessage(),
-                        ERROR_SYSTEM_TITLE,
-                        JOptionPane.ERROR_MESSAGE);
-                    return;
-                }
+                return;
             }
             // Mostra il pannello
             cardLayout.show(contentPanel, REPORT_CARD);
             updateActiveNavButton(reportNavButton);
-            // Aggiorna i dati del pannello report
+            // Aggiorna i dati del pannello report (dalla cache se ancora valida)
             if (reportPanel != null) {
-                reportPanel.refreshData();
+                reportPanel.refreshIfStale();
             }
         } catch (Exception e) {
             // Log the exception with context
@@ -671,35 +645,16 @@ public class ModernMainFrame extends JFrame {
         }
         try {
             // Inizializzazione lazy del pannello se necessario
+            notificationPanel = getOrCreatePanel(notificationPanel, () -> new NotificationPanel(controller, this), NOTIFICHE_CARD, "notifiche");
             if (notificationPanel == null) {
-                try {
-                    this.notificationPanel = new NotificationPanel(controller, this);
-                    // Aggiungi al card layout se non già presente
-                    if (contentPanel != null) {
-                        try {
-                            contentPanel.add(notificationPanel, NOTIFICHE_CARD);
-                        } catch (IllegalArgumentException e) {
-                            // Log the exception with context
-                            System.err.println("Errore durante l'aggiunta del pannello notifiche al layout: " + e.getMessage());
-                        }
-                    }
-                } catch (Exception e) {
-                    // Log the exception with context
-                    System.err.println("Errore durante l'inizializzazione del pannello notifiche: " + e.getMessage());
-                    e.printStackTrace();
-                    JOptionPane.showMessageDialog(this,
-                        "Errore durante l'inizializzazione del pannello notifiche:\n" + e.getMessage(),
-                        ERROR_SYSTEM_TITLE,
-                        JOptionPane.ERROR_MESSAGE);
-                    return;
-                }
+                return;
             }
             // Mostra il pannello
             cardLayout.show(contentPanel, NOTIFICHE_CARD);
             updateActiveNavButton(notificheNavButton);
-            // Aggiorna i dati del pannello notifiche
+            // Aggiorna i dati del pannello notifiche (dalla cache se ancora valida)
             if (notificationPanel != null) {
-                notificationPanel.refreshData();
+                notificationPanel.refreshIfStale();
             }
         } catch (Exception e) {
             // Log the exception with context
@@ -713,10 +668,15 @@ public class ModernMainFrame extends JFrame {
     }
     public void showUtentePanel() {
         if (isLoggedIn) {
+            boolean nuovo = utentePanel == null;
+            utentePanel = getOrCreatePanel(utentePanel, () -> new ModernUtentePanel(controller), UTENTE_CARD, "profilo");
+            if (utentePanel == null) {
+                return;
+            }
             cardLayout.show(contentPanel, UTENTE_CARD);
             updateActiveNavButton(utenteNavButton);
-            // Aggiorna i dati del pannello utente
-            if (utentePanel != null) {
+            // Aggiorna i dati del pannello utente (appena creato li ha già caricati)
+            if (!nuovo) {
                 utentePanel.refreshData();
             }
         }
@@ -729,7 +689,8 @@ public class ModernMainFrame extends JFrame {
         this.isLoggedIn = true;
         updateUserInfo(user);
         sidebarPanel.setVisible(true);
-        showEventiPanel(); // Default panel after login
+        // Pannello iniziale (Eventi per tutti i ruoli): è l'unico costruito a questo punto
+        showEventiPanel();
                 // Show success toast
         ModernComponents.showToast(this, "Accesso riuscito! Benvenuto " + user.getNome(),
                                  ModernComponents.ToastNotification.ToastType.SUCCESS);
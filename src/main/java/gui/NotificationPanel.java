@@ -1,4 +1,5 @@
 package gui;
+import controller.AreaDati;
 import controller.Controller;
 import model.Notification;
 import javax.swing.*;
@@ -32,6 +33,8 @@ public class NotificationPanel extends JPanel {
     private transient Notification selectedNotification;
     // Notification badge (for unread count)
     private int unreadCount = 0;
+    private final transient AsyncLoader<List<Notification>> notificheLoader = new AsyncLoader<>("notifiche");
+    private final transient ViewModelCache<List<Notification>> notificheCache;
     // Constants for messages
     private static final String MSG_SUCCESSO = "Successo";
     private static final String MSG_ERRORE = "Errore";
@@ -47,6 +50,7 @@ public class NotificationPanel extends JPanel {
      */
     public NotificationPanel(Controller controller, JFrame mainFrame) {
         this.controller = controller;
+        this.notificheCache = new ViewModelCache<>(controller, AreaDati.NOTIFICHE);
         this.mainFrame = mainFrame;
         initializeComponents();
         setupLayout();
@@ -196,25 +200,36 @@ public class NotificationPanel extends JPanel {
      * Aggiorna i dati del pannello
      */
     public void refreshData() {
-        try {
-            // Carica tutte le notifiche dell'utente corrente
-            List<Notification> notifications = controller.getNotificheUtente();
-            notificationListModel.clear();
-            if (notifications.isEmpty()) {
-                notificationListModel.addElement(createEmptyNotification());
-            } else {
-                for (Notification notification : notifications) {
-                    notificationListModel.addElement(notification);
-                }
-            }
-            // Calcola numero notifiche non lette
-            unreadCount = (int) notifications.stream()
-                .filter(n -> !n.isRead())
-                .count();
-        } catch (Exception e) {
+        // Carica tutte le notifiche dell'utente corrente
+        notificheCache.load(notificheLoader, controller::getNotificheUtente, this::showNotifications, e -> {
             notificationListModel.clear();
             notificationListModel.addElement(createErrorNotification(e.getMessage()));
+        });
+    }
+    /**
+     * Aggiorna i dati solo se quelli in cache non sono più validi (usato nella navigazione)
+     */
+    public void refreshIfStale() {
+        if (!notificheCache.isFresh()) {
+            refreshData();
+        }
+    }
+    /**
+     * Popola la lista con le notifiche caricate
+     */
+    private void showNotifications(List<Notification> notifications) {
+        notificationListModel.clear();
+        if (notifications.isEmpty()) {
+            notificationListModel.addElement(createEmptyNotification());
+        } else {
+            for (Notification notification : notifications) {
+                notificationListModel.addElement(notification);
+            }
         }
+        // Calcola numero notifiche non lette
+        unreadCount = (int) notifications.stream()
+            .filter(n -> !n.isRead())
+            .count();
     }
     /**
      * Applica i filtri alle notifiche
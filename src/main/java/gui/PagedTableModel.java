@@ -0,0 +1,235 @@
+package gui;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * TableModel paginato e virtualizzato per elenchi potenzialmente molto grandi.
+ * Il modello conosce solo il numero totale di righe; le righe vengono lette a pagine dal
+ * {@link PageSource} quando la tabella le disegna, in background, e al massimo
+ * {@code maxPagine} pagine restano in memoria. Memoria e tempo di aggiornamento non dipendono
+ * quindi dal numero totale di righe.
+ * <p>
+ * Filtri e ordinamento appartengono alla sorgente, che li applica in SQL: per cambiarli si
+ * imposta una nuova sorgente con {@link #setSource(PageSource)}. Le pagine vengono lette con
+ * paginazione keyset a partire dall'ultima riga della pagina precedente, quando è nota;
+ * nei salti (ad esempio trascinando la scrollbar) si ricorre all'offset.
+ *
+ * @param <T> tipo della riga
+ */
+public class PagedTableModel<T> extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger LOGGER = Logger.getLogger(PagedTableModel.class.getName());
+    private static final String CARICAMENTO = "Caricamento...";
+
+    /**
+     * Sorgente paginata delle righe; i metodi vengono invocati fuori dall'EDT
+     */
+    public interface PageSource<T> {
+        /**
+         * @return numero totale di righe
+         */
+        int count() throws Exception;
+
+        /**
+         * @param dopo ultima riga della pagina precedente (keyset), o null
+         * @param offset righe da saltare quando {@code dopo} è null
+         * @param limite dimensione della pagina
+         * @return le righe della pagina
+         */
+        List<T> fetch(T dopo, int offset, int limite) throws Exception;
+    }
+
+    /**
+     * Estrae il valore di una colonna da una riga
+     */
+    public interface ColumnMapper<T> {
+        Object valueAt(T riga, int colonna);
+    }
+
+    private final String[] colonne;
+    private final Class<?>[] tipiColonne;
+    private final ColumnMapper<T> mapper;
+    private final int dimensionePagina;
+    private final Map<Integer, List<T>> pagine;
+    private final Map<Integer, T> ultimeRighe = new HashMap<>();
+    private final Set<Integer> inCaricamento = new HashSet<>();
+
+    private PageSource<T> source;
+    private long generazione;
+    private int righe;
+    private IntConsumer onCount = n -> { };
+    private Consumer<Exception> onError = e -> { };
+
+    /**
+     * @param colonne intestazioni delle colonne
+     * @param tipiColonne classi delle colonne (per i renderer della tabella)
+     * @param mapper estrattore dei valori
+     * @param dimensionePagina righe per pagina
+     * @param maxPagine pagine mantenute in memoria
+     */
+    public PagedTableModel(String[] colonne, Class<?>[] tipiColonne, ColumnMapper<T> mapper,
+                           int dimensionePagina, int maxPagine) {
+        this.colonne = colonne.clone();
+        this.tipiColonne = tipiColonne.clone();
+        this.mapper = mapper;
+        this.dimensionePagina = dimensionePagina;
+        this.pagine = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                return size() > maxPagine;
+            }
+        };
+    }
+
+    /**
+     * @param onCount callback sull'EDT con il numero totale di righe dopo ogni conteggio
+     */
+    public void setOnCount(IntConsumer onCount) {
+        this.onCount = onCount;
+    }
+
+    /**
+     * @param onError callback sull'EDT in caso di errore di lettura
+     */
+    public void setOnError(Consumer<Exception> onError) {
+        this.onError = onError;
+    }
+
+    /**
+     * Imposta una nuova sorgente (nuovi filtri o ordinamento) e ne ricarica il conteggio
+     */
+    public void setSource(PageSource<T> source) {
+        this.source = source;
+        refresh();
+    }
+
+    /**
+     * Scarta le pagine caricate e rilegge il conteggio dalla sorgente corrente
+     */
+    public void refresh() {
+        long gen = ++generazione;
+        pagine.clear();
+        ultimeRighe.clear();
+        inCaricamento.clear();
+        PageSource<T> current = source;
+        if (current == null) {
+            return;
+        }
+        AsyncLoader.execute(() -> {
+            try {
+                int totale = current.count();
+                SwingUtilities.invokeLater(() -> {
+                    if (gen == generazione) {
+                        righe = totale;
+                        fireTableDataChanged();
+                        onCount.accept(totale);
+                    }
+                });
+            } catch (Exception e) {
+                publishError(gen, e);
+            }
+        });
+    }
+
+    /**
+     * @return la riga se la sua pagina è in memoria, altrimenti null (e ne avvia il caricamento)
+     */
+    public T getRow(int riga) {
+        int pagina = riga / dimensionePagina;
+        List<T> righePagina = pagine.get(pagina);
+        if (righePagina == null) {
+            loadPage(pagina);
+            return null;
+        }
+        int indice = riga % dimensionePagina;
+        return indice < righePagina.size() ? righePagina.get(indice) : null;
+    }
+
+    private void loadPage(int pagina) {
+        PageSource<T> current = source;
+        if (current == null || !inCaricamento.add(pagina)) {
+            return;
+        }
+        long gen = generazione;
+        T dopo = pagina > 0 ? ultimeRighe.get(pagina - 1) : null;
+        int offset = pagina * dimensionePagina;
+        AsyncLoader.execute(() -> {
+            try {
+                List<T> righePagina = current.fetch(dopo, offset, dimensionePagina);
+                SwingUtilities.invokeLater(() -> {
+                    if (gen != generazione) {
+                        return;
+                    }
+                    inCaricamento.remove(pagina);
+                    pagine.put(pagina, righePagina);
+                    if (!righePagina.isEmpty()) {
+                        ultimeRighe.put(pagina, righePagina.get(righePagina.size() - 1));
+                    }
+                    int ultimaRiga = Math.min(offset + dimensionePagina, righe) - 1;
+                    if (ultimaRiga >= offset) {
+                        fireTableRowsUpdated(offset, ultimaRiga);
+                    }
+                });
+            } catch (Exception e) {
+                publishError(gen, e);
+            }
+        });
+    }
+
+    private void publishError(long gen, Exception e) {
+        LOGGER.log(Level.WARNING, "Errore nel caricamento della tabella paginata", e);
+        // La pagina resta segnata come in caricamento fino al prossimo refresh, per non
+        // ritentare la lettura a ogni repaint
+        SwingUtilities.invokeLater(() -> {
+            if (gen == generazione) {
+                onError.accept(e);
+            }
+        });
+    }
+
+    @Override
+    public int getRowCount() {
+        return righe;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return colonne.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return colonne[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        return tipiColonne[columnIndex];
+    }
+
+    @Override
+    public boolean isCellEditable(int rowIndex, int columnIndex) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        T riga = getRow(rowIndex);
+        if (riga == null) {
+            return columnIndex == 0 ? CARICAMENTO : null;
+        }
+        return mapper.valueAt(riga, columnIndex);
+    }
+}
@@ -1,4 +1,5 @@
 package gui;
+import controller.AreaDati;
 import controller.Controller;
 import model.Progress;
 import javax.swing.*;
@@ -21,6 +22,8 @@ public class ProgressPanel extends JPanel {
     private final transient JFrame mainFrame;
     // Components
     private DefaultListModel<Progress> progressListModel;
+    private final transient AsyncLoader<List<Progress>> progressLoader = new AsyncLoader<>("progressi");
+    private final transient ViewModelCache<List<Progress>> progressCache;
     private JList<Progress> progressList;
     private JButton caricaProgressoButton;
     private JButton aggiungiCommentoButton;
@@ -36,6 +39,7 @@ public class ProgressPanel extends JPanel {
      */
     public ProgressPanel(Controller controller, JFrame mainFrame) {
         this.controller = controller;
+        this.progressCache = new ViewModelCache<>(controller, AreaDati.PROGRESSI);
         this.mainFrame = mainFrame;
         initializeComponents();
         setupLayout();
@@ -154,13 +158,15 @@ public class ProgressPanel extends JPanel {
      * Aggiorna i dati del pannello
      */
     public void refreshData() {
-        progressListModel.clear();
-        selectedProgress = null;
-        aggiungiCommentoButton.setEnabled(false);
-        try {
-            // Per ora carichiamo tutti i progressi disponibili
-            // In futuro potremmo filtrare per team specifici
-            List<Progress> progressi = controller.getTuttiProgressi();
+        if (progressListModel.isEmpty()) {
+            progressListModel.addElement(new Progress(-1, -1, "Caricamento...", "Caricamento dei progressi in corso", ""));
+        }
+        // Per ora carichiamo tutti i progressi disponibili
+        // In futuro potremmo filtrare per team specifici
+        progressCache.load(progressLoader, controller::getTuttiProgressi, progressi -> {
+            progressListModel.clear();
+            selectedProgress = null;
+            aggiungiCommentoButton.setEnabled(false);
             if (progressi.isEmpty()) {
                 progressListModel.addElement(new Progress(-1, -1, "Nessun progresso trovato", "Carica il primo progresso del tuo team", ""));
             } else {
@@ -168,8 +174,19 @@ public class ProgressPanel extends JPanel {
                     progressListModel.addElement(progress);
                 }
             }
-        } catch (Exception e) {
+        }, e -> {
+            progressListModel.clear();
+            selectedProgress = null;
+            aggiungiCommentoButton.setEnabled(false);
             progressListModel.addElement(new Progress(-1, -1, "Errore caricamento", "Impossibile caricare i progressi: " + e.getMessage(), ""));
+        });
+    }
+    /**
+     * Aggiorna i dati solo se quelli in cache non sono più validi (usato nella navigazione)
+     */
+    public void refreshIfStale() {
+        if (!progressCache.isFresh()) {
+            refreshData();
         }
     }
     /**
@@ -1,4 +1,5 @@
 package gui;
+import controller.AreaDati;
 import controller.Controller;
 import model.Registrazione;
 import model.Utente;
@@ -19,6 +20,8 @@ public class RegistrazioniPanel extends JPanel {
     private final MainFrame mainFrame;
     // Components
     private DefaultListModel<Registrazione> registrazioniListModel;
+    private final transient AsyncLoader<List<Registrazione>> registrazioniLoader = new AsyncLoader<>("registrazioni");
+    private final transient ViewModelCache<List<Registrazione>> registrazioniCache;
     private JList<Registrazione> registrazioniList;
     private JButton registraUtenteButton;
     private JButton gestisciRegistrazioniButton;
@@ -32,6 +35,7 @@ public class RegistrazioniPanel extends JPanel {
      */
     public RegistrazioniPanel(Controller controller, MainFrame mainFrame) {
         this.controller = controller;
+        this.registrazioniCache = new ViewModelCache<>(controller, AreaDati.REGISTRAZIONI);
         this.mainFrame = mainFrame;
         initializeComponents();
         setupLayout();
@@ -132,29 +136,41 @@ public class RegistrazioniPanel extends JPanel {
      * Aggiorna i dati del pannello
      */
     public void refreshData() {
-        registrazioniListModel.clear();
-        try {
-            // Carica le registrazioni dell'utente corrente
-            List<Registrazione> registrazioni = controller.getRegistrazioniUtente();
-            if (registrazioni.isEmpty()) {
-                registrazioniListModel.addElement(new Registrazione(-1, -1, Registrazione.Ruolo.PARTECIPANTE) {
-                    @Override
-                    public String toString() {
-                        return "Nessuna registrazione trovata";
-                    }
-                });
-            } else {
-                for (var registrazione : registrazioni) {
-                    registrazioniListModel.addElement(registrazione);
-                }
-            }
-        } catch (Exception e) {
+        // Carica le registrazioni dell'utente corrente
+        registrazioniCache.load(registrazioniLoader, controller::getRegistrazioniUtente, this::showRegistrazioni, e -> {
+            registrazioniListModel.clear();
             registrazioniListModel.addElement(new Registrazione(-1, -1, Registrazione.Ruolo.PARTECIPANTE) {
                 @Override
                 public String toString() {
                     return "Errore nel caricamento registrazioni: " + e.getMessage();
                 }
             });
+        });
+    }
+    /**
+     * Aggiorna i dati solo se quelli in cache non sono più validi (usato nella navigazione)
+     */
+    public void refreshIfStale() {
+        if (!registrazioniCache.isFresh()) {
+            refreshData();
+        }
+    }
+    /**
+     * Popola la lista con le registrazioni caricate
+     */
+    private void showRegistrazioni(List<Registrazione> registrazioni) {
+        registrazioniListModel.clear();
+        if (registrazioni.isEmpty()) {
+            registrazioniListModel.addElement(new Registrazione(-1, -1, Registrazione.Ruolo.PARTECIPANTE) {
+                @Override
+                public String toString() {
+                    return "Nessuna registrazione trovata";
+                }
+            });
+        } else {
+            for (var registrazione : registrazioni) {
+                registrazioniListModel.addElement(registrazione);
+            }
         }
     }
     /**
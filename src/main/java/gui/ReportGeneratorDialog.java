@@ -139,6 +139,8 @@ public class ReportGeneratorDialog extends JDialog {
     // Dati
     private File selectedExportLocation;
     private transient ReportData currentReportData;
+    /** Hackathon del report dettagliato in anteprima (esportato in streaming), -1 per gli altri report */
+    private int currentHackathonId = -1;
     private transient List<Hackathon> availableHackathons;
     
     /**
@@ -756,6 +758,7 @@ public class ReportGeneratorDialog extends JDialog {
      * @return the generated report data
      */
     private ReportData generateReportDataForType(ReportType reportType, String hackathonFilter) {
+        currentHackathonId = -1;
         switch (reportType) {
             case SYSTEM_OVERVIEW:
                 return controller.generaReportSistema();
@@ -776,6 +779,7 @@ public class ReportGeneratorDialog extends JDialog {
     private ReportData generateHackathonDetailedReport(String hackathonFilter) {
         if (hackathonFilter != null && !hackathonFilter.equals("Tutti gli hackathon")) {
             int hackathonId = extractHackathonId(hackathonFilter);
+            currentHackathonId = hackathonId;
             return controller.generaReportHackathon(hackathonId);
         } else {
             return controller.generaReportSistema();
@@ -883,6 +887,10 @@ public class ReportGeneratorDialog extends JDialog {
         return new SwingWorker<Boolean, String>() {
             @Override
             protected Boolean doInBackground() throws Exception {
+                if (currentHackathonId > 0) {
+                    return exportHackathonStreaming(format, outputFile, this::publish);
+                }
+                
                 publish("Preparazione esportazione...");
                 sleepSafely(500);
                 
@@ -914,6 +922,43 @@ public class ReportGeneratorDialog extends JDialog {
         };
     }
     
+    /**
+     * Exports the detailed hackathon report in streaming: rows go from the database cursor
+     * straight to the file, so memory does not grow with the size of the hackathon
+     * @param format the export format
+     * @param outputFile the output file
+     * @param status receives the progress messages
+     * @return true when the export completes
+     * @throws java.io.IOException if writing fails
+     */
+    private boolean exportHackathonStreaming(ExportFormat format, File outputFile,
+                                             java.util.function.Consumer<String> status) throws java.io.IOException {
+        status.accept("Esportazione in corso...");
+        controller.esportaReportHackathon(currentHackathonId, streamingFormat(format), outputFile.toPath(),
+            (scritte, totali) -> status.accept(String.format("Esportazione: %d/%d righe (%d%%)",
+                scritte, totali, totali == 0 ? 100 : scritte * 100 / totali)));
+        status.accept("Completato!");
+        return true;
+    }
+    
+    /**
+     * Maps the dialog format to the streaming one: PDF is exported as structured text
+     * and Excel as CSV, like the in-memory generators do
+     */
+    private static service.ReportExporter.Formato streamingFormat(ExportFormat format) {
+        switch (format) {
+            case CSV:
+            case EXCEL:
+                return service.ReportExporter.Formato.CSV;
+            case HTML:
+                return service.ReportExporter.Formato.HTML;
+            case JSON:
+                return service.ReportExporter.Formato.JSON;
+            default:
+                return service.ReportExporter.Formato.TESTO;
+        }
+    }
+    
     /**
      * Writes the file based on the specified format
      * @param format the export format
@@ -1188,6 +1233,13 @@ public class ReportGeneratorDialog extends JDialog {
         preview.append("\n📊 CONTENUTO:\n");
         preview.append("BOX_HORIZONTAL.repeat(67)\n");
         
+        if (currentHackathonId > 0) {
+            // Report dettagliato: l'anteprima mostra i totali, le righe vengono lette solo all'esportazione
+            preview.append(reportData.getRiassunto());
+            preview.append("\n... (team, registrazioni, valutazioni, documenti e progressi completi disponibili all'esportazione) ...");
+            return preview.toString();
+        }
+        
         // Use controller to generate full text
         String fullReport = generateTextContent(reportData);
         
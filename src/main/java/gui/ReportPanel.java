@@ -1,5 +1,7 @@
 package gui;
+import controller.AreaDati;
 import controller.Controller;
+import dao.TrendDAO;
 import model.Hackathon;
 import model.Team;
 import model.Valutazione;
@@ -11,6 +13,7 @@ import java.awt.*;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import static javax.swing.SwingConstants.*;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -57,10 +60,15 @@ public class ReportPanel extends JPanel {
     private ChartPanel judgeChartPanel;
     @SuppressWarnings("java:S1104") // Fields are used across multiple methods
     private ChartPanel registrationChartPanel;
+    @SuppressWarnings("java:S1104") // Fields are used across multiple methods
+    private ChartPanel activityChartPanel;
     // Data models
     private DefaultTableModel teamTableModel;
     private DefaultTableModel judgeTableModel;
     private DefaultTableModel registrationTableModel;
+    private final transient AsyncLoader<List<Hackathon>> hackathonLoader = new AsyncLoader<>("hackathon report");
+    private final transient AsyncLoader<Map<String, Number>> trendLoader = new AsyncLoader<>("trend valutazioni");
+    private final transient ViewModelCache<List<Hackathon>> hackathonCache;
     /**
      * Costruttore che inizializza il pannello report
      *
@@ -69,6 +77,7 @@ public class ReportPanel extends JPanel {
      */
     public ReportPanel(Controller controller, JFrame mainFrame) {
         this.controller = controller;
+        this.hackathonCache = new ViewModelCache<>(controller, AreaDati.EVENTI);
         this.mainFrame = mainFrame;
         initializeComponents();
         setupLayout();
@@ -191,10 +200,9 @@ public class ReportPanel extends JPanel {
         chartsPanel.add(teamChartPanel);
         chartsPanel.add(judgeChartPanel);
         chartsPanel.add(registrationChartPanel);
-        // Add empty panel for layout
-        JPanel emptyPanel = new JPanel();
-        emptyPanel.setOpaque(false);
-        chartsPanel.add(emptyPanel);
+        // Valutazioni per mese, aggregate nel database
+        activityChartPanel = ChartPanel.createLineChart("\uD83D\uDCC8 Valutazioni per Mese", new LinkedHashMap<>());
+        chartsPanel.add(activityChartPanel);
         // Add tabs
         tabbedPane.addTab("📋 Tabelle", tablesPanel);
         tabbedPane.addTab("📈 Grafici", chartsPanel);
@@ -222,6 +230,9 @@ public class ReportPanel extends JPanel {
         try {
             // Carica hackathon disponibili
             loadAvailableHackathons();
+            // Andamento delle valutazioni negli ultimi 12 mesi
+            trendLoader.load(() -> controller.getTrend(TrendDAO.Serie.VALUTAZIONI, TrendDAO.Granularita.MESE, 12),
+                activityChartPanel::setData, e -> { });
             // Reset delle tabelle
             teamTableModel.setRowCount(0);
             judgeTableModel.setRowCount(0);
@@ -234,22 +245,31 @@ public class ReportPanel extends JPanel {
         }
     }
     /**
-     * Carica gli hackathon disponibili per il report
+     * Aggiorna i dati solo se quelli in cache non sono più validi (usato nella navigazione)
+     */
+    public void refreshIfStale() {
+        if (!hackathonCache.isFresh()) {
+            refreshData();
+        }
+    }
+    /**
+     * Carica in background gli hackathon disponibili per il report
      */
     private void loadAvailableHackathons() {
-        try {
+        hackathonCache.load(hackathonLoader, controller::getTuttiHackathon, hackathons -> {
             hackathonComboBox.removeAllItems();
             hackathonComboBox.addItem(SELEZIONA_HACKATHON);
-            List<Hackathon> hackathons = controller.getTuttiHackathon();
             for (Hackathon h : hackathons) {
                 hackathonComboBox.addItem(h.getId() + ": " + h.getNome());
             }
             if (hackathons.isEmpty()) {
                 hackathonComboBox.addItem("Nessun hackathon disponibile");
             }
-        } catch (Exception e) {
+        }, e -> {
+            hackathonComboBox.removeAllItems();
+            hackathonComboBox.addItem(SELEZIONA_HACKATHON);
             hackathonComboBox.addItem("Errore caricamento hackathon: " + e.getMessage());
-        }
+        });
     }
     /**
      * Genera il report per l'hackathon selezionato
@@ -319,45 +339,32 @@ public class ReportPanel extends JPanel {
     private void updateChartsWithRealData(List<Team> teams, List<Valutazione> valutazioni) {
         try {
             // Grafico team - voti per team
-            Map<String, Number> teamData = new HashMap<>();
+            Map<String, Number> teamData = new LinkedHashMap<>();
             for (Team team : teams) {
                 double mediaVoto = controller.getValutazioneMediaTeam(team.getId());
                 teamData.put(team.getNome(), mediaVoto);
             }
             // Aggiorna grafico team
             if (!teamData.isEmpty()) {
-                ChartPanel newTeamChart = ChartPanel.createBarChart("\uD83D\uDCCA Voti Medi per Team", teamData);
-                replaceChartPanel(teamChartPanel, newTeamChart);
-                teamChartPanel = newTeamChart;
+                teamChartPanel.setTitle("\uD83D\uDCCA Voti Medi per Team");
+                teamChartPanel.setData(teamData);
             }
             // Grafico giudici - voti assegnati per giudice
-            Map<String, Number> judgeData = new HashMap<>();
+            Map<String, Number> judgeData = new LinkedHashMap<>();
             for (Valutazione v : valutazioni) {
                 String judgeName = "Giudice " + v.getGiudiceId();
                 judgeData.put(judgeName, judgeData.getOrDefault(judgeName, 0).intValue() + 1);
             }
             // Aggiorna grafico giudici
             if (!judgeData.isEmpty()) {
-                ChartPanel newJudgeChart = ChartPanel.createBarChart("🧑\u200D⚖️ Voti Assegnati per Giudice", judgeData);
-                replaceChartPanel(judgeChartPanel, newJudgeChart);
-                judgeChartPanel = newJudgeChart;
+                judgeChartPanel.setTitle("🧑\u200D⚖️ Voti Assegnati per Giudice");
+                judgeChartPanel.setData(judgeData);
             }
         } catch (Exception e) {
             // Log error but continue execution
             logger.log(Level.WARNING, "Errore durante l'aggiornamento del report: " + e.getMessage(), e);
         }
     }
-    /**
-     * Sostituisce un pannello grafico con uno nuovo
-     */
-    private void replaceChartPanel(ChartPanel oldPanel, ChartPanel newPanel) {
-        if (oldPanel != null && oldPanel.getParent() != null) {
-            oldPanel.getParent().remove(oldPanel);
-            oldPanel.getParent().add(newPanel);
-            oldPanel.getParent().revalidate();
-            oldPanel.getParent().repaint();
-        }
-    }
     /**
      * Genera statistiche dei team
      */
@@ -2,10 +2,24 @@ package gui;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.*;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
 /**
- * Classe per creare e renderizzare icone SVG personalizzate
+ * Classe per creare e renderizzare icone SVG personalizzate.
+ * Le icone vengono disegnate in vettoriale una sola volta per tipo, dimensione, tema e fattore
+ * di scala dello schermo; i repaint successivi copiano l'immagine già rasterizzata.
  */
 public class SVGIcon {
+    /** Numero massimo di immagini rasterizzate mantenute in memoria */
+    private static final int MAX_CACHED_ICONS = Math.max(16, Integer.getInteger("ui.iconCacheSize", 256));
+    private static final Map<String, BufferedImage> RASTER_CACHE =
+        new LinkedHashMap<String, BufferedImage>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+                return size() > MAX_CACHED_ICONS;
+            }
+        };
     /**
      * Costruttore privato per impedire l'istanziazione
      */
@@ -28,6 +42,67 @@ public class SVGIcon {
         public int getIconHeight() {
             return size;
         }
+        /**
+         * Disegna l'icona copiando l'immagine rasterizzata dalla cache, creandola alla prima
+         * richiesta. Con trasformazioni diverse da scala e traslazione (rotazioni, stampa)
+         * l'icona viene disegnata direttamente in vettoriale.
+         */
+        @Override
+        public final void paintIcon(Component c, Graphics g, int x, int y) {
+            if (size <= 0 || !(g instanceof Graphics2D)) {
+                return;
+            }
+            Graphics2D g2 = (Graphics2D) g;
+            AffineTransform transform = g2.getTransform();
+            if ((transform.getType() & ~(AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_MASK_SCALE)) != 0
+                    || transform.getScaleX() <= 0 || transform.getScaleY() <= 0) {
+                paintVector(c, g, x, y);
+                return;
+            }
+            double scaleX = transform.getScaleX();
+            double scaleY = transform.getScaleY();
+            String key = getClass().getName() + '|' + size + '|' + DesignSystem.getCurrentTheme()
+                + '|' + scaleX + '|' + scaleY;
+            BufferedImage image;
+            synchronized (RASTER_CACHE) {
+                image = RASTER_CACHE.get(key);
+            }
+            if (image == null) {
+                image = rasterize(c, scaleX, scaleY);
+                synchronized (RASTER_CACHE) {
+                    RASTER_CACHE.put(key, image);
+                }
+            }
+            g2.drawImage(image, x, y, size, size, null);
+        }
+        /**
+         * Disegna l'icona in vettoriale in un'immagine alla risoluzione dello schermo
+         */
+        private BufferedImage rasterize(Component c, double scaleX, double scaleY) {
+            int width = (int) Math.ceil(size * scaleX);
+            int height = (int) Math.ceil(size * scaleY);
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D ig = image.createGraphics();
+            try {
+                ig.scale((double) width / size, (double) height / size);
+                paintVector(c, ig, 0, 0);
+            } finally {
+                ig.dispose();
+            }
+            return image;
+        }
+        /**
+         * Disegna la geometria vettoriale dell'icona
+         */
+        protected abstract void paintVector(Component c, Graphics g, int x, int y);
+    }
+    /**
+     * Svuota la cache delle icone rasterizzate
+     */
+    public static void clearIconCache() {
+        synchronized (RASTER_CACHE) {
+            RASTER_CACHE.clear();
+        }
     }
     /**
      * Crea un'icona SVG rappresentativa del coding
@@ -80,7 +155,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
@@ -184,7 +259,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
@@ -254,7 +329,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.translate(x, y);
@@ -282,7 +357,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.translate(x, y);
@@ -313,7 +388,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.translate(x, y);
@@ -345,7 +420,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.translate(x, y);
@@ -373,7 +448,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.translate(x, y);
@@ -406,7 +481,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
@@ -453,7 +528,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
@@ -507,7 +582,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
@@ -539,7 +614,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
@@ -575,7 +650,7 @@ public class SVGIcon {
             super(size);
         }
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
@@ -620,7 +695,7 @@ public class SVGIcon {
         }
 
         @Override
-        public void paintIcon(Component c, Graphics g, int x, int y) {
+        protected void paintVector(Component c, Graphics g, int x, int y) {
             Graphics2D g2 = (Graphics2D) g.create();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
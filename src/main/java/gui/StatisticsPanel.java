@@ -1,7 +1,9 @@
 package gui;
 
 import controller.Controller;
+import dao.TrendDAO;
 import model.*;
+import service.StatisticsSnapshotService;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.TitledBorder;
@@ -15,6 +17,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 // import java.util.ArrayList; // Non utilizzato al momento
 
 /**
@@ -64,6 +67,7 @@ public class StatisticsPanel extends JPanel {
     
     // Data
     private transient Statistics currentStats;
+    private transient Map<String, Number> hackathonTrend = new LinkedHashMap<>();
     // private Map<String, Object> chartData; // Non utilizzato al momento - per future implementazioni grafici
     
     /**
@@ -320,8 +324,11 @@ public class StatisticsPanel extends JPanel {
             
             @Override
             protected void done() {
+                // Le statistiche vengono da uno snapshot: si mostra quando sono state calcolate
+                LocalDateTime calcolate = currentStats != null ? currentStats.getDataCalcolo() : null;
                 lastUpdateLabel.setText("Ultimo aggiornamento: " + 
-                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")));
+                    (calcolate != null ? calcolate : LocalDateTime.now()).format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")) +
+                    " (statistiche " + StatisticsSnapshotService.descriviEta(calcolate) + ")");
                 lastUpdateLabel.setForeground(new Color(39, 174, 96));
                 
                 refreshButton.setEnabled(true);
@@ -363,10 +370,11 @@ public class StatisticsPanel extends JPanel {
             
             if (selectedHackathon != null && !selectedHackathon.equals(TUTTI_GLI_HACKATHON)) {
                 int hackathonId = extractHackathonId(selectedHackathon);
-                currentStats = controller.calcolaStatisticheHackathon(hackathonId);
+                currentStats = controller.getStatisticheHackathonSnapshot(hackathonId);
             } else {
-                currentStats = controller.calcolaStatistiche("SISTEMA");
+                currentStats = controller.getStatisticheSnapshot();
             }
+            hackathonTrend = loadHackathonTrend((String) periodFilterCombo.getSelectedItem());
             
             SwingUtilities.invokeLater(this::updateKPICards);
             
@@ -379,6 +387,31 @@ public class StatisticsPanel extends JPanel {
         }
     }
     
+    /**
+     * Carica l'andamento degli hackathon per il periodo selezionato, aggregato nel database
+     */
+    private Map<String, Number> loadHackathonTrend(String periodo) {
+        if (periodo == null) {
+            return controller.getTrend(TrendDAO.Serie.HACKATHON, TrendDAO.Granularita.MESE, 6);
+        }
+        switch (periodo) {
+            case "Tempo reale":
+            case "Ultima settimana":
+                return controller.getTrend(TrendDAO.Serie.HACKATHON, TrendDAO.Granularita.GIORNO, 7);
+            case "Ultimo mese":
+                return controller.getTrend(TrendDAO.Serie.HACKATHON, TrendDAO.Granularita.GIORNO, 30);
+            case "Ultimi 3 mesi":
+                return controller.getTrend(TrendDAO.Serie.HACKATHON, TrendDAO.Granularita.SETTIMANA, 13);
+            case "Ultimo anno":
+                return controller.getTrend(TrendDAO.Serie.HACKATHON, TrendDAO.Granularita.MESE, 12);
+            case "Anno corrente":
+                return controller.getTrend(TrendDAO.Serie.HACKATHON, TrendDAO.Granularita.MESE,
+                    LocalDateTime.now().getMonthValue());
+            default:
+                return controller.getTrend(TrendDAO.Serie.HACKATHON, TrendDAO.Granularita.MESE, 6);
+        }
+    }
+    
     /**
      * Aggiorna le KPI card
      */
@@ -450,15 +483,10 @@ public class StatisticsPanel extends JPanel {
                 userDistribution.put("Partecipanti", currentStats.getNumeroPartecipanti());
                 userDistributionChart.updateData(userDistribution);
                 
-                // Update hackathon trend (simulated data)
-                Map<String, Integer> hackathonTrend = new HashMap<>();
-                hackathonTrend.put("Gen", 2);
-                hackathonTrend.put("Feb", 3);
-                hackathonTrend.put("Mar", 5);
-                hackathonTrend.put("Apr", 4);
-                hackathonTrend.put("Mag", 6);
-                hackathonTrend.put("Giu", 8);
-                hackathonTrendChart.updateData(hackathonTrend);
+                // Update hackathon trend (hackathon iniziati per periodo)
+                Map<String, Integer> trend = new LinkedHashMap<>();
+                hackathonTrend.forEach((periodo, valore) -> trend.put(periodo, valore.intValue()));
+                hackathonTrendChart.updateData(trend);
                 
                 // Update team performance (simulated data)
                 Map<String, Integer> teamPerformance = new HashMap<>();
@@ -745,7 +773,8 @@ public class StatisticsPanel extends JPanel {
         }
         
         public void updateData(Map<String, Integer> newData) {
-            this.data = new HashMap<>(newData);
+            // LinkedHashMap: le serie temporali vanno disegnate in ordine cronologico
+            this.data = new LinkedHashMap<>(newData);
             repaint();
         }
         
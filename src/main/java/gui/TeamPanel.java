@@ -1,11 +1,14 @@
 package gui;
+import controller.AreaDati;
 import controller.Controller;
 import model.Team;
 import model.Utente;
 import model.RichiestaJoin;
 import javax.swing.*;
 import java.awt.*;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.swing.ListSelectionModel;
 import static javax.swing.SwingConstants.*;
 import java.util.logging.Logger;
@@ -84,6 +87,8 @@ public class TeamPanel extends JPanel {
     private javax.swing.Timer autoRefreshTimer;
     // Components
     private DefaultListModel<Team> teamListModel;
+    private final transient AsyncLoader<List<Team>> teamLoader = new AsyncLoader<>("team utente");
+    private final transient ViewModelCache<List<Team>> teamCache;
     private JList<Team> teamList;
     private JButton creaTeamButton;
     private JButton gestisciTeamButton;
@@ -98,6 +103,7 @@ public class TeamPanel extends JPanel {
      */
     public TeamPanel(Controller controller, MainFrame mainFrame) {
         this.controller = controller;
+        this.teamCache = new ViewModelCache<>(controller, AreaDati.TEAM);
         this.mainFrame = mainFrame;
         initializeComponents();
         setupLayout();
@@ -248,46 +254,54 @@ public class TeamPanel extends JPanel {
      * Aggiorna i dati del pannello
      */
     public void refreshData() {
-        // Debug refresh data
+        if (teamListModel.isEmpty()) {
+            teamListModel.addElement(new Team("Caricamento team...", -1, -1, 0));
+        }
+        teamCache.load(teamLoader, controller::getTeamUtente, this::showTeams, e -> {
+            teamListModel.clear();
+            teamListModel.addElement(new Team("Errore: " + e.getMessage(), -1, -1, 0));
+        });
+    }
+
+    /**
+     * Aggiorna i dati solo se quelli in cache non sono più validi (usato nella navigazione)
+     */
+    public void refreshIfStale() {
+        if (!teamCache.isFresh()) {
+            refreshData();
+        }
+    }
+
+    /**
+     * Popola la lista con i team caricati
+     */
+    private void showTeams(List<Team> teams) {
         teamListModel.clear();
-        try {
-            // Carica i team dell'utente corrente
-            java.util.List<Team> teams = controller.getTeamUtente();
-            if (teams.isEmpty()) {
-                Team placeholderTeam = new Team("Nessun team trovato - Crea un nuovo team", -1, -1, 0);
-                teamListModel.addElement(placeholderTeam);
-            } else {
-                for (Team team : teams) {
-                    teamListModel.addElement(team);
-                }
-            }
-            // Forza il refresh della lista
-            teamList.revalidate();
-            teamList.repaint();
-            // Reset selezione e stato pulsanti
-            teamList.clearSelection();
-            gestisciTeamButton.setEnabled(false);
-            richiesteJoinButton.setEnabled(false);
-            // Verifica se ci sono elementi selezionabili
-            if (teamListModel.size() > 0) {
-                Team firstTeam = teamListModel.getElementAt(0);
-                // Se c'è almeno un team valido, selezionalo automaticamente per facilitare il testing
-                if (firstTeam.getId() != -1) {
-                    teamList.setSelectedIndex(0);
-                }
-            } else {
-                // No action needed when no valid teams are available
+        if (teams.isEmpty()) {
+            Team placeholderTeam = new Team("Nessun team trovato - Crea un nuovo team", -1, -1, 0);
+            teamListModel.addElement(placeholderTeam);
+        } else {
+            for (Team team : teams) {
+                teamListModel.addElement(team);
             }
-        } catch (Exception e) {
-            Team errorTeam = new Team("Errore: " + e.getMessage(), -1, -1, 0);
-            teamListModel.addElement(errorTeam);
+        }
+        // Forza il refresh della lista
+        teamList.revalidate();
+        teamList.repaint();
+        // Reset selezione e stato pulsanti
+        teamList.clearSelection();
+        gestisciTeamButton.setEnabled(false);
+        richiesteJoinButton.setEnabled(false);
+        // Se c'è almeno un team valido, selezionalo automaticamente per facilitare il testing
+        if (teamListModel.size() > 0 && teamListModel.getElementAt(0).getId() != -1) {
+            teamList.setSelectedIndex(0);
         }
     }
 
     private void safeAutoRefresh() {
         try {
             if (isShowing()) {
-                refreshData();
+                refreshIfStale();
             }
         } catch (Exception ignored) { }
     }
@@ -570,20 +584,27 @@ public class TeamPanel extends JPanel {
         JList<String> membersList = new JList<>(membersListModel);
         JScrollPane membersScrollPane = new JScrollPane(membersList);
         membersScrollPane.setPreferredSize(new Dimension(300, 200));
-        // Load team members
-        try {
+        // Load team members in background
+        membersListModel.addElement("Caricamento membri...");
+        new AsyncLoader<List<String>>("membri team " + team.getId()).load(() -> {
+            List<String> members = new java.util.ArrayList<>();
             List<Integer> memberIds = controller.getTeamMembers(team.getId());
+            Map<Integer, Utente> utenti = controller.getUtentiByIds(memberIds);
             for (Integer memberId : memberIds) {
-                Utente member = controller.getUtenteById(memberId);
+                Utente member = utenti.get(memberId);
                 if (member != null) {
-                    String memberInfo = member.getNome() + " " + member.getCognome() + 
-                                      (memberId == team.getCapoTeamId() ? " (Capo Team)" : "");
-                    membersListModel.addElement(memberInfo);
+                    members.add(member.getNome() + " " + member.getCognome() +
+                                (memberId == team.getCapoTeamId() ? " (Capo Team)" : ""));
                 }
             }
-        } catch (Exception e) {
+            return members;
+        }, members -> {
+            membersListModel.clear();
+            members.forEach(membersListModel::addElement);
+        }, e -> {
+            membersListModel.clear();
             membersListModel.addElement("Errore nel caricamento membri: " + e.getMessage());
-        }
+        });
         membersPanel.add(membersScrollPane, BorderLayout.CENTER);
         // Actions panel with enhanced layout
         JPanel actionsPanel = new JPanel(new GridLayout(3, 1, 8, 8));
@@ -766,34 +787,27 @@ public class TeamPanel extends JPanel {
         JScrollPane usersScrollPane = new JScrollPane(availableUsersList);
         usersScrollPane.setPreferredSize(new Dimension(400, 200));
         usersScrollPane.setBorder(BorderFactory.createTitledBorder("Partecipanti Disponibili"));
-        // Carica utenti disponibili
-        try {
-            List<Utente> availableUsers = controller.getUtentiDisponibiliPerInvito(team.getHackathonId(), team.getId());
-            if (availableUsers.isEmpty()) {
-                availableUsersModel.addElement(new Utente("Nessun partecipante disponibile", "") {
-                    @Override
-                    public String toString() {
-                        return NO_PARTECIPANTI_DISPONIBILI;
-                    }
-                });
-                // Mostra messaggio informativo all'utente
-                JOptionPane.showMessageDialog(inviteDialog,
-                    NO_PARTECIPANTI_DISPONIBILI_DIALOG,
-                    "Nessun Partecipante Disponibile",
-                    JOptionPane.INFORMATION_MESSAGE);
-            } else {
-                for (Utente user : availableUsers) {
-                    availableUsersModel.addElement(user);
-                }
-            }
-        } catch (Exception e) {
-            availableUsersModel.addElement(new Utente("Errore nel caricamento", "") {
-                @Override
-                public String toString() {
-                    return "Errore nel caricamento utenti disponibili";
-                }
-            });
-        }
+        // Ricerca per nome, cognome o login: filtro e paginazione sono fatti dalla query
+        JTextField searchField = new JTextField();
+        searchField.setToolTipText("Cerca per nome, cognome o login");
+        searchField.setBorder(BorderFactory.createTitledBorder("🔍 Cerca partecipante"));
+        JPanel usersPanel = new JPanel(new BorderLayout(0, 6));
+        usersPanel.add(searchField, BorderLayout.NORTH);
+        usersPanel.add(usersScrollPane, BorderLayout.CENTER);
+        // Carica utenti disponibili in background
+        AsyncLoader<List<Utente>> usersLoader = new AsyncLoader<>("utenti invitabili team " + team.getId());
+        loadAvailableUsers(inviteDialog, usersLoader, team, "", availableUsersModel, false);
+        Timer searchTimer = new Timer(300, e -> loadAvailableUsers(inviteDialog, usersLoader, team,
+            searchField.getText(), availableUsersModel, false));
+        searchTimer.setRepeats(false);
+        searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            @Override
+            public void insertUpdate(javax.swing.event.DocumentEvent e) { searchTimer.restart(); }
+            @Override
+            public void removeUpdate(javax.swing.event.DocumentEvent e) { searchTimer.restart(); }
+            @Override
+            public void changedUpdate(javax.swing.event.DocumentEvent e) { searchTimer.restart(); }
+        });
         // Buttons with enhanced styling
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.CENTER, 10, 0));
         JButton refreshUsersButton = new JButton("🔄 Aggiorna");
@@ -843,38 +857,8 @@ public class TeamPanel extends JPanel {
         addHoverEffect(inviteButton, new Color(34, 153, 84), new Color(46, 204, 113));
         addHoverEffect(cancelButton, new Color(192, 57, 43), new Color(231, 76, 60));
         // Action listeners
-        refreshUsersButton.addActionListener(e -> {
-            // Ricarica la lista degli utenti disponibili
-            availableUsersModel.clear();
-            try {
-                List<Utente> availableUsers = controller.getUtentiDisponibiliPerInvito(team.getHackathonId(), team.getId());
-                if (availableUsers.isEmpty()) {
-                    availableUsersModel.addElement(new Utente("Nessun partecipante disponibile", "") {
-                        @Override
-                        public String toString() {
-                            return NO_PARTECIPANTI_DISPONIBILI_SIMPLE;
-                        }
-                    });
-                    JOptionPane.showMessageDialog(inviteDialog,
-                        "Ancora nessun partecipante disponibile.\nControlla la console per debug dettagliato.",
-                        LISTA_AGGIORNATA,
-                        JOptionPane.INFORMATION_MESSAGE);
-                } else {
-                    for (Utente user : availableUsers) {
-                        availableUsersModel.addElement(user);
-                    }
-                    JOptionPane.showMessageDialog(inviteDialog,
-                        "Lista aggiornata! Trovati " + availableUsers.size() + " partecipanti disponibili.",
-                        LISTA_AGGIORNATA,
-                        JOptionPane.INFORMATION_MESSAGE);
-                }
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(inviteDialog,
-                    "Errore durante l'aggiornamento: " + ex.getMessage(),
-                    "Errore Refresh",
-                    JOptionPane.ERROR_MESSAGE);
-            }
-        });
+        refreshUsersButton.addActionListener(e -> loadAvailableUsers(inviteDialog, usersLoader, team,
+            searchField.getText(), availableUsersModel, true));
         // Message area for motivational text
         JPanel messagePanel = new JPanel(new BorderLayout());
         messagePanel.setBorder(BorderFactory.createTitledBorder("Messaggio motivazionale (facoltativo)"));
@@ -922,7 +906,7 @@ public class TeamPanel extends JPanel {
         buttonPanel.add(cancelButton);
         // Add components
         JPanel centerStack = new JPanel(new BorderLayout());
-        centerStack.add(usersScrollPane, BorderLayout.CENTER);
+        centerStack.add(usersPanel, BorderLayout.CENTER);
         centerStack.add(messagePanel, BorderLayout.SOUTH);
         contentPanel.add(centerStack, BorderLayout.CENTER);
         contentPanel.add(buttonPanel, BorderLayout.SOUTH);
@@ -930,6 +914,70 @@ public class TeamPanel extends JPanel {
         inviteDialog.add(contentPanel, BorderLayout.CENTER);
         inviteDialog.setVisible(true);
     }
+    /**
+     * Carica in background una pagina di partecipanti invitabili nel team
+     *
+     * @param prefisso testo di ricerca, vuoto per tutti
+     * @param refresh true se richiesto dal pulsante Aggiorna: l'esito viene sempre comunicato
+     */
+    private void loadAvailableUsers(JDialog inviteDialog, AsyncLoader<List<Utente>> loader, Team team,
+                                    String prefisso, DefaultListModel<Utente> model, boolean refresh) {
+        model.clear();
+        model.addElement(placeholderUtente("Caricamento partecipanti..."));
+        loader.load(() -> controller.getUtentiDisponibiliPerInvito(team.getHackathonId(), team.getId(),
+            prefisso, 0, Controller.UTENTI_INVITO_PER_PAGINA), availableUsers -> {
+            model.clear();
+            if (availableUsers.isEmpty()) {
+                boolean ricerca = !prefisso.isBlank();
+                String vuoto = refresh ? NO_PARTECIPANTI_DISPONIBILI_SIMPLE : NO_PARTECIPANTI_DISPONIBILI;
+                model.addElement(placeholderUtente(ricerca ? "Nessun partecipante corrisponde alla ricerca" : vuoto));
+                if (refresh) {
+                    JOptionPane.showMessageDialog(inviteDialog,
+                        "Ancora nessun partecipante disponibile.",
+                        LISTA_AGGIORNATA,
+                        JOptionPane.INFORMATION_MESSAGE);
+                } else if (!ricerca) {
+                    // Mostra messaggio informativo all'utente
+                    JOptionPane.showMessageDialog(inviteDialog,
+                        NO_PARTECIPANTI_DISPONIBILI_DIALOG,
+                        "Nessun Partecipante Disponibile",
+                        JOptionPane.INFORMATION_MESSAGE);
+                }
+                return;
+            }
+            availableUsers.forEach(model::addElement);
+            if (availableUsers.size() >= Controller.UTENTI_INVITO_PER_PAGINA) {
+                model.addElement(placeholderUtente("Mostrati i primi " + Controller.UTENTI_INVITO_PER_PAGINA
+                    + " partecipanti: usa la ricerca per trovarne altri"));
+            }
+            if (refresh) {
+                JOptionPane.showMessageDialog(inviteDialog,
+                    "Lista aggiornata! Trovati " + availableUsers.size() + " partecipanti disponibili.",
+                    LISTA_AGGIORNATA,
+                    JOptionPane.INFORMATION_MESSAGE);
+            }
+        }, ex -> {
+            model.clear();
+            model.addElement(placeholderUtente("Errore nel caricamento utenti disponibili"));
+            if (refresh) {
+                JOptionPane.showMessageDialog(inviteDialog,
+                    "Errore durante l'aggiornamento: " + ex.getMessage(),
+                    "Errore Refresh",
+                    JOptionPane.ERROR_MESSAGE);
+            }
+        });
+    }
+    /**
+     * Voce non selezionabile della lista utenti (id 0) che mostra solo un messaggio
+     */
+    private static Utente placeholderUtente(String messaggio) {
+        return new Utente(messaggio, "") {
+            @Override
+            public String toString() {
+                return messaggio;
+            }
+        };
+    }
     /**
      * Mostra il dialog per rimuovere un membro dal team
      */
@@ -969,8 +1017,9 @@ public class TeamPanel extends JPanel {
                     }
                 });
             } else {
+                Map<Integer, Utente> utenti = controller.getUtentiByIds(memberIds);
                 for (Integer memberId : memberIds) {
-                    Utente member = controller.getUtenteById(memberId);
+                    Utente member = utenti.get(memberId);
                     if (member != null && member.getId() != team.getCapoTeamId()) {
                         // Escludi il capo team dalla lista di rimozione
                         teamMembersModel.addElement(member);
@@ -1190,9 +1239,12 @@ public class TeamPanel extends JPanel {
         for (RichiestaJoin richiesta : richieste) {
             richiesteModel.addElement(richiesta);
         }
+        // Richiedenti caricati in blocco: il renderer non interroga il database a ogni disegno
+        Map<Integer, Utente> richiedenti = new HashMap<>(controller.getUtentiByIds(
+            richieste.stream().map(RichiestaJoin::getUtenteId).toList()));
         JList<RichiestaJoin> richiesteList = new JList<>(richiesteModel);
         richiesteList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-        richiesteList.setCellRenderer(new RichiestaJoinListCellRenderer());
+        richiesteList.setCellRenderer(new RichiestaJoinListCellRenderer(richiedenti));
         JScrollPane scrollPane = new JScrollPane(richiesteList);
         scrollPane.setBorder(BorderFactory.createTitledBorder("Richieste in Attesa"));
         mainPanel.add(scrollPane, BorderLayout.CENTER);
@@ -1267,6 +1319,8 @@ public class TeamPanel extends JPanel {
         aggiornaButton.addActionListener(e -> {
             // Ricarica le richieste
             List<RichiestaJoin> nuoveRichieste = controller.getRichiesteJoin(team.getId());
+            richiedenti.putAll(controller.getUtentiByIds(
+                nuoveRichieste.stream().map(RichiestaJoin::getUtenteId).toList()));
             richiesteModel.clear();
             for (RichiestaJoin richiesta : nuoveRichieste) {
                 richiesteModel.addElement(richiesta);
@@ -1342,7 +1396,11 @@ public class TeamPanel extends JPanel {
     /**
      * Renderer personalizzato per la lista delle richieste di join
      */
-    private class RichiestaJoinListCellRenderer extends DefaultListCellRenderer {
+    private static class RichiestaJoinListCellRenderer extends DefaultListCellRenderer {
+        private final transient Map<Integer, Utente> richiedenti;
+        RichiestaJoinListCellRenderer(Map<Integer, Utente> richiedenti) {
+            this.richiedenti = richiedenti;
+        }
         @Override
         public Component getListCellRendererComponent(JList<?> list, Object value, int index,
                                                       boolean isSelected, boolean cellHasFocus) {
@@ -1350,7 +1408,7 @@ public class TeamPanel extends JPanel {
             if (value instanceof RichiestaJoin richiesta) {
                 try {
                     // Recupera le informazioni dell'utente
-                    Utente utente = controller.getUtenteById(richiesta.getUtenteId());
+                    Utente utente = richiedenti.get(richiesta.getUtenteId());
                     String nomeUtente = utente != null ? utente.getNome() + " " + utente.getCognome() : "Utente #" + richiesta.getUtenteId();
                     String text = nomeUtente + " (ID: " + richiesta.getUtenteId() + ") - Richiesta del " +
                                               richiesta.getDataRichiesta().toLocalDate().toString();
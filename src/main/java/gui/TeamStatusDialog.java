@@ -11,6 +11,7 @@ import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Dialog per visualizzare lo stato dei team e la loro definitività
@@ -172,10 +173,12 @@ public class TeamStatusDialog extends JDialog {
             protected List<TeamInfo> doInBackground() throws Exception {
                 List<TeamInfo> teamInfos = new java.util.ArrayList<>();
                 List<Team> allTeams = controller.getTuttiTeam();
+                Map<Integer, Hackathon> hackathons = controller.getHackathonByIds(
+                    allTeams.stream().map(Team::getHackathonId).toList());
                 
                 for (Team team : allTeams) {
                     try {
-                        Hackathon hackathon = controller.getHackathonById(team.getHackathonId());
+                        Hackathon hackathon = hackathons.get(team.getHackathonId());
                         int memberCount = controller.contaMembriTeam(team.getId());
                         
                         TeamInfo info = new TeamInfo(
@@ -1,4 +1,5 @@
 package gui;
+import controller.AreaDati;
 import controller.Controller;
 import model.Valutazione;
 import model.Team;
@@ -27,6 +28,10 @@ public class ValutazioniPanel extends JPanel {
     private JButton revisioneProgressiButton;
     private JButton debugButton;
     private JButton refreshButton;
+    private final transient AsyncLoader<List<Valutazione>> valutazioniLoader = new AsyncLoader<>("valutazioni");
+    private final transient ViewModelCache<List<Valutazione>> valutazioniCache;
+    private final transient AsyncLoader<List<Team>> teamLoader = new AsyncLoader<>("team valutabili");
+    private final transient AsyncLoader<List<TeamScore>> classificaLoader = new AsyncLoader<>("classifica");
     /**
      * Costruttore che inizializza il pannello valutazioni
      *
@@ -36,6 +41,7 @@ public class ValutazioniPanel extends JPanel {
     public ValutazioniPanel(Controller controller, MainFrame mainFrame) {
         this.controller = controller;
         this.mainFrame = mainFrame;
+        this.valutazioniCache = new ViewModelCache<>(controller, AreaDati.VALUTAZIONI);
         initializeComponents();
         setupLayout();
         setupEventHandlers();
@@ -133,7 +139,8 @@ public class ValutazioniPanel extends JPanel {
      */
     private void setupEventHandlers() {
         // Assign votes button
-        assegnaVotiButton.addActionListener(e -> showAssegnaVotiDialog());
+        assegnaVotiButton.addActionListener(e -> teamLoader.load(this::caricaTeamValutabili,
+            this::showAssegnaVotiDialog, ex -> showLoadError("Errore durante il caricamento dei team: ", ex)));
         // List selection listener (for future functionality like editing existing evaluations)
         valutazioniList.addListSelectionListener(e -> {
             // Assegna Voti remains always enabled for creating new evaluations
@@ -152,33 +159,92 @@ public class ValutazioniPanel extends JPanel {
      * Aggiorna i dati del pannello
      */
     public void refreshData() {
+        if (valutazioniListModel.isEmpty()) {
+            valutazioniListModel.addElement(new Valutazione(-1, -1, -1, 0, "Caricamento valutazioni..."));
+        }
+        // Carica valutazioni esistenti per questo giudice
+        valutazioniCache.load(valutazioniLoader, () -> controller.getValutazioniHackathon(1), this::showValutazioni, e -> {
+            valutazioniListModel.clear();
+            showLoadError("Errore durante il caricamento delle valutazioni: ", e);
+        });
+    }
+    /**
+     * Aggiorna i dati solo se quelli in cache non sono più validi (usato nella navigazione)
+     */
+    public void refreshIfStale() {
+        if (!valutazioniCache.isFresh()) {
+            refreshData();
+        }
+    }
+    /**
+     * Popola la lista con le valutazioni caricate
+     */
+    private void showValutazioni(List<Valutazione> valutazioni) {
         valutazioniListModel.clear();
-        try {
-            // Carica valutazioni esistenti per questo giudice
-            List<Valutazione> valutazioni = controller.getValutazioniHackathon(1); 
-            for (Valutazione valutazione : valutazioni) {
-                valutazioniListModel.addElement(valutazione);
-            }
-            if (valutazioni.isEmpty()) {
-                // Aggiungi un elemento informativo
-                valutazioniListModel.addElement(new Valutazione(-1, -1, -1, 0, "Nessuna valutazione presente - Usa 'Assegna Voti' per iniziare"));
-            }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this,
-                """
-                Errore durante il caricamento delle valutazioni: %s
+        for (Valutazione valutazione : valutazioni) {
+            valutazioniListModel.addElement(valutazione);
+        }
+        if (valutazioni.isEmpty()) {
+            // Aggiungi un elemento informativo
+            valutazioniListModel.addElement(new Valutazione(-1, -1, -1, 0, "Nessuna valutazione presente - Usa 'Assegna Voti' per iniziare"));
+        }
+    }
+    private void showLoadError(String prefix, Exception e) {
+        JOptionPane.showMessageDialog(this,
+            """
+            %s%s
 
-                Controlla la console per i dettagli tecnici.
-                """.formatted(e.getMessage()),
-                ERRORE_SISTEMA,
-                JOptionPane.ERROR_MESSAGE);
+            Controlla la console per i dettagli tecnici.
+            """.formatted(prefix, e.getMessage()),
+            ERRORE_SISTEMA,
+            JOptionPane.ERROR_MESSAGE);
+    }
+    /**
+     * Team valutabili: quelli degli hackathon in corso o, in loro assenza, di tutti gli hackathon.
+     * Eseguito fuori dall'EDT.
+     */
+    private List<Team> caricaTeamValutabili() {
+        List<Team> teams = new ArrayList<>();
+        List<Hackathon> hackathons = controller.getHackathonInCorso();
+        if (hackathons.isEmpty()) {
+            // Fallback: usa tutti gli hackathon disponibili
+            hackathons = controller.getTuttiHackathon();
+        }
+        for (Hackathon h : hackathons) {
+            teams.addAll(controller.getTeamsByHackathon(h.getId()));
+        }
+        return teams;
+    }
+    /**
+     * Calcola la classifica dei team valutabili ordinata per voto medio. Eseguito fuori dall'EDT.
+     */
+    private List<TeamScore> caricaClassifica() {
+        // Conta le valutazioni per team con un'unica lettura
+        java.util.Map<Integer, Long> conteggi = new java.util.HashMap<>();
+        for (Valutazione v : controller.getValutazioniHackathon(1)) {
+            conteggi.merge(v.getTeamId(), 1L, Long::sum);
         }
+        List<TeamScore> classifica = new ArrayList<>();
+        for (Team team : caricaTeamValutabili()) {
+            long numValutazioni = conteggi.getOrDefault(team.getId(), 0L);
+            if (numValutazioni > 0) { // Solo team con almeno una valutazione
+                try {
+                    double mediaVoto = controller.getValutazioneMediaTeam(team.getId());
+                    classifica.add(new TeamScore(team, mediaVoto, (int) numValutazioni));
+                } catch (Exception e) {
+                    // Errore non critico: si prosegue con gli altri team
+                }
+            }
+        }
+        // Ordina per voto medio decrescente
+        classifica.sort((a, b) -> Double.compare(b.mediaVoto, a.mediaVoto));
+        return classifica;
     }
     /**
      * Mostra il dialog per assegnare voti
      */
     @SuppressWarnings("java:S3776") // Cognitive complexity acceptable for UI dialog method
-    private void showAssegnaVotiDialog() {
+    private void showAssegnaVotiDialog(List<Team> teams) {
         JDialog dialog = new JDialog(mainFrame, "Assegna Voti", true);
         dialog.setLayout(new GridBagLayout());
         GridBagConstraints gbc = new GridBagConstraints();
@@ -188,22 +254,6 @@ public class ValutazioniPanel extends JPanel {
         JComboBox<Team> teamComboBox = new JComboBox<>();
         teamComboBox.addItem(null); // Placeholder
         try {
-            // Ottieni tutti i team degli hackathon in corso
-            List<Team> teams = new ArrayList<>();
-            List<Hackathon> hackathonInCorso = controller.getHackathonInCorso();
-
-            if (hackathonInCorso.isEmpty()) {
-                // Fallback: usa tutti gli hackathon disponibili
-                List<Hackathon> tuttiHackathon = controller.getTuttiHackathon();
-                for (Hackathon h : tuttiHackathon) {
-                    teams.addAll(controller.getTeamsByHackathon(h.getId()));
-                }
-            } else {
-                // Usa solo gli hackathon in corso
-                for (Hackathon h : hackathonInCorso) {
-                    teams.addAll(controller.getTeamsByHackathon(h.getId()));
-                }
-            }
             if (teams.isEmpty()) {
                 JOptionPane.showMessageDialog(dialog,
                     """
@@ -339,6 +389,10 @@ public class ValutazioniPanel extends JPanel {
      * Gestisce la visualizzazione della classifica
      */
     private void handleVisualizzaClassifica() {
+        classificaLoader.load(this::caricaClassifica, this::showClassificaDialog,
+            e -> showLoadError("Errore durante la visualizzazione della classifica: ", e));
+    }
+    private void showClassificaDialog(List<TeamScore> classifica) {
         try {
             // Crea dialog per la classifica
             JDialog dialog = new JDialog(mainFrame, "Classifica Team", true);
@@ -361,42 +415,6 @@ public class ValutazioniPanel extends JPanel {
             JTable table = new JTable(tableModel);
             table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
             table.getTableHeader().setReorderingAllowed(false);
-            // Ottieni tutti i team degli hackathon in corso
-            List<Team> teams = new ArrayList<>();
-            List<Hackathon> hackathonInCorso = controller.getHackathonInCorso();
-            
-            if (hackathonInCorso.isEmpty()) {
-                // Fallback: usa tutti gli hackathon disponibili
-                List<Hackathon> tuttiHackathon = controller.getTuttiHackathon();
-                for (Hackathon h : tuttiHackathon) {
-                    teams.addAll(controller.getTeamsByHackathon(h.getId()));
-                }
-            } else {
-                // Usa solo gli hackathon in corso
-                for (Hackathon h : hackathonInCorso) {
-                    teams.addAll(controller.getTeamsByHackathon(h.getId()));
-                }
-            } 
-            // Calcola classifica
-            List<TeamScore> classifica = new ArrayList<>();
-            for (Team team : teams) {
-                try {
-                    double mediaVoto = controller.getValutazioneMediaTeam(team.getId());
-                    // Conta quante valutazioni ha ricevuto questo team
-                    long numValutazioni = controller.getValutazioniHackathon(1).stream()
-                        .filter(v -> v.getTeamId() == team.getId())
-                        .count();
-                    if (numValutazioni > 0) { // Solo team con almeno una valutazione
-                        classifica.add(new TeamScore(team, mediaVoto, (int) numValutazioni));
-                    }
-                } catch (Exception e) {
-                    // Log error but continue processing other teams
-                    // Log error but continue processing other teams
-                    // Using System.err for non-critical errors that shouldn't stop processing
-                }
-            }
-            // Ordina per voto medio decrescente
-            classifica.sort((a, b) -> Double.compare(b.mediaVoto, a.mediaVoto));
             // Popola tabella
             int posizione = 1;
             for (TeamScore score : classifica) {
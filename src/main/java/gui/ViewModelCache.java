@@ -0,0 +1,113 @@
+package gui;
+
+import controller.AreaDati;
+import controller.Controller;
+import model.Utente;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * Cache dei dati di un pannello (view-model) con stampo di versione.
+ * Conserva l'ultimo dato caricato insieme alle versioni delle {@link AreaDati} da cui dipende,
+ * lette dal {@link Controller} prima del caricamento, e all'utente per cui è stato caricato.
+ * Il dato è valido finché nessuna scrittura ha modificato quelle aree, l'utente è lo stesso
+ * e non è più vecchio della durata massima, che copre le modifiche fatte da altri client.
+ * <p>
+ * Va usata dall'EDT insieme a un {@link AsyncLoader}: la navigazione verso un pannello con dati
+ * validi non tocca il database, mentre con dati scaduti il ricaricamento avviene in background
+ * lasciando visibili i dati precedenti.
+ *
+ * @param <T> tipo del dato del pannello
+ */
+public final class ViewModelCache<T> {
+
+    /** Durata massima di un dato in cache, in millisecondi */
+    private static final long DEFAULT_MAX_AGE_MILLIS =
+        Long.getLong("ui.cacheTtlSeconds", 60) * 1000L;
+
+    private final Controller controller;
+    private final AreaDati[] aree;
+    private final long maxAgeMillis;
+
+    private T data;
+    private long[] versioni;
+    private long caricatoIl;
+    private int utenteId;
+
+    /**
+     * @param controller il controller che espone le versioni dei dati
+     * @param aree le aree di dati da cui dipende il pannello
+     */
+    public ViewModelCache(Controller controller, AreaDati... aree) {
+        this(controller, DEFAULT_MAX_AGE_MILLIS, aree);
+    }
+
+    public ViewModelCache(Controller controller, long maxAgeMillis, AreaDati... aree) {
+        this.controller = controller;
+        this.maxAgeMillis = maxAgeMillis;
+        this.aree = aree.clone();
+    }
+
+    /**
+     * @return true se c'è un dato caricato per l'utente corrente, nessuna delle aree è cambiata e non è scaduto
+     */
+    public boolean isFresh() {
+        if (versioni == null || System.currentTimeMillis() - caricatoIl > maxAgeMillis
+                || utenteCorrente() != utenteId) {
+            return false;
+        }
+        for (int i = 0; i < aree.length; i++) {
+            if (controller.getVersioneDati(aree[i]) != versioni[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return l'ultimo dato caricato, anche se non più valido (null se mai caricato)
+     */
+    public T get() {
+        return data;
+    }
+
+    /**
+     * Invalida il dato: il prossimo {@link #isFresh()} restituirà false
+     */
+    public void invalidate() {
+        versioni = null;
+    }
+
+    /**
+     * Ricarica il dato in background con il loader indicato e lo memorizza prima di passarlo
+     * alla callback. Le versioni vengono lette prima della query, così una scrittura
+     * concorrente rende comunque il risultato non valido.
+     *
+     * @param loader il canale di caricamento del pannello
+     * @param task la chiamata al controller
+     * @param onSuccess callback sull'EDT con il dato caricato
+     * @param onError callback sull'EDT in caso di errore
+     */
+    public void load(AsyncLoader<T> loader, Callable<? extends T> task,
+                     Consumer<? super T> onSuccess, Consumer<? super Exception> onError) {
+        long[] snapshot = new long[aree.length];
+        for (int i = 0; i < aree.length; i++) {
+            snapshot[i] = controller.getVersioneDati(aree[i]);
+        }
+        long avvio = System.currentTimeMillis();
+        int utente = utenteCorrente();
+        loader.load(task, value -> {
+            data = value;
+            versioni = snapshot;
+            caricatoIl = avvio;
+            utenteId = utente;
+            onSuccess.accept(value);
+        }, onError);
+    }
+
+    private int utenteCorrente() {
+        Utente utente = controller.getCurrentUser();
+        return utente != null ? utente.getId() : -1;
+    }
+}
@@ -0,0 +1,342 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Verifica di integrità dei backup prodotti da {@link BackupService}.
+ * Legge integralmente ogni voce degli archivi ZIP referenziati dai manifest e ogni dump
+ * pg_dump, ricalcolando CRC32 e SHA-256 e confrontandoli con quanto registrato al momento
+ * del backup (manifest per i file, file {@code .sha256} per i dump).
+ * Gli archivi vengono verificati in parallelo; ogni archivio è letto una sola volta
+ * anche se referenziato da più manifest.
+ */
+public class BackupIntegrityChecker {
+
+    private static final Logger LOGGER = Logger.getLogger(BackupIntegrityChecker.class.getName());
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Tipo di anomalia rilevata
+     */
+    public enum IssueType {
+        ARCHIVIO_MANCANTE,
+        VOCE_MANCANTE,
+        CRC_NON_VALIDO,
+        HASH_NON_VALIDO,
+        DIMENSIONE_NON_VALIDA,
+        ILLEGGIBILE,
+        CHECKSUM_MANCANTE
+    }
+
+    private final Path backupDirectory;
+    private final int threads;
+
+    public BackupIntegrityChecker(Path backupDirectory) {
+        this(backupDirectory, Runtime.getRuntime().availableProcessors());
+    }
+
+    public BackupIntegrityChecker(Path backupDirectory, int threads) {
+        this.backupDirectory = backupDirectory;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Verifica tutti i manifest e tutti i dump presenti nella directory di backup.
+     * I dump senza file {@code .sha256}, scritti prima che venisse introdotto, sono segnalati
+     * come avvisi e non rendono il report non valido.
+     */
+    public Report verifyAll() {
+        return verify(BackupManifest.listManifests(backupDirectory), listDumps(), false);
+    }
+
+    /**
+     * Verifica solo quanto prodotto dall'ultimo backup (usata dopo ogni backup): l'ultimo
+     * manifest per un backup dei file, l'ultimo dump per un backup del database, entrambi per
+     * un backup completo. Il dump appena scritto deve avere il suo file {@code .sha256}.
+     *
+     * @param files true per verificare l'ultimo manifest
+     * @param database true per verificare l'ultimo dump
+     */
+    public Report verifyLatest(boolean files, boolean database) {
+        List<Path> manifests = new ArrayList<>();
+        Path latestManifest = files ? BackupManifest.findLatest(backupDirectory) : null;
+        if (latestManifest != null) {
+            manifests.add(latestManifest);
+        }
+        List<Path> dumps = database ? listDumps() : Collections.emptyList();
+        // I nomi contengono il timestamp: l'ordine lessicografico è cronologico
+        List<Path> latestDump = dumps.isEmpty()
+            ? Collections.emptyList()
+            : Collections.singletonList(Collections.max(dumps));
+        return verify(manifests, latestDump, true);
+    }
+
+    private Report verify(List<Path> manifests, List<Path> dumps, boolean checksumRequired) {
+        long start = System.nanoTime();
+        Report report = new Report();
+
+        // Raggruppa le voci attese per archivio, senza duplicati tra manifest diversi
+        Map<String, Map<String, BackupManifest.Entry>> expected = new LinkedHashMap<>();
+        for (Path manifestPath : manifests) {
+            try {
+                for (BackupManifest.Entry entry : BackupManifest.read(manifestPath).getEntries()) {
+                    expected.computeIfAbsent(entry.getArchive(), k -> new HashMap<>()).putIfAbsent(entry.getPath(), entry);
+                }
+                report.manifestsChecked++;
+            } catch (IOException e) {
+                report.addIssue(IssueType.ILLEGGIBILE, manifestPath.getFileName().toString(), e.getMessage());
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "backup-verify");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Map.Entry<String, Map<String, BackupManifest.Entry>> archive : expected.entrySet()) {
+                futures.add(executor.submit(() -> verifyArchive(archive.getKey(), archive.getValue(), report)));
+            }
+            for (Path dump : dumps) {
+                futures.add(executor.submit(() -> verifyDump(dump, checksumRequired, report)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            report.addIssue(IssueType.ILLEGGIBILE, backupDirectory.toString(), "verifica interrotta");
+        } catch (ExecutionException e) {
+            report.addIssue(IssueType.ILLEGGIBILE, backupDirectory.toString(), e.getCause().getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        report.durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.log(Level.INFO, "Verifica backup completata: {0}", report.getSummary());
+        return report;
+    }
+
+    /**
+     * Legge l'archivio in ordine fisico e verifica ogni voce attesa
+     */
+    private void verifyArchive(String archiveName, Map<String, BackupManifest.Entry> entries, Report report) {
+        Path archivePath = backupDirectory.resolve(archiveName);
+        if (!Files.exists(archivePath)) {
+            for (String path : entries.keySet()) {
+                report.addIssue(IssueType.ARCHIVIO_MANCANTE, archiveName + "!" + path, "archivio non trovato");
+            }
+            return;
+        }
+
+        Map<String, BackupManifest.Entry> pending = new HashMap<>(entries);
+        byte[] buffer = new byte[IO_BUFFER_SIZE];
+        try (ZipFile zip = new ZipFile(archivePath.toFile())) {
+            Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+            while (zipEntries.hasMoreElements()) {
+                ZipEntry zipEntry = zipEntries.nextElement();
+                BackupManifest.Entry entry = pending.remove(zipEntry.getName());
+                if (entry != null) {
+                    verifyEntry(archiveName, zip, zipEntry, entry, buffer, report);
+                }
+            }
+        } catch (IOException e) {
+            report.addIssue(IssueType.ILLEGGIBILE, archiveName, e.getMessage());
+            return;
+        }
+        report.archivesChecked.incrementAndGet();
+
+        for (String path : pending.keySet()) {
+            report.addIssue(IssueType.VOCE_MANCANTE, archiveName + "!" + path, "voce non presente nell'archivio");
+        }
+    }
+
+    private void verifyEntry(String archiveName, ZipFile zip, ZipEntry zipEntry, BackupManifest.Entry entry,
+                             byte[] buffer, Report report) {
+        String location = archiveName + "!" + entry.getPath();
+        MessageDigest sha = newSha256();
+        CRC32 crc = new CRC32();
+        long size = 0;
+        try (InputStream in = zip.getInputStream(zipEntry)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                sha.update(buffer, 0, read);
+                crc.update(buffer, 0, read);
+                size += read;
+            }
+        } catch (IOException e) {
+            report.addIssue(IssueType.ILLEGGIBILE, location, e.getMessage());
+            return;
+        }
+        report.entriesChecked.incrementAndGet();
+        report.bytesChecked.addAndGet(size);
+
+        if (size != entry.getSize()) {
+            report.addIssue(IssueType.DIMENSIONE_NON_VALIDA, location,
+                String.format("attesi %d byte, letti %d", entry.getSize(), size));
+        } else if (crc.getValue() != entry.getCrc() || (zipEntry.getCrc() != -1 && zipEntry.getCrc() != crc.getValue())) {
+            report.addIssue(IssueType.CRC_NON_VALIDO, location, "CRC32 non corrispondente");
+        } else if (!BackupService.toHex(sha.digest()).equals(entry.getSha256())) {
+            report.addIssue(IssueType.HASH_NON_VALIDO, location, "SHA-256 non corrispondente");
+        }
+    }
+
+    /**
+     * Verifica un dump confrontandone lo SHA-256 con il file .sha256 scritto al backup
+     *
+     * @param checksumRequired se false un file .sha256 mancante è solo un avviso (dump precedenti)
+     */
+    private void verifyDump(Path dump, boolean checksumRequired, Report report) {
+        String name = dump.getFileName().toString();
+        Path checksumFile = dump.resolveSibling(name + BackupService.CHECKSUM_SUFFIX);
+        if (!Files.exists(checksumFile)) {
+            Issue issue = new Issue(IssueType.CHECKSUM_MANCANTE, name, "dump senza file " + BackupService.CHECKSUM_SUFFIX);
+            if (checksumRequired) {
+                report.issues.add(issue);
+            } else {
+                report.warnings.add(issue);
+            }
+            return;
+        }
+        try {
+            String expectedSha = Files.readString(checksumFile, StandardCharsets.UTF_8).trim().split("\\s+")[0];
+            MessageDigest sha = newSha256();
+            byte[] buffer = new byte[IO_BUFFER_SIZE];
+            long size = 0;
+            try (InputStream in = Files.newInputStream(dump)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    sha.update(buffer, 0, read);
+                    size += read;
+                }
+            }
+            report.dumpsChecked.incrementAndGet();
+            report.bytesChecked.addAndGet(size);
+            if (!BackupService.toHex(sha.digest()).equalsIgnoreCase(expectedSha)) {
+                report.addIssue(IssueType.HASH_NON_VALIDO, name, "SHA-256 del dump non corrispondente");
+            }
+        } catch (IOException e) {
+            report.addIssue(IssueType.ILLEGGIBILE, name, e.getMessage());
+        }
+    }
+
+    private List<Path> listDumps() {
+        List<Path> dumps = new ArrayList<>();
+        if (!Files.isDirectory(backupDirectory)) {
+            return dumps;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(backupDirectory, BackupService.DB_BACKUP_PREFIX + "*.sql")) {
+            for (Path p : stream) {
+                dumps.add(p);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Errore nella lettura dei dump di backup", e);
+        }
+        return dumps;
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 non disponibile", e);
+        }
+    }
+
+    /**
+     * Anomalia rilevata durante la verifica
+     */
+    public static class Issue {
+        private final IssueType type;
+        private final String location;
+        private final String detail;
+
+        public Issue(IssueType type, String location, String detail) {
+            this.type = type;
+            this.location = location;
+            this.detail = detail;
+        }
+
+        public IssueType getType() { return type; }
+        public String getLocation() { return location; }
+        public String getDetail() { return detail; }
+
+        @Override
+        public String toString() {
+            return type + " " + location + ": " + detail;
+        }
+    }
+
+    /**
+     * Esito della verifica; aggiornato in modo thread-safe dai task paralleli
+     */
+    public static class Report {
+        private int manifestsChecked;
+        private final AtomicLong archivesChecked = new AtomicLong();
+        private final AtomicLong entriesChecked = new AtomicLong();
+        private final AtomicLong dumpsChecked = new AtomicLong();
+        private final AtomicLong bytesChecked = new AtomicLong();
+        private final List<Issue> issues = Collections.synchronizedList(new ArrayList<>());
+        private final List<Issue> warnings = Collections.synchronizedList(new ArrayList<>());
+        private long durationMillis;
+
+        void addIssue(IssueType type, String location, String detail) {
+            issues.add(new Issue(type, location, detail));
+        }
+
+        public boolean isValid() { return issues.isEmpty(); }
+        public int getManifestsChecked() { return manifestsChecked; }
+        public long getArchivesChecked() { return archivesChecked.get(); }
+        public long getEntriesChecked() { return entriesChecked.get(); }
+        public long getDumpsChecked() { return dumpsChecked.get(); }
+        public long getBytesChecked() { return bytesChecked.get(); }
+        public long getDurationMillis() { return durationMillis; }
+
+        public List<Issue> getIssues() {
+            synchronized (issues) {
+                return new ArrayList<>(issues);
+            }
+        }
+
+        /**
+         * @return avvisi che non rendono il report non valido (dump senza checksum precedenti)
+         */
+        public List<Issue> getWarnings() {
+            synchronized (warnings) {
+                return new ArrayList<>(warnings);
+            }
+        }
+
+        public String getSummary() {
+            return String.format("%d manifest, %d archivi, %d voci, %d dump, %d byte in %d ms - %d anomalie, %d avvisi",
+                manifestsChecked, archivesChecked.get(), entriesChecked.get(), dumpsChecked.get(),
+                bytesChecked.get(), durationMillis, issues.size(), warnings.size());
+        }
+    }
+}
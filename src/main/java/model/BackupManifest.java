@@ -0,0 +1,229 @@
+package model;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Manifest di un backup incrementale dei file.
+ * Ogni manifest descrive lo stato completo della directory storage in un istante:
+ * per ogni file registra dimensione, data di modifica, hash SHA-256, CRC32 e
+ * l'archivio ZIP che ne contiene il contenuto (scritto in questo run o in uno precedente).
+ * I manifest sono concatenati tramite il campo {@code parent}.
+ */
+public class BackupManifest {
+
+    private static final Logger LOGGER = Logger.getLogger(BackupManifest.class.getName());
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public static final String FILE_PREFIX = "hackathon_files_manifest_";
+    public static final String FILE_SUFFIX = ".json";
+    public static final String TIMESTAMP_PATTERN = "yyyyMMdd_HHmmss_SSS";
+
+    private String createdAt;
+    private String parent;
+    private List<Entry> entries = new ArrayList<>();
+
+    public BackupManifest() {
+        // Richiesto da Jackson
+    }
+
+    public BackupManifest(LocalDateTime createdAt, String parent) {
+        this.createdAt = createdAt.toString();
+        this.parent = parent;
+    }
+
+    /**
+     * Nome del file manifest per il timestamp indicato
+     */
+    public static String fileName(String timestamp) {
+        return FILE_PREFIX + timestamp + FILE_SUFFIX;
+    }
+
+    /**
+     * Legge un manifest da file
+     */
+    public static BackupManifest read(Path manifestFile) throws IOException {
+        return MAPPER.readValue(manifestFile.toFile(), BackupManifest.class);
+    }
+
+    /**
+     * Scrive il manifest su file in modo atomico (file temporaneo + move)
+     */
+    public void write(Path manifestFile) throws IOException {
+        Path tmp = manifestFile.resolveSibling(manifestFile.getFileName() + ".tmp");
+        MAPPER.writeValue(tmp.toFile(), this);
+        Files.move(tmp, manifestFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+                   java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Trova il manifest più recente nella directory di backup
+     *
+     * @return path del manifest o null se non esiste alcun manifest
+     */
+    public static Path findLatest(Path backupDirectory) {
+        return findAt(backupDirectory, null);
+    }
+
+    /**
+     * Trova il manifest più recente creato entro l'istante indicato
+     *
+     * @param backupDirectory directory dei backup
+     * @param pointInTime istante massimo (null = nessun limite)
+     * @return path del manifest o null se non esiste
+     */
+    public static Path findAt(Path backupDirectory, LocalDateTime pointInTime) {
+        Path best = null;
+        LocalDateTime bestTime = null;
+        for (Path manifest : listManifests(backupDirectory)) {
+            LocalDateTime time = timestampOf(manifest);
+            if (time == null || (pointInTime != null && time.isAfter(pointInTime))) {
+                continue;
+            }
+            if (bestTime == null || time.isAfter(bestTime)) {
+                best = manifest;
+                bestTime = time;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Elenca tutti i manifest presenti nella directory di backup
+     */
+    public static List<Path> listManifests(Path backupDirectory) {
+        List<Path> manifests = new ArrayList<>();
+        if (!Files.isDirectory(backupDirectory)) {
+            return manifests;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(backupDirectory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path p : stream) {
+                manifests.add(p);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Errore nella lettura dei manifest di backup", e);
+        }
+        return manifests;
+    }
+
+    /**
+     * Estrae il timestamp dal nome del file manifest
+     *
+     * @return il timestamp o null se il nome non è valido
+     */
+    public static LocalDateTime timestampOf(Path manifestFile) {
+        String name = manifestFile.getFileName().toString();
+        if (!name.startsWith(FILE_PREFIX) || !name.endsWith(FILE_SUFFIX)) {
+            return null;
+        }
+        String ts = name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length());
+        try {
+            return LocalDateTime.parse(ts, DateTimeFormatter.ofPattern(TIMESTAMP_PATTERN));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Indicizza le voci per percorso relativo
+     */
+    public Map<String, Entry> byPath() {
+        Map<String, Entry> map = new HashMap<>(entries.size() * 2);
+        for (Entry e : entries) {
+            map.put(e.getPath(), e);
+        }
+        return map;
+    }
+
+    /**
+     * Insieme degli archivi referenziati da questo manifest
+     */
+    public Set<String> referencedArchives() {
+        Set<String> archives = new LinkedHashSet<>();
+        for (Entry e : entries) {
+            archives.add(e.getArchive());
+        }
+        return archives;
+    }
+
+    /**
+     * Dimensione totale dei file descritti dal manifest
+     */
+    public long totalSize() {
+        return entries.stream().mapToLong(Entry::getSize).sum();
+    }
+
+    // Getters e setters (usati anche da Jackson)
+    public String getCreatedAt() { return createdAt; }
+    public void setCreatedAt(String createdAt) { this.createdAt = createdAt; }
+    public String getParent() { return parent; }
+    public void setParent(String parent) { this.parent = parent; }
+    public List<Entry> getEntries() { return entries; }
+    public void setEntries(List<Entry> entries) { this.entries = entries; }
+
+    /**
+     * Voce del manifest: un file della directory storage
+     */
+    public static class Entry {
+        private String path;
+        private long size;
+        private long lastModified;
+        private String sha256;
+        private long crc;
+        private String archive;
+        private boolean compressed;
+
+        public Entry() {
+            // Richiesto da Jackson
+        }
+
+        public Entry(String path, long size, long lastModified, String sha256, long crc, String archive, boolean compressed) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.sha256 = sha256;
+            this.crc = crc;
+            this.archive = archive;
+            this.compressed = compressed;
+        }
+
+        /**
+         * Copia la voce aggiornando dimensione e data di modifica (contenuto invariato)
+         */
+        public Entry withMetadata(long newSize, long newLastModified) {
+            return new Entry(path, newSize, newLastModified, sha256, crc, archive, compressed);
+        }
+
+        public String getPath() { return path; }
+        public void setPath(String path) { this.path = path; }
+        public long getSize() { return size; }
+        public void setSize(long size) { this.size = size; }
+        public long getLastModified() { return lastModified; }
+        public void setLastModified(long lastModified) { this.lastModified = lastModified; }
+        public String getSha256() { return sha256; }
+        public void setSha256(String sha256) { this.sha256 = sha256; }
+        public long getCrc() { return crc; }
+        public void setCrc(long crc) { this.crc = crc; }
+        public String getArchive() { return archive; }
+        public void setArchive(String archive) { this.archive = archive; }
+        public boolean isCompressed() { return compressed; }
+        public void setCompressed(boolean compressed) { this.compressed = compressed; }
+    }
+}
@@ -0,0 +1,171 @@
+package model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Strumento di ripristino dei backup incrementali dei file.
+ * Seleziona il manifest valido all'istante richiesto e ricostruisce la directory storage
+ * estraendo ogni file dall'archivio indicato nel manifest, verificandone lo SHA-256.
+ *
+ * Utilizzo da riga di comando:
+ * <pre>
+ * java model.BackupRestoreTool &lt;directoryBackup&gt; &lt;directoryDestinazione&gt; [yyyyMMdd_HHmmss]
+ * </pre>
+ */
+public class BackupRestoreTool {
+
+    private static final Logger LOGGER = Logger.getLogger(BackupRestoreTool.class.getName());
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private final Path backupDirectory;
+
+    public BackupRestoreTool(Path backupDirectory) {
+        this.backupDirectory = backupDirectory;
+    }
+
+    /**
+     * Ripristina i file all'istante indicato
+     *
+     * @param pointInTime istante da ripristinare (null = ultimo backup disponibile)
+     * @param targetDirectory directory di destinazione (creata se non esiste)
+     * @return esito del ripristino con il manifest usato e i byte ripristinati
+     */
+    public BackupService.BackupResult restore(LocalDateTime pointInTime, Path targetDirectory) {
+        Path manifestPath = BackupManifest.findAt(backupDirectory, pointInTime);
+        if (manifestPath == null) {
+            return new BackupService.BackupResult(false, "Nessun backup disponibile per l'istante richiesto", null, 0);
+        }
+        String manifestName = manifestPath.getFileName().toString();
+
+        try {
+            BackupManifest manifest = BackupManifest.read(manifestPath);
+            Files.createDirectories(targetDirectory);
+
+            // Raggruppa per archivio: ogni ZIP viene aperto una sola volta
+            Map<String, List<BackupManifest.Entry>> byArchive = new LinkedHashMap<>();
+            for (BackupManifest.Entry entry : manifest.getEntries()) {
+                byArchive.computeIfAbsent(entry.getArchive(), k -> new ArrayList<>()).add(entry);
+            }
+
+            long restoredBytes = 0;
+            List<String> errors = new ArrayList<>();
+            for (Map.Entry<String, List<BackupManifest.Entry>> group : byArchive.entrySet()) {
+                restoredBytes += restoreArchive(group.getKey(), group.getValue(), targetDirectory, errors);
+            }
+
+            if (!errors.isEmpty()) {
+                String message = String.format("Ripristino parziale da %s: %d errori (%s)",
+                    manifestName, errors.size(), String.join("; ", errors));
+                LOGGER.warning(message);
+                return new BackupService.BackupResult(false, message, manifestName, restoredBytes);
+            }
+
+            String message = String.format("Ripristinati %d file da %s", manifest.getEntries().size(), manifestName);
+            LOGGER.info(message);
+            return new BackupService.BackupResult(true, message, manifestName, restoredBytes);
+
+        } catch (IOException e) {
+            String errorMsg = String.format("Errore durante il ripristino: %s", e.getMessage());
+            LOGGER.log(Level.SEVERE, errorMsg, e);
+            return new BackupService.BackupResult(false, errorMsg, manifestName, 0);
+        }
+    }
+
+    /**
+     * Estrae le voci indicate da un archivio
+     *
+     * @return byte ripristinati
+     */
+    private long restoreArchive(String archiveName, List<BackupManifest.Entry> entries, Path targetDirectory,
+                                List<String> errors) {
+        Path archivePath = backupDirectory.resolve(archiveName);
+        if (!Files.exists(archivePath)) {
+            errors.add("archivio mancante " + archiveName);
+            return 0;
+        }
+
+        long restored = 0;
+        byte[] buffer = new byte[IO_BUFFER_SIZE];
+        try (ZipFile zip = new ZipFile(archivePath.toFile())) {
+            for (BackupManifest.Entry entry : entries) {
+                ZipEntry zipEntry = zip.getEntry(entry.getPath());
+                if (zipEntry == null) {
+                    errors.add("voce mancante " + entry.getPath());
+                    continue;
+                }
+                Path target = targetDirectory.resolve(entry.getPath()).normalize();
+                if (!target.startsWith(targetDirectory.normalize())) {
+                    errors.add("percorso non valido " + entry.getPath());
+                    continue;
+                }
+                Files.createDirectories(target.getParent());
+                String sha256 = extract(zip, zipEntry, target, buffer);
+                if (!sha256.equals(entry.getSha256())) {
+                    errors.add("hash non corrispondente " + entry.getPath());
+                    continue;
+                }
+                Files.setLastModifiedTime(target, FileTime.fromMillis(entry.getLastModified()));
+                restored += entry.getSize();
+            }
+        } catch (IOException e) {
+            errors.add("archivio illeggibile " + archiveName + ": " + e.getMessage());
+        }
+        return restored;
+    }
+
+    /**
+     * Copia il contenuto di una voce su file calcolandone lo SHA-256
+     */
+    private static String extract(ZipFile zip, ZipEntry zipEntry, Path target, byte[] buffer) throws IOException {
+        MessageDigest sha;
+        try {
+            sha = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 non disponibile", e);
+        }
+        try (InputStream in = zip.getInputStream(zipEntry);
+             OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                sha.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
+        }
+        return BackupService.toHex(sha.digest());
+    }
+
+    /**
+     * Punto di ingresso da riga di comando
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Uso: BackupRestoreTool <directoryBackup> <directoryDestinazione> [yyyyMMdd_HHmmss]");
+            System.exit(1);
+        }
+        LocalDateTime pointInTime = args.length > 2
+            ? LocalDateTime.parse(args[2], DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")).plusNanos(999_999_999L)
+            : null;
+        BackupService.BackupResult result = new BackupRestoreTool(Paths.get(args[0]))
+            .restore(pointInTime, Paths.get(args[1]));
+        System.out.println(result.getMessage());
+        System.exit(result.isSuccess() ? 0 : 2);
+    }
+}
@@ -0,0 +1,444 @@
+package model;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Scheduler dei backup automatici basato su {@link ScheduledExecutorService}.
+ * La programmazione e lo storico delle esecuzioni sono persistiti in un file JSON
+ * nella directory dei backup, così da sopravvivere al riavvio dell'applicazione.
+ * Le esecuzioni non si sovrappongono mai (né programmate né manuali), vengono
+ * rimandate se il carico CPU è troppo alto e girano con I/O e thread limitati
+ * per non rallentare l'uso interattivo durante le valutazioni.
+ */
+public class BackupScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(BackupScheduler.class.getName());
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final String STATE_FILE = "backup_scheduler.json";
+    private static final int MAX_HISTORY = 200;
+    private static final long POSTPONE_MINUTES = 10;
+    private static final int MAX_POSTPONES = 6;
+
+    public enum BackupType { DATABASE, FILES, COMPLETE }
+
+    private final BackupService backupService;
+    private final String storageDirectory;
+    private final Path stateFile;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Object stateLock = new Object();
+
+    private State state;
+    private ScheduledFuture<?> scheduledTask;
+    private int postponeCount = 0;
+
+    public BackupScheduler(BackupService backupService, String storageDirectory) {
+        this.backupService = backupService;
+        this.storageDirectory = storageDirectory;
+        this.stateFile = Paths.get(backupService.getBackupDirectory(), STATE_FILE);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "backup-scheduler");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+        this.state = loadState();
+    }
+
+    /**
+     * Riattiva la programmazione persistita (da chiamare all'avvio dell'applicazione)
+     */
+    public void start() {
+        synchronized (stateLock) {
+            if (state.schedule != null && state.schedule.isEnabled()) {
+                arm(state.schedule);
+            }
+        }
+    }
+
+    /**
+     * Programma backup automatici periodici, sostituendo la programmazione esistente
+     *
+     * @param schedule la nuova programmazione
+     */
+    public void schedule(Schedule schedule) {
+        synchronized (stateLock) {
+            schedule.setEnabled(true);
+            state.schedule = schedule;
+            saveState();
+            arm(schedule);
+        }
+        LOGGER.log(Level.INFO, "Backup automatici programmati ogni {0} ore", schedule.getFrequencyHours());
+    }
+
+    /**
+     * Disattiva i backup automatici
+     */
+    public void cancel() {
+        synchronized (stateLock) {
+            if (scheduledTask != null) {
+                scheduledTask.cancel(false);
+                scheduledTask = null;
+            }
+            if (state.schedule != null) {
+                state.schedule.setEnabled(false);
+                saveState();
+            }
+        }
+    }
+
+    /**
+     * Arma il task periodico: il primo avvio tiene conto dell'ultima esecuzione riuscita
+     */
+    private void arm(Schedule schedule) {
+        if (scheduledTask != null) {
+            scheduledTask.cancel(false);
+        }
+        long periodMinutes = TimeUnit.HOURS.toMinutes(schedule.getFrequencyHours());
+        long initialDelay = periodMinutes;
+        BackupRun last = getLastSuccessfulRun();
+        if (last != null) {
+            long elapsed = Duration.between(LocalDateTime.parse(last.getStartedAt()), LocalDateTime.now()).toMinutes();
+            initialDelay = Math.max(1, periodMinutes - elapsed);
+        }
+        scheduledTask = scheduler.scheduleAtFixedRate(this::runScheduled, initialDelay, periodMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Esecuzione programmata: rimanda se il sistema è sotto carico.
+     * Nessuna eccezione deve uscire da qui, altrimenti {@code scheduleAtFixedRate}
+     * annullerebbe in silenzio tutte le esecuzioni successive.
+     */
+    private void runScheduled() {
+        Schedule schedule;
+        synchronized (stateLock) {
+            schedule = state.schedule;
+        }
+        if (schedule == null || !schedule.isEnabled()) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            runScheduledBackup(schedule);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Errore nel backup programmato", e);
+            BackupRun run = new BackupRun(startedAt.toString(), schedule.getType(), "PROGRAMMATO",
+                Duration.between(startedAt, LocalDateTime.now()).toMillis(), 0, false,
+                "Errore backup programmato: " + e.getMessage());
+            synchronized (stateLock) {
+                addToHistory(run);
+            }
+        }
+    }
+
+    private void runScheduledBackup(Schedule schedule) {
+        double load = currentCpuLoad();
+        if (load > schedule.getMaxCpuLoad() && postponeCount < MAX_POSTPONES) {
+            postponeCount++;
+            LOGGER.log(Level.INFO, "Carico CPU {0} troppo alto, backup rimandato di {1} minuti",
+                       new Object[]{String.format("%.2f", load), POSTPONE_MINUTES});
+            scheduler.schedule(this::runScheduled, POSTPONE_MINUTES, TimeUnit.MINUTES);
+            return;
+        }
+        postponeCount = 0;
+        BackupRun run = execute(schedule.getType(), "PROGRAMMATO", schedule);
+        if (run != null && run.isSuccess()) {
+            run.setDeletedByRetention(backupService.cleanOldBackups(schedule.getRetentionDays()));
+            synchronized (stateLock) {
+                saveState();
+            }
+        }
+    }
+
+    /**
+     * Esegue subito un backup a piena velocità, se nessun altro backup è in corso
+     *
+     * @return l'esecuzione registrata o null se un backup era già in corso
+     */
+    public BackupRun runNow(BackupType type) {
+        return execute(type, "MANUALE", null);
+    }
+
+    /**
+     * Esegue il backup con guardia anti-sovrapposizione e registra l'esito nello storico
+     *
+     * @param throttle limiti da applicare (null = nessun limite)
+     */
+    private BackupRun execute(BackupType type, String trigger, Schedule throttle) {
+        if (!running.compareAndSet(false, true)) {
+            LOGGER.log(Level.WARNING, "Backup {0} ignorato: un altro backup è in corso", type);
+            return null;
+        }
+        int previousThreads = backupService.getCompressionThreads();
+        long previousRate = backupService.getMaxBytesPerSecond();
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        BackupService.BackupResult result;
+        BackupIntegrityChecker.Report verification = null;
+        try {
+            if (throttle != null) {
+                backupService.setCompressionThreads(throttle.getMaxThreads());
+                backupService.setMaxBytesPerSecond(throttle.getMaxBytesPerSecond());
+            }
+            result = switch (type) {
+                case DATABASE -> backupService.backupDatabase().get();
+                case FILES -> backupService.backupFiles(storageDirectory).get();
+                case COMPLETE -> backupService.backupComplete(storageDirectory).get();
+            };
+            if (result.isSuccess()) {
+                // Rilegge subito quanto appena scritto: un backup non verificabile non conta come riuscito
+                verification = new BackupIntegrityChecker(Paths.get(backupService.getBackupDirectory()),
+                    backupService.getCompressionThreads())
+                    .verifyLatest(type != BackupType.DATABASE, type != BackupType.FILES);
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            result = new BackupService.BackupResult(false, "Backup interrotto", null, 0);
+        } catch (ExecutionException e) {
+            result = new BackupService.BackupResult(false, "Errore backup: " + e.getCause().getMessage(), null, 0);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Errore durante il backup " + type, e);
+            result = new BackupService.BackupResult(false, "Errore backup: " + e.getMessage(), null, 0);
+        } finally {
+            backupService.setCompressionThreads(previousThreads);
+            backupService.setMaxBytesPerSecond(previousRate);
+            running.set(false);
+        }
+
+        BackupRun run = new BackupRun(startedAt.toString(), type, trigger,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), result.getFileSize(),
+            result.isSuccess(), result.getMessage());
+        run.setFileName(result.getFileName());
+        if (verification != null) {
+            run.setVerified(verification.isValid());
+            if (!verification.isValid()) {
+                run.setSuccess(false);
+                run.setMessage(result.getMessage() + " - verifica fallita: " + verification.getSummary());
+            }
+        }
+        synchronized (stateLock) {
+            addToHistory(run);
+        }
+        return run;
+    }
+
+    /**
+     * Aggiunge un'esecuzione allo storico e lo salva (da chiamare con stateLock)
+     */
+    private void addToHistory(BackupRun run) {
+        state.history.add(run);
+        if (state.history.size() > MAX_HISTORY) {
+            state.history.subList(0, state.history.size() - MAX_HISTORY).clear();
+        }
+        saveState();
+    }
+
+    /**
+     * Carico CPU del sistema tra 0 e 1: quello misurato dalla JVM, altrimenti il load average
+     * normalizzato sul numero di core (che su Windows non esiste); 0 se nessuno dei due è disponibile
+     */
+    public double currentCpuLoad() {
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            double cpuLoad = ((com.sun.management.OperatingSystemMXBean) os).getCpuLoad();
+            if (cpuLoad >= 0) {
+                return cpuLoad;
+            }
+        }
+        double loadAverage = os.getSystemLoadAverage();
+        if (loadAverage < 0) {
+            return 0;
+        }
+        return loadAverage / Runtime.getRuntime().availableProcessors();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Storico delle esecuzioni, dalla più recente
+     */
+    public List<BackupRun> getHistory() {
+        synchronized (stateLock) {
+            List<BackupRun> copy = new ArrayList<>(state.history);
+            Collections.reverse(copy);
+            return copy;
+        }
+    }
+
+    public BackupRun getLastSuccessfulRun() {
+        synchronized (stateLock) {
+            for (int i = state.history.size() - 1; i >= 0; i--) {
+                if (state.history.get(i).isSuccess()) {
+                    return state.history.get(i);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Programmazione corrente o null se mai configurata
+     */
+    public Schedule getSchedule() {
+        synchronized (stateLock) {
+            return state.schedule;
+        }
+    }
+
+    /**
+     * Ferma lo scheduler senza alterare la programmazione persistita
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private State loadState() {
+        if (Files.exists(stateFile)) {
+            try {
+                return MAPPER.readValue(stateFile.toFile(), State.class);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Stato scheduler backup non leggibile, verrà ricreato", e);
+            }
+        }
+        return new State();
+    }
+
+    private void saveState() {
+        try {
+            Files.createDirectories(stateFile.getParent());
+            Path tmp = stateFile.resolveSibling(STATE_FILE + ".tmp");
+            MAPPER.writeValue(tmp.toFile(), state);
+            Files.move(tmp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Impossibile salvare lo stato dello scheduler backup", e);
+        }
+    }
+
+    /**
+     * Stato persistito: programmazione e storico
+     */
+    public static class State {
+        private Schedule schedule;
+        private List<BackupRun> history = new ArrayList<>();
+
+        public Schedule getSchedule() { return schedule; }
+        public void setSchedule(Schedule schedule) { this.schedule = schedule; }
+        public List<BackupRun> getHistory() { return history; }
+        public void setHistory(List<BackupRun> history) { this.history = history; }
+    }
+
+    /**
+     * Programmazione dei backup automatici con retention e limiti di risorse
+     */
+    public static class Schedule {
+        private BackupType type = BackupType.COMPLETE;
+        private int frequencyHours = 24;
+        private int retentionDays = 30;
+        private double maxCpuLoad = 0.75;
+        private int maxThreads = 1;
+        private long maxBytesPerSecond = 20L * 1024L * 1024L;
+        private boolean enabled = true;
+
+        public Schedule() {
+            // Richiesto da Jackson
+        }
+
+        public Schedule(BackupType type, int frequencyHours, int retentionDays) {
+            this.type = type;
+            this.frequencyHours = frequencyHours;
+            this.retentionDays = retentionDays;
+        }
+
+        public BackupType getType() { return type; }
+        public void setType(BackupType type) { this.type = type; }
+        public int getFrequencyHours() { return frequencyHours; }
+        public void setFrequencyHours(int frequencyHours) { this.frequencyHours = frequencyHours; }
+        public int getRetentionDays() { return retentionDays; }
+        public void setRetentionDays(int retentionDays) { this.retentionDays = retentionDays; }
+        public double getMaxCpuLoad() { return maxCpuLoad; }
+        public void setMaxCpuLoad(double maxCpuLoad) { this.maxCpuLoad = maxCpuLoad; }
+        public int getMaxThreads() { return maxThreads; }
+        public void setMaxThreads(int maxThreads) { this.maxThreads = maxThreads; }
+        public long getMaxBytesPerSecond() { return maxBytesPerSecond; }
+        public void setMaxBytesPerSecond(long maxBytesPerSecond) { this.maxBytesPerSecond = maxBytesPerSecond; }
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    }
+
+    /**
+     * Singola esecuzione di backup registrata nello storico
+     */
+    public static class BackupRun {
+        private String startedAt;
+        private BackupType type;
+        private String trigger;
+        private long durationMillis;
+        private long sizeBytes;
+        private boolean success;
+        private String message;
+        private String fileName;
+        private int deletedByRetention;
+        private boolean verified;
+
+        public BackupRun() {
+            // Richiesto da Jackson
+        }
+
+        public BackupRun(String startedAt, BackupType type, String trigger, long durationMillis,
+                         long sizeBytes, boolean success, String message) {
+            this.startedAt = startedAt;
+            this.type = type;
+            this.trigger = trigger;
+            this.durationMillis = durationMillis;
+            this.sizeBytes = sizeBytes;
+            this.success = success;
+            this.message = message;
+        }
+
+        public String getStartedAt() { return startedAt; }
+        public void setStartedAt(String startedAt) { this.startedAt = startedAt; }
+        public BackupType getType() { return type; }
+        public void setType(BackupType type) { this.type = type; }
+        public String getTrigger() { return trigger; }
+        public void setTrigger(String trigger) { this.trigger = trigger; }
+        public long getDurationMillis() { return durationMillis; }
+        public void setDurationMillis(long durationMillis) { this.durationMillis = durationMillis; }
+        public long getSizeBytes() { return sizeBytes; }
+        public void setSizeBytes(long sizeBytes) { this.sizeBytes = sizeBytes; }
+        public boolean isSuccess() { return success; }
+        public void setSuccess(boolean success) { this.success = success; }
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+        public String getFileName() { return fileName; }
+        public void setFileName(String fileName) { this.fileName = fileName; }
+        public int getDeletedByRetention() { return deletedByRetention; }
+        public void setDeletedByRetention(int deletedByRetention) { this.deletedByRetention = deletedByRetention; }
+        public boolean isVerified() { return verified; }
+        public void setVerified(boolean verified) { this.verified = verified; }
+    }
+}
@@ -2,12 +2,28 @@ package model;
 
 import database.ConnectionManager;
 import java.io.*;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.util.zip.*;
@@ -25,15 +41,33 @@ public class BackupService {
     private String backupDirectory;
     private String pgDumpPath;
     private boolean isConfigured = false;
+    private int compressionThreads = Runtime.getRuntime().availableProcessors();
+    private final IoThrottle ioThrottle = new IoThrottle();
     
     // Configurazione di default
     private static final String DEFAULT_BACKUP_DIR = "backups";
     private static final String DEFAULT_PG_DUMP_PATH = "pg_dump"; // Assume che sia nel PATH
     private static final String TIMESTAMP_PATTERN = "yyyyMMdd_HHmmss";
+    private static final String FILES_BACKUP_PREFIX = "hackathon_files_backup_";
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final String BACKUP_FILES_GLOB = "hackathon_*.{sql,zip,json,sha256}";
+    static final String DB_BACKUP_PREFIX = "hackathon_db_backup_";
+    static final String CHECKSUM_SUFFIX = ".sha256";
+    
+    // Formati già compressi: vengono archiviati con metodo STORED
+    private static final Set<String> COMPRESSED_MIME_TYPES = Set.of(
+        "application/pdf", "application/zip", "application/x-zip-compressed", "application/gzip",
+        "application/x-7z-compressed", "application/x-rar-compressed", "image/jpeg", "image/png",
+        "image/gif", "image/webp", "video/mp4", "audio/mpeg"
+    );
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of(
+        "pdf", "zip", "gz", "tgz", "7z", "rar", "jpg", "jpeg", "png", "gif", "webp",
+        "mp4", "mp3", "docx", "xlsx", "pptx", "odt", "ods", "odp", "jar"
+    );
     
     public BackupService(ConnectionManager connectionManager) {
         this.connectionManager = connectionManager;
-        this.executorService = Executors.newFixedThreadPool(2);
+        this.executorService = Executors.newFixedThreadPool(2, backupThreads("backup-worker-"));
         this.backupDirectory = DEFAULT_BACKUP_DIR;
         this.pgDumpPath = DEFAULT_PG_DUMP_PATH;
         
@@ -41,6 +75,20 @@ public class BackupService {
         createBackupDirectory();
     }
     
+    /**
+     * Thread dei backup: daemon, per non trattenere la chiusura dell'applicazione, e a priorità
+     * minima, perché il lavoro di lettura e compressione non rallenti l'interfaccia
+     */
+    private static ThreadFactory backupThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + counter.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        };
+    }
+    
     /**
      * Configura il servizio di backup
      */
@@ -115,7 +163,7 @@ public class BackupService {
     public CompletableFuture<BackupResult> backupDatabase() {
         return CompletableFuture.supplyAsync(() -> {
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern(TIMESTAMP_PATTERN));
-            String backupFileName = "hackathon_db_backup_" + timestamp + ".sql";
+            String backupFileName = DB_BACKUP_PREFIX + timestamp + ".sql";
             Path backupFilePath = Paths.get(backupDirectory, backupFileName);
             
             try {
@@ -211,6 +259,7 @@ public class BackupService {
             
             if (exitCode == 0 && Files.exists(backupFilePath)) {
                 long fileSize = Files.size(backupFilePath);
+                writeChecksumFile(backupFilePath);
                 LOGGER.log(Level.INFO, "Backup database completato: {0} ({1} bytes)", new Object[]{backupFileName, fileSize});
                 return new BackupResult(true, "Backup completato con successo", backupFileName, fileSize);
             } else {
@@ -226,60 +275,304 @@ public class BackupService {
     }
     
     /**
-     * Esegue backup dei file
+     * Esegue backup incrementale dei file.
+     * Confronta la directory storage con l'ultimo manifest (dimensione, data di modifica, SHA-256)
+     * e archivia solo i file nuovi o modificati, comprimendoli in parallelo su più archivi ZIP.
+     * I file già compressi (PDF, immagini, archivi) vengono memorizzati senza ricompressione.
+     * Il risultato riporta il nome del manifest scritto e i byte archiviati in questo run.
      */
     public CompletableFuture<BackupResult> backupFiles(String storageDirectory) {
         return CompletableFuture.supplyAsync(() -> {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern(TIMESTAMP_PATTERN));
-            String backupFileName = "hackathon_files_backup_" + timestamp + ".zip";
-            Path backupFilePath = Paths.get(backupDirectory, backupFileName);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern(BackupManifest.TIMESTAMP_PATTERN));
+            String manifestName = BackupManifest.fileName(timestamp);
             
             try {
                 Path storagePath = Paths.get(storageDirectory);
                 
                 if (!Files.exists(storagePath)) {
-                    return new BackupResult(false, "Directory storage non trovata: " + storageDirectory, backupFileName, 0);
+                    return new BackupResult(false, "Directory storage non trovata: " + storageDirectory, manifestName, 0);
                 }
                 
-                LOGGER.log(Level.INFO, "Avvio backup file: {0}", backupFileName);
+                LOGGER.log(Level.INFO, "Avvio backup file incrementale: {0}", manifestName);
                 
-                try (ZipOutputStream zipOut = new ZipOutputStream(new FileOutputStream(backupFilePath.toFile()))) {
-                    zipOut.setLevel(Deflater.BEST_COMPRESSION);
-                    
-                    Files.walk(storagePath)
-                        .filter(Files::isRegularFile)
-                        .forEach(file -> {
-                            try {
-                                String entryName = storagePath.relativize(file).toString().replace("\\", "/");
-                                ZipEntry zipEntry = new ZipEntry(entryName);
-                                zipOut.putNextEntry(zipEntry);
-                                
-                                Files.copy(file, zipOut);
-                                zipOut.closeEntry();
-                                
-                            } catch (IOException e) {
-                                LOGGER.log(Level.WARNING, "Errore nel backup del file: {0}", file);
-                            }
-                        });
-                }
+                Path backupPath = Paths.get(backupDirectory);
+                Path previousPath = BackupManifest.findLatest(backupPath);
+                BackupManifest previous = previousPath != null ? BackupManifest.read(previousPath) : null;
+                Map<String, BackupManifest.Entry> previousEntries = previous != null ? previous.byPath() : Collections.emptyMap();
                 
-                if (Files.exists(backupFilePath)) {
-                    long fileSize = Files.size(backupFilePath);
-                    LOGGER.log(Level.INFO, "Backup file completato: {0} ({1} bytes)", new Object[]{backupFileName, fileSize});
-                    return new BackupResult(true, "Backup file completato con successo", backupFileName, fileSize);
-                } else {
-                    return new BackupResult(false, "File backup non creato", backupFileName, 0);
-                }
+                BackupManifest manifest = new BackupManifest(LocalDateTime.now(),
+                    previousPath != null ? previousPath.getFileName().toString() : null);
+                List<Path> candidates = collectChangedFiles(storagePath, previousEntries, manifest, backupPath);
+                
+                long archivedBytes = archiveInParallel(storagePath, candidates, previousEntries, manifest, timestamp);
+                
+                manifest.getEntries().sort(Comparator.comparing(BackupManifest.Entry::getPath));
+                manifest.write(backupPath.resolve(manifestName));
+                
+                String message = String.format("Backup file completato: %d file, %d nuovi o modificati",
+                    manifest.getEntries().size(), candidates.size());
+                LOGGER.log(Level.INFO, "{0} ({1} bytes archiviati)", new Object[]{message, archivedBytes});
+                return new BackupResult(true, message, manifestName, archivedBytes);
                 
             } catch (Exception e) {
                 String errorMsg = String.format("Errore durante backup file: %s", e.getMessage());
                 LOGGER.log(Level.SEVERE, errorMsg, e);
-                return new BackupResult(false, errorMsg, backupFileName, 0);
+                return new BackupResult(false, errorMsg, manifestName, 0);
             }
             
         }, executorService);
     }
     
+    /**
+     * Scansiona la directory storage: i file con dimensione e data di modifica invariate rispetto
+     * al manifest precedente vengono riportati nel nuovo manifest senza essere letti,
+     * gli altri vengono restituiti come candidati all'archiviazione.
+     */
+    private List<Path> collectChangedFiles(Path storagePath, Map<String, BackupManifest.Entry> previousEntries,
+                                           BackupManifest manifest, Path backupPath) throws IOException {
+        List<Path> candidates = new ArrayList<>();
+        Set<String> missingArchives = new HashSet<>();
+        try (Stream<Path> walk = Files.walk(storagePath)) {
+            for (Path file : (Iterable<Path>) walk.filter(Files::isRegularFile)::iterator) {
+                String entryName = toEntryName(storagePath, file);
+                BackupManifest.Entry prev = previousEntries.get(entryName);
+                long size = Files.size(file);
+                long lastModified = Files.getLastModifiedTime(file).toMillis();
+                
+                if (prev != null && prev.getSize() == size && prev.getLastModified() == lastModified
+                        && !missingArchives.contains(prev.getArchive())) {
+                    if (Files.exists(backupPath.resolve(prev.getArchive()))) {
+                        manifest.getEntries().add(prev);
+                        continue;
+                    }
+                    missingArchives.add(prev.getArchive());
+                }
+                candidates.add(file);
+            }
+        }
+        return candidates;
+    }
+    
+    /**
+     * Distribuisce i file candidati su più archivi ZIP scritti in parallelo
+     *
+     * @return byte totali scritti negli archivi
+     */
+    private long archiveInParallel(Path storagePath, List<Path> candidates, Map<String, BackupManifest.Entry> previousEntries,
+                                   BackupManifest manifest, String timestamp) throws IOException {
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+        
+        int parts = Math.max(1, Math.min(compressionThreads, candidates.size()));
+        List<List<Path>> buckets = new ArrayList<>();
+        for (int i = 0; i < parts; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        // Round-robin sui file ordinati per dimensione decrescente per bilanciare il carico
+        List<Path> sorted = new ArrayList<>(candidates);
+        sorted.sort(Comparator.comparingLong(BackupService::sizeOrZero).reversed());
+        for (int i = 0; i < sorted.size(); i++) {
+            buckets.get(i % parts).add(sorted.get(i));
+        }
+        
+        ExecutorService workers = Executors.newFixedThreadPool(parts, backupThreads("backup-compress-"));
+        try {
+            List<CompletableFuture<ArchivePart>> futures = new ArrayList<>();
+            for (int i = 0; i < parts; i++) {
+                String archiveName = FILES_BACKUP_PREFIX + timestamp + "_p" + (i + 1) + ".zip";
+                List<Path> bucket = buckets.get(i);
+                futures.add(CompletableFuture.supplyAsync(
+                    () -> writeArchivePart(storagePath, bucket, archiveName, previousEntries), workers));
+            }
+            
+            long archivedBytes = 0;
+            for (CompletableFuture<ArchivePart> future : futures) {
+                ArchivePart part = future.join();
+                manifest.getEntries().addAll(part.entries);
+                archivedBytes += part.bytesWritten;
+            }
+            return archivedBytes;
+        } catch (CompletionException e) {
+            throw new IOException("Errore nella scrittura degli archivi di backup", e.getCause());
+        } finally {
+            workers.shutdown();
+        }
+    }
+    
+    /**
+     * Scrive un archivio ZIP con i file indicati.
+     * Ogni file viene letto una sola volta: SHA-256 e CRC32 sono calcolati sugli stessi byte
+     * scritti nell'archivio, quindi il manifest descrive sempre ciò che è stato archiviato anche
+     * se il file cambia durante il backup. Le voci STORED (dimensione e CRC richiesti prima dei
+     * dati) e i file con la stessa dimensione del manifest precedente (il contenuto può essere
+     * invariato, è cambiata solo la data) vengono prima copiati in un file temporaneo: se lo
+     * SHA-256 coincide con quello precedente il file non viene riarchiviato.
+     */
+    private ArchivePart writeArchivePart(Path storagePath, List<Path> files, String archiveName,
+                                         Map<String, BackupManifest.Entry> previousEntries) {
+        Path archivePath = Paths.get(backupDirectory, archiveName);
+        List<BackupManifest.Entry> entries = new ArrayList<>();
+        int written = 0;
+        
+        try {
+            try (ZipOutputStream zipOut = new ZipOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(archivePath), IO_BUFFER_SIZE))) {
+                zipOut.setLevel(Deflater.DEFAULT_COMPRESSION);
+                byte[] buffer = new byte[IO_BUFFER_SIZE];
+                
+                for (Path file : files) {
+                    String entryName = toEntryName(storagePath, file);
+                    long lastModified = Files.getLastModifiedTime(file).toMillis();
+                    BackupManifest.Entry prev = previousEntries.get(entryName);
+                    boolean compress = !isAlreadyCompressed(file);
+                    boolean maybeUnchanged = prev != null && prev.getSize() == Files.size(file)
+                            && Files.exists(Paths.get(backupDirectory, prev.getArchive()));
+                    ZipEntry zipEntry = new ZipEntry(entryName);
+                    zipEntry.setTime(lastModified);
+                    FileDigest digest;
+                    
+                    if (compress && !maybeUnchanged) {
+                        zipOut.putNextEntry(zipEntry);
+                        try (InputStream in = Files.newInputStream(file)) {
+                            digest = copyWithDigest(in, zipOut, buffer, ioThrottle);
+                        }
+                    } else {
+                        Path spool = Files.createTempFile(Paths.get(backupDirectory), ".spool_", ".tmp");
+                        try {
+                            try (InputStream in = Files.newInputStream(file);
+                                 OutputStream out = new BufferedOutputStream(Files.newOutputStream(spool), IO_BUFFER_SIZE)) {
+                                digest = copyWithDigest(in, out, buffer, ioThrottle);
+                            }
+                            if (maybeUnchanged && digest.sha256.equals(prev.getSha256())) {
+                                entries.add(prev.withMetadata(digest.size, lastModified));
+                                continue;
+                            }
+                            if (!compress) {
+                                zipEntry.setMethod(ZipEntry.STORED);
+                                zipEntry.setSize(digest.size);
+                                zipEntry.setCompressedSize(digest.size);
+                                zipEntry.setCrc(digest.crc);
+                            }
+                            zipOut.putNextEntry(zipEntry);
+                            try (InputStream in = Files.newInputStream(spool)) {
+                                int read;
+                                while ((read = in.read(buffer)) != -1) {
+                                    zipOut.write(buffer, 0, read);
+                                }
+                            }
+                        } finally {
+                            Files.deleteIfExists(spool);
+                        }
+                    }
+                    zipOut.closeEntry();
+                    written++;
+                    
+                    entries.add(new BackupManifest.Entry(entryName, digest.size, lastModified,
+                        digest.sha256, digest.crc, archiveName, compress));
+                }
+            }
+            
+            if (written == 0) {
+                Files.deleteIfExists(archivePath);
+                return new ArchivePart(entries, 0);
+            }
+            return new ArchivePart(entries, Files.size(archivePath));
+            
+        } catch (IOException e) {
+            throw new UncheckedIOException("Errore nella scrittura di " + archiveName, e);
+        }
+    }
+    
+    /**
+     * Calcola SHA-256 e CRC32 di un file con una singola lettura
+     */
+    private static FileDigest digest(Path file, byte[] buffer, IoThrottle throttle) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return copyWithDigest(in, OutputStream.nullOutputStream(), buffer, throttle);
+        }
+    }
+    
+    /**
+     * Copia lo stream calcolando SHA-256, CRC32 e dimensione dei byte copiati
+     */
+    private static FileDigest copyWithDigest(InputStream in, OutputStream out, byte[] buffer,
+                                             IoThrottle throttle) throws IOException {
+        MessageDigest sha;
+        try {
+            sha = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 non disponibile", e);
+        }
+        CRC32 crc = new CRC32();
+        long size = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            throttle.acquire(read);
+            sha.update(buffer, 0, read);
+            crc.update(buffer, 0, read);
+            out.write(buffer, 0, read);
+            size += read;
+        }
+        return new FileDigest(toHex(sha.digest()), crc.getValue(), size);
+    }
+    
+    /**
+     * Scrive accanto al dump il file con lo SHA-256 (formato compatibile con sha256sum -c),
+     * usato dalla verifica di integrità
+     */
+    private void writeChecksumFile(Path dumpFile) throws IOException {
+        FileDigest digest = digest(dumpFile, new byte[IO_BUFFER_SIZE], ioThrottle);
+        Path checksumFile = dumpFile.resolveSibling(dumpFile.getFileName() + CHECKSUM_SUFFIX);
+        Files.writeString(checksumFile, digest.sha256 + "  " + dumpFile.getFileName() + "\n", StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Converte un array di byte in stringa esadecimale
+     */
+    static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Verifica se il file ha un tipo MIME già compresso (ricomprimerlo spreca solo CPU)
+     */
+    static boolean isAlreadyCompressed(Path file) {
+        String name = file.getFileName().toString().toLowerCase(java.util.Locale.ROOT);
+        int dot = name.lastIndexOf('.');
+        if (dot >= 0 && COMPRESSED_EXTENSIONS.contains(name.substring(dot + 1))) {
+            return true;
+        }
+        String mimeType = URLConnection.guessContentTypeFromName(name);
+        return mimeType != null && COMPRESSED_MIME_TYPES.contains(mimeType);
+    }
+    
+    private static String toEntryName(Path storagePath, Path file) {
+        return storagePath.relativize(file).toString().replace("\\", "/");
+    }
+    
+    private static long sizeOrZero(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+    
+    /**
+     * Ripristina lo stato della directory storage all'istante indicato
+     *
+     * @param pointInTime istante da ripristinare (null = ultimo backup)
+     * @param targetDirectory directory di destinazione
+     */
+    public BackupResult restoreFiles(LocalDateTime pointInTime, String targetDirectory) {
+        return new BackupRestoreTool(Paths.get(backupDirectory)).restore(pointInTime, Paths.get(targetDirectory));
+    }
+    
     /**
      * Esegue backup completo (database + file)
      */
@@ -327,9 +620,13 @@ public class BackupService {
             }
             
             int deletedCount = 0;
+            Set<String> protectedFiles = collectProtectedFiles(backupPath, cutoffDate);
             
-            try (DirectoryStream<Path> stream = Files.newDirectoryStream(backupPath, "*.{sql,zip}")) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(backupPath, BACKUP_FILES_GLOB)) {
                 for (Path file : stream) {
+                    if (protectedFiles.contains(file.getFileName().toString())) {
+                        continue;
+                    }
                     deletedCount += deleteOldBackupFile(file, cutoffDate);
                 }
             }
@@ -342,6 +639,30 @@ public class BackupService {
         }
     }
     
+    /**
+     * Determina i file che la retention non deve eliminare: l'ultimo manifest
+     * e gli archivi ancora referenziati dai manifest che restano conservati,
+     * altrimenti i backup incrementali più recenti non sarebbero più ripristinabili.
+     */
+    private Set<String> collectProtectedFiles(Path backupPath, LocalDateTime cutoffDate) {
+        Set<String> protectedFiles = new HashSet<>();
+        Path latest = BackupManifest.findLatest(backupPath);
+        for (Path manifestPath : BackupManifest.listManifests(backupPath)) {
+            LocalDateTime created = BackupManifest.timestampOf(manifestPath);
+            boolean retained = manifestPath.equals(latest) || (created != null && !created.isBefore(cutoffDate));
+            if (!retained) {
+                continue;
+            }
+            protectedFiles.add(manifestPath.getFileName().toString());
+            try {
+                protectedFiles.addAll(BackupManifest.read(manifestPath).referencedArchives());
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Manifest non leggibile: {0}", manifestPath.getFileName());
+            }
+        }
+        return protectedFiles;
+    }
+    
     /**
      * Elimina un singolo file di backup se è più vecchio della data di cutoff
      */
@@ -397,7 +718,7 @@ public class BackupService {
         long totalSize = 0;
         int fileCount = 0;
         
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(backupPath, "*.{sql,zip}")) {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(backupPath, BACKUP_FILES_GLOB)) {
             for (Path file : stream) {
                 totalSize += Files.size(file);
                 fileCount++;
@@ -409,6 +730,64 @@ public class BackupService {
         return new BackupStats(fileCount, totalSize);
     }
     
+    /**
+     * Risultato della scrittura di un singolo archivio parziale
+     */
+    private static class ArchivePart {
+        final List<BackupManifest.Entry> entries;
+        final long bytesWritten;
+        
+        ArchivePart(List<BackupManifest.Entry> entries, long bytesWritten) {
+            this.entries = entries;
+            this.bytesWritten = bytesWritten;
+        }
+    }
+    
+    /**
+     * Impronta di un file: SHA-256, CRC32 e dimensione letta
+     */
+    private static class FileDigest {
+        final String sha256;
+        final long crc;
+        final long size;
+        
+        FileDigest(String sha256, long crc, long size) {
+            this.sha256 = sha256;
+            this.crc = crc;
+            this.size = size;
+        }
+    }
+    
+    /**
+     * Limitatore di banda I/O condiviso tra i thread di backup.
+     * Ogni lettura prenota il proprio intervallo temporale e attende fuori dal lock.
+     */
+    private static class IoThrottle {
+        private volatile long bytesPerSecond = 0; // 0 = nessun limite
+        private long nextFreeNanos = System.nanoTime();
+        
+        void acquire(int bytes) throws InterruptedIOException {
+            long rate = bytesPerSecond;
+            if (rate <= 0) {
+                return;
+            }
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                nextFreeNanos = Math.max(nextFreeNanos, now) + bytes * 1_000_000_000L / rate;
+                waitNanos = nextFreeNanos - now;
+            }
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Backup interrotto durante il throttling I/O");
+                }
+            }
+        }
+    }
+    
     /**
      * Classe per le statistiche di backup
      */
@@ -471,6 +850,22 @@ public class BackupService {
     // Getters
     public boolean isConfigured() { return isConfigured; }
     public String getBackupDirectory() { return backupDirectory; }
+    public int getCompressionThreads() { return compressionThreads; }
+    public long getMaxBytesPerSecond() { return ioThrottle.bytesPerSecond; }
+    
+    /**
+     * Limita la banda di lettura dei file durante il backup (0 = nessun limite)
+     */
+    public void setMaxBytesPerSecond(long maxBytesPerSecond) {
+        ioThrottle.bytesPerSecond = Math.max(0, maxBytesPerSecond);
+    }
+    
+    /**
+     * Imposta il numero massimo di archivi scritti in parallelo durante il backup file
+     */
+    public void setCompressionThreads(int compressionThreads) {
+        this.compressionThreads = Math.max(1, compressionThreads);
+    }
     
     /**
      * Classe per i risultati del backup
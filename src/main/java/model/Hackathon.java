@@ -43,6 +43,26 @@ public class Hackathon {
         this.eventoAvviato = false;
         this.eventoConcluso = false;
     }
+    /**
+     * Costruttore di copia
+     *
+     * @param altro l'hackathon da copiare
+     */
+    public Hackathon(Hackathon altro) {
+        this.id = altro.id;
+        this.nome = altro.nome;
+        this.dataInizio = altro.dataInizio;
+        this.sede = altro.sede;
+        this.isVirtuale = altro.isVirtuale;
+        this.organizzatoreId = altro.organizzatoreId;
+        this.maxPartecipanti = altro.maxPartecipanti;
+        this.maxTeam = altro.maxTeam;
+        this.dataFine = altro.dataFine;
+        this.registrazioniAperte = altro.registrazioniAperte;
+        this.descrizioneProblema = altro.descrizioneProblema;
+        this.eventoAvviato = altro.eventoAvviato;
+        this.eventoConcluso = altro.eventoConcluso;
+    }
     // Getters e Setters
     public int getId() { return id; }
     public void setId(int id) { this.id = id; }
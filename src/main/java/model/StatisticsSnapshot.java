@@ -0,0 +1,33 @@
+package model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ultime statistiche precalcolate per una chiave (sistema o singolo hackathon).
+ */
+public class StatisticsSnapshot {
+    private String chiave;
+    private String jsonPayload;
+    private LocalDateTime calcolatoIl;
+    private long durataMs;
+
+    public StatisticsSnapshot() {
+        this.calcolatoIl = LocalDateTime.now();
+    }
+
+    public StatisticsSnapshot(String chiave, String jsonPayload, long durataMs) {
+        this();
+        this.chiave = chiave;
+        this.jsonPayload = jsonPayload;
+        this.durataMs = durataMs;
+    }
+
+    public String getChiave() { return chiave; }
+    public void setChiave(String chiave) { this.chiave = chiave; }
+    public String getJsonPayload() { return jsonPayload; }
+    public void setJsonPayload(String jsonPayload) { this.jsonPayload = jsonPayload; }
+    public LocalDateTime getCalcolatoIl() { return calcolatoIl; }
+    public void setCalcolatoIl(LocalDateTime calcolatoIl) { this.calcolatoIl = calcolatoIl; }
+    public long getDurataMs() { return durataMs; }
+    public void setDurataMs(long durataMs) { this.durataMs = durataMs; }
+}
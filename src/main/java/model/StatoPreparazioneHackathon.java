@@ -0,0 +1,83 @@
+package model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stato di preparazione di un hackathon per i passaggi del ciclo di vita
+ * (chiusura registrazioni, avvio e conclusione dell'evento).
+ * L'hackathon e tutti i conteggi vengono letti con una sola query; le regole di validazione
+ * sono qui, così che i validatori e il riepilogo usino gli stessi dati e gli stessi criteri.
+ */
+public class StatoPreparazioneHackathon {
+    /** Membri minimi perché un team sia completo e valutabile */
+    public static final int MEMBRI_MINIMI_TEAM = 2;
+
+    private final Hackathon hackathon;
+    private int partecipantiConfermati;
+    private int giudiciConfermati;
+    private int team;
+    private int teamCompleti;
+    private int teamSenzaProgressi;
+    private int teamPronti;
+    private int valutazioni;
+    private int documenti;
+
+    public StatoPreparazioneHackathon(Hackathon hackathon) {
+        this.hackathon = hackathon;
+    }
+
+    public Hackathon getHackathon() { return hackathon; }
+    public int getPartecipantiConfermati() { return partecipantiConfermati; }
+    public void setPartecipantiConfermati(int partecipantiConfermati) { this.partecipantiConfermati = partecipantiConfermati; }
+    public int getGiudiciConfermati() { return giudiciConfermati; }
+    public void setGiudiciConfermati(int giudiciConfermati) { this.giudiciConfermati = giudiciConfermati; }
+    public int getTeam() { return team; }
+    public void setTeam(int team) { this.team = team; }
+    /** @return team con almeno {@value #MEMBRI_MINIMI_TEAM} membri */
+    public int getTeamCompleti() { return teamCompleti; }
+    public void setTeamCompleti(int teamCompleti) { this.teamCompleti = teamCompleti; }
+    /** @return team che non hanno caricato nessun progresso */
+    public int getTeamSenzaProgressi() { return teamSenzaProgressi; }
+    public void setTeamSenzaProgressi(int teamSenzaProgressi) { this.teamSenzaProgressi = teamSenzaProgressi; }
+    /** @return team completi che hanno caricato almeno un progresso */
+    public int getTeamPronti() { return teamPronti; }
+    public void setTeamPronti(int teamPronti) { this.teamPronti = teamPronti; }
+    public int getValutazioni() { return valutazioni; }
+    public void setValutazioni(int valutazioni) { this.valutazioni = valutazioni; }
+    public int getDocumenti() { return documenti; }
+    public void setDocumenti(int documenti) { this.documenti = documenti; }
+
+    /**
+     * @return team che possono essere valutati: quelli pronti, solo a evento concluso
+     */
+    public int getTeamValutabili() {
+        return hackathon.isEventoConcluso() ? teamPronti : 0;
+    }
+
+    /**
+     * Le registrazioni si possono chiudere se sono aperte e ci sono almeno un partecipante
+     * e un giudice confermati
+     */
+    public boolean puoChiudereRegistrazioni() {
+        return hackathon.isRegistrazioniAperte() && partecipantiConfermati > 0 && giudiciConfermati > 0;
+    }
+
+    /**
+     * L'evento si può avviare se non è già avviato o concluso, le registrazioni sono chiuse,
+     * ci sono team e giudici confermati e la data di inizio è entro un'ora
+     */
+    public boolean puoEssereAvviato(LocalDateTime adesso) {
+        return !hackathon.isEventoAvviato() && !hackathon.isEventoConcluso()
+            && !hackathon.isRegistrazioniAperte()
+            && team > 0 && giudiciConfermati > 0
+            && !hackathon.getDataInizio().isAfter(adesso.plusHours(1));
+    }
+
+    /**
+     * L'evento si può concludere se è avviato, non ancora concluso e la data di fine è passata
+     */
+    public boolean puoEssereConcluso(LocalDateTime adesso) {
+        return hackathon.isEventoAvviato() && !hackathon.isEventoConcluso()
+            && !hackathon.getDataFine().isAfter(adesso);
+    }
+}
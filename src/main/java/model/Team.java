@@ -34,6 +34,22 @@ public class Team {
         this.membriId.add(capoTeamId); // Il capo team è automaticamente membro
         this.richiesteJoin = new ArrayList<>();
     }
+    /**
+     * Costruttore di copia; le liste di membri e richieste vengono copiate
+     *
+     * @param altro il team da copiare
+     */
+    public Team(Team altro) {
+        this.id = altro.id;
+        this.nome = altro.nome;
+        this.hackathonId = altro.hackathonId;
+        this.capoTeamId = altro.capoTeamId;
+        this.dimensioneMassima = altro.dimensioneMassima;
+        this.definitivo = altro.definitivo;
+        this.dataDefinitivo = altro.dataDefinitivo;
+        this.membriId = new ArrayList<>(altro.membriId);
+        this.richiesteJoin = new ArrayList<>(altro.richiesteJoin);
+    }
     /**
      * Aggiunge un membro al team se c'è spazio disponibile e il team non è definitivo
      *
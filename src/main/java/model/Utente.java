@@ -42,6 +42,15 @@ public class Utente {
     public Utente(String login, String password) {
         this(login, password, "", "", "", RUOLO_PARTECIPANTE);
     }
+    /**
+     * Costruttore di copia
+     *
+     * @param altro l'utente da copiare
+     */
+    public Utente(Utente altro) {
+        this(altro.login, altro.password, altro.nome, altro.cognome, altro.email, altro.ruolo);
+        this.id = altro.id;
+    }
     /**
      * Verifica se l'utente è un organizzatore
      *
@@ -7,12 +7,14 @@ import model.ProgressComment;
 import model.Registrazione;
 import database.DataAccessException;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Servizio per la gestione dei commenti dei giudici sui documenti dei progressi.
  * Applica ACL, rate limit e sanitizzazione input.
+ * Il rate limit è tenuto in memoria da {@link RateLimiter}: un commento costa un solo insert.
  */
 public class DocumentReviewService {
     private static final int MAX_COMMENTS_PER_HOUR = 30;
@@ -21,6 +23,8 @@ public class DocumentReviewService {
     private final ProgressCommentDAO commentDAO;
     private final RegistrazioneDAO registrazioneDAO;
     private final AuditLogDAO auditLogDAO;
+    /** Commenti per (giudice, team) nell'ultima ora; il database viene letto solo al primo commento della coppia */
+    private final RateLimiter<Long> commentiPerOra;
 
     public enum ErrorCode { FORBIDDEN, VALIDATION_ERROR, MISSING_RESOURCE, RATE_LIMIT }
 
@@ -30,6 +34,8 @@ public class DocumentReviewService {
         this.commentDAO = commentDAO;
         this.registrazioneDAO = registrazioneDAO;
         this.auditLogDAO = auditLogDAO;
+        this.commentiPerOra = new RateLimiter<>(MAX_COMMENTS_PER_HOUR, Duration.ofHours(1),
+            chiave -> commentDAO.countByJudgeAndTeamInLastHour((int) (chiave >>> 32), chiave.intValue()));
     }
 
     // Overload matching tests order (commentDAO, documentoDAO, registrazioneDAO, auditLogDAO)
@@ -60,17 +66,19 @@ public class DocumentReviewService {
             return Result.error(ErrorCode.FORBIDDEN, "Solo i giudici possono commentare");
         }
         // Rate limit
-        int commentsLastHour = commentDAO.countByJudgeAndTeamInLastHour(currentUserId, doc.getTeamId());
-        if (commentsLastHour >= MAX_COMMENTS_PER_HOUR) {
-            return Result.error(ErrorCode.RATE_LIMIT, "Limite commenti/ora raggiunto");
+        long chiaveLimite = chiaveCommenti(currentUserId, doc.getTeamId());
+        if (!commentiPerOra.tryAcquire(chiaveLimite)) {
+            return Result.error(ErrorCode.RATE_LIMIT,
+                "Limite di " + MAX_COMMENTS_PER_HOUR + " commenti/ora raggiunto per questo team: riprovare più tardi");
         }
         // Validazione + sanitizzazione
         String text = sanitize(rawText);
         if (text == null || text.length() < 5 || text.length() > 2000) {
+            commentiPerOra.release(chiaveLimite);
             return Result.error(ErrorCode.VALIDATION_ERROR, "Lunghezza commento 5-2000 caratteri");
         }
         ProgressComment c = new ProgressComment(documentId, currentUserId, text);
-        boolean ok = commentDAO.insert(c);
+        boolean ok = insertConLimite(c, chiaveLimite);
         if (ok) {
             logAudit(currentUserId, AuditLog.AuditAction.SEND_NOTIFICATION, "DOCUMENT", documentId,
                 "Nuovo commento giudice");
@@ -86,17 +94,18 @@ public class DocumentReviewService {
             throw new DataAccessException("Utente non autorizzato a commentare");
         }
         // Rate limit
-        int commentsLastHour = commentDAO.countByJudgeAndTeamInLastHour(judgeUserId, doc.getTeamId());
-        if (commentsLastHour >= MAX_COMMENTS_PER_HOUR) {
+        long chiaveLimite = chiaveCommenti(judgeUserId, doc.getTeamId());
+        if (!commentiPerOra.tryAcquire(chiaveLimite)) {
             throw new DataAccessException("Rate limit superato");
         }
         // Validazione + sanitizzazione
         String text = sanitize(rawText);
         if (text == null || text.length() < 5 || text.length() > 2000) {
+            commentiPerOra.release(chiaveLimite);
             throw new IllegalArgumentException("Lunghezza commento 5-2000 caratteri");
         }
         ProgressComment c = new ProgressComment(documentId, judgeUserId, text);
-        boolean ok = commentDAO.insert(c);
+        boolean ok = insertConLimite(c, chiaveLimite);
         if (ok) {
             logAudit(judgeUserId, AuditLog.AuditAction.SEND_NOTIFICATION, "DOCUMENT", documentId,
                 "Nuovo commento giudice");
@@ -171,6 +180,25 @@ public class DocumentReviewService {
         }
     }
 
+    /**
+     * Inserisce il commento e restituisce il permesso del rate limit se l'inserimento fallisce
+     */
+    private boolean insertConLimite(ProgressComment c, long chiaveLimite) {
+        boolean ok = false;
+        try {
+            ok = commentDAO.insert(c);
+            return ok;
+        } finally {
+            if (!ok) {
+                commentiPerOra.release(chiaveLimite);
+            }
+        }
+    }
+
+    private static long chiaveCommenti(int judgeId, int teamId) {
+        return (long) judgeId << 32 | (teamId & 0xFFFFFFFFL);
+    }
+
     private Documento ensureDocumentExists(int documentId) {
         Documento d = documentoDAO.findById(documentId);
         if (d == null) throw new IllegalArgumentException("Documento non trovato");
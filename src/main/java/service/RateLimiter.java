@@ -0,0 +1,186 @@
+package service;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Limite di frequenza in memoria a finestra scorrevole: al più {@code limite} eventi per chiave
+ * in ogni intervallo lungo {@code finestra}.
+ * <p>
+ * Per ogni chiave vengono conservati gli istanti degli eventi ancora nella finestra (al più
+ * {@code limite}, in un buffer circolare), quindi il conteggio è esatto e la verifica non
+ * richiede query. La prima volta che una chiave viene usata, il conteggio iniziale viene letto
+ * con la funzione passata al costruttore (ad esempio dal database, per non azzerare i limiti a
+ * ogni riavvio); non conoscendone gli istanti, quegli eventi vengono considerati avvenuti in
+ * quel momento, cioè scadono dopo una finestra intera.
+ * <p>
+ * La chiave può essere qualsiasi oggetto con equals e hashCode: una coppia di ID compattata in
+ * un long per i commenti dei giudici, il login per i tentativi di accesso, l'utente per gli upload.
+ *
+ * @param <K> tipo della chiave
+ */
+public final class RateLimiter<K> {
+
+    /** Ogni quante acquisizioni vengono rimosse le chiavi senza eventi nella finestra */
+    private static final int PULIZIA_OGNI = 1024;
+
+    private final int limite;
+    private final long finestraNanos;
+    private final ToIntFunction<K> conteggioIniziale;
+    private final LongSupplier orologio;
+    private final ConcurrentHashMap<K, Finestra> finestre = new ConcurrentHashMap<>();
+    private final AtomicInteger acquisizioni = new AtomicInteger();
+
+    /**
+     * @param limite numero massimo di eventi nella finestra
+     * @param finestra ampiezza della finestra scorrevole
+     * @param conteggioIniziale eventi già avvenuti nella finestra per una chiave mai vista
+     */
+    public RateLimiter(int limite, Duration finestra, ToIntFunction<K> conteggioIniziale) {
+        this(limite, finestra, conteggioIniziale, System::nanoTime);
+    }
+
+    /**
+     * Limite senza conteggio iniziale: ogni chiave parte da zero eventi
+     */
+    public RateLimiter(int limite, Duration finestra) {
+        this(limite, finestra, chiave -> 0);
+    }
+
+    RateLimiter(int limite, Duration finestra, ToIntFunction<K> conteggioIniziale, LongSupplier orologio) {
+        if (limite < 1) {
+            throw new IllegalArgumentException("Limite non valido: " + limite);
+        }
+        this.limite = limite;
+        this.finestraNanos = finestra.toNanos();
+        this.conteggioIniziale = conteggioIniziale;
+        this.orologio = orologio;
+    }
+
+    /**
+     * Registra un evento se il limite lo consente
+     *
+     * @return true se l'evento è stato registrato, false se il limite è raggiunto
+     */
+    public boolean tryAcquire(K chiave) {
+        if (acquisizioni.incrementAndGet() % PULIZIA_OGNI == 0) {
+            rimuoviInattive();
+        }
+        while (true) {
+            Finestra finestra = finestra(chiave);
+            synchronized (finestra) {
+                if (finestra.rimossa) {
+                    continue;
+                }
+                long adesso = orologio.getAsLong();
+                finestra.scadi(adesso);
+                if (finestra.conteggio >= limite) {
+                    return false;
+                }
+                finestra.aggiungi(adesso);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Annulla l'ultimo evento registrato, per un'operazione fallita dopo {@link #tryAcquire}
+     */
+    public void release(K chiave) {
+        Finestra finestra = finestre.get(chiave);
+        if (finestra != null) {
+            synchronized (finestra) {
+                if (finestra.conteggio > 0) {
+                    finestra.conteggio--;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return eventi ancora consentiti per la chiave nella finestra attuale
+     */
+    public int getDisponibili(K chiave) {
+        Finestra finestra = finestra(chiave);
+        synchronized (finestra) {
+            finestra.scadi(orologio.getAsLong());
+            return limite - finestra.conteggio;
+        }
+    }
+
+    /**
+     * Azzera gli eventi di una chiave, ad esempio dopo un login riuscito
+     */
+    public void reset(K chiave) {
+        Finestra finestra = finestre.remove(chiave);
+        if (finestra != null) {
+            synchronized (finestra) {
+                finestra.rimossa = true;
+            }
+        }
+    }
+
+    /**
+     * Rimuove le chiavi che non hanno eventi nella finestra, per limitare la memoria usata
+     */
+    public void rimuoviInattive() {
+        long adesso = orologio.getAsLong();
+        finestre.forEach((chiave, finestra) -> {
+            synchronized (finestra) {
+                finestra.scadi(adesso);
+                if (finestra.conteggio == 0 && finestre.remove(chiave, finestra)) {
+                    finestra.rimossa = true;
+                }
+            }
+        });
+    }
+
+    /**
+     * @return numero di chiavi in memoria
+     */
+    public int size() {
+        return finestre.size();
+    }
+
+    private Finestra finestra(K chiave) {
+        Finestra finestra = finestre.get(chiave);
+        if (finestra != null) {
+            return finestra;
+        }
+        // Lettura del conteggio iniziale fuori dalla mappa, che non va bloccata durante una query
+        Finestra nuova = new Finestra(limite);
+        int iniziali = Math.min(limite, Math.max(0, conteggioIniziale.applyAsInt(chiave)));
+        long adesso = orologio.getAsLong();
+        for (int i = 0; i < iniziali; i++) {
+            nuova.aggiungi(adesso);
+        }
+        Finestra esistente = finestre.putIfAbsent(chiave, nuova);
+        return esistente != null ? esistente : nuova;
+    }
+
+    private final class Finestra {
+        private final long[] istanti;
+        private int inizio;
+        private int conteggio;
+        private boolean rimossa;
+
+        private Finestra(int limite) {
+            this.istanti = new long[limite];
+        }
+
+        private void scadi(long adesso) {
+            while (conteggio > 0 && adesso - istanti[inizio] >= finestraNanos) {
+                inizio = (inizio + 1) % istanti.length;
+                conteggio--;
+            }
+        }
+
+        private void aggiungi(long adesso) {
+            istanti[(inizio + conteggio) % istanti.length] = adesso;
+            conteggio++;
+        }
+    }
+}
@@ -0,0 +1,517 @@
+package service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import dao.HackathonDAO;
+import dao.ReportDAO;
+import dao.ReportDAO.Sezione;
+import database.DataAccessException;
+import model.Hackathon;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Esportazione in streaming del report dettagliato di un hackathon.
+ * <p>
+ * Le righe arrivano dal cursore di {@link ReportDAO#streamReport(int, ReportDAO.RowHandler)} e
+ * vengono scritte subito sul file attraverso un writer bufferizzato (o il generatore streaming
+ * di Jackson per il JSON): nessuna sezione viene accumulata in memoria, quindi la memoria usata
+ * è costante anche per hackathon con migliaia di team. I totali vengono calcolati durante la
+ * scrittura e riportati in coda al file.
+ * <p>
+ * Il file viene scritto accanto alla destinazione con estensione {@code .tmp} e rinominato solo
+ * a esportazione completata, così che un errore non lasci mai un report troncato.
+ */
+public class ReportExporter {
+
+    /**
+     * Formati di uscita supportati
+     */
+    public enum Formato {
+        TESTO, CSV, HTML, JSON
+    }
+
+    /**
+     * Avanzamento dell'esportazione; invocato sul thread dell'esportazione
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * @param righeScritte righe scritte finora
+         * @param righeTotali righe stimate all'avvio (le righe inserite nel frattempo possono superarle)
+         */
+        void avanzamento(long righeScritte, long righeTotali);
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    /** Righe tra due notifiche di avanzamento */
+    private static final int PASSO_AVANZAMENTO = 500;
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private final HackathonDAO hackathonDAO;
+    private final ReportDAO reportDAO;
+
+    public ReportExporter(HackathonDAO hackathonDAO, ReportDAO reportDAO) {
+        this.hackathonDAO = hackathonDAO;
+        this.reportDAO = reportDAO;
+    }
+
+    /**
+     * Esporta il report dettagliato dell'hackathon nel file indicato
+     *
+     * @param hackathonId l'ID dell'hackathon
+     * @param formato il formato di uscita
+     * @param destinazione il file di destinazione (sovrascritto se esiste)
+     * @param listener avanzamento, può essere null
+     * @return numero di righe esportate
+     * @throws IOException se la scrittura fallisce o il thread viene interrotto
+     * @throws IllegalArgumentException se l'hackathon non esiste
+     * @throws DataAccessException se la lettura dal database fallisce
+     */
+    public long esporta(int hackathonId, Formato formato, Path destinazione, ProgressListener listener)
+            throws IOException {
+        Hackathon hackathon = hackathonDAO.findById(hackathonId);
+        if (hackathon == null) {
+            throw new IllegalArgumentException("Hackathon non trovato: " + hackathonId);
+        }
+        long totale = reportDAO.contaRighe(hackathonId).values().stream().mapToLong(Long::longValue).sum();
+
+        Path tmp = destinazione.resolveSibling(destinazione.getFileName() + ".tmp");
+        long righe;
+        try {
+            try (Writer out = new BufferedWriter(
+                    new OutputStreamWriter(Files.newOutputStream(tmp), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                Formattatore formattatore = formattatore(formato, out);
+                Riepilogo riepilogo = new Riepilogo(formattatore, totale, listener);
+                formattatore.apri("Report " + hackathon.getNome(), hackathon, LocalDateTime.now());
+                righe = streamReport(hackathonId, riepilogo);
+                formattatore.chiudi(riepilogo);
+            }
+            Files.move(tmp, destinazione, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        if (listener != null) {
+            listener.avanzamento(righe, Math.max(righe, totale));
+        }
+        return righe;
+    }
+
+    /**
+     * Riporta come IOException gli errori di scrittura avvenuti dentro il cursore
+     */
+    private long streamReport(int hackathonId, ReportDAO.RowHandler handler) throws IOException {
+        try {
+            return reportDAO.streamReport(hackathonId, handler);
+        } catch (DataAccessException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static Formattatore formattatore(Formato formato, Writer out) throws IOException {
+        switch (formato) {
+            case CSV:
+                return new CsvFormattatore(out);
+            case HTML:
+                return new HtmlFormattatore(out);
+            case JSON:
+                return new JsonFormattatore(out);
+            default:
+                return new TestoFormattatore(out);
+        }
+    }
+
+    /**
+     * Inoltra le righe al formattatore calcolando i totali, notifica l'avanzamento e interrompe
+     * l'esportazione se il thread viene interrotto
+     */
+    private static final class Riepilogo implements ReportDAO.RowHandler {
+        private final Formattatore formattatore;
+        private final long totale;
+        private final ProgressListener listener;
+        private final Map<Sezione, Long> righePerSezione = new EnumMap<>(Sezione.class);
+        private Sezione sezione;
+        private int colonnaVoto;
+        private int colonnaDimensione;
+        private long scritte;
+        private long sommaVoti;
+        private long dimensioneDocumenti;
+
+        Riepilogo(Formattatore formattatore, long totale, ProgressListener listener) {
+            this.formattatore = formattatore;
+            this.totale = totale;
+            this.listener = listener;
+        }
+
+        @Override
+        public void inizioSezione(Sezione sezione, String[] colonne) throws IOException {
+            this.sezione = sezione;
+            colonnaVoto = indice(colonne, "voto");
+            colonnaDimensione = indice(colonne, "dimensione");
+            formattatore.inizioSezione(sezione, colonne);
+        }
+
+        @Override
+        public void riga(Object[] valori) throws IOException {
+            if (sezione == Sezione.VALUTAZIONI && colonnaVoto >= 0 && valori[colonnaVoto] instanceof Number) {
+                sommaVoti += ((Number) valori[colonnaVoto]).longValue();
+            } else if (sezione == Sezione.DOCUMENTI && colonnaDimensione >= 0 && valori[colonnaDimensione] instanceof Number) {
+                dimensioneDocumenti += ((Number) valori[colonnaDimensione]).longValue();
+            }
+            formattatore.riga(valori);
+            if (++scritte % PASSO_AVANZAMENTO == 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("Esportazione del report interrotta");
+                }
+                if (listener != null) {
+                    listener.avanzamento(scritte, Math.max(scritte, totale));
+                }
+            }
+        }
+
+        @Override
+        public void fineSezione(Sezione sezione, long righe) throws IOException {
+            righePerSezione.put(sezione, righe);
+            formattatore.fineSezione(sezione, righe);
+        }
+
+        long righe(Sezione sezione) {
+            return righePerSezione.getOrDefault(sezione, 0L);
+        }
+
+        double mediaVoti() {
+            long valutazioni = righe(Sezione.VALUTAZIONI);
+            return valutazioni == 0 ? 0.0 : (double) sommaVoti / valutazioni;
+        }
+
+        private static int indice(String[] colonne, String nome) {
+            for (int i = 0; i < colonne.length; i++) {
+                if (colonne[i].equals(nome)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Scrittura di un formato: intestazione, sezioni riga per riga e totali in coda
+     */
+    private abstract static class Formattatore implements ReportDAO.RowHandler {
+        protected final Writer out;
+
+        Formattatore(Writer out) {
+            this.out = out;
+        }
+
+        abstract void apri(String titolo, Hackathon hackathon, LocalDateTime generato) throws IOException;
+
+        abstract void chiudi(Riepilogo riepilogo) throws IOException;
+
+        /**
+         * @return i totali da riportare in coda, come coppie etichetta/valore
+         */
+        static String[][] totali(Riepilogo riepilogo) {
+            return new String[][]{
+                {"Team", String.valueOf(riepilogo.righe(Sezione.TEAM))},
+                {"Registrazioni", String.valueOf(riepilogo.righe(Sezione.REGISTRAZIONI))},
+                {"Valutazioni", String.valueOf(riepilogo.righe(Sezione.VALUTAZIONI))},
+                {"Media voti", String.format(Locale.ROOT, "%.2f", riepilogo.mediaVoti())},
+                {"Documenti", String.valueOf(riepilogo.righe(Sezione.DOCUMENTI))},
+                {"Dimensione documenti (byte)", String.valueOf(riepilogo.dimensioneDocumenti)},
+                {"Progressi", String.valueOf(riepilogo.righe(Sezione.PROGRESSI))}
+            };
+        }
+
+        static String testo(Object valore) {
+            if (valore == null) {
+                return "";
+            }
+            if (valore instanceof LocalDateTime) {
+                return ((LocalDateTime) valore).format(FORMATO_DATA);
+            }
+            return valore.toString();
+        }
+    }
+
+    private static final class CsvFormattatore extends Formattatore {
+        CsvFormattatore(Writer out) {
+            super(out);
+        }
+
+        @Override
+        void apri(String titolo, Hackathon hackathon, LocalDateTime generato) throws IOException {
+            out.write("# Report CSV - " + titolo + "\n");
+            out.write("# Generato: " + generato + "\n\n");
+        }
+
+        @Override
+        public void inizioSezione(Sezione sezione, String[] colonne) throws IOException {
+            out.write(sezione.name());
+            out.write('\n');
+            scriviRiga(colonne);
+        }
+
+        @Override
+        public void riga(Object[] valori) throws IOException {
+            scriviRiga(valori);
+        }
+
+        @Override
+        public void fineSezione(Sezione sezione, long righe) throws IOException {
+            out.write('\n');
+        }
+
+        @Override
+        void chiudi(Riepilogo riepilogo) throws IOException {
+            out.write("STATISTICHE\nMetrica,Valore\n");
+            for (String[] totale : totali(riepilogo)) {
+                scriviRiga(totale);
+            }
+        }
+
+        private void scriviRiga(Object[] valori) throws IOException {
+            for (int i = 0; i < valori.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                Object valore = valori[i];
+                scriviCampo(valore instanceof LocalDateTime ? valore.toString() : testo(valore));
+            }
+            out.write('\n');
+        }
+
+        private void scriviCampo(String campo) throws IOException {
+            if (campo.indexOf(',') < 0 && campo.indexOf('"') < 0 && campo.indexOf('\n') < 0 && campo.indexOf('\r') < 0) {
+                out.write(campo);
+                return;
+            }
+            out.write('"');
+            out.write(campo.replace("\"", "\"\""));
+            out.write('"');
+        }
+    }
+
+    private static final class HtmlFormattatore extends Formattatore {
+        HtmlFormattatore(Writer out) {
+            super(out);
+        }
+
+        @Override
+        void apri(String titolo, Hackathon hackathon, LocalDateTime generato) throws IOException {
+            out.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset='UTF-8'>\n");
+            out.write("<title>" + escape(titolo) + "</title>\n");
+            out.write("<style>\n");
+            out.write("body { font-family: 'Segoe UI', Arial, sans-serif; margin: 40px; background: #f8f9fa; }\n");
+            out.write(".container { background: white; padding: 30px; border-radius: 8px; box-shadow: 0 2px 10px rgba(0,0,0,0.1); }\n");
+            out.write("h1 { color: #2c3e50; border-bottom: 3px solid #3498db; padding-bottom: 10px; }\n");
+            out.write("h2 { color: #34495e; margin-top: 30px; }\n");
+            out.write("table { width: 100%; border-collapse: collapse; margin: 20px 0; }\n");
+            out.write("th, td { padding: 12px; text-align: left; border-bottom: 1px solid #ddd; }\n");
+            out.write("th { background-color: #3498db; color: white; }\n");
+            out.write(".stat { background: #ecf0f1; padding: 15px; margin: 10px 0; border-radius: 5px; }\n");
+            out.write("</style>\n</head>\n<body>\n<div class='container'>\n");
+            out.write("<h1>" + escape(titolo) + "</h1>\n");
+            out.write("<p><strong>Generato:</strong> " + generato.format(FORMATO_DATA) + "</p>\n");
+            out.write("<p><strong>Hackathon:</strong> " + escape(hackathon.getNome()) + "</p>\n");
+        }
+
+        @Override
+        public void inizioSezione(Sezione sezione, String[] colonne) throws IOException {
+            out.write("<h2>" + sezione.name() + "</h2>\n<table>\n<tr>");
+            for (String colonna : colonne) {
+                out.write("<th>" + escape(colonna) + "</th>");
+            }
+            out.write("</tr>\n");
+        }
+
+        @Override
+        public void riga(Object[] valori) throws IOException {
+            out.write("<tr>");
+            for (Object valore : valori) {
+                out.write("<td>");
+                out.write(escape(testo(valore)));
+                out.write("</td>");
+            }
+            out.write("</tr>\n");
+        }
+
+        @Override
+        public void fineSezione(Sezione sezione, long righe) throws IOException {
+            out.write("</table>\n");
+        }
+
+        @Override
+        void chiudi(Riepilogo riepilogo) throws IOException {
+            out.write("<h2>Statistiche</h2>\n");
+            for (String[] totale : totali(riepilogo)) {
+                out.write("<div class='stat'><strong>" + totale[0] + ":</strong> " + totale[1] + "</div>\n");
+            }
+            out.write("</div>\n</body>\n</html>\n");
+        }
+
+        private static String escape(String testo) {
+            StringBuilder sb = null;
+            for (int i = 0; i < testo.length(); i++) {
+                char c = testo.charAt(i);
+                String sostituto;
+                switch (c) {
+                    case '<': sostituto = "&lt;"; break;
+                    case '>': sostituto = "&gt;"; break;
+                    case '&': sostituto = "&amp;"; break;
+                    case '"': sostituto = "&quot;"; break;
+                    case '\'': sostituto = "&#39;"; break;
+                    default: sostituto = null;
+                }
+                if (sostituto != null && sb == null) {
+                    sb = new StringBuilder(testo.length() + 16).append(testo, 0, i);
+                }
+                if (sb != null) {
+                    if (sostituto != null) {
+                        sb.append(sostituto);
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+            return sb == null ? testo : sb.toString();
+        }
+    }
+
+    private static final class JsonFormattatore extends Formattatore {
+        private final JsonGenerator gen;
+        private String[] colonne;
+
+        JsonFormattatore(Writer out) throws IOException {
+            super(out);
+            this.gen = JSON_FACTORY.createGenerator(out).useDefaultPrettyPrinter();
+        }
+
+        @Override
+        void apri(String titolo, Hackathon hackathon, LocalDateTime generato) throws IOException {
+            gen.writeStartObject();
+            gen.writeObjectFieldStart("report");
+            gen.writeStringField("title", titolo);
+            gen.writeStringField("type", "HACKATHON");
+            gen.writeStringField("generated", generato.toString());
+            gen.writeObjectFieldStart("hackathon");
+            gen.writeNumberField("id", hackathon.getId());
+            gen.writeStringField("name", hackathon.getNome());
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void inizioSezione(Sezione sezione, String[] colonne) throws IOException {
+            this.colonne = colonne.clone();
+            gen.writeArrayFieldStart(sezione.name().toLowerCase(Locale.ROOT));
+        }
+
+        @Override
+        public void riga(Object[] valori) throws IOException {
+            gen.writeStartObject();
+            for (int i = 0; i < valori.length; i++) {
+                gen.writeFieldName(colonne[i]);
+                Object valore = valori[i];
+                if (valore == null) {
+                    gen.writeNull();
+                } else if (valore instanceof Integer || valore instanceof Long || valore instanceof Short) {
+                    gen.writeNumber(((Number) valore).longValue());
+                } else if (valore instanceof Boolean) {
+                    gen.writeBoolean((Boolean) valore);
+                } else {
+                    gen.writeString(valore.toString());
+                }
+            }
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void fineSezione(Sezione sezione, long righe) throws IOException {
+            gen.writeEndArray();
+        }
+
+        @Override
+        void chiudi(Riepilogo riepilogo) throws IOException {
+            gen.writeObjectFieldStart("statistics");
+            gen.writeNumberField("totalTeams", riepilogo.righe(Sezione.TEAM));
+            gen.writeNumberField("totalRegistrations", riepilogo.righe(Sezione.REGISTRAZIONI));
+            gen.writeNumberField("totalEvaluations", riepilogo.righe(Sezione.VALUTAZIONI));
+            gen.writeNumberField("averageScore", riepilogo.mediaVoti());
+            gen.writeNumberField("totalDocuments", riepilogo.righe(Sezione.DOCUMENTI));
+            gen.writeNumberField("totalDocumentBytes", riepilogo.dimensioneDocumenti);
+            gen.writeNumberField("totalProgress", riepilogo.righe(Sezione.PROGRESSI));
+            gen.writeEndObject();
+            gen.writeEndObject();
+            gen.writeEndObject();
+            gen.close();
+        }
+    }
+
+    private static final class TestoFormattatore extends Formattatore {
+        private static final int LARGHEZZA = 80;
+
+        TestoFormattatore(Writer out) {
+            super(out);
+        }
+
+        @Override
+        void apri(String titolo, Hackathon hackathon, LocalDateTime generato) throws IOException {
+            out.write(titolo.toUpperCase(Locale.ROOT) + "\n");
+            out.write("=".repeat(LARGHEZZA) + "\n");
+            out.write("Hackathon: " + hackathon.getNome() + "\n");
+            out.write("Generato: " + generato.format(FORMATO_DATA) + "\n\n");
+        }
+
+        @Override
+        public void inizioSezione(Sezione sezione, String[] colonne) throws IOException {
+            out.write(sezione.name() + "\n");
+            out.write("-".repeat(LARGHEZZA) + "\n");
+            out.write(String.join(" | ", colonne));
+            out.write('\n');
+        }
+
+        @Override
+        public void riga(Object[] valori) throws IOException {
+            for (int i = 0; i < valori.length; i++) {
+                if (i > 0) {
+                    out.write(" | ");
+                }
+                out.write(testo(valori[i]).replace('\n', ' '));
+            }
+            out.write('\n');
+        }
+
+        @Override
+        public void fineSezione(Sezione sezione, long righe) throws IOException {
+            out.write("(" + righe + " righe)\n\n");
+        }
+
+        @Override
+        void chiudi(Riepilogo riepilogo) throws IOException {
+            out.write("STATISTICHE\n");
+            out.write("-".repeat(LARGHEZZA) + "\n");
+            for (String[] totale : totali(riepilogo)) {
+                out.write(totale[0] + ": " + totale[1] + "\n");
+            }
+        }
+    }
+}
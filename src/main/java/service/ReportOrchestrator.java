@@ -0,0 +1,213 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Esegue in parallelo le sezioni indipendenti di un report o di una statistica.
+ * <p>
+ * Ogni sezione legge i propri dati su un thread di un executor limitato e restituisce
+ * un'azione che applica il risultato; le azioni vengono eseguite poi sul thread chiamante,
+ * nell'ordine di dichiarazione delle sezioni, così che l'oggetto di destinazione
+ * ({@code Statistics}, {@code ReportData}, mappe) non debba essere thread-safe.
+ * Il tempo complessivo è quello della sezione più lenta invece della somma.
+ * <p>
+ * Ogni sezione ha un timeout, misurato dal momento in cui un thread inizia a eseguirla:
+ * il tempo passato in coda dietro ad altre sezioni non viene conteggiato. Una sezione che
+ * non termina in tempo, che non parte entro un timeout dall'inizio dell'attesa o che
+ * fallisce viene registrata nell'esito e il suo risultato non viene applicato, senza
+ * bloccare le altre.
+ * Le sezioni non devono sottomettere a loro volta sezioni allo stesso orchestratore.
+ */
+public class ReportOrchestrator {
+    private static final Logger LOGGER = Logger.getLogger(ReportOrchestrator.class.getName());
+
+    private static final int CODA_MASSIMA = 64;
+
+    /**
+     * Esito di una sezione
+     */
+    public static final class EsitoSezione {
+        private final String nome;
+        private final long durataMs;
+        private final String errore;
+
+        EsitoSezione(String nome, long durataMs, String errore) {
+            this.nome = nome;
+            this.durataMs = durataMs;
+            this.errore = errore;
+        }
+
+        public String getNome() { return nome; }
+        public long getDurataMs() { return durataMs; }
+        /** @return il motivo del fallimento, null se la sezione è stata applicata */
+        public String getErrore() { return errore; }
+        public boolean isCompletata() { return errore == null; }
+
+        @Override
+        public String toString() {
+            return nome + "=" + durataMs + "ms" + (errore == null ? "" : " (" + errore + ")");
+        }
+    }
+
+    /**
+     * Istanti di avvio e durata di una sezione, scritti dal thread dell'executor
+     */
+    private static final class Tempi {
+        volatile boolean avviata;
+        volatile long avvio;
+        volatile long durataMs = -1;
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    /**
+     * @param threads thread dell'executor; dovrebbero essere meno delle connessioni del pool
+     * @param timeoutMs timeout di ogni sezione, dal momento in cui inizia a essere eseguita
+     */
+    public ReportOrchestrator(int threads, long timeoutMs) {
+        AtomicInteger contatore = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(CODA_MASSIMA), r -> {
+                Thread t = new Thread(r, "report-" + contatore.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Orchestratore configurato con le proprietà di sistema {@code report.threads}
+     * (predefinito: processori disponibili, al massimo 4) e {@code report.sectionTimeoutSeconds}
+     * (predefinito 15)
+     */
+    public static ReportOrchestrator fromSystemProperties() {
+        int threads = Integer.getInteger("report.threads", Math.min(4, Runtime.getRuntime().availableProcessors()));
+        int timeout = Integer.getInteger("report.sectionTimeoutSeconds", 15);
+        return new ReportOrchestrator(Math.max(1, threads), Math.max(1, timeout) * 1000L);
+    }
+
+    /**
+     * Esegue le sezioni in parallelo e ne applica i risultati sul thread chiamante
+     *
+     * @param sezioni nome della sezione e calcolo, che restituisce l'azione che ne applica il risultato
+     * @return l'esito di ogni sezione, nell'ordine di dichiarazione
+     */
+    public List<EsitoSezione> esegui(Map<String, Callable<Runnable>> sezioni) {
+        long inizio = System.nanoTime();
+        Map<String, Future<Runnable>> future = new LinkedHashMap<>();
+        Map<String, Tempi> tempi = new LinkedHashMap<>();
+        for (Map.Entry<String, Callable<Runnable>> sezione : sezioni.entrySet()) {
+            Tempi t = new Tempi();
+            tempi.put(sezione.getKey(), t);
+            Callable<Runnable> calcolo = sezione.getValue();
+            future.put(sezione.getKey(), executor.submit(() -> {
+                t.avvio = System.nanoTime();
+                t.avviata = true;
+                try {
+                    return calcolo.call();
+                } finally {
+                    t.durataMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t.avvio);
+                }
+            }));
+        }
+
+        List<EsitoSezione> esiti = new ArrayList<>();
+        for (Map.Entry<String, Future<Runnable>> entry : future.entrySet()) {
+            String nome = entry.getKey();
+            String errore = null;
+            try {
+                Runnable applica = attendi(entry.getValue(), tempi.get(nome));
+                if (applica != null) {
+                    applica.run();
+                }
+            } catch (TimeoutException e) {
+                entry.getValue().cancel(true);
+                errore = tempi.get(nome).avviata
+                    ? "timeout dopo " + timeoutMs + " ms"
+                    : "non avviata entro " + timeoutMs + " ms";
+            } catch (ExecutionException e) {
+                Throwable causa = e.getCause() != null ? e.getCause() : e;
+                errore = causa.getClass().getSimpleName() + ": " + causa.getMessage();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancellaTutte(future);
+                errore = "interrotta";
+            } catch (RuntimeException e) {
+                errore = e.getClass().getSimpleName() + ": " + e.getMessage();
+            }
+            long durata = tempi.get(nome).durataMs;
+            if (durata < 0) {
+                durata = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inizio);
+            }
+            if (errore != null) {
+                LOGGER.log(Level.WARNING, "Sezione {0} non applicata: {1}", new Object[]{nome, errore});
+            }
+            esiti.add(new EsitoSezione(nome, durata, errore));
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Sezioni calcolate in {0} ms: {1}",
+                new Object[]{TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inizio), esiti});
+        }
+        return Collections.unmodifiableList(esiti);
+    }
+
+    /**
+     * Attende il risultato di una sezione fino a {@code timeoutMs} dal suo avvio; se la
+     * sezione è ancora in coda, l'attesa è limitata a {@code timeoutMs} dall'inizio
+     * dell'attesa stessa
+     */
+    private Runnable attendi(Future<Runnable> f, Tempi t)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long timeout = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        long scadenzaInCoda = System.nanoTime() + timeout;
+        while (true) {
+            boolean avviata = t.avviata;
+            long scadenza = avviata ? t.avvio + timeout : scadenzaInCoda;
+            long attesa = scadenza - System.nanoTime();
+            if (attesa <= 0) {
+                // ultimo controllo: la sezione può essere partita o terminata nel frattempo
+                if (!avviata && t.avviata) {
+                    continue;
+                }
+                return f.get(0, TimeUnit.NANOSECONDS);
+            }
+            try {
+                return f.get(attesa, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (avviata || !t.avviata) {
+                    throw e;
+                }
+                // partita mentre era in coda: si riprende con la scadenza dall'avvio
+            }
+        }
+    }
+
+    private static void cancellaTutte(Map<String, Future<Runnable>> future) {
+        for (Future<Runnable> f : future.values()) {
+            f.cancel(true);
+        }
+    }
+
+    /**
+     * Interrompe i thread dell'executor
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,268 @@
+package service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import dao.StatisticsSnapshotDAO;
+import model.Statistics;
+import model.StatisticsSnapshot;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Snapshot delle statistiche di sistema e dei singoli hackathon.
+ * <p>
+ * Le statistiche vengono calcolate su uno scheduler in background e salvate nella tabella
+ * {@code statistics_snapshot}; le dashboard leggono l'ultimo snapshot con una lettura per
+ * chiave primaria invece di ricalcolare tutto a ogni apertura. Uno snapshot assente o più
+ * vecchio dell'età massima viene ricalcolato alla lettura, una sola volta anche con molte
+ * richieste contemporanee. L'avvio e la conclusione di un evento chiedono un aggiornamento
+ * immediato dell'hackathon e del sistema.
+ */
+public class StatisticsSnapshotService {
+    private static final Logger LOGGER = Logger.getLogger(StatisticsSnapshotService.class.getName());
+
+    public static final String CHIAVE_SISTEMA = "SISTEMA";
+    private static final String PREFISSO_HACKATHON = "HACKATHON:";
+    private static final int INTERVALLO_PREDEFINITO = 10;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+        .registerModule(new SimpleModule("statistiche")
+            .addSerializer(LocalDateTime.class, new JsonSerializer<LocalDateTime>() {
+                @Override
+                public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                    gen.writeString(value.toString());
+                }
+            })
+            .addDeserializer(LocalDateTime.class, new JsonDeserializer<LocalDateTime>() {
+                @Override
+                public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                    return LocalDateTime.parse(parser.getValueAsString());
+                }
+            }))
+        .addMixIn(Statistics.class, ProprietaDerivate.class);
+
+    /** Proprietà calcolate di {@link Statistics} che non vanno salvate nello snapshot */
+    @JsonIgnoreProperties({"riassunto", "dimensioneTotaleStorageFormattata"})
+    private abstract static class ProprietaDerivate {
+    }
+
+    /**
+     * Calcolo delle statistiche da salvare negli snapshot
+     */
+    public interface Calcolo {
+        /** @return le statistiche di sistema */
+        Statistics sistema();
+
+        /** @return le statistiche dell'hackathon, null se non esiste */
+        Statistics hackathon(int hackathonId);
+
+        /** @return gli hackathon da aggiornare a ogni esecuzione programmata */
+        List<Integer> hackathonDaAggiornare();
+    }
+
+    private final StatisticsSnapshotDAO dao;
+    private final Calcolo calcolo;
+    private final int intervalloMinuti;
+    private final Duration etaMassima;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentHashMap<String, Object> lock = new ConcurrentHashMap<>();
+    private final Set<String> inAttesa = ConcurrentHashMap.newKeySet();
+    private ScheduledFuture<?> aggiornamentoProgrammato;
+
+    /**
+     * @param dao accesso alla tabella degli snapshot
+     * @param calcolo calcolo delle statistiche
+     * @param intervalloMinuti minuti tra due aggiornamenti programmati, 0 per non programmarli;
+     *                         uno snapshot più vecchio del doppio dell'intervallo viene ricalcolato alla lettura
+     */
+    public StatisticsSnapshotService(StatisticsSnapshotDAO dao, Calcolo calcolo, int intervalloMinuti) {
+        this.dao = dao;
+        this.calcolo = calcolo;
+        this.intervalloMinuti = Math.max(0, intervalloMinuti);
+        this.etaMassima = Duration.ofMinutes(2L * (this.intervalloMinuti > 0 ? this.intervalloMinuti : INTERVALLO_PREDEFINITO));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "statistics-snapshot");
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+    }
+
+    /**
+     * Servizio configurato con la proprietà di sistema {@code stats.snapshotMinutes}
+     * (predefinito 10, 0 disattiva l'aggiornamento programmato)
+     */
+    public static StatisticsSnapshotService fromSystemProperties(StatisticsSnapshotDAO dao, Calcolo calcolo) {
+        return new StatisticsSnapshotService(dao, calcolo, Integer.getInteger("stats.snapshotMinutes", INTERVALLO_PREDEFINITO));
+    }
+
+    public static String chiaveHackathon(int hackathonId) {
+        return PREFISSO_HACKATHON + hackathonId;
+    }
+
+    /**
+     * Avvia l'aggiornamento periodico di tutti gli snapshot; la prima esecuzione è immediata
+     */
+    public synchronized void avvia() {
+        if (aggiornamentoProgrammato != null || intervalloMinuti == 0) {
+            return;
+        }
+        aggiornamentoProgrammato = scheduler.scheduleWithFixedDelay(this::aggiornaTutto, 0, intervalloMinuti, TimeUnit.MINUTES);
+        LOGGER.log(Level.INFO, "Snapshot delle statistiche aggiornati ogni {0} minuti", intervalloMinuti);
+    }
+
+    /**
+     * Ferma lo scheduler
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * @return le statistiche di sistema dall'ultimo snapshot, ricalcolate se assenti o troppo vecchie
+     */
+    public Statistics sistema() {
+        return leggiOCalcola(CHIAVE_SISTEMA, calcolo::sistema);
+    }
+
+    /**
+     * @return le statistiche dell'hackathon dall'ultimo snapshot, null se l'hackathon non esiste
+     */
+    public Statistics hackathon(int hackathonId) {
+        return leggiOCalcola(chiaveHackathon(hackathonId), () -> calcolo.hackathon(hackathonId));
+    }
+
+    /**
+     * Chiede l'aggiornamento in background dello snapshot dell'hackathon e di quello di sistema,
+     * ad esempio dopo l'avvio o la conclusione dell'evento. Richieste ripetute mentre
+     * l'aggiornamento è ancora in coda vengono accorpate.
+     */
+    public void richiediAggiornamento(int hackathonId) {
+        String chiave = chiaveHackathon(hackathonId);
+        if (inAttesa.add(chiave)) {
+            scheduler.execute(() -> {
+                inAttesa.remove(chiave);
+                aggiorna(chiave, () -> calcolo.hackathon(hackathonId));
+            });
+        }
+        if (inAttesa.add(CHIAVE_SISTEMA)) {
+            scheduler.execute(() -> {
+                inAttesa.remove(CHIAVE_SISTEMA);
+                aggiorna(CHIAVE_SISTEMA, calcolo::sistema);
+            });
+        }
+    }
+
+    /**
+     * Aggiorna lo snapshot di sistema e quelli degli hackathon da aggiornare
+     */
+    void aggiornaTutto() {
+        try {
+            aggiorna(CHIAVE_SISTEMA, calcolo::sistema);
+            for (Integer hackathonId : calcolo.hackathonDaAggiornare()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                aggiorna(chiaveHackathon(hackathonId), () -> calcolo.hackathon(hackathonId));
+            }
+        } catch (RuntimeException e) {
+            // Un errore non deve fermare le esecuzioni successive
+            LOGGER.log(Level.WARNING, "Aggiornamento snapshot statistiche fallito", e);
+        }
+    }
+
+    private Statistics leggiOCalcola(String chiave, java.util.function.Supplier<Statistics> calcoloChiave) {
+        Statistics recente = leggiRecente(chiave);
+        if (recente != null) {
+            return recente;
+        }
+        // Un solo ricalcolo per chiave: chi arriva dopo trova lo snapshot appena salvato
+        synchronized (lock.computeIfAbsent(chiave, k -> new Object())) {
+            recente = leggiRecente(chiave);
+            return recente != null ? recente : aggiorna(chiave, calcoloChiave);
+        }
+    }
+
+    private Statistics leggiRecente(String chiave) {
+        StatisticsSnapshot snapshot = dao.findByChiave(chiave);
+        if (snapshot == null || snapshot.getCalcolatoIl().isBefore(LocalDateTime.now().minus(etaMassima))) {
+            return null;
+        }
+        try {
+            Statistics stats = MAPPER.readValue(snapshot.getJsonPayload(), Statistics.class);
+            stats.setDataCalcolo(snapshot.getCalcolatoIl());
+            return stats;
+        } catch (JsonProcessingException e) {
+            LOGGER.log(Level.WARNING, "Snapshot {0} non leggibile, verrà ricalcolato: {1}", new Object[]{chiave, e.getMessage()});
+            return null;
+        }
+    }
+
+    /**
+     * Calcola le statistiche e le salva come snapshot della chiave
+     *
+     * @return le statistiche calcolate, null se il calcolo non ha prodotto risultati
+     */
+    private Statistics aggiorna(String chiave, java.util.function.Supplier<Statistics> calcoloChiave) {
+        long inizio = System.nanoTime();
+        Statistics stats = calcoloChiave.get();
+        if (stats == null || "ERRORE".equals(stats.getTipo())) {
+            return stats;
+        }
+        long durataMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inizio);
+        try {
+            StatisticsSnapshot snapshot = new StatisticsSnapshot(chiave, MAPPER.writeValueAsString(stats), durataMs);
+            snapshot.setCalcolatoIl(stats.getDataCalcolo() != null ? stats.getDataCalcolo() : LocalDateTime.now());
+            dao.upsert(snapshot);
+            LOGGER.log(Level.FINE, "Snapshot {0} aggiornato in {1} ms", new Object[]{chiave, durataMs});
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Le statistiche calcolate restano valide anche se lo snapshot non è stato salvato
+            LOGGER.log(Level.WARNING, "Salvataggio snapshot {0} fallito: {1}", new Object[]{chiave, e.getMessage()});
+        }
+        return stats;
+    }
+
+    /**
+     * Età leggibile di uno snapshot per le dashboard
+     *
+     * @param calcolatoIl istante del calcolo
+     * @return ad esempio "aggiornate 5 minuti fa"
+     */
+    public static String descriviEta(LocalDateTime calcolatoIl) {
+        if (calcolatoIl == null) {
+            return "aggiornamento sconosciuto";
+        }
+        long minuti = Math.max(0, Duration.between(calcolatoIl, LocalDateTime.now()).toMinutes());
+        if (minuti < 1) {
+            return "aggiornate meno di un minuto fa";
+        }
+        if (minuti < 60) {
+            return "aggiornate " + minuti + (minuti == 1 ? " minuto fa" : " minuti fa");
+        }
+        long ore = minuti / 60;
+        return "aggiornate " + ore + (ore == 1 ? " ora fa" : " ore fa");
+    }
+}
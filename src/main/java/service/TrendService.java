@@ -0,0 +1,127 @@
+package service;
+
+import dao.TrendDAO;
+import dao.TrendDAO.Granularita;
+import dao.TrendDAO.Serie;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serie temporali per i grafici di andamento.
+ * <p>
+ * I conteggi per periodo arrivano già aggregati dal {@link TrendDAO}; qui vengono completati
+ * con i periodi senza righe (valore 0) ed etichettati, nell'ordine cronologico, in mappe
+ * pronte per {@code ChartPanel.createLineChart}.
+ */
+public class TrendService {
+
+    private static final DateTimeFormatter GIORNO = DateTimeFormatter.ofPattern("dd/MM");
+    private static final DateTimeFormatter GIORNO_ANNO = DateTimeFormatter.ofPattern("dd/MM/yy");
+    private static final DateTimeFormatter MESE = DateTimeFormatter.ofPattern("MMM yy", Locale.ITALIAN);
+
+    /** Limite ai periodi di una serie, per non generare grafici illeggibili */
+    public static final int PERIODI_MASSIMI = 400;
+
+    private final TrendDAO trendDAO;
+
+    public TrendService(TrendDAO trendDAO) {
+        this.trendDAO = trendDAO;
+    }
+
+    /**
+     * Serie degli ultimi {@code periodi} periodi, compreso quello in corso
+     *
+     * @param serie le serie da calcolare
+     * @param granularita l'ampiezza dei periodi
+     * @param periodi numero di periodi (da 1 a {@value #PERIODI_MASSIMI})
+     * @param adesso istante di riferimento
+     * @return per ogni serie le etichette dei periodi e i conteggi, in ordine cronologico
+     */
+    public Map<Serie, Map<String, Number>> ultimiPeriodi(Set<Serie> serie, Granularita granularita,
+                                                        int periodi, LocalDateTime adesso) {
+        int n = Math.max(1, Math.min(PERIODI_MASSIMI, periodi));
+        LocalDateTime corrente = inizioPeriodo(adesso, granularita);
+        LocalDateTime da = corrente.minus(n - 1L, unita(granularita));
+        return serie(serie, granularita, da, corrente.plus(1, unita(granularita)));
+    }
+
+    /**
+     * Serie nell'intervallo indicato, con un valore per ogni periodo
+     *
+     * @param serie le serie da calcolare
+     * @param granularita l'ampiezza dei periodi
+     * @param da inizio dell'intervallo (incluso), arrotondato all'inizio del suo periodo
+     * @param a fine dell'intervallo (escluso)
+     * @return per ogni serie le etichette dei periodi e i conteggi, in ordine cronologico
+     * @throws IllegalArgumentException se l'intervallo è vuoto o supera {@value #PERIODI_MASSIMI} periodi
+     */
+    public Map<Serie, Map<String, Number>> serie(Set<Serie> serie, Granularita granularita,
+                                                LocalDateTime da, LocalDateTime a) {
+        LocalDateTime inizio = inizioPeriodo(da, granularita);
+        if (!a.isAfter(inizio)) {
+            throw new IllegalArgumentException("Intervallo vuoto: " + da + " - " + a);
+        }
+        long periodi = unita(granularita).between(inizio, a);
+        if (inizio.plus(periodi, unita(granularita)).isBefore(a)) {
+            periodi++; // ultimo periodo parziale
+        }
+        if (periodi > PERIODI_MASSIMI) {
+            throw new IllegalArgumentException("Troppi periodi: al massimo " + PERIODI_MASSIMI);
+        }
+        Map<Serie, Map<LocalDateTime, Long>> conteggi = trendDAO.conteggi(serie, granularita, inizio, a);
+        boolean piuAnni = inizio.getYear() != a.minusNanos(1).getYear();
+
+        Map<Serie, Map<String, Number>> risultato = new EnumMap<>(Serie.class);
+        for (Serie s : serie) {
+            Map<LocalDateTime, Long> perPeriodo = conteggi.getOrDefault(s, Map.of());
+            Map<String, Number> valori = new LinkedHashMap<>();
+            for (LocalDateTime p = inizio; p.isBefore(a); p = p.plus(1, unita(granularita))) {
+                valori.put(etichetta(p, granularita, piuAnni), perPeriodo.getOrDefault(p, 0L));
+            }
+            risultato.put(s, valori);
+        }
+        return risultato;
+    }
+
+    /**
+     * Inizio del periodo che contiene l'istante, come {@code date_trunc} di PostgreSQL
+     */
+    public static LocalDateTime inizioPeriodo(LocalDateTime istante, Granularita granularita) {
+        LocalDateTime giorno = istante.truncatedTo(ChronoUnit.DAYS);
+        switch (granularita) {
+            case SETTIMANA:
+                return giorno.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MESE:
+                return giorno.withDayOfMonth(1);
+            default:
+                return giorno;
+        }
+    }
+
+    private static ChronoUnit unita(Granularita granularita) {
+        switch (granularita) {
+            case SETTIMANA:
+                return ChronoUnit.WEEKS;
+            case MESE:
+                return ChronoUnit.MONTHS;
+            default:
+                return ChronoUnit.DAYS;
+        }
+    }
+
+    private static String etichetta(LocalDateTime periodo, Granularita granularita, boolean piuAnni) {
+        if (granularita == Granularita.MESE) {
+            return MESE.format(periodo);
+        }
+        return (piuAnni ? GIORNO_ANNO : GIORNO).format(periodo);
+    }
+}
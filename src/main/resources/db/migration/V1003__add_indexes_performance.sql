@@ -11,8 +11,18 @@ CREATE INDEX IF NOT EXISTS idx_judge_comment_judge_created ON judge_comment(judg
 CREATE INDEX IF NOT EXISTS idx_valutazione_hackathon_team ON valutazione(hackathon_id, team_id);
 CREATE INDEX IF NOT EXISTS idx_valutazione_judge_team ON valutazione(giudice_id, team_id);
 
--- Index for team creation timestamp (used in tie-breaker)
-CREATE INDEX IF NOT EXISTS idx_team_data_creazione ON team(data_creazione);
+-- Index for team creation timestamp (used in tie-breaker); the column is "created_at"
+-- in database/db_dump.sql
+DO $$
+BEGIN
+    IF EXISTS (SELECT FROM information_schema.columns
+               WHERE table_name = 'team' AND column_name = 'data_creazione') THEN
+        CREATE INDEX IF NOT EXISTS idx_team_data_creazione ON team(data_creazione);
+    ELSE
+        CREATE INDEX IF NOT EXISTS idx_team_data_creazione ON team(created_at);
+    END IF;
+END
+$$;
 
 -- Index for hackathon-team relationship queries
 CREATE INDEX IF NOT EXISTS idx_team_hackathon ON team(hackathon_id) WHERE hackathon_id IS NOT NULL;
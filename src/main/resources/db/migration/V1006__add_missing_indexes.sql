@@ -0,0 +1,32 @@
+-- Add indexes for hot DAO queries that had no matching index
+-- Each index is listed with the DAO queries it serves; SchemaIndexTest checks the plans with EXPLAIN
+
+-- DocumentoDAO.existsByHash / findByHash (duplicate check on every upload)
+CREATE INDEX IF NOT EXISTS idx_documents_hash ON documents(hash) WHERE hash IS NOT NULL;
+
+-- NotificationDAO.findByUtente (full list, newest first)
+CREATE INDEX IF NOT EXISTS idx_notifications_utente_data ON notifications(utente_id, data_creazione DESC);
+
+-- NotificationDAO.findUnreadByUtente / countUnreadByUtente (partial: only unread rows)
+CREATE INDEX IF NOT EXISTS idx_notifications_non_lette ON notifications(utente_id, data_creazione DESC)
+WHERE letta = FALSE;
+
+-- TeamDAO.findByMembro (the primary key starts with team_id)
+CREATE INDEX IF NOT EXISTS idx_team_members_utente ON team_members(utente_id);
+
+-- TeamDAO.findRichiesteJoin / findRichiesteJoinInAttesa (by team and state, newest first)
+CREATE INDEX IF NOT EXISTS idx_richiesta_join_team_stato ON richiesta_join(team_id, stato, data_richiesta DESC);
+
+-- AuditLogDAO time-range queries and cleanup; the column is "timestamp" in the application
+-- schema and "created_at" in database/db_dump.sql
+DO $$
+BEGIN
+    IF EXISTS (SELECT FROM information_schema.columns
+               WHERE table_name = 'audit_log' AND column_name = 'timestamp') THEN
+        CREATE INDEX IF NOT EXISTS idx_audit_log_timestamp ON audit_log("timestamp" DESC);
+    ELSIF EXISTS (SELECT FROM information_schema.columns
+                  WHERE table_name = 'audit_log' AND column_name = 'created_at') THEN
+        CREATE INDEX IF NOT EXISTS idx_audit_log_timestamp ON audit_log(created_at DESC);
+    END IF;
+END
+$$;
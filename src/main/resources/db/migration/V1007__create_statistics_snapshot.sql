@@ -0,0 +1,9 @@
+-- Create statistics_snapshot table: latest precomputed Statistics per key
+-- Keys: 'SISTEMA' for the system statistics, 'HACKATHON:<id>' for a single hackathon
+-- Rows are overwritten on every refresh (scheduled or after event start/conclusion)
+CREATE TABLE IF NOT EXISTS statistics_snapshot (
+    chiave VARCHAR(40) PRIMARY KEY,
+    json_payload JSONB NOT NULL,
+    calcolato_il TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    durata_ms INTEGER NOT NULL DEFAULT 0
+);
@@ -0,0 +1,109 @@
+package app;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test di carico locale per il server API, da eseguire a mano (non fa parte della suite JUnit
+ * e non viene incluso nel jar dell'applicazione).
+ * Ogni client virtuale effettua il login e ripete le letture più frequenti
+ * (hackathon aperti e notifiche); al termine stampa throughput e latenze.
+ *
+ * Utilizzo, dopo {@code mvn test-compile}:
+ * <pre>
+ * java -cp target/classes:target/test-classes:&lt;dipendenze&gt; app.ApiLoadRunner &lt;baseUrl&gt; &lt;login&gt; &lt;password&gt; [client=50] [richiestePerClient=200]
+ * </pre>
+ */
+public class ApiLoadRunner {
+
+    private static final String[] PATHS = {"/api/hackathon", "/api/notifiche"};
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("Uso: ApiLoadRunner <baseUrl> <login> <password> [client] [richiestePerClient]");
+            System.exit(1);
+        }
+        String baseUrl = args[0];
+        String body = MAPPER.writeValueAsString(Map.of("login", args[1], "password", args[2]));
+        int clients = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+        int requestsPerClient = args.length > 4 ? Integer.parseInt(args[4]) : 200;
+
+        // I client bloccano i loro thread in send(): l'HttpClient usa il proprio executor predefinito
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[clients * requestsPerClient];
+
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            final int client = c;
+            futures.add(pool.submit(() -> {
+                String token = login(http, baseUrl, body);
+                for (int i = 0; i < requestsPerClient; i++) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + PATHS[i % PATHS.length]))
+                        .header("Authorization", "Bearer " + token).GET().build();
+                    long t0 = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[client * requestsPerClient + i] = System.nanoTime() - t0;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+
+        Arrays.sort(latencies);
+        System.out.printf("Richieste: %d in %.1f s (%.0f req/s), errori: %d%n",
+            latencies.length, seconds, latencies.length / seconds, errors.get());
+        System.out.printf("Latenza p50 %.1f ms, p95 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+            percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+            latencies[latencies.length - 1] / 1e6);
+        System.exit(errors.get() == 0 ? 0 : 2);
+    }
+
+    private static String login(HttpClient http, String baseUrl, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login fallito: " + response.body());
+        }
+        JsonNode token = MAPPER.readTree(response.body()).get("token");
+        if (token == null || !token.isTextual()) {
+            throw new IllegalStateException("Risposta di login senza token: " + response.body());
+        }
+        return token.asText();
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.min(sorted.length - 1, Math.round(p * (sorted.length - 1)));
+        return sorted[index] / 1e6;
+    }
+}
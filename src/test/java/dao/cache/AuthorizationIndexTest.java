@@ -0,0 +1,133 @@
+package dao.cache;
+
+import dao.RegistrazioneDAO;
+import dao.TeamDAO;
+import model.Registrazione;
+import model.RichiestaJoin;
+import model.Team;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test per AuthorizationIndex e i DAO che lo aggiornano, con DAO sottostanti simulati
+ */
+class AuthorizationIndexTest {
+
+    private TeamDAO teamPostgres;
+    private RegistrazioneDAO registrazionePostgres;
+    private AuthorizationIndex index;
+    private TeamDAO teamDAO;
+    private RegistrazioneDAO registrazioneDAO;
+
+    @BeforeEach
+    void setUp() {
+        teamPostgres = mock(TeamDAO.class);
+        registrazionePostgres = mock(RegistrazioneDAO.class);
+        Team team = new Team("Alfa", 1, 10, 4);
+        team.setId(100);
+        when(teamPostgres.findAll()).thenReturn(List.of(team));
+        when(teamPostgres.findMembriPerTeam()).thenReturn(Map.of(100, List.of(10, 11)));
+        when(registrazionePostgres.findAll()).thenReturn(new ArrayList<>(List.of(
+            registrazione(1, 10, 1, Registrazione.Ruolo.PARTECIPANTE, true),
+            registrazione(2, 20, 1, Registrazione.Ruolo.GIUDICE, false))));
+
+        index = new AuthorizationIndex(teamPostgres, registrazionePostgres, Duration.ofMinutes(5));
+        teamDAO = index.teamDAO(teamPostgres);
+        registrazioneDAO = index.registrazioneDAO(registrazionePostgres);
+    }
+
+    private static Registrazione registrazione(int id, int utenteId, int hackathonId, Registrazione.Ruolo ruolo, boolean confermata) {
+        Registrazione registrazione = new Registrazione(utenteId, hackathonId, ruolo);
+        registrazione.setId(id);
+        registrazione.setConfermata(confermata);
+        return registrazione;
+    }
+
+    @Test
+    @DisplayName("Le verifiche dei permessi usano l'indice caricato una sola volta")
+    void testCaricamentoUnico() {
+        assertTrue(teamDAO.isMembro(100, 11));
+        assertFalse(teamDAO.isMembro(100, 12));
+        assertTrue(teamDAO.isCapoTeam(100, 10));
+        assertFalse(teamDAO.isCapoTeam(100, 11));
+        assertTrue(registrazioneDAO.isConfermato(10, 1));
+        assertTrue(registrazioneDAO.isRegistrato(20, 1));
+        assertFalse(registrazioneDAO.isConfermato(20, 1));
+        assertFalse(index.haRuoloConfermato(20, 1, Registrazione.Ruolo.GIUDICE));
+        assertArrayEquals(new int[]{100}, index.getTeamDiUtente(10));
+        assertArrayEquals(new int[]{20}, index.getUtentiConRuolo(1, Registrazione.Ruolo.GIUDICE));
+
+        verify(teamPostgres, times(1)).findAll();
+        verify(registrazionePostgres, times(1)).findAll();
+        verify(teamPostgres, never()).isMembro(anyInt(), anyInt());
+        verify(registrazionePostgres, never()).isConfermato(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Le scritture riuscite aggiornano l'indice")
+    void testAggiornamenti() {
+        assertEquals(2, teamDAO.contaMembri(100));
+        when(teamPostgres.rimuoviMembro(100, 11)).thenReturn(true);
+        teamDAO.rimuoviMembro(100, 11);
+        when(teamPostgres.accettaRichiestaJoin(7)).thenReturn(true);
+        when(teamPostgres.findRichiestaJoinById(7)).thenReturn(new RichiestaJoin(12, 100, "Ciao"));
+        teamDAO.accettaRichiestaJoin(7);
+        when(teamPostgres.cambiaCapoTeam(100, 12)).thenReturn(true);
+        teamDAO.cambiaCapoTeam(100, 12);
+
+        assertFalse(teamDAO.isMembro(100, 11));
+        assertEquals(List.of(10, 12), teamDAO.findMembri(100));
+        assertTrue(teamDAO.isCapoTeam(100, 12));
+
+        Registrazione giudice = registrazione(2, 20, 1, Registrazione.Ruolo.GIUDICE, true);
+        when(registrazionePostgres.confermaRegistrazione(2)).thenReturn(true);
+        when(registrazionePostgres.findById(2)).thenReturn(giudice);
+        registrazioneDAO.confermaRegistrazione(2);
+        assertTrue(index.haRuoloConfermato(20, 1, Registrazione.Ruolo.GIUDICE));
+
+        when(registrazionePostgres.delete(2)).thenReturn(true);
+        registrazioneDAO.delete(2);
+        assertNull(index.getRuolo(20, 1));
+        assertEquals(0, index.getUtentiConRuolo(1, Registrazione.Ruolo.GIUDICE).length);
+
+        when(teamPostgres.delete(100)).thenReturn(true);
+        teamDAO.delete(100);
+        assertEquals(0, index.getTeamDiUtente(10).length);
+        assertFalse(teamDAO.isCapoTeam(100, 12));
+    }
+
+    @Test
+    @DisplayName("Dopo l'invalidazione l'indice viene ricaricato")
+    void testInvalidazione() {
+        assertFalse(registrazioneDAO.isRegistrato(30, 1));
+        when(registrazionePostgres.findAll()).thenReturn(List.of(registrazione(3, 30, 1, Registrazione.Ruolo.PARTECIPANTE, false)));
+        index.invalida();
+
+        assertTrue(registrazioneDAO.isRegistrato(30, 1));
+        assertFalse(registrazioneDAO.isRegistrato(10, 1));
+        verify(registrazionePostgres, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("La mappa di primitivi resta coerente con molte rimozioni")
+    void testLongIntHashMap() {
+        LongIntHashMap mappa = new LongIntHashMap(4);
+        for (long k = 0; k < 5000; k++) {
+            mappa.put(k * 31, (int) k + 1);
+        }
+        for (long k = 0; k < 5000; k += 2) {
+            mappa.remove(k * 31);
+        }
+        assertEquals(2500, mappa.size());
+        for (long k = 0; k < 5000; k++) {
+            assertEquals(k % 2 == 0 ? LongIntHashMap.ASSENTE : (int) k + 1, mappa.get(k * 31));
+        }
+    }
+}
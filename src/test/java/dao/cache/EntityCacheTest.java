@@ -0,0 +1,114 @@
+package dao.cache;
+
+import model.Utente;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test per EntityCache con un orologio controllato e un "database" in memoria
+ */
+class EntityCacheTest {
+
+    private final AtomicLong orologio = new AtomicLong();
+    private final AtomicInteger letture = new AtomicInteger();
+    private final Map<Integer, Utente> tabella = new HashMap<>();
+    private EntityCache<Utente> cache;
+
+    @BeforeEach
+    void setUp() {
+        for (int id = 1; id <= 5; id++) {
+            Utente utente = new Utente("utente" + id, "pwd", "Nome" + id, "Cognome" + id, "u" + id + "@test.it", Utente.RUOLO_PARTECIPANTE);
+            utente.setId(id);
+            tabella.put(id, utente);
+        }
+        cache = new EntityCache<>("utenti", 3, Duration.ofSeconds(60), Utente::getId, Utente::new, orologio::get);
+    }
+
+    private Utente leggi(int id) {
+        letture.incrementAndGet();
+        Utente utente = tabella.get(id);
+        return utente != null ? new Utente(utente) : null;
+    }
+
+    @Test
+    @DisplayName("Le letture ripetute sono servite dalla cache con copie indipendenti")
+    void testHitECopie() {
+        Utente prima = cache.get(1, this::leggi);
+        prima.setNome("Modificato");
+        Utente seconda = cache.get(1, this::leggi);
+
+        assertEquals(1, letture.get());
+        assertEquals("Nome1", seconda.getNome());
+        assertNull(cache.get(99, this::leggi), "Un utente inesistente non viene memorizzato");
+        assertEquals(1, cache.getStatistiche().getHit());
+        assertEquals(2, cache.getStatistiche().getMiss());
+    }
+
+    @Test
+    @DisplayName("Scadenza, rimozione LRU e invalidazione")
+    void testScadenzaLruInvalidazione() {
+        cache.get(1, this::leggi);
+        cache.get(2, this::leggi);
+        cache.get(3, this::leggi);
+        cache.get(1, this::leggi);
+        cache.get(4, this::leggi); // rimuove il 2, il meno usato di recente
+        assertEquals(1, cache.getStatistiche().getRimozioni());
+        assertEquals(4, letture.get());
+
+        cache.get(2, this::leggi);
+        assertEquals(5, letture.get());
+
+        tabella.get(1).setNome("Aggiornato");
+        cache.invalidate(1);
+        assertEquals("Aggiornato", cache.get(1, this::leggi).getNome());
+
+        orologio.addAndGet(Duration.ofSeconds(61).toNanos());
+        cache.get(1, this::leggi);
+        assertEquals(7, letture.get(), "Le voci scadute vengono ricaricate");
+    }
+
+    @Test
+    @DisplayName("Un'invalidazione durante la lettura impedisce di memorizzare il valore letto")
+    void testInvalidazioneDuranteLettura() {
+        cache.get(1, id -> {
+            Utente vecchio = leggi(id);
+            cache.invalidate(id);
+            return vecchio;
+        });
+        cache.get(1, this::leggi);
+
+        assertEquals(2, letture.get());
+    }
+
+    @Test
+    @DisplayName("getAll carica solo gli ID mancanti con una chiamata")
+    void testGetAll() {
+        cache.get(1, this::leggi);
+        List<List<Integer>> richieste = new ArrayList<>();
+
+        List<Utente> utenti = cache.getAll(List.of(1, 2, 3, 2, 99), mancanti -> {
+            richieste.add(mancanti);
+            List<Utente> trovati = new ArrayList<>();
+            mancanti.forEach(id -> {
+                Utente utente = leggi(id);
+                if (utente != null) {
+                    trovati.add(utente);
+                }
+            });
+            return trovati;
+        });
+
+        assertEquals(List.of(List.of(2, 3, 99)), richieste);
+        assertEquals(3, utenti.size());
+        assertEquals(20.0, cache.getStatistiche().getHitRatio(), 0.001);
+    }
+}
@@ -0,0 +1,73 @@
+package database;
+
+import org.junit.jupiter.api.*;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test per PooledDataSource con connessioni fisiche simulate
+ */
+class PooledDataSourceTest {
+
+    private DataSource fisica;
+    private PooledDataSource pool;
+    private Connection ultimaFisica;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        fisica = mock(DataSource.class);
+        when(fisica.getConnection()).thenAnswer(invocation -> {
+            Connection conn = mock(Connection.class);
+            when(conn.getAutoCommit()).thenReturn(true);
+            when(conn.getTransactionIsolation()).thenReturn(Connection.TRANSACTION_READ_COMMITTED);
+            ultimaFisica = conn;
+            return conn;
+        });
+        pool = new PooledDataSource(fisica, 2, 100);
+    }
+
+    @Test
+    @DisplayName("La connessione chiusa torna nel pool e viene riutilizzata")
+    void testRiutilizzo() throws SQLException {
+        Connection prima = pool.getConnection();
+        prima.close();
+        prima.close(); // la seconda chiusura non restituisce due volte la connessione
+        assertTrue(prima.isClosed());
+        assertEquals(1, pool.getInattive());
+
+        try (Connection seconda = pool.getConnection()) {
+            assertEquals(1, pool.getInUso());
+            assertFalse(seconda.isClosed());
+        }
+        verify(fisica, times(1)).getConnection();
+        assertThrows(SQLException.class, prima::createStatement);
+    }
+
+    @Test
+    @DisplayName("La transazione lasciata aperta viene annullata alla restituzione")
+    void testRipristinoStato() throws SQLException {
+        Connection conn = pool.getConnection();
+        Connection reale = ultimaFisica;
+        when(reale.getAutoCommit()).thenReturn(false);
+        conn.close();
+        verify(reale).rollback();
+        verify(reale).setAutoCommit(true);
+    }
+
+    @Test
+    @DisplayName("Oltre la dimensione del pool la richiesta scade")
+    void testPoolEsaurito() throws SQLException {
+        try (Connection a = pool.getConnection(); Connection b = pool.getConnection()) {
+            assertNotSame(a, b);
+            assertFalse(a.isClosed() || b.isClosed());
+            assertEquals(2, pool.getInUso());
+            assertThrows(SQLException.class, pool::getConnection);
+        }
+        assertEquals(0, pool.getInUso());
+    }
+}
@@ -0,0 +1,347 @@
+package database;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dao.DocumentoFiltro;
+import dao.ReportDAO;
+import dao.TrendDAO;
+import dao.postgres.DocumentoPostgresDAO;
+import dao.postgres.HackathonPostgresDAO;
+import dao.postgres.NotificationPostgresDAO;
+import dao.postgres.ReportPostgresDAO;
+import dao.postgres.TeamPostgresDAO;
+import dao.postgres.TrendPostgresDAO;
+import dao.postgres.UtentePostgresDAO;
+import dao.postgres.ValutazionePostgresDAO;
+import org.junit.jupiter.api.*;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test di regressione sugli indici: applica le migrazioni allo schema di database/db_dump.sql,
+ * lo popola con un volume di dati realistico e verifica con EXPLAIN che le query più frequenti
+ * dei DAO usino un indice invece di una scansione sequenziale della tabella.
+ * Le query sono quelle eseguite davvero dai DAO, intercettate sulla connessione: se l'SQL di un
+ * DAO cambia, il test verifica il nuovo SQL.
+ */
+@Testcontainers
+class SchemaIndexTest {
+
+    @Container
+    @SuppressWarnings("resource") // Gestito automaticamente da Testcontainers
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:13")
+            .withDatabaseName("hackathon_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static ConnectionManager connectionManager;
+
+    /**
+     * ConnectionManager dei DAO sotto test: ogni SELECT eseguita viene prima passata a EXPLAIN
+     * con gli stessi parametri, e il piano finisce in {@link #PIANI}
+     */
+    private static ConnectionManager daoConnectionManager;
+
+    private static final List<JsonNode> PIANI = new CopyOnWriteArrayList<>();
+
+    /**
+     * Chiamate ai DAO e tabelle che le loro query devono leggere tramite indice. Le query che per
+     * natura leggono tutta la tabella (nessuna tabella indicata) vengono solo pianificate, così da
+     * accorgersi se smettono di essere valide sullo schema.
+     */
+    private static final Map<String, Verifica> VERIFICHE = new LinkedHashMap<>();
+
+    /**
+     * Query senza un DAO eseguibile su questo schema (con i parametri già sostituiti) e tabella
+     * che deve essere letta tramite indice
+     */
+    private static final Map<String, String[]> QUERY = new LinkedHashMap<>();
+
+    static {
+        DocumentoFiltro perHackathon = new DocumentoFiltro(-1, 42, DocumentoFiltro.Categoria.TUTTI, null,
+            DocumentoFiltro.Ordinamento.DATA, false);
+        verifica("DocumentoDAO.existsByHash", () -> new DocumentoPostgresDAO(daoConnectionManager).existsByHash("hash-1234"),
+            "documents");
+        verifica("DocumentoDAO.findByHash", () -> new DocumentoPostgresDAO(daoConnectionManager).findByHash("hash-1234"),
+            "documents");
+        verifica("DocumentoDAO.countFiltered", () -> new DocumentoPostgresDAO(daoConnectionManager).countFiltered(perHackathon),
+            "documents");
+        verifica("DocumentoDAO.findPage", () -> new DocumentoPostgresDAO(daoConnectionManager).findPage(perHackathon, null, 0, 50),
+            "documents");
+        verifica("NotificationDAO.findByUtente", () -> new NotificationPostgresDAO(daoConnectionManager).findByUtente(42),
+            "notifications");
+        verifica("NotificationDAO.findUnreadByUtente", () -> new NotificationPostgresDAO(daoConnectionManager).findUnreadByUtente(42),
+            "notifications");
+        verifica("NotificationDAO.countUnreadByUtente", () -> new NotificationPostgresDAO(daoConnectionManager).countUnreadByUtente(42),
+            "notifications");
+        verifica("TeamDAO.findByMembro", () -> new TeamPostgresDAO(daoConnectionManager).findByMembro(100042),
+            "team_members");
+        verifica("TeamDAO.findRichiesteJoin", () -> new TeamPostgresDAO(daoConnectionManager).findRichiesteJoin(42),
+            "richiesta_join");
+        verifica("TeamDAO.findRichiesteJoinInAttesa", () -> new TeamPostgresDAO(daoConnectionManager).findRichiesteJoinInAttesa(42),
+            "richiesta_join");
+        verifica("TeamDAO.findMembriPerTeam", () -> new TeamPostgresDAO(daoConnectionManager).findMembriPerTeam());
+        verifica("ValutazioneDAO.findValutazioneMediaTeamInHackathon",
+            () -> new ValutazionePostgresDAO(daoConnectionManager).findValutazioneMediaTeamInHackathon(42, 42), "valutazione");
+        verifica("HackathonDAO.findByIds", () -> new HackathonPostgresDAO(daoConnectionManager).findByIds(List.of(1001, 1002, 1003)),
+            "hackathon");
+        verifica("HackathonDAO.findStatoPreparazione", () -> new HackathonPostgresDAO(daoConnectionManager).findStatoPreparazione(42),
+            "hackathon", "team", "valutazione", "documents");
+        verifica("UtenteDAO.findByIds", () -> new UtentePostgresDAO(daoConnectionManager).findByIds(List.of(100001, 100002, 100003)),
+            "utente");
+        verifica("UtenteDAO.findDisponibiliPerInvito",
+            () -> new UtentePostgresDAO(daoConnectionManager).findDisponibiliPerInvito(42, 42, "ute", 0, 50), "utente");
+        // Le serie di andamento aggregano intervalli ampi: la scansione completa è il piano atteso
+        verifica("TrendDAO.conteggi", () -> new TrendPostgresDAO(daoConnectionManager).conteggi(EnumSet.allOf(TrendDAO.Serie.class),
+            TrendDAO.Granularita.MESE, LocalDateTime.now().minusYears(1), LocalDateTime.now()));
+        verifica("ReportDAO.riepilogo", () -> new ReportPostgresDAO(daoConnectionManager).riepilogo(42),
+            "team", "valutazione", "documents");
+        verifica("ReportDAO.contaRighe", () -> new ReportPostgresDAO(daoConnectionManager).contaRighe(42),
+            "team", "valutazione", "documents");
+        verifica("ReportDAO.streamReport", () -> new ReportPostgresDAO(daoConnectionManager).streamReport(42, new ReportDAO.RowHandler() {
+            @Override
+            public void inizioSezione(ReportDAO.Sezione sezione, String[] colonne) {
+                // righe non necessarie: interessano solo i piani
+            }
+
+            @Override
+            public void riga(Object[] valori) {
+                // righe non necessarie: interessano solo i piani
+            }
+
+            @Override
+            public void fineSezione(ReportDAO.Sezione sezione, long righe) {
+                // righe non necessarie: interessano solo i piani
+            }
+        }), "team", "valutazione", "documents");
+
+        // AuditLogPostgresDAO usa la colonna "timestamp", che nello schema di db_dump.sql si chiama created_at
+        QUERY.put("AuditLogDAO per intervallo",
+            new String[]{"audit_log", "SELECT * FROM audit_log WHERE created_at BETWEEN now() - interval '1 hour' "
+                + "AND now() ORDER BY created_at DESC"});
+    }
+
+    /**
+     * Chiamata a un DAO e tabelle da leggere tramite indice
+     */
+    private static final class Verifica {
+        private final Callable<?> chiamata;
+        private final String[] tabelle;
+
+        private Verifica(Callable<?> chiamata, String[] tabelle) {
+            this.chiamata = chiamata;
+            this.tabelle = tabelle;
+        }
+    }
+
+    private static void verifica(String nome, Callable<?> chiamata, String... tabelle) {
+        VERIFICHE.put(nome, new Verifica(chiamata, tabelle));
+    }
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        postgres.start();
+        PGSimpleDataSource dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(postgres.getJdbcUrl());
+        dataSource.setUser(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        connectionManager = new ConnectionManager(dataSource);
+        daoConnectionManager = new ConnectionManager(registraPiani(dataSource));
+
+        try (Connection conn = connectionManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute(Files.readString(Path.of("database", "db_dump.sql")));
+        }
+        assertTrue(new SchemaMigrator(connectionManager).migra() > 0, "Le migrazioni devono essere applicate");
+        popolaDati();
+    }
+
+    /**
+     * Popola le tabelle interessate con decine di migliaia di righe; i vincoli di chiave esterna
+     * vengono sospesi per non dover generare l'intero grafo di utenti, team ed eventi, e gli
+     * utenti generati partono da 100000 per non collidere con i dati di esempio del dump
+     */
+    private static void popolaDati() throws Exception {
+        try (Connection conn = connectionManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("SET session_replication_role = replica");
+            stmt.execute("INSERT INTO utente (id, login, password, nome, cognome, email, ruolo) "
+                + "SELECT 100000 + g, 'utente' || g, 'x', 'Nome ' || g, 'Cognome ' || g, 'utente' || g || '@example.com', "
+                + "'PARTECIPANTE' FROM generate_series(1, 20000) g");
+            stmt.execute("INSERT INTO hackathon (id, nome, data_inizio, data_fine, sede) "
+                + "SELECT 1000 + g, 'Hackathon ' || g, now() - g * interval '1 day', now() - g * interval '1 day' + interval '2 days', "
+                + "'Sede' FROM generate_series(1, 5000) g");
+            stmt.execute("INSERT INTO team (nome, hackathon_id) "
+                + "SELECT 'Team ' || g, g % 50 FROM generate_series(1, 5000) g");
+            stmt.execute("INSERT INTO team_members (team_id, utente_id) "
+                + "SELECT g % 5000 + 1, 100000 + g FROM generate_series(1, 20000) g");
+            stmt.execute("INSERT INTO documents (team_id, hackathon_id, nome, percorso, tipo, dimensione, hash) "
+                + "SELECT g % 5000, g % 50, 'doc' || g, '/doc/' || g, 'application/pdf', 1024, 'hash-' || g "
+                + "FROM generate_series(1, 20000) g");
+            stmt.execute("INSERT INTO notifications (utente_id, titolo, messaggio, tipo, data_creazione, letta) "
+                + "SELECT g % 5000, 'Titolo', 'Messaggio', 'INFO', now() - g * interval '1 minute', g % 10 <> 0 "
+                + "FROM generate_series(1, 50000) g");
+            stmt.execute("INSERT INTO richiesta_join (utente_id, team_id, stato) "
+                + "SELECT 100000 + g, g % 5000, CASE WHEN g % 3 = 0 THEN 'IN_ATTESA' ELSE 'ACCETTATA' END "
+                + "FROM generate_series(1, 20000) g");
+            stmt.execute("INSERT INTO valutazione (giudice_id, team_id, hackathon_id, voto) "
+                + "SELECT 100000 + g, g % 5000, g % 50, g % 11 FROM generate_series(1, 20000) g");
+            stmt.execute("INSERT INTO audit_log (azione, risorsa, risultato, created_at) "
+                + "SELECT 'LOGIN', 'UTENTE', 'SUCCESS', now() - g * interval '1 minute' "
+                + "FROM generate_series(1, 20000) g");
+            stmt.execute("SET session_replication_role = DEFAULT");
+            stmt.execute("ANALYZE");
+        }
+    }
+
+    @Test
+    @DisplayName("Le migrazioni vengono registrate e non vengono riapplicate")
+    void testMigrazioniIdempotenti() throws Exception {
+        assertEquals(0, new SchemaMigrator(connectionManager).migra());
+        try (Connection conn = connectionManager.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(versione) FROM schema_version")) {
+            assertTrue(rs.next());
+            assertEquals(SchemaMigrator.getVersioneAttesa(), rs.getInt(1));
+        }
+    }
+
+    @TestFactory
+    @DisplayName("Le query frequenti dei DAO usano un indice")
+    Stream<DynamicTest> testDaoUsanoIndici() {
+        return VERIFICHE.entrySet().stream().map(entry -> DynamicTest.dynamicTest(entry.getKey(), () -> {
+            PIANI.clear();
+            entry.getValue().chiamata.call();
+            assertFalse(PIANI.isEmpty(), "Nessuna query eseguita da " + entry.getKey());
+            for (String tabella : entry.getValue().tabelle) {
+                List<String> scansioni = new ArrayList<>();
+                for (JsonNode piano : PIANI) {
+                    raccogliScansioni(piano, tabella, scansioni);
+                }
+                assertFalse(scansioni.isEmpty(), "La tabella " + tabella + " non compare nei piani: " + PIANI);
+                assertFalse(scansioni.contains("Seq Scan"),
+                    "Scansione sequenziale di " + tabella + " per " + entry.getKey() + ": " + PIANI);
+            }
+        }));
+    }
+
+    @TestFactory
+    @DisplayName("Le query senza DAO eseguibile usano un indice")
+    Stream<DynamicTest> testQueryUsanoIndici() {
+        return QUERY.entrySet().stream().map(entry -> DynamicTest.dynamicTest(entry.getKey(), () -> {
+            String tabella = entry.getValue()[0];
+            String sql = entry.getValue()[1];
+            JsonNode piano = explain(sql);
+            List<String> scansioni = new ArrayList<>();
+            raccogliScansioni(piano, tabella, scansioni);
+            assertFalse(scansioni.isEmpty(), "La tabella " + tabella + " non compare nel piano: " + piano);
+            assertFalse(scansioni.contains("Seq Scan"),
+                "Scansione sequenziale di " + tabella + " per " + entry.getKey() + ": " + piano);
+        }));
+    }
+
+    private static JsonNode explain(String sql) throws Exception {
+        try (Connection conn = connectionManager.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+            assertTrue(rs.next());
+            return MAPPER.readTree(rs.getString(1)).get(0).get("Plan");
+        }
+    }
+
+    /**
+     * DataSource che, prima di ogni SELECT, ne registra il piano con EXPLAIN sulla stessa
+     * connessione e con gli stessi parametri impostati dal DAO
+     */
+    private static DataSource registraPiani(DataSource dataSource) {
+        return proxy(DataSource.class, (proxy, metodo, args) -> {
+            Object risultato = invoca(metodo, dataSource, args);
+            return "getConnection".equals(metodo.getName()) ? registraPiani((Connection) risultato) : risultato;
+        });
+    }
+
+    private static Connection registraPiani(Connection connessione) {
+        return proxy(Connection.class, (proxy, metodo, args) -> {
+            Object risultato = invoca(metodo, connessione, args);
+            if ("prepareStatement".equals(metodo.getName())) {
+                return registraPiani(connessione, (PreparedStatement) risultato, (String) args[0]);
+            }
+            return risultato;
+        });
+    }
+
+    private static PreparedStatement registraPiani(Connection connessione, PreparedStatement statement, String sql) {
+        List<Object[]> parametri = new ArrayList<>();
+        boolean select = sql.trim().toUpperCase(Locale.ROOT).startsWith("SELECT");
+        return proxy(PreparedStatement.class, (proxy, metodo, args) -> {
+            String nome = metodo.getName();
+            if (nome.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parametri.add(new Object[]{metodo, args});
+            } else if (select && nome.startsWith("execute") && (args == null || args.length == 0)) {
+                try (PreparedStatement explain = connessione.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+                    for (Object[] parametro : parametri) {
+                        invoca((Method) parametro[0], explain, (Object[]) parametro[1]);
+                    }
+                    try (ResultSet rs = explain.executeQuery()) {
+                        assertTrue(rs.next());
+                        PIANI.add(MAPPER.readTree(rs.getString(1)).get(0).get("Plan"));
+                    }
+                }
+            }
+            return invoca(metodo, statement, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> tipo, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, handler);
+    }
+
+    private static Object invoca(Method metodo, Object destinatario, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(destinatario, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Raccoglie i tipi dei nodi del piano che leggono la tabella indicata
+     */
+    private static void raccogliScansioni(JsonNode nodo, String tabella, List<String> scansioni) {
+        if (tabella.equals(nodo.path("Relation Name").asText())) {
+            scansioni.add(nodo.path("Node Type").asText());
+        }
+        for (JsonNode figlio : nodo.path("Plans")) {
+            raccogliScansioni(figlio, tabella, scansioni);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package model;
+
+import database.ConnectionManager;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test per il backup incrementale dei file di BackupService
+ */
+class BackupServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path storage;
+    private Path backups;
+    private BackupService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = Files.createDirectories(tempDir.resolve("storage"));
+        backups = tempDir.resolve("backups");
+        service = new BackupService(mock(ConnectionManager.class));
+        service.configure(backups.toString(), "pg_dump_non_presente");
+        service.setCompressionThreads(2);
+
+        Files.createDirectories(storage.resolve("team_1"));
+        Files.write(storage.resolve("team_1/relazione.txt"), "prima versione".getBytes(StandardCharsets.UTF_8));
+        Files.write(storage.resolve("team_1/slide.pdf"), new byte[]{37, 80, 68, 70, 1, 2, 3});
+        Files.write(storage.resolve("note.txt"), "note".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Il secondo backup archivia solo i file modificati")
+    void testBackupIncrementale() throws Exception {
+        BackupService.BackupResult first = service.backupFiles(storage.toString()).get();
+        assertTrue(first.isSuccess(), first.getMessage());
+        BackupManifest firstManifest = BackupManifest.read(backups.resolve(first.getFileName()));
+        assertEquals(3, firstManifest.getEntries().size());
+        assertNull(firstManifest.getParent());
+
+        Files.write(storage.resolve("team_1/relazione.txt"), "seconda versione, più lunga".getBytes(StandardCharsets.UTF_8));
+        // Solo la data cambia: il contenuto coincide e il file non va riarchiviato
+        Files.setLastModifiedTime(storage.resolve("note.txt"), java.nio.file.attribute.FileTime.fromMillis(1_000_000L));
+        BackupService.BackupResult second = service.backupFiles(storage.toString()).get();
+        assertTrue(second.isSuccess(), second.getMessage());
+
+        BackupManifest secondManifest = BackupManifest.read(backups.resolve(second.getFileName()));
+        assertEquals(first.getFileName(), secondManifest.getParent());
+        Map<String, BackupManifest.Entry> entries = secondManifest.byPath();
+        Map<String, BackupManifest.Entry> previous = firstManifest.byPath();
+        assertNotEquals(previous.get("team_1/relazione.txt").getArchive(), entries.get("team_1/relazione.txt").getArchive());
+        assertEquals(previous.get("note.txt").getArchive(), entries.get("note.txt").getArchive());
+        assertEquals(previous.get("team_1/slide.pdf").getArchive(), entries.get("team_1/slide.pdf").getArchive());
+        assertEquals(1_000_000L, entries.get("note.txt").getLastModified());
+        try (java.util.stream.Stream<Path> files = Files.list(backups)) {
+            assertTrue(files.noneMatch(f -> f.getFileName().toString().startsWith(".spool_")), "I file temporanei vengono eliminati");
+        }
+    }
+
+    @Test
+    @DisplayName("I file già compressi vengono memorizzati senza compressione")
+    void testFileCompressiMemorizzatiStored() throws Exception {
+        BackupService.BackupResult result = service.backupFiles(storage.toString()).get();
+        BackupManifest manifest = BackupManifest.read(backups.resolve(result.getFileName()));
+        BackupManifest.Entry pdf = manifest.byPath().get("team_1/slide.pdf");
+        assertFalse(pdf.isCompressed());
+
+        try (ZipFile zip = new ZipFile(backups.resolve(pdf.getArchive()).toFile())) {
+            assertEquals(ZipEntry.STORED, zip.getEntry("team_1/slide.pdf").getMethod());
+        }
+    }
+
+    @Test
+    @DisplayName("Il ripristino ricostruisce lo stato di un backup precedente")
+    void testRipristinoPuntoNelTempo() throws Exception {
+        BackupService.BackupResult first = service.backupFiles(storage.toString()).get();
+        Files.write(storage.resolve("team_1/relazione.txt"), "seconda versione, più lunga".getBytes(StandardCharsets.UTF_8));
+        Files.delete(storage.resolve("note.txt"));
+        service.backupFiles(storage.toString()).get();
+
+        Path target = tempDir.resolve("ripristino");
+        BackupRestoreTool tool = new BackupRestoreTool(backups);
+        BackupService.BackupResult restored = tool.restore(
+            BackupManifest.timestampOf(backups.resolve(first.getFileName())), target);
+
+        assertTrue(restored.isSuccess(), restored.getMessage());
+        assertEquals("prima versione", Files.readString(target.resolve("team_1/relazione.txt")));
+        assertTrue(Files.exists(target.resolve("note.txt")));
+    }
+
+    @Test
+    @DisplayName("La verifica di integrità rileva archivi alterati e mancanti")
+    void testVerificaIntegrita() throws Exception {
+        BackupService.BackupResult result = service.backupFiles(storage.toString()).get();
+        BackupIntegrityChecker checker = new BackupIntegrityChecker(backups, 2);
+        assertTrue(checker.verifyAll().isValid());
+
+        BackupManifest manifest = BackupManifest.read(backups.resolve(result.getFileName()));
+        BackupManifest.Entry note = manifest.byPath().get("note.txt");
+        BackupManifest.Entry pdf = manifest.byPath().get("team_1/slide.pdf");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(backups.resolve(note.getArchive())))) {
+            out.putNextEntry(new ZipEntry("note.txt"));
+            out.write("NOTE".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+        if (!pdf.getArchive().equals(note.getArchive())) {
+            Files.delete(backups.resolve(pdf.getArchive()));
+        }
+
+        BackupIntegrityChecker.Report report = checker.verifyAll();
+        assertFalse(report.isValid());
+        assertTrue(report.getIssues().stream()
+            .anyMatch(i -> i.getLocation().endsWith("note.txt") && i.getType() == BackupIntegrityChecker.IssueType.CRC_NON_VALIDO));
+        assertTrue(report.getIssues().stream()
+            .anyMatch(i -> i.getLocation().endsWith("slide.pdf")));
+    }
+
+    @Test
+    @DisplayName("Un dump senza checksum scritto prima del runner è solo un avviso")
+    void testDumpSenzaChecksum() throws Exception {
+        service.backupFiles(storage.toString()).get();
+        Files.writeString(backups.resolve(BackupService.DB_BACKUP_PREFIX + "20200101_000000.sql"), "-- dump");
+        BackupIntegrityChecker checker = new BackupIntegrityChecker(backups, 2);
+
+        BackupIntegrityChecker.Report all = checker.verifyAll();
+        assertTrue(all.isValid(), all.getSummary());
+        assertEquals(1, all.getWarnings().size());
+        assertTrue(checker.verifyLatest(true, false).isValid(), "Un backup dei file non verifica i dump");
+        assertEquals(BackupIntegrityChecker.IssueType.CHECKSUM_MANCANTE,
+            checker.verifyLatest(false, true).getIssues().get(0).getType());
+    }
+}
@@ -0,0 +1,59 @@
+package service;
+
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test per RateLimiter con un orologio controllato
+ */
+class RateLimiterTest {
+
+    private final AtomicLong orologio = new AtomicLong();
+    private final AtomicInteger letture = new AtomicInteger();
+
+    private RateLimiter<String> limiter(int limite, int iniziali) {
+        return new RateLimiter<>(limite, Duration.ofMinutes(60), chiave -> {
+            letture.incrementAndGet();
+            return iniziali;
+        }, orologio::get);
+    }
+
+    @Test
+    @DisplayName("La finestra scorre: gli eventi più vecchi di un'ora liberano posto uno alla volta")
+    void testFinestraScorrevole() {
+        RateLimiter<String> limiter = limiter(3, 0);
+        assertTrue(limiter.tryAcquire("a"));
+        orologio.addAndGet(Duration.ofMinutes(20).toNanos());
+        assertTrue(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("b"), "Le chiavi hanno limiti indipendenti");
+
+        orologio.addAndGet(Duration.ofMinutes(40).toNanos());
+        assertTrue(limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a"));
+        assertEquals(2, letture.get(), "Il conteggio iniziale si legge una volta per chiave");
+    }
+
+    @Test
+    @DisplayName("Il conteggio iniziale e release riducono e restituiscono i permessi")
+    void testConteggioInizialeERelease() {
+        RateLimiter<String> limiter = limiter(30, 29);
+        assertEquals(1, limiter.getDisponibili("giudice"));
+        assertTrue(limiter.tryAcquire("giudice"));
+        assertFalse(limiter.tryAcquire("giudice"));
+        limiter.release("giudice");
+        assertTrue(limiter.tryAcquire("giudice"));
+
+        orologio.addAndGet(Duration.ofMinutes(61).toNanos());
+        limiter.rimuoviInattive();
+        assertEquals(0, limiter.size());
+        limiter.reset("giudice");
+        assertEquals(29, 30 - limiter.getDisponibili("giudice"), "Una chiave rimossa viene riletta");
+    }
+}
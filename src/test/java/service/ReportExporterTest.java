@@ -0,0 +1,147 @@
+package service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dao.HackathonDAO;
+import dao.ReportDAO;
+import dao.ReportDAO.Sezione;
+import database.DataAccessException;
+import model.Hackathon;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test per ReportExporter: le righe vengono generate da un ReportDAO fittizio, senza database
+ */
+class ReportExporterTest {
+
+    private static final int HACKATHON_ID = 7;
+    private static final int TEAM = 5000;
+    private static final int VALUTAZIONI = 3;
+
+    @TempDir
+    Path tempDir;
+
+    private ReportExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        Hackathon hackathon = new Hackathon("Hack <Test>", LocalDateTime.of(2024, 5, 1, 9, 0), "Napoli", false, 1, 100, 10);
+        hackathon.setId(HACKATHON_ID);
+        HackathonDAO hackathonDAO = mock(HackathonDAO.class);
+        when(hackathonDAO.findById(HACKATHON_ID)).thenReturn(hackathon);
+        exporter = new ReportExporter(hackathonDAO, new FakeReportDAO());
+    }
+
+    @Test
+    @DisplayName("Il JSON contiene tutte le righe e i totali calcolati in streaming")
+    void testEsportaJson() throws Exception {
+        Path file = tempDir.resolve("report.json");
+        List<Long> avanzamenti = new ArrayList<>();
+
+        long righe = exporter.esporta(HACKATHON_ID, ReportExporter.Formato.JSON, file, (scritte, totali) -> avanzamenti.add(scritte));
+
+        assertEquals(TEAM + VALUTAZIONI, righe);
+        JsonNode report = new ObjectMapper().readTree(file.toFile()).get("report");
+        assertEquals(TEAM, report.get("team").size());
+        assertEquals("Team, \"1\"", report.get("team").get(0).get("nome").asText());
+        assertEquals(VALUTAZIONI, report.get("valutazioni").size());
+        assertEquals(8.0, report.get("statistics").get("averageScore").asDouble(), 0.001);
+        assertFalse(avanzamenti.isEmpty(), "L'avanzamento deve essere notificato");
+        assertEquals(righe, avanzamenti.get(avanzamenti.size() - 1));
+        assertFalse(Files.exists(tempDir.resolve("report.json.tmp")));
+    }
+
+    @Test
+    @DisplayName("CSV e HTML applicano escaping ai valori")
+    void testEscapingCsvHtml() throws Exception {
+        Path csv = tempDir.resolve("report.csv");
+        exporter.esporta(HACKATHON_ID, ReportExporter.Formato.CSV, csv, null);
+        String contenutoCsv = Files.readString(csv, StandardCharsets.UTF_8);
+        assertTrue(contenutoCsv.contains("1,\"Team, \"\"1\"\"\",1,4,3"));
+
+        Path html = tempDir.resolve("report.html");
+        exporter.esporta(HACKATHON_ID, ReportExporter.Formato.HTML, html, null);
+        String contenutoHtml = Files.readString(html, StandardCharsets.UTF_8);
+        assertTrue(contenutoHtml.contains("Hack &lt;Test&gt;"));
+        assertTrue(contenutoHtml.contains("<td>Team, &quot;1&quot;</td>"));
+    }
+
+    @Test
+    @DisplayName("Un errore di lettura non lascia file parziali")
+    void testErroreNonLasciaFile() {
+        HackathonDAO hackathonDAO = mock(HackathonDAO.class);
+        when(hackathonDAO.findById(HACKATHON_ID)).thenReturn(new Hackathon("Hack", LocalDateTime.now(), "Roma", true, 1, 10, 2));
+        ReportDAO reportDAO = mock(ReportDAO.class);
+        when(reportDAO.contaRighe(HACKATHON_ID)).thenReturn(new EnumMap<>(Sezione.class));
+        when(reportDAO.streamReport(eq(HACKATHON_ID), any())).thenThrow(new DataAccessException("connessione persa"));
+        ReportExporter failing = new ReportExporter(hackathonDAO, reportDAO);
+        Path file = tempDir.resolve("report.txt");
+
+        assertThrows(DataAccessException.class,
+            () -> failing.esporta(HACKATHON_ID, ReportExporter.Formato.TESTO, file, null));
+        assertFalse(Files.exists(file));
+        assertFalse(Files.exists(tempDir.resolve("report.txt.tmp")));
+    }
+
+    /**
+     * Genera {@value #TEAM} team e {@value #VALUTAZIONI} valutazioni riga per riga
+     */
+    private static final class FakeReportDAO implements ReportDAO {
+        @Override
+        public model.ReportData riepilogo(int hackathonId) {
+            return new model.ReportData();
+        }
+
+        @Override
+        public Map<Sezione, Long> contaRighe(int hackathonId) {
+            Map<Sezione, Long> conteggi = new EnumMap<>(Sezione.class);
+            conteggi.put(Sezione.TEAM, (long) TEAM);
+            conteggi.put(Sezione.VALUTAZIONI, (long) VALUTAZIONI);
+            return conteggi;
+        }
+
+        @Override
+        public long streamReport(int hackathonId, RowHandler handler) {
+            try {
+                Object[] riga = new Object[5];
+                handler.inizioSezione(Sezione.TEAM, new String[]{"id", "nome", "capo_team_id", "dimensione_massima", "membri"});
+                for (int i = 1; i <= TEAM; i++) {
+                    riga[0] = i;
+                    riga[1] = "Team, \"" + i + "\"";
+                    riga[2] = i;
+                    riga[3] = 4;
+                    riga[4] = 3L;
+                    handler.riga(riga);
+                }
+                handler.fineSezione(Sezione.TEAM, TEAM);
+
+                riga = new Object[3];
+                handler.inizioSezione(Sezione.VALUTAZIONI, new String[]{"team_id", "voto", "data_valutazione"});
+                for (int i = 1; i <= VALUTAZIONI; i++) {
+                    riga[0] = i;
+                    riga[1] = 6 + i;
+                    riga[2] = LocalDateTime.of(2024, 5, 2, 10, i);
+                    handler.riga(riga);
+                }
+                handler.fineSezione(Sezione.VALUTAZIONI, VALUTAZIONI);
+                return TEAM + VALUTAZIONI;
+            } catch (IOException e) {
+                throw new DataAccessException("scrittura fallita", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package service;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test per ReportOrchestrator
+ */
+class ReportOrchestratorTest {
+
+    private ReportOrchestrator orchestrator;
+
+    @BeforeEach
+    void setUp() {
+        orchestrator = new ReportOrchestrator(4, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orchestrator.shutdown();
+    }
+
+    @Test
+    @DisplayName("Le sezioni vengono calcolate in parallelo e applicate in ordine sul thread chiamante")
+    void testSezioniParallele() {
+        List<String> applicate = new ArrayList<>();
+        Thread chiamante = Thread.currentThread();
+        Map<String, Callable<Runnable>> sezioni = new LinkedHashMap<>();
+        for (String nome : new String[]{"utenti", "team", "documenti", "trend"}) {
+            sezioni.put(nome, () -> {
+                Thread.sleep(200);
+                return () -> {
+                    assertSame(chiamante, Thread.currentThread());
+                    applicate.add(nome);
+                };
+            });
+        }
+
+        long inizio = System.nanoTime();
+        List<ReportOrchestrator.EsitoSezione> esiti = orchestrator.esegui(sezioni);
+        long durataMs = (System.nanoTime() - inizio) / 1_000_000;
+
+        assertEquals(List.of("utenti", "team", "documenti", "trend"), applicate);
+        assertTrue(esiti.stream().allMatch(ReportOrchestrator.EsitoSezione::isCompletata));
+        assertTrue(durataMs < 700, "Le sezioni devono sovrapporsi, durata " + durataMs + " ms");
+        assertTrue(esiti.get(0).getDurataMs() >= 200);
+    }
+
+    @Test
+    @DisplayName("Una sezione lenta o fallita non viene applicata e non blocca le altre")
+    void testTimeoutEErrori() {
+        List<String> applicate = new ArrayList<>();
+        Map<String, Callable<Runnable>> sezioni = new LinkedHashMap<>();
+        sezioni.put("lenta", () -> {
+            Thread.sleep(5000);
+            return () -> applicate.add("lenta");
+        });
+        sezioni.put("errore", () -> {
+            throw new IllegalStateException("database non raggiungibile");
+        });
+        sezioni.put("veloce", () -> () -> applicate.add("veloce"));
+
+        List<ReportOrchestrator.EsitoSezione> esiti = orchestrator.esegui(sezioni);
+
+        assertEquals(List.of("veloce"), applicate);
+        assertTrue(esiti.get(0).getErrore().startsWith("timeout"));
+        assertTrue(esiti.get(1).getErrore().contains("database non raggiungibile"));
+        assertTrue(esiti.get(2).isCompletata());
+    }
+
+    @Test
+    @DisplayName("Il timeout di una sezione parte dal suo avvio, non dal tempo passato in coda")
+    void testTimeoutDallAvvio() {
+        ReportOrchestrator singolo = new ReportOrchestrator(1, 1000);
+        try {
+            List<String> applicate = new ArrayList<>();
+            Map<String, Callable<Runnable>> sezioni = new LinkedHashMap<>();
+            for (String nome : new String[]{"prima", "seconda"}) {
+                sezioni.put(nome, () -> {
+                    Thread.sleep(600);
+                    return () -> applicate.add(nome);
+                });
+            }
+
+            List<ReportOrchestrator.EsitoSezione> esiti = singolo.esegui(sezioni);
+
+            assertEquals(List.of("prima", "seconda"), applicate);
+            assertTrue(esiti.stream().allMatch(ReportOrchestrator.EsitoSezione::isCompletata));
+        } finally {
+            singolo.shutdown();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package service;
+
+import dao.StatisticsSnapshotDAO;
+import model.Statistics;
+import model.StatisticsSnapshot;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test per StatisticsSnapshotService con un DAO in memoria
+ */
+class StatisticsSnapshotServiceTest {
+
+    private final Map<String, StatisticsSnapshot> tabella = new HashMap<>();
+    private final AtomicInteger calcoli = new AtomicInteger();
+    private StatisticsSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        StatisticsSnapshotDAO dao = new StatisticsSnapshotDAO() {
+            @Override
+            public void upsert(StatisticsSnapshot snapshot) {
+                tabella.put(snapshot.getChiave(), snapshot);
+            }
+
+            @Override
+            public StatisticsSnapshot findByChiave(String chiave) {
+                return tabella.get(chiave);
+            }
+        };
+        service = new StatisticsSnapshotService(dao, new StatisticsSnapshotService.Calcolo() {
+            @Override
+            public Statistics sistema() {
+                calcoli.incrementAndGet();
+                Statistics stats = new Statistics("SISTEMA", "SISTEMA");
+                stats.setTotaleUtenti(42);
+                stats.setTeamCompleti(3);
+                stats.setTotaleTeam(4);
+                stats.aggiungiMetrica("tempiSezioni", Map.of("utenti", 12L));
+                stats.calcolaKPI();
+                stats.aggiornaTimestamp();
+                return stats;
+            }
+
+            @Override
+            public Statistics hackathon(int hackathonId) {
+                return null;
+            }
+
+            @Override
+            public List<Integer> hackathonDaAggiornare() {
+                return List.of();
+            }
+        }, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Le letture successive usano lo snapshot salvato senza ricalcolare")
+    void testLetturaDaSnapshot() {
+        Statistics prima = service.sistema();
+        Statistics seconda = service.sistema();
+
+        assertEquals(1, calcoli.get());
+        assertEquals(42, seconda.getTotaleUtenti());
+        assertEquals(75.0, seconda.getTeamCompletionRate(), 0.001);
+        assertNotNull(seconda.getMetrica("tempiSezioni"));
+        assertEquals(prima.getDataCalcolo(), seconda.getDataCalcolo());
+        assertNull(service.hackathon(1), "Un hackathon inesistente non produce snapshot");
+    }
+
+    @Test
+    @DisplayName("Uno snapshot più vecchio dell'età massima viene ricalcolato")
+    void testSnapshotScadutoRicalcolato() {
+        service.sistema();
+        tabella.get(StatisticsSnapshotService.CHIAVE_SISTEMA).setCalcolatoIl(LocalDateTime.now().minusHours(1));
+
+        Statistics stats = service.sistema();
+
+        assertEquals(2, calcoli.get());
+        assertTrue(stats.getDataCalcolo().isAfter(LocalDateTime.now().minusMinutes(1)));
+        assertEquals("aggiornate 1 ora fa", StatisticsSnapshotService.descriviEta(LocalDateTime.now().minusMinutes(61)));
+    }
+}
@@ -0,0 +1,87 @@
+package service;
+
+import dao.TrendDAO;
+import dao.TrendDAO.Granularita;
+import dao.TrendDAO.Serie;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test per TrendService: i conteggi aggregati arrivano da un TrendDAO fittizio
+ */
+class TrendServiceTest {
+
+    private final List<LocalDateTime[]> intervalli = new ArrayList<>();
+
+    private TrendService service(Map<LocalDateTime, Long> valutazioni) {
+        TrendDAO dao = (serie, granularita, da, a) -> {
+            intervalli.add(new LocalDateTime[]{da, a});
+            Map<Serie, Map<LocalDateTime, Long>> risultato = new EnumMap<>(Serie.class);
+            for (Serie s : serie) {
+                risultato.put(s, s == Serie.VALUTAZIONI ? valutazioni : new TreeMap<>());
+            }
+            return risultato;
+        };
+        return new TrendService(dao);
+    }
+
+    @Test
+    @DisplayName("I periodi senza righe valgono zero e l'ordine è cronologico")
+    void testUltimiMesi() {
+        Map<LocalDateTime, Long> valutazioni = new TreeMap<>();
+        valutazioni.put(LocalDateTime.of(2026, 1, 1, 0, 0), 4L);
+        valutazioni.put(LocalDateTime.of(2026, 3, 1, 0, 0), 9L);
+
+        Map<Serie, Map<String, Number>> serie = service(valutazioni).ultimiPeriodi(
+            EnumSet.of(Serie.VALUTAZIONI, Serie.UTENTI), Granularita.MESE, 4, LocalDateTime.of(2026, 3, 15, 18, 30));
+
+        assertEquals(List.of("dic 25", "gen 26", "feb 26", "mar 26"), new ArrayList<>(serie.get(Serie.VALUTAZIONI).keySet()));
+        assertEquals(List.of(0L, 4L, 0L, 9L), new ArrayList<>(serie.get(Serie.VALUTAZIONI).values()));
+        assertEquals(4, serie.get(Serie.UTENTI).size());
+        assertEquals(LocalDateTime.of(2025, 12, 1, 0, 0), intervalli.get(0)[0]);
+        assertEquals(LocalDateTime.of(2026, 4, 1, 0, 0), intervalli.get(0)[1]);
+    }
+
+    @Test
+    @DisplayName("Le settimane iniziano di lunedì come date_trunc('week')")
+    void testSettimane() {
+        // 15 ottobre 2026 è un giovedì
+        assertEquals(LocalDateTime.of(2026, 10, 12, 0, 0),
+            TrendService.inizioPeriodo(LocalDateTime.of(2026, 10, 15, 9, 0), Granularita.SETTIMANA));
+
+        Map<Serie, Map<String, Number>> serie = service(new TreeMap<>()).ultimiPeriodi(
+            EnumSet.of(Serie.VALUTAZIONI), Granularita.SETTIMANA, 3, LocalDateTime.of(2026, 10, 15, 9, 0));
+
+        assertEquals(List.of("28/09", "05/10", "12/10"), new ArrayList<>(serie.get(Serie.VALUTAZIONI).keySet()));
+        assertThrows(IllegalArgumentException.class, () -> service(new TreeMap<>()).serie(EnumSet.of(Serie.TEAM),
+            Granularita.GIORNO, LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("Sono ammessi esattamente PERIODI_MASSIMI periodi, non uno di più")
+    void testLimitePeriodi() {
+        LocalDateTime adesso = LocalDateTime.of(2026, 10, 15, 9, 0);
+        TrendService service = service(new TreeMap<>());
+
+        assertEquals(TrendService.PERIODI_MASSIMI, service.ultimiPeriodi(EnumSet.of(Serie.TEAM),
+            Granularita.GIORNO, TrendService.PERIODI_MASSIMI, adesso).get(Serie.TEAM).size());
+        assertEquals(TrendService.PERIODI_MASSIMI, service.ultimiPeriodi(EnumSet.of(Serie.TEAM),
+            Granularita.GIORNO, TrendService.PERIODI_MASSIMI + 100, adesso).get(Serie.TEAM).size());
+
+        LocalDateTime da = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime limite = da.plusDays(TrendService.PERIODI_MASSIMI);
+        assertEquals(TrendService.PERIODI_MASSIMI,
+            service.serie(EnumSet.of(Serie.TEAM), Granularita.GIORNO, da, limite).get(Serie.TEAM).size());
+        assertThrows(IllegalArgumentException.class,
+            () -> service.serie(EnumSet.of(Serie.TEAM), Granularita.GIORNO, da, limite.plusHours(1)));
+    }
+}